@@ -19,14 +19,10 @@
 package org.apache.paimon.arrow.converter;
 
 import org.apache.paimon.arrow.writer.ArrowFieldWriter;
-import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.ColumnVector;
 import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.deletionvectors.ApplyDeletionFileRecordIterator;
-import org.apache.paimon.deletionvectors.DeletionVector;
-import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.VectorizedRecordIterator;
-import org.apache.paimon.utils.IntArrayList;
 
 import org.apache.arrow.vector.VectorSchemaRoot;
 
@@ -64,28 +60,11 @@ public class ArrowVectorizedBatchConverter extends ArrowBatchConverter {
     public void reset(ApplyDeletionFileRecordIterator iterator) {
         this.iterator = iterator;
 
-        FileRecordIterator<InternalRow> innerIterator = iterator.iterator();
-        this.batch = ((VectorizedRecordIterator) innerIterator).batch();
+        this.batch = ((VectorizedRecordIterator) iterator.iterator()).batch();
 
         try {
-            DeletionVector deletionVector = iterator.deletionVector();
-            int originNumRows = this.batch.getNumRows();
-            IntArrayList picked = new IntArrayList(originNumRows);
-            for (int i = 0; i < originNumRows; i++) {
-                innerIterator.next();
-                long returnedPosition = innerIterator.returnedPosition();
-                if (!deletionVector.isDeleted(returnedPosition)) {
-                    picked.add(i);
-                }
-            }
-
-            if (picked.size() == originNumRows) {
-                this.pickedInColumn = null;
-                this.totalNumRows = originNumRows;
-            } else {
-                this.pickedInColumn = picked.toArray();
-                this.totalNumRows = this.pickedInColumn.length;
-            }
+            this.pickedInColumn = iterator.selectBatch();
+            this.totalNumRows = pickedInColumn == null ? batch.getNumRows() : pickedInColumn.length;
         } catch (IOException e) {
             throw new RuntimeException("Failed to apply deletion vector.", e);
         }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.reader;
+
+import org.apache.paimon.arrow.ArrowUtils;
+import org.apache.paimon.arrow.converter.ArrowBatchConverter;
+import org.apache.paimon.arrow.converter.ArrowPerRowBatchConverter;
+import org.apache.paimon.arrow.converter.ArrowVectorizedBatchConverter;
+import org.apache.paimon.arrow.writer.ArrowFieldWriter;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.deletionvectors.ApplyDeletionFileRecordIterator;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.reader.VectorizedRecordIterator;
+import org.apache.paimon.table.source.ReadBuilder;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.table.source.TableRead;
+import org.apache.paimon.types.RowType;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reads splits of a table into Arrow {@link VectorSchemaRoot} batches. Batches of vectorized
+ * readers (parquet and orc) are copied column by column into Arrow vectors, with deletion vectors
+ * applied as a selection of the batch, other readers fall back to a row by row conversion.
+ */
+public class ArrowTableRead {
+
+    private final TableRead read;
+    private final RowType readType;
+    private final BufferAllocator allocator;
+    private final int maxBatchRows;
+    private final boolean caseSensitive;
+
+    public ArrowTableRead(ReadBuilder readBuilder, BufferAllocator allocator, int maxBatchRows) {
+        this(readBuilder.newRead(), readBuilder.readType(), allocator, maxBatchRows, true);
+    }
+
+    public ArrowTableRead(
+            TableRead read,
+            RowType readType,
+            BufferAllocator allocator,
+            int maxBatchRows,
+            boolean caseSensitive) {
+        this.read = read;
+        this.readType = readType;
+        this.allocator = allocator;
+        this.maxBatchRows = maxBatchRows;
+        this.caseSensitive = caseSensitive;
+    }
+
+    public ArrowBatchRecordReader createReader(Split split) throws IOException {
+        return new ArrowBatchRecordReader(read.createReader(split));
+    }
+
+    public ArrowBatchRecordReader createReader(List<Split> splits) throws IOException {
+        return new ArrowBatchRecordReader(read.createReader(splits));
+    }
+
+    /** A reader which returns {@link VectorSchemaRoot} batches of at most max batch rows. */
+    public class ArrowBatchRecordReader implements Closeable {
+
+        private final RecordReader<InternalRow> reader;
+
+        // reusable, the vectorized and per row converters share the same root
+        private final VectorSchemaRoot root;
+        private final ArrowVectorizedBatchConverter vectorizedConverter;
+        private final ArrowPerRowBatchConverter perRowConverter;
+
+        @Nullable private ArrowBatchConverter currentConverter;
+
+        private ArrowBatchRecordReader(RecordReader<InternalRow> reader) {
+            this.reader = reader;
+            this.root = ArrowUtils.createVectorSchemaRoot(readType, allocator, caseSensitive);
+            ArrowFieldWriter[] fieldWriters = ArrowUtils.createArrowFieldWriters(root, readType);
+            this.vectorizedConverter = new ArrowVectorizedBatchConverter(root, fieldWriters);
+            this.perRowConverter = new ArrowPerRowBatchConverter(root, fieldWriters);
+        }
+
+        /**
+         * Returns the next non-empty batch, or null if there is no more data.
+         *
+         * <p>NOTE: the returned value will be reused, and it's lifecycle is managed by this reader.
+         */
+        @Nullable
+        public VectorSchemaRoot next() throws IOException {
+            while (true) {
+                if (currentConverter != null) {
+                    VectorSchemaRoot batch = currentConverter.next(maxBatchRows);
+                    if (batch == null) {
+                        currentConverter = null;
+                    } else if (batch.getRowCount() > 0) {
+                        return batch;
+                    }
+                    continue;
+                }
+
+                RecordReader.RecordIterator<InternalRow> iterator = reader.readBatch();
+                if (iterator == null) {
+                    return null;
+                }
+                currentConverter = converterFor(iterator);
+            }
+        }
+
+        private ArrowBatchConverter converterFor(
+                RecordReader.RecordIterator<InternalRow> iterator) {
+            if (iterator instanceof ApplyDeletionFileRecordIterator
+                    && ((ApplyDeletionFileRecordIterator) iterator).iterator()
+                            instanceof VectorizedRecordIterator) {
+                vectorizedConverter.reset((ApplyDeletionFileRecordIterator) iterator);
+                return vectorizedConverter;
+            } else if (iterator instanceof VectorizedRecordIterator) {
+                vectorizedConverter.reset((VectorizedRecordIterator) iterator);
+                return vectorizedConverter;
+            } else {
+                perRowConverter.reset(iterator);
+                return perRowConverter;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                reader.close();
+            } finally {
+                root.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.reader;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.Catalog;
+import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.catalog.CatalogFactory;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.disk.IOManagerImpl;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.table.sink.StreamTableWrite;
+import org.apache.paimon.table.source.ReadBuilder;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ArrowTableRead}. */
+public class ArrowTableReadTest {
+
+    private @TempDir java.nio.file.Path tempDir;
+    private Catalog catalog;
+
+    @BeforeEach
+    public void before() throws Exception {
+        catalog =
+                CatalogFactory.createCatalog(
+                        CatalogContext.create(new Path(tempDir.toUri().toString())));
+        catalog.createDatabase("default", false);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"parquet", "orc", "avro"})
+    public void testRead(String format) throws Exception {
+        FileStoreTable table = createTable(format, false);
+        Map<Integer, String> expected = write(table, 1000, 0);
+        assertThat(read(table.newReadBuilder())).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"parquet", "orc", "avro"})
+    public void testReadWithDeletionVectors(String format) throws Exception {
+        FileStoreTable table = createTable(format, true);
+        Map<Integer, String> expected = write(table, 1000, 3);
+        assertThat(read(table.newReadBuilder())).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"parquet", "orc"})
+    public void testReadWithProjection(String format) throws Exception {
+        FileStoreTable table = createTable(format, true);
+        write(table, 100, 2);
+
+        ReadBuilder readBuilder = table.newReadBuilder().withProjection(new int[] {1});
+        try (RootAllocator allocator = new RootAllocator();
+                ArrowTableRead.ArrowBatchRecordReader reader =
+                        new ArrowTableRead(readBuilder, allocator, 16)
+                                .createReader(readBuilder.newScan().plan().splits())) {
+            int rowCount = 0;
+            VectorSchemaRoot batch;
+            while ((batch = reader.next()) != null) {
+                assertThat(batch.getFieldVectors()).hasSize(1);
+                assertThat(batch.getVector(0).getName()).isEqualTo("v");
+                rowCount += batch.getRowCount();
+            }
+            assertThat(rowCount).isEqualTo(50);
+        }
+    }
+
+    private FileStoreTable createTable(String format, boolean deletionVectors) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.BUCKET.key(), "1");
+        options.put(CoreOptions.FILE_FORMAT.key(), format);
+        options.put(CoreOptions.DELETION_VECTORS_ENABLED.key(), String.valueOf(deletionVectors));
+        Schema schema =
+                Schema.newBuilder()
+                        .column("k", DataTypes.INT())
+                        .column("v", DataTypes.STRING())
+                        .primaryKey("k")
+                        .options(options)
+                        .build();
+        Identifier identifier = Identifier.create("default", "t_" + format);
+        catalog.createTable(identifier, schema, false);
+        return (FileStoreTable) catalog.getTable(identifier);
+    }
+
+    /** Writes rows and deletes every {@code deleteEvery}-th of them, returns the expected rows. */
+    private Map<Integer, String> write(FileStoreTable table, int numRows, int deleteEvery)
+            throws Exception {
+        Map<Integer, String> expected = new TreeMap<>();
+        try (StreamTableWrite write = table.newStreamWriteBuilder().newWrite();
+                StreamTableCommit commit = table.newStreamWriteBuilder().newCommit()) {
+            write.withIOManager(new IOManagerImpl(tempDir.toString()));
+            for (int i = 0; i < numRows; i++) {
+                write.write(GenericRow.of(i, BinaryString.fromString("v" + i)));
+                expected.put(i, "v" + i);
+            }
+            commit.commit(0, write.prepareCommit(true, 0));
+
+            if (deleteEvery > 0) {
+                for (int i = 0; i < numRows; i += deleteEvery) {
+                    write.write(
+                            GenericRow.ofKind(RowKind.DELETE, i, BinaryString.fromString("v" + i)));
+                    expected.remove(i);
+                }
+                commit.commit(1, write.prepareCommit(true, 1));
+            }
+        }
+        return expected;
+    }
+
+    private Map<Integer, String> read(ReadBuilder readBuilder) throws Exception {
+        Map<Integer, String> result = new TreeMap<>();
+        try (RootAllocator allocator = new RootAllocator();
+                ArrowTableRead.ArrowBatchRecordReader reader =
+                        new ArrowTableRead(readBuilder, allocator, 64)
+                                .createReader(readBuilder.newScan().plan().splits())) {
+            VectorSchemaRoot batch;
+            while ((batch = reader.next()) != null) {
+                assertThat(batch.getRowCount()).isBetween(1, 64);
+                IntVector keys = (IntVector) batch.getVector("k");
+                VarCharVector values = (VarCharVector) batch.getVector("v");
+                for (int i = 0; i < batch.getRowCount(); i++) {
+                    result.put(keys.get(i), values.getObject(i).toString());
+                }
+            }
+        }
+        return result;
+    }
+}
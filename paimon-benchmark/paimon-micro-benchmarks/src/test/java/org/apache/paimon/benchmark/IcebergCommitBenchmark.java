@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.iceberg.IcebergOptions;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.Table;
+import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.table.sink.StreamTableWrite;
+import org.apache.paimon.table.sink.StreamWriteBuilder;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+
+/** Benchmark for the commit latency of tables with Iceberg compatible metadata. */
+public class IcebergCommitBenchmark extends TableBenchmark {
+
+    @Test
+    public void testCommitAgainstTableSize() throws Exception {
+        innerTest(100);
+        innerTest(1_000);
+        innerTest(5_000);
+        /*
+         * OpenJDK 64-Bit Server VM 17.0.9+9 on Linux 6.18.44-fc-v139
+         * Intel(R) Xeon(R) Processor @ 2.10GHz
+         * 100_files:                     Best/Avg Time(ms)    Row Rate(K/s)      Per Row(ns)   Relative
+         * -----------------------------------------------------------------------------------------------
+         * 100_files_incremental_commit          45 /   52              0.0       44500409.0       1.0X
+         * 100_files_rebuild_commit              41 /   58              0.0       40702703.0       1.1X
+         *
+         * 1000_files:                    Best/Avg Time(ms)    Row Rate(K/s)      Per Row(ns)   Relative
+         * -----------------------------------------------------------------------------------------------
+         * 1000_files_incremental_commit         22 /   29              0.0       22302690.0       1.0X
+         * 1000_files_rebuild_commit             62 /   84              0.0       62170120.0       0.4X
+         *
+         * 5000_files:                    Best/Avg Time(ms)    Row Rate(K/s)      Per Row(ns)   Relative
+         * -----------------------------------------------------------------------------------------------
+         * 5000_files_incremental_commit         11 /   12              0.1       11189966.0       1.0X
+         * 5000_files_rebuild_commit             89 /  164              0.0       88761638.0       0.1X
+         */
+    }
+
+    private void innerTest(int numFiles) throws Exception {
+        Options options = new Options();
+        options.set(
+                IcebergOptions.METADATA_ICEBERG_STORAGE, IcebergOptions.StorageType.TABLE_LOCATION);
+        // keep one data file per commit, so that the table size is the number of commits
+        options.set(CoreOptions.WRITE_ONLY, true);
+        FileStoreTable table =
+                (FileStoreTable) createTable(options, "T_" + numFiles, Collections.emptyList());
+
+        // fill the table without Iceberg metadata, the first measured commit creates it
+        Table noIcebergTable =
+                table.copy(
+                        Collections.singletonMap(
+                                IcebergOptions.METADATA_ICEBERG_STORAGE.key(),
+                                IcebergOptions.StorageType.DISABLED.toString()));
+        StreamWriteBuilder fillBuilder = noIcebergTable.newStreamWriteBuilder();
+        try (StreamTableWrite write = fillBuilder.newWrite();
+                StreamTableCommit commit = fillBuilder.newCommit()) {
+            for (int i = 0; i < numFiles; i++) {
+                write.write(newRandomRow());
+                commit.commit(i, write.prepareCommit(false, i));
+            }
+        }
+
+        Path metadataPath = new Path(table.location(), "metadata");
+        StreamWriteBuilder writeBuilder = table.newStreamWriteBuilder();
+        StreamTableWrite write = writeBuilder.newWrite();
+        StreamTableCommit commit = writeBuilder.newCommit();
+        long[] identifier = {numFiles};
+        Benchmark benchmark =
+                new Benchmark(numFiles + "_files", 1)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        benchmark.addCase("incremental_commit", 10, () -> commit(write, commit, identifier[0]++));
+        benchmark.addCase(
+                "rebuild_commit",
+                10,
+                () -> {
+                    // without base metadata the whole table is converted
+                    try {
+                        table.fileIO().delete(metadataPath, true);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    commit(write, commit, identifier[0]++);
+                });
+        benchmark.run();
+        write.close();
+        commit.close();
+    }
+
+    private void commit(StreamTableWrite write, StreamTableCommit commit, long identifier) {
+        try {
+            write.write(newRandomRow());
+            commit.commit(identifier, write.prepareCommit(false, identifier));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
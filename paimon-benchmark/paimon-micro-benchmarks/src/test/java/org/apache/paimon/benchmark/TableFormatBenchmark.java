@@ -18,20 +18,33 @@
 
 package org.apache.paimon.benchmark;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.FileStoreTableFactory;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.StreamTableCommit;
 import org.apache.paimon.table.sink.StreamTableWrite;
 import org.apache.paimon.table.sink.StreamWriteBuilder;
+import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.Split;
 
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -52,6 +65,86 @@ public class TableFormatBenchmark extends TableBenchmark {
          */
     }
 
+    @Test
+    public void testParquetAdaptiveEncoding() throws Exception {
+        int encodingRowCount = 1000000;
+        Map<String, Table> tables = new LinkedHashMap<>();
+        tables.put("default", prepareEncodingData(new Options(), "default", encodingRowCount));
+        Options adaptive = new Options();
+        adaptive.set(RowDataParquetBuilder.ADAPTIVE_ENCODING_ENABLED, "true");
+        tables.put("adaptive", prepareEncodingData(adaptive, "adaptive", encodingRowCount));
+
+        int readTime = 3;
+        Benchmark benchmark =
+                new Benchmark("parquet-encoding-read", readTime * encodingRowCount)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (Map.Entry<String, Table> entry : tables.entrySet()) {
+            Table table = entry.getValue();
+            long fileSize =
+                    table.newReadBuilder().newScan().plan().splits().stream()
+                            .flatMap(split -> ((DataSplit) split).dataFiles().stream())
+                            .mapToLong(DataFileMeta::fileSize)
+                            .sum();
+            System.out.printf("Data files of %s encoding: %d bytes.\n", entry.getKey(), fileSize);
+            benchmark.addCase(
+                    entry.getKey(),
+                    5,
+                    () -> {
+                        for (int i = 0; i < readTime; i++) {
+                            try {
+                                for (Split split :
+                                        table.newReadBuilder().newScan().plan().splits()) {
+                                    table.newReadBuilder()
+                                            .newRead()
+                                            .createReader(split)
+                                            .forEachRemaining(row -> {});
+                                }
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        }
+                    });
+        }
+        benchmark.run();
+    }
+
+    @Test
+    public void testManifestRead() throws Exception {
+        FileStoreTable table = prepareManifests();
+        Snapshot snapshot = table.snapshotManager().latestSnapshot();
+        List<ManifestFileMeta> manifests =
+                table.store().manifestListFactory().create().readDataManifests(snapshot);
+        long entryCount = manifests.stream().mapToLong(ManifestFileMeta::numAddedFiles).sum();
+
+        int readTime = 10;
+        Benchmark benchmark =
+                new Benchmark("manifest-read", readTime * entryCount)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (boolean vectorized : new boolean[] {false, true}) {
+            // tables created without catalog do not cache manifests
+            FileStoreTable readTable =
+                    FileStoreTableFactory.create(table.fileIO(), table.location())
+                            .copy(
+                                    Collections.singletonMap(
+                                            "avro.vectorized-read.enabled",
+                                            String.valueOf(vectorized)));
+            ManifestFile manifestFile = readTable.store().manifestFileFactory().create();
+            benchmark.addCase(
+                    vectorized ? "batch" : "row",
+                    5,
+                    () -> {
+                        for (int i = 0; i < readTime; i++) {
+                            for (ManifestFileMeta manifest : manifests) {
+                                manifestFile.read(manifest.fileName(), manifest.fileSize());
+                            }
+                        }
+                    });
+        }
+        benchmark.run();
+    }
+
     private void innerTest(Table table) {
         int readTime = 3;
         Benchmark benchmark =
@@ -81,6 +174,50 @@ public class TableFormatBenchmark extends TableBenchmark {
         benchmark.run();
     }
 
+    /**
+     * Writes rows with a sorted key, a low cardinality column, a sorted string column and random
+     * string columns, so that different columns prefer different encodings.
+     */
+    private Table prepareEncodingData(Options options, String tableName, int count)
+            throws Exception {
+        options.set(CoreOptions.FILE_FORMAT, CoreOptions.FILE_FORMAT_PARQUET);
+        Table table = createTable(options, tableName, Collections.emptyList());
+        StreamWriteBuilder writeBuilder = table.newStreamWriteBuilder();
+        try (StreamTableWrite write = writeBuilder.newWrite();
+                StreamTableCommit commit = writeBuilder.newCommit()) {
+            for (int i = 0; i < count; i++) {
+                GenericRow row = (GenericRow) newRandomRow();
+                row.setField(0, i);
+                row.setField(1, BinaryString.fromString("category-" + i % 16));
+                row.setField(2, BinaryString.fromString(String.format("id-%012d", i)));
+                write.write(row);
+            }
+            commit.commit(1, write.prepareCommit(true, 1));
+        }
+        return table;
+    }
+
+    private FileStoreTable prepareManifests() throws Exception {
+        Options options = new Options();
+        // many small commits without manifest merging produce a large number of manifest entries
+        options.set(CoreOptions.BUCKET, 10);
+        options.set(CoreOptions.BUCKET_KEY, "k");
+        options.set(CoreOptions.WRITE_ONLY, true);
+        options.set(CoreOptions.MANIFEST_MERGE_MIN_COUNT, Integer.MAX_VALUE);
+        Table table = createTable(options, "manifest_table", Collections.emptyList());
+        StreamWriteBuilder writeBuilder = table.newStreamWriteBuilder();
+        try (StreamTableWrite write = writeBuilder.newWrite();
+                StreamTableCommit commit = writeBuilder.newCommit()) {
+            for (int i = 0; i < 100; i++) {
+                for (int j = 0; j < 1000; j++) {
+                    write.write(newRandomRow());
+                }
+                commit.commit(i, write.prepareCommit(false, i));
+            }
+        }
+        return (FileStoreTable) table;
+    }
+
     private Table prepareData() throws Exception {
         Table table = createTable(new Options(), "table", Collections.emptyList());
         StreamWriteBuilder writeBuilder = table.newStreamWriteBuilder();
@@ -20,6 +20,7 @@ package org.apache.paimon.benchmark;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.table.Table;
@@ -34,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import javax.annotation.Nullable;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -135,6 +137,24 @@ public class TableReadBenchmark extends TableBenchmark {
          */
     }
 
+    @Test
+    public void testOrcReadWithFooterCache() throws Exception {
+        Map<String, Table> tables = new LinkedHashMap<>();
+        tables.put("orc", prepareData(orc(), "orc"));
+        tables.put("orc-footer-cache", prepareData(withFooterCache(orc()), "orc_footer_cache"));
+        innerTestProjection(tables, new int[] {10});
+    }
+
+    @Test
+    public void testParquetReadWithFooterCache() throws Exception {
+        Map<String, Table> tables = new LinkedHashMap<>();
+        tables.put("parquet", prepareData(parquet(), "parquet"));
+        tables.put(
+                "parquet-footer-cache",
+                prepareData(withFooterCache(parquet()), "parquet_footer_cache"));
+        innerTestProjection(tables, new int[] {10});
+    }
+
     private Options orc() {
         Options options = new Options();
         options.set(CoreOptions.FILE_FORMAT, CoreOptions.FILE_FORMAT_ORC);
@@ -153,6 +173,11 @@ public class TableReadBenchmark extends TableBenchmark {
         return options;
     }
 
+    private Options withFooterCache(Options options) {
+        options.set(CoreOptions.FILE_FOOTER_CACHE_MAX_MEMORY_SIZE, MemorySize.ofMebiBytes(64));
+        return options;
+    }
+
     private void innerTest(Map<String, Table> tables) {
         innerTestProjection(tables, null);
     }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.lookup;
+
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.data.serializer.BinarySerializer;
+import org.apache.paimon.lookup.InMemoryStateFactory;
+import org.apache.paimon.lookup.RocksDBStateFactory;
+import org.apache.paimon.lookup.StateFactory;
+import org.apache.paimon.lookup.ValueState;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/** Benchmark for measuring the throughput of the states of full cache lookup tables. */
+@ExtendWith(ParameterizedTestExtension.class)
+public class LookupStateBenchmark extends AbstractLookupBenchmark {
+
+    private static final int[] STATE_VALUE_LENGTHS = {0, 64, 500};
+
+    private final int recordCount;
+    @TempDir Path tempDir;
+
+    public LookupStateBenchmark(int recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    @Parameters(name = "recordCount-{0}")
+    public static List<Integer> getVarSeg() {
+        return Arrays.asList(100000, 1000000, 5000000);
+    }
+
+    @TestTemplate
+    void testPut() {
+        byte[][] inputs = generateRandomInputs(0, recordCount);
+        Benchmark benchmark =
+                new Benchmark("state-put-" + inputs.length, inputs.length)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (int valueLength : STATE_VALUE_LENGTHS) {
+            for (boolean inMemory : new boolean[] {false, true}) {
+                benchmark.addCase(
+                        String.format(
+                                "%s-put-%dB-value-%d-num",
+                                backend(inMemory), valueLength, inputs.length),
+                        5,
+                        () -> {
+                            try (StateFactory factory = createFactory(inMemory)) {
+                                put(factory, inputs, valueLength);
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+            }
+        }
+        benchmark.run();
+    }
+
+    @TestTemplate
+    void testGet() throws IOException {
+        byte[][] inputs = generateSequenceInputs(0, recordCount);
+        byte[][] probes = generateRandomInputs(0, recordCount * 2);
+        Benchmark benchmark =
+                new Benchmark("state-get-" + probes.length, probes.length)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (int valueLength : STATE_VALUE_LENGTHS) {
+            for (boolean inMemory : new boolean[] {false, true}) {
+                StateFactory factory = createFactory(inMemory);
+                ValueState<byte[], byte[]> state = put(factory, inputs, valueLength);
+                benchmark.addCase(
+                        String.format(
+                                "%s-get-%dB-value-%d-num",
+                                backend(inMemory), valueLength, inputs.length),
+                        5,
+                        () -> {
+                            try {
+                                for (byte[] probe : probes) {
+                                    state.get(probe);
+                                }
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+            }
+        }
+        benchmark.run();
+    }
+
+    private ValueState<byte[], byte[]> put(StateFactory factory, byte[][] inputs, int valueLength)
+            throws IOException {
+        ValueState<byte[], byte[]> state =
+                factory.valueState(
+                        "state", BinarySerializer.INSTANCE, BinarySerializer.INSTANCE, 0);
+        byte[] value = new byte[valueLength];
+        for (byte[] input : inputs) {
+            state.put(input, value);
+        }
+        return state;
+    }
+
+    private StateFactory createFactory(boolean inMemory) throws IOException {
+        if (inMemory) {
+            return new InMemoryStateFactory(64 * 1024);
+        }
+        File path = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        return new RocksDBStateFactory(path.toString(), new Options(), null);
+    }
+
+    private static String backend(boolean inMemory) {
+        return inMemory ? "memory" : "rocksdb";
+    }
+}
@@ -261,6 +261,14 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "File block size of format, default value of orc stripe is 64 MB, and parquet row group is 128 MB.");
 
+    public static final ConfigOption<MemorySize> FILE_FOOTER_CACHE_MAX_MEMORY_SIZE =
+            key("file.footer-cache.max-memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ZERO)
+                    .withDescription(
+                            "Max memory size for caching parsed footers of parquet and orc data files, "
+                                    + "the cache is shared by all readers in the process. 0 means disabled.");
+
     public static final ConfigOption<MemorySize> FILE_INDEX_IN_MANIFEST_THRESHOLD =
             key("file-index.in-manifest-threshold")
                     .memoryType()
@@ -376,6 +384,16 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The maximum number of snapshots allowed to expire at a time.");
 
+    public static final ConfigOption<Boolean> SNAPSHOT_TIMELINE_ENABLED =
+            key("snapshot.timeline.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to maintain a timeline of snapshots in the snapshot directory "
+                                    + "on commit. Searching snapshots by time or watermark reads the "
+                                    + "timeline instead of the snapshot files one by one. Commit "
+                                    + "deduplication always reads the snapshot files.");
+
     public static final ConfigOption<Boolean> SNAPSHOT_CLEAN_EMPTY_DIRECTORIES =
             key("snapshot.clean-empty-directories")
                     .booleanType()
@@ -644,6 +662,38 @@ public class CoreOptions implements Serializable {
                             "Ratio of the deleted rows in a data file to be forced compacted for "
                                     + "append-only table.");
 
+    public static final ConfigOption<Integer> COMPACTION_MAX_TASKS_PER_PARTITION =
+            key("compaction.max-tasks-per-partition")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The maximum number of compaction tasks planned for one partition in each round of "
+                                    + "the compaction coordinator of append table without buckets. Files which are "
+                                    + "not planned wait for later rounds, so that a partition with lots of small "
+                                    + "files does not hold back the compaction of other partitions. No limit by default.");
+
+    public static final ConfigOption<String> COMPACTION_CLUSTERING_COLUMNS =
+            key("compaction.clustering.columns")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Specifies the column name(s) to cluster newly arrived small files by during the "
+                                    + "compaction of append table without buckets, in the format 'columnName1,columnName2'. "
+                                    + "The rows of the compacted files are sorted by the columns before being written, so "
+                                    + "that the output files cover tight ranges of the columns and data skipping works "
+                                    + "without rewriting whole partitions. Rows are only sorted within each compaction "
+                                    + "task, the files of different tasks in a partition may still overlap, use sort "
+                                    + "compaction to range partition a whole partition.");
+
+    public static final ConfigOption<String> COMPACTION_CLUSTERING_STRATEGY =
+            key("compaction.clustering.strategy")
+                    .stringType()
+                    .defaultValue("auto")
+                    .withDescription(
+                            "Specifies the comparison algorithm used to cluster files in compaction, including "
+                                    + "'zorder', 'hilbert', and 'order'. When not configured, 'order' is used for 1 "
+                                    + "column, 'zorder' for less than 5 columns, and 'hilbert' for 5 or more columns.");
+
     public static final ConfigOption<ChangelogProducer> CHANGELOG_PRODUCER =
             key("changelog-producer")
                     .enumType(ChangelogProducer.class)
@@ -1031,6 +1081,32 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define the default false positive probability for lookup cache bloom filters.");
 
+    public static final ConfigOption<Long> QUERY_SERVICE_CACHE_MAX_ROWS =
+            key("query-service.cache.max-rows")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "Max number of lookup results cached by each server of the query "
+                                    + "service, 0 means the cache is disabled. Cached results of a "
+                                    + "bucket are invalidated when the files of the bucket are "
+                                    + "refreshed.");
+
+    public static final ConfigOption<Duration> QUERY_SERVICE_CACHE_TTL =
+            key("query-service.cache.ttl")
+                    .durationType()
+                    .defaultValue(Duration.ofMinutes(1))
+                    .withDescription(
+                            "Time to live of the lookup results cached by the query service.");
+
+    public static final ConfigOption<Integer> QUERY_SERVICE_QUERY_THREADS =
+            key("query-service.query-threads")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "Number of threads looking up keys in each server of the query "
+                                    + "service. Concurrent requests of the same bucket are only "
+                                    + "coalesced into one lookup pass with more than one thread.");
+
     public static final ConfigOption<Integer> READ_BATCH_SIZE =
             key("read.batch-size")
                     .intType()
@@ -1476,6 +1552,16 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The parallelism for bootstrap in a single task for cross partition upsert.");
 
+    public static final ConfigOption<Boolean> CROSS_PARTITION_UPSERT_PERSISTED_INDEX_ENABLED =
+            key("cross-partition-upsert.persisted-index.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to persist the key index for cross partition upsert as files in the "
+                                    + "'global-index' directory of the table. The index is written incrementally "
+                                    + "on checkpoints, and a restored job loads it from these files instead of "
+                                    + "bootstrapping it from the whole table.");
+
     public static final ConfigOption<Integer> ZORDER_VAR_LENGTH_CONTRIBUTION =
             key("zorder.var-length-contribution")
                     .intType()
@@ -1510,6 +1596,18 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.ofMebiBytes(2))
                     .withDescription("The target size of deletion vector index file.");
 
+    public static final ConfigOption<Boolean> DELETION_VECTOR_INDEX_FILE_INCREMENTAL =
+            key("deletion-vector.index-file.incremental")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write deletion vector index files of bucketed tables "
+                                    + "incrementally. If enabled, a bucket may have multiple index "
+                                    + "files rolled by 'deletion-vector.index-file.target-size', "
+                                    + "only the index files containing changed deletion vectors are "
+                                    + "rewritten together with small index files, and writers only "
+                                    + "load the deletion vectors of the data files they touch.");
+
     public static final ConfigOption<Boolean> DELETION_FORCE_PRODUCE_CHANGELOG =
             key("delete.force-produce-changelog")
                     .booleanType()
@@ -1601,6 +1699,16 @@ public class CoreOptions implements Serializable {
                             "The maximum number of concurrent deleting files. "
                                     + "By default is the number of processors available to the Java virtual machine.");
 
+    public static final ConfigOption<Boolean> ORPHAN_FILES_CLEAN_EXTERNAL_SORT =
+            key("orphan-files.clean.external-sort")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether local orphan files clean finds orphan files by sorting the names "
+                                    + "of listed files and used files with an external sort buffer, "
+                                    + "instead of keeping them in memory. Enable it for tables with "
+                                    + "a huge number of files.");
+
     public static final ConfigOption<String> SCAN_FALLBACK_BRANCH =
             key("scan.fallback-branch")
                     .stringType()
@@ -1637,6 +1745,43 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Enable data file thin mode to avoid duplicate columns storage.");
 
+    public static final ConfigOption<Boolean> DATA_FILE_BLOCK_CACHE_ENABLED =
+            key("data-file.block-cache.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to cache blocks of data files read from the file system in local memory and disk."
+                                    + " Data files are immutable, so cached blocks never need to be invalidated."
+                                    + " Compaction reads bypass the cache.");
+
+    public static final ConfigOption<MemorySize> DATA_FILE_BLOCK_CACHE_BLOCK_SIZE =
+            key("data-file.block-cache.block-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("1 mb"))
+                    .withDescription("Size of a block in the data file block cache.");
+
+    public static final ConfigOption<MemorySize> DATA_FILE_BLOCK_CACHE_MAX_MEMORY_SIZE =
+            key("data-file.block-cache.max-memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("256 mb"))
+                    .withDescription(
+                            "Max memory size for the data file block cache, the cache is shared by all tables in the process.");
+
+    public static final ConfigOption<String> DATA_FILE_BLOCK_CACHE_DISK_DIR =
+            key("data-file.block-cache.disk-dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Local directory for the disk tier of the data file block cache. "
+                                    + "Blocks evicted from memory are still served from local disk. "
+                                    + "If not set, only the memory tier is used.");
+
+    public static final ConfigOption<MemorySize> DATA_FILE_BLOCK_CACHE_MAX_DISK_SIZE =
+            key("data-file.block-cache.max-disk-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("10 gb"))
+                    .withDescription("Max disk size for the data file block cache.");
+
     public static final ConfigOption<Duration> PARTITION_IDLE_TIME_TO_REPORT_STATISTIC =
             key("partition.idle-time-to-report-statistic")
                     .durationType()
@@ -1997,10 +2142,30 @@ public class CoreOptions implements Serializable {
         return options.get(SNAPSHOT_EXPIRE_LIMIT);
     }
 
+    public boolean snapshotTimelineEnabled() {
+        return options.get(SNAPSHOT_TIMELINE_ENABLED);
+    }
+
     public boolean cleanEmptyDirectories() {
         return options.get(SNAPSHOT_CLEAN_EMPTY_DIRECTORIES);
     }
 
+    public long queryServiceCacheMaxRows() {
+        return options.get(QUERY_SERVICE_CACHE_MAX_ROWS);
+    }
+
+    public Duration queryServiceCacheTtl() {
+        return options.get(QUERY_SERVICE_CACHE_TTL);
+    }
+
+    public int queryServiceQueryThreads() {
+        return options.get(QUERY_SERVICE_QUERY_THREADS);
+    }
+
+    public boolean orphanFilesCleanExternalSort() {
+        return options.get(ORPHAN_FILES_CLEAN_EXTERNAL_SORT);
+    }
+
     public int deleteFileThreadNum() {
         return options.getOptional(DELETE_FILE_THREAD_NUM)
                 .orElseGet(() -> Runtime.getRuntime().availableProcessors());
@@ -2203,10 +2368,39 @@ public class CoreOptions implements Serializable {
         return options.get(COMPACTION_MIN_FILE_NUM);
     }
 
+    public int compactionMaxTasksPerPartition() {
+        return options.getOptional(COMPACTION_MAX_TASKS_PER_PARTITION).orElse(Integer.MAX_VALUE);
+    }
+
     public double compactionDeleteRatioThreshold() {
         return options.get(COMPACTION_DELETE_RATIO_THRESHOLD);
     }
 
+    public List<String> compactionClusteringColumns() {
+        String columns = options.get(COMPACTION_CLUSTERING_COLUMNS);
+        if (StringUtils.isNullOrWhitespaceOnly(columns)) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(columns.split(","))
+                .map(String::trim)
+                .filter(column -> !column.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public OrderType compactionClusteringStrategy(int columnSize) {
+        String strategy = options.get(COMPACTION_CLUSTERING_STRATEGY);
+        if (strategy.equals(COMPACTION_CLUSTERING_STRATEGY.defaultValue())) {
+            if (columnSize == 1) {
+                return OrderType.ORDER;
+            } else if (columnSize < 5) {
+                return OrderType.ZORDER;
+            } else {
+                return OrderType.HILBERT;
+            }
+        }
+        return OrderType.of(strategy);
+    }
+
     public long dynamicBucketTargetRowNum() {
         return options.get(DYNAMIC_BUCKET_TARGET_ROW_NUM);
     }
@@ -2610,6 +2804,10 @@ public class CoreOptions implements Serializable {
         return options.get(CROSS_PARTITION_UPSERT_BOOTSTRAP_PARALLELISM);
     }
 
+    public boolean crossPartitionUpsertPersistedIndexEnabled() {
+        return options.get(CROSS_PARTITION_UPSERT_PERSISTED_INDEX_ENABLED);
+    }
+
     public int varTypeSize() {
         return options.get(ZORDER_VAR_LENGTH_CONTRIBUTION);
     }
@@ -2622,6 +2820,10 @@ public class CoreOptions implements Serializable {
         return options.get(DELETION_VECTOR_INDEX_FILE_TARGET_SIZE);
     }
 
+    public boolean deletionVectorIndexFileIncremental() {
+        return options.get(DELETION_VECTOR_INDEX_FILE_INCREMENTAL);
+    }
+
     public FileIndexOptions indexColumnsOptions() {
         return new FileIndexOptions(this);
     }
@@ -2685,6 +2887,10 @@ public class CoreOptions implements Serializable {
         return options.get(DATA_FILE_THIN_MODE);
     }
 
+    public boolean dataFileBlockCacheEnabled() {
+        return options.get(DATA_FILE_BLOCK_CACHE_ENABLED);
+    }
+
     public boolean aggregationRemoveRecordOnDelete() {
         return options.get(AGGREGATION_REMOVE_RECORD_ON_DELETE);
     }
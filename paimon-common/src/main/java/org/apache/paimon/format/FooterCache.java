@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format;
+
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.operation.metrics.CacheMetrics;
+import org.apache.paimon.options.MemorySize;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * A process wide cache of parsed footers of data files, keyed by file path and the reader options
+ * which affect how a footer is parsed. Data files are never modified after creation, so a cached
+ * footer never needs to be invalidated.
+ *
+ * @param <T> type of the parsed footer.
+ */
+@ThreadSafe
+public class FooterCache<T> {
+
+    private static final Map<String, Cache<FooterKey, Object>> CACHES = new ConcurrentHashMap<>();
+    private static final Map<String, CacheMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private final Cache<FooterKey, Object> cache;
+    private final String readerOptions;
+    private final CacheMetrics metrics;
+
+    private FooterCache(
+            Cache<FooterKey, Object> cache, String readerOptions, CacheMetrics metrics) {
+        this.cache = cache;
+        this.readerOptions = readerOptions;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the footer cache of the format shared in the process, or null if the given memory
+     * size is zero.
+     *
+     * @param readerOptions reader options which affect the parsed footer, footers parsed with
+     *     different options are cached separately.
+     * @param weigher estimates the memory size of a footer in bytes.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> FooterCache<T> getOrCreate(
+            String format,
+            MemorySize maxMemorySize,
+            Map<String, String> readerOptions,
+            ToIntFunction<T> weigher) {
+        if (maxMemorySize.getBytes() <= 0) {
+            return null;
+        }
+
+        Cache<FooterKey, Object> cache =
+                CACHES.computeIfAbsent(
+                        cacheName(format, maxMemorySize),
+                        k ->
+                                Caffeine.newBuilder()
+                                        .weigher(
+                                                (FooterKey key, Object footer) ->
+                                                        weigher.applyAsInt((T) footer))
+                                        .maximumWeight(maxMemorySize.getBytes())
+                                        .executor(Runnable::run)
+                                        .build());
+        return new FooterCache<>(
+                cache, new TreeMap<>(readerOptions).toString(), metrics(format, maxMemorySize));
+    }
+
+    /** Returns the metrics of the footer cache of the format shared in the process. */
+    public static CacheMetrics metrics(String format, MemorySize maxMemorySize) {
+        return METRICS.computeIfAbsent(cacheName(format, maxMemorySize), k -> new CacheMetrics());
+    }
+
+    private static String cacheName(String format, MemorySize maxMemorySize) {
+        return format + "-" + maxMemorySize.getBytes();
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T getIfPresent(Path path) {
+        T footer = (T) cache.getIfPresent(new FooterKey(path.toString(), readerOptions));
+        if (footer == null) {
+            metrics.increaseMissedObject();
+        } else {
+            metrics.increaseHitObject();
+        }
+        return footer;
+    }
+
+    public void put(Path path, T footer) {
+        cache.put(new FooterKey(path.toString(), readerOptions), footer);
+    }
+
+    public CacheMetrics metrics() {
+        return metrics;
+    }
+
+    /** Key of a cached footer, the file path and the reader options. */
+    private static class FooterKey {
+
+        private final String path;
+        private final String readerOptions;
+
+        private FooterKey(String path, String readerOptions) {
+            this.path = path;
+            this.readerOptions = readerOptions;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FooterKey that = (FooterKey) o;
+            return path.equals(that.path) && readerOptions.equals(that.readerOptions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, readerOptions);
+        }
+    }
+}
@@ -21,6 +21,9 @@ package org.apache.paimon.format;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import javax.annotation.Nullable;
 
 /** The context for creating orc {@link RecordReader}. */
 public class OrcFormatReaderContext extends FormatReaderContext {
@@ -28,7 +31,16 @@ public class OrcFormatReaderContext extends FormatReaderContext {
     private final int poolSize;
 
     public OrcFormatReaderContext(FileIO fileIO, Path filePath, long fileSize, int poolSize) {
-        super(fileIO, filePath, fileSize);
+        this(fileIO, filePath, fileSize, null, poolSize);
+    }
+
+    public OrcFormatReaderContext(
+            FileIO fileIO,
+            Path filePath,
+            long fileSize,
+            @Nullable RoaringBitmap32 selection,
+            int poolSize) {
+        super(fileIO, filePath, fileSize, selection);
         this.poolSize = poolSize;
     }
 
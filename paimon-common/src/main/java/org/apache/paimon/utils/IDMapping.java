@@ -53,4 +53,8 @@ public class IDMapping<T> {
     public T get(int index) {
         return values.get(index);
     }
+
+    public int size() {
+        return values.size();
+    }
 }
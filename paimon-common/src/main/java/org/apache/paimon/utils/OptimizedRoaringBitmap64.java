@@ -114,6 +114,23 @@ public class OptimizedRoaringBitmap64 {
         return key < bitmaps.length && bitmaps[key].contains(pos32Bits);
     }
 
+    /**
+     * Returns the smallest set position which is greater than or equal to the given position.
+     *
+     * @param pos the position to start from
+     * @return the next set position, or -1 if there is none
+     */
+    public long nextValue(long pos) {
+        validatePosition(pos);
+        for (int key = key(pos); key < bitmaps.length; key++) {
+            long next = bitmaps[key].nextValue(key == key(pos) ? pos32Bits(pos) : 0);
+            if (next >= 0) {
+                return toPosition(key, (int) next);
+            }
+        }
+        return -1;
+    }
+
     /**
      * Indicates whether the bitmap has any positions set.
      *
@@ -89,6 +89,10 @@ public class RoaringBitmap32 {
         return roaringBitmap.nextValue(fromValue);
     }
 
+    public long nextAbsentValue(int fromValue) {
+        return roaringBitmap.nextAbsentValue(fromValue);
+    }
+
     public long previousValue(int fromValue) {
         return roaringBitmap.previousValue(fromValue);
     }
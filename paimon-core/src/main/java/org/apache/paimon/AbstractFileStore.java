@@ -181,7 +181,8 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 options.path(),
                 options.branch(),
                 catalogEnvironment.snapshotLoader(),
-                snapshotCache);
+                snapshotCache,
+                options.snapshotTimelineEnabled());
     }
 
     @Override
@@ -237,12 +238,23 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 pathFactory().indexFileFactory(),
                 indexManifestFileFactory().create(),
                 new HashIndexFile(fileIO, pathFactory().indexFileFactory()),
-                new DeletionVectorsIndexFile(
-                        fileIO,
-                        pathFactory().indexFileFactory(),
-                        bucketMode() == BucketMode.BUCKET_UNAWARE
-                                ? options.deletionVectorIndexFileTargetSize()
-                                : MemorySize.ofBytes(Long.MAX_VALUE)));
+                newDeletionVectorsIndexFile());
+    }
+
+    private DeletionVectorsIndexFile newDeletionVectorsIndexFile() {
+        // the incremental index only applies to bucketed tables, deletion vectors of tables
+        // without bucket are always maintained by index files of the whole partition
+        boolean incremental =
+                bucketMode() != BucketMode.BUCKET_UNAWARE
+                        && options.deletionVectorIndexFileIncremental();
+        return new DeletionVectorsIndexFile(
+                fileIO,
+                pathFactory().indexFileFactory(),
+                bucketMode() == BucketMode.BUCKET_UNAWARE || incremental
+                        ? options.deletionVectorIndexFileTargetSize()
+                        : MemorySize.ofBytes(Long.MAX_VALUE),
+                DeletionVectorsIndexFile.VERSION_ID_V1,
+                incremental);
     }
 
     @Override
@@ -22,6 +22,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.io.cache.BlockCachedFileIO;
 import org.apache.paimon.manifest.ManifestCacheFilter;
 import org.apache.paimon.operation.AppendFileStoreWrite;
 import org.apache.paimon.operation.AppendOnlyFileStoreScan;
@@ -77,6 +78,10 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
 
     @Override
     public RawFileSplitRead newRead() {
+        return newRead(BlockCachedFileIO.wrapIfEnabled(fileIO, options));
+    }
+
+    private RawFileSplitRead newRead(FileIO fileIO) {
         return new RawFileSplitRead(
                 fileIO,
                 schemaManager,
@@ -102,7 +107,8 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
         if (bucketMode() == BucketMode.BUCKET_UNAWARE) {
             return new AppendFileStoreWrite(
                     fileIO,
-                    newRead(),
+                    // compaction reads every file once, keep it out of the block cache
+                    newRead(fileIO),
                     schema.id(),
                     rowType,
                     partitionType,
@@ -115,7 +121,7 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
         } else {
             return new BucketedAppendFileStoreWrite(
                     fileIO,
-                    newRead(),
+                    newRead(fileIO),
                     schema.id(),
                     commitUser,
                     rowType,
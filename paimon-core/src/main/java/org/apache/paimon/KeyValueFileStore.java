@@ -26,6 +26,7 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.index.HashIndexMaintainer;
 import org.apache.paimon.index.IndexMaintainer;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
+import org.apache.paimon.io.cache.BlockCachedFileIO;
 import org.apache.paimon.manifest.ManifestCacheFilter;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.operation.AbstractFileStoreWrite;
@@ -126,7 +127,7 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
 
     public RawFileSplitRead newBatchRawFileRead() {
         return new RawFileSplitRead(
-                fileIO,
+                BlockCachedFileIO.wrapIfEnabled(fileIO, options),
                 schemaManager,
                 schema,
                 valueType,
@@ -137,7 +138,7 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
 
     public KeyValueFileReaderFactory.Builder newReaderFactoryBuilder() {
         return KeyValueFileReaderFactory.builder(
-                fileIO,
+                BlockCachedFileIO.wrapIfEnabled(fileIO, options),
                 schemaManager,
                 schema,
                 keyType,
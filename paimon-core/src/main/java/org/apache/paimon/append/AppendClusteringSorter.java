@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.append;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.OrderType;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.JoinedRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.sort.BinaryExternalSortBuffer;
+import org.apache.paimon.sort.hilbert.HilbertIndexer;
+import org.apache.paimon.sort.zorder.ZIndexer;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.MutableObjectIterator;
+import org.apache.paimon.utils.OffsetRow;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * Sorts the rows of files to compact by clustering columns, so that the files rolled from the
+ * sorted rows cover tight and disjoint ranges of the columns. 'order' sorts by the columns
+ * directly, 'zorder' and 'hilbert' sort by the interleaved bytes of the columns, which are
+ * prepended to the rows in the sort buffer.
+ */
+public class AppendClusteringSorter {
+
+    private final BinaryExternalSortBuffer buffer;
+    private final int fieldCount;
+    @Nullable private final Function<InternalRow, byte[]> indexer;
+
+    private final GenericRow indexRow = new GenericRow(1);
+    private final JoinedRow joinedRow = new JoinedRow();
+
+    public AppendClusteringSorter(
+            RowType rowType, List<String> columns, CoreOptions options, IOManager ioManager) {
+        this(
+                rowType,
+                columns,
+                options.compactionClusteringStrategy(columns.size()),
+                options,
+                ioManager);
+    }
+
+    public AppendClusteringSorter(
+            RowType rowType,
+            List<String> columns,
+            OrderType orderType,
+            CoreOptions options,
+            IOManager ioManager) {
+        List<String> fieldNames = rowType.getFieldNames();
+        for (String column : columns) {
+            checkArgument(
+                    fieldNames.contains(column),
+                    "Clustering column %s is not in the fields %s.",
+                    column,
+                    fieldNames);
+        }
+
+        this.fieldCount = rowType.getFieldCount();
+        RowType sortType;
+        int[] keyFields;
+        switch (orderType) {
+            case ORDER:
+                this.indexer = null;
+                sortType = rowType;
+                keyFields = columns.stream().mapToInt(fieldNames::indexOf).toArray();
+                break;
+            case ZORDER:
+                ZIndexer zIndexer = new ZIndexer(rowType, columns);
+                zIndexer.open();
+                this.indexer = zIndexer::index;
+                sortType = withIndex(rowType);
+                keyFields = new int[] {0};
+                break;
+            case HILBERT:
+                HilbertIndexer hilbertIndexer = new HilbertIndexer(rowType, columns);
+                hilbertIndexer.open();
+                this.indexer = hilbertIndexer::index;
+                sortType = withIndex(rowType);
+                keyFields = new int[] {0};
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported clustering " + orderType);
+        }
+
+        this.buffer =
+                BinaryExternalSortBuffer.create(
+                        ioManager,
+                        sortType,
+                        keyFields,
+                        options.writeBufferSize() / 2,
+                        options.pageSize(),
+                        options.localSortMaxNumFileHandles(),
+                        options.spillCompressOptions(),
+                        options.writeBufferSpillDiskSize(),
+                        true);
+    }
+
+    private static RowType withIndex(RowType rowType) {
+        List<DataType> types = new ArrayList<>();
+        types.add(DataTypes.BYTES());
+        types.addAll(rowType.getFieldTypes());
+        return RowType.of(types.toArray(new DataType[0]));
+    }
+
+    public void write(InternalRow row) throws IOException {
+        if (indexer == null) {
+            buffer.write(row);
+        } else {
+            indexRow.setField(0, indexer.apply(row));
+            buffer.write(joinedRow.replace(indexRow, row));
+        }
+    }
+
+    /** Returns the sorted rows, the returned row is reused. */
+    public Iterator<InternalRow> sortedIterator() throws IOException {
+        MutableObjectIterator<BinaryRow> sorted = buffer.sortedIterator();
+        BinaryRow reuse = new BinaryRow(indexer == null ? fieldCount : fieldCount + 1);
+        OffsetRow offsetRow = new OffsetRow(fieldCount, 1);
+        return new Iterator<InternalRow>() {
+
+            @Nullable private BinaryRow next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = sorted.next(reuse);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public InternalRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                BinaryRow row = next;
+                next = null;
+                return indexer == null ? row : offsetRow.replace(row);
+            }
+        };
+    }
+
+    public void clear() {
+        buffer.clear();
+    }
+}
@@ -28,6 +28,8 @@ import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.AppendCompactCoordinatorMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.source.DeletionFile;
@@ -43,6 +45,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +65,11 @@ import static org.apache.paimon.utils.Preconditions.checkArgument;
  * memory, which means, it will not participate in compaction again until restart the compaction
  * job.
  *
+ * <p>Partitions are planned in the order of their expected read benefit, which is the number of
+ * small files waiting in the partition weighted by how often new files arrived in it recently, so
+ * that hot partitions are not held back by cold ones. The number of tasks planned for a partition
+ * in one round can be limited by {@link CoreOptions#COMPACTION_MAX_TASKS_PER_PARTITION}.
+ *
  * <p>When a third task delete file in latest snapshot(including batch delete/update and overwrite),
  * the file in coordinator will still remain and participate in compaction task. When this happens,
  * compaction job will fail in commit stage, and fail-over to rescan the restored files in latest
@@ -74,15 +82,22 @@ public class AppendCompactCoordinator {
     protected static final int REMOVE_AGE = 10;
     protected static final int COMPACT_AGE = 5;
 
+    /** Decay of the heat of a partition in each round of planning. */
+    private static final double HEAT_DECAY = 0.5;
+
     private final SnapshotManager snapshotManager;
     private final long targetFileSize;
     private final long compactionFileSize;
     private final double deleteThreshold;
     private final long openFileCost;
     private final int minFileNum;
+    private final int maxTasksPerPartition;
+    private final String tableName;
     private final DvMaintainerCache dvMaintainerCache;
     private final FilesIterator filesIterator;
 
+    @Nullable private AppendCompactCoordinatorMetrics metrics;
+
     final Map<BinaryRow, SubCoordinator> subCoordinators = new HashMap<>();
 
     public AppendCompactCoordinator(FileStoreTable table, boolean isStreaming) {
@@ -99,6 +114,8 @@ public class AppendCompactCoordinator {
         this.deleteThreshold = options.compactionDeleteRatioThreshold();
         this.openFileCost = options.splitOpenFileCost();
         this.minFileNum = options.compactionMinFileNum();
+        this.maxTasksPerPartition = options.compactionMaxTasksPerPartition();
+        this.tableName = table.name();
         this.dvMaintainerCache =
                 options.deletionVectorsEnabled()
                         ? new DvMaintainerCache(table.store().newIndexFileHandler())
@@ -106,6 +123,11 @@ public class AppendCompactCoordinator {
         this.filesIterator = new FilesIterator(table, isStreaming, filter);
     }
 
+    public AppendCompactCoordinator withMetricRegistry(MetricRegistry registry) {
+        this.metrics = new AppendCompactCoordinatorMetrics(registry, tableName);
+        return this;
+    }
+
     public List<AppendCompactTask> run() {
         // scan files in snapshot
         if (scan()) {
@@ -164,22 +186,53 @@ public class AppendCompactCoordinator {
     @VisibleForTesting
     // generate compaction task to the next stage
     List<AppendCompactTask> compactPlan() {
-        // first loop to found compaction tasks
-        List<AppendCompactTask> tasks =
-                subCoordinators.values().stream()
-                        .flatMap(s -> s.plan().stream())
-                        .collect(Collectors.toList());
+        // first loop to found compaction tasks, partitions with more benefit go first
+        List<SubCoordinator> coordinators = new ArrayList<>(subCoordinators.values());
+        coordinators.sort(Comparator.comparingDouble(SubCoordinator::priority).reversed());
+        List<AppendCompactTask> tasks = new ArrayList<>();
+        for (SubCoordinator coordinator : coordinators) {
+            tasks.addAll(coordinator.plan());
+        }
 
         // second loop to eliminate empty or old(with only one file) coordinator
-        new ArrayList<>(subCoordinators.values())
-                .stream()
-                        .filter(SubCoordinator::readyToRemove)
-                        .map(SubCoordinator::partition)
-                        .forEach(subCoordinators::remove);
+        coordinators.stream()
+                .filter(SubCoordinator::readyToRemove)
+                .map(SubCoordinator::partition)
+                .forEach(subCoordinators::remove);
 
+        if (metrics != null) {
+            reportPlan(tasks.size());
+        }
         return tasks;
     }
 
+    private void reportPlan(int plannedTasks) {
+        long pendingFiles = 0;
+        int pendingPartitions = 0;
+        int maxPartitionPendingFiles = 0;
+        for (SubCoordinator coordinator : subCoordinators.values()) {
+            int size = coordinator.toCompact.size();
+            if (size > 0) {
+                pendingFiles += size;
+                pendingPartitions++;
+                maxPartitionPendingFiles = Math.max(maxPartitionPendingFiles, size);
+            }
+        }
+        metrics.reportPlan(plannedTasks, pendingFiles, pendingPartitions, maxPartitionPendingFiles);
+    }
+
+    /** Returns the number of files waiting for compaction in each partition. */
+    public Map<BinaryRow, Integer> backlog() {
+        Map<BinaryRow, Integer> backlog = new HashMap<>();
+        subCoordinators.forEach(
+                (partition, coordinator) -> {
+                    if (!coordinator.toCompact.isEmpty()) {
+                        backlog.put(partition, coordinator.toCompact.size());
+                    }
+                });
+        return backlog;
+    }
+
     @VisibleForTesting
     HashSet<DataFileMeta> listRestoredFiles() {
         HashSet<DataFileMeta> result = new HashSet<>();
@@ -191,22 +244,32 @@ public class AppendCompactCoordinator {
     class SubCoordinator {
 
         private final BinaryRow partition;
-        private final HashSet<DataFileMeta> toCompact = new HashSet<>();
+        // a list instead of a set, it is much smaller and hashing a file meta is expensive
+        private final List<DataFileMeta> toCompact = new ArrayList<>();
         int age = 0;
+        // decayed count of the rounds in which new files arrived
+        double heat = 0;
 
         public SubCoordinator(BinaryRow partition) {
             this.partition = partition;
         }
 
         public List<AppendCompactTask> plan() {
-            return pickCompact();
+            List<AppendCompactTask> tasks = pickCompact();
+            heat *= HEAT_DECAY;
+            return tasks;
+        }
+
+        /** Expected read benefit of compacting this partition. */
+        public double priority() {
+            return toCompact.size() * (1 + heat);
         }
 
         public BinaryRow partition() {
             return partition;
         }
 
-        public HashSet<DataFileMeta> toCompact() {
+        public List<DataFileMeta> toCompact() {
             return toCompact;
         }
 
@@ -220,6 +283,7 @@ public class AppendCompactCoordinator {
         public void addFiles(List<DataFileMeta> dataFileMetas) {
             // reset age
             age = 0;
+            heat += 1;
             // add to compact
             toCompact.addAll(dataFileMetas);
         }
@@ -235,7 +299,15 @@ public class AppendCompactCoordinator {
             } else {
                 packed = packInDeletionVectorVMode(toCompact);
             }
-            if (packed.isEmpty()) {
+            if (packed.size() > maxTasksPerPartition) {
+                // files of the rest tasks wait for the next round
+                packed = new ArrayList<>(packed.subList(0, maxTasksPerPartition));
+            }
+            if (!packed.isEmpty()) {
+                Set<DataFileMeta> picked = Collections.newSetFromMap(new IdentityHashMap<>());
+                packed.forEach(picked::addAll);
+                toCompact.removeIf(picked::contains);
+            } else {
                 // non-packed, we need to grow up age, and check whether to compact once
                 if (++age > COMPACT_AGE && toCompact.size() > 1) {
                     List<DataFileMeta> all = new ArrayList<>(toCompact);
@@ -248,7 +320,7 @@ public class AppendCompactCoordinator {
             return packed;
         }
 
-        private List<List<DataFileMeta>> pack(Set<DataFileMeta> toCompact) {
+        private List<List<DataFileMeta>> pack(List<DataFileMeta> toCompact) {
             // we don't know how many parallel compact works there should be, so in order to pack
             // better, we will sort them first
             ArrayList<DataFileMeta> files = new ArrayList<>(toCompact);
@@ -271,13 +343,13 @@ public class AppendCompactCoordinator {
             return result;
         }
 
-        private List<List<DataFileMeta>> packInDeletionVectorVMode(Set<DataFileMeta> toCompact) {
+        private List<List<DataFileMeta>> packInDeletionVectorVMode(List<DataFileMeta> toCompact) {
             // we group the data files by their related index files.
             // In the subsequent compact task, if any files with deletion vectors are compacted, we
             // need to rewrite their corresponding deleted files. To avoid duplicate deleted files,
             // we must group them according to the deleted files
             Map<String, List<DataFileMeta>> filesWithDV = new HashMap<>();
-            Set<DataFileMeta> rest = new HashSet<>();
+            List<DataFileMeta> rest = new ArrayList<>();
             for (DataFileMeta dataFile : toCompact) {
                 String indexFile =
                         dvMaintainerCache
@@ -325,7 +397,6 @@ public class AppendCompactCoordinator {
 
             public List<DataFileMeta> drain() {
                 List<DataFileMeta> result = new ArrayList<>(bin);
-                bin.forEach(toCompact::remove);
                 bin.clear();
                 totalFileSize = 0;
                 return result;
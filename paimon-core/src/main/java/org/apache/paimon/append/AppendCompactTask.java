@@ -71,6 +71,8 @@ public class AppendCompactTask {
     public CommitMessage doCompact(FileStoreTable table, BaseAppendFileStoreWrite write)
             throws Exception {
         boolean dvEnabled = table.coreOptions().deletionVectorsEnabled();
+        // new files are clustered in compaction if clustering columns are configured
+        List<String> clusteringColumns = table.coreOptions().compactionClusteringColumns();
         Preconditions.checkArgument(
                 dvEnabled || compactBefore.size() > 1,
                 "AppendOnlyCompactionTask need more than one file input.");
@@ -86,7 +88,8 @@ public class AppendCompactTask {
                             partition,
                             UNAWARE_BUCKET,
                             dvIndexFileMaintainer::getDeletionVector,
-                            compactBefore));
+                            compactBefore,
+                            clusteringColumns));
 
             compactBefore.forEach(
                     f -> dvIndexFileMaintainer.notifyRemovedDeletionVector(f.fileName()));
@@ -100,7 +103,8 @@ public class AppendCompactTask {
             indexIncrement = new IndexIncrement(Collections.emptyList(), removed);
         } else {
             compactAfter.addAll(
-                    write.compactRewrite(partition, UNAWARE_BUCKET, null, compactBefore));
+                    write.compactRewrite(
+                            partition, UNAWARE_BUCKET, null, compactBefore, clusteringColumns));
             indexIncrement = new IndexIncrement(Collections.emptyList());
         }
 
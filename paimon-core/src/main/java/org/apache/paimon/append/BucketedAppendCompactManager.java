@@ -282,8 +282,7 @@ public class BucketedAppendCompactManager extends CompactFutureManager {
         }
 
         private boolean hasDeletionFile(DataFileMeta file) {
-            return dvMaintainer != null
-                    && dvMaintainer.deletionVectorOf(file.fileName()).isPresent();
+            return dvMaintainer != null && dvMaintainer.hasDeletionVector(file.fileName());
         }
     }
 
@@ -0,0 +1,492 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.append;
+
+import org.apache.paimon.CoreOptions.OrderType;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericArray;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.format.SimpleColStats;
+import org.apache.paimon.format.SimpleStatsCollector;
+import org.apache.paimon.predicate.CompoundPredicate;
+import org.apache.paimon.predicate.LeafPredicate;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateVisitor;
+import org.apache.paimon.reader.RecordReaderIterator;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.types.RowType;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+import static org.apache.paimon.utils.Preconditions.checkState;
+
+/**
+ * Advises the clustering columns and strategy of an append table for a workload of filters.
+ *
+ * <p>The number of files skipped by each filter with the current layout is read from the file stats
+ * in manifests. For each candidate clustering (order by each column, and order, zorder and hilbert
+ * over all columns), a uniform sample of the table is sorted within each partition and cut into as
+ * many files as the table has, but at most one file per {@link #MIN_ROWS_PER_SIMULATED_FILE}
+ * sampled rows, and the filters are tested against the min/max stats of the simulated files. The
+ * candidates are ranked by the average ratio of skipped files.
+ *
+ * <p>Simulated files hold sampled rows only, so their ratios are only comparable with each other
+ * and with the {@link Report#unclustered()} baseline, which cuts the sample into files in the same
+ * way without sorting, but not with the ratio of the current layout.
+ */
+public class ClusteringAdvisor {
+
+    private static final int DEFAULT_SAMPLE_SIZE = 100_000;
+
+    /** The minimum number of sampled rows of a simulated file. */
+    static final int MIN_ROWS_PER_SIMULATED_FILE = 50;
+
+    private final FileStoreTable table;
+    private final RowType rowType;
+    private final List<Predicate> workload;
+
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+    @Nullable private Integer numFiles;
+    @Nullable private IOManager ioManager;
+
+    public ClusteringAdvisor(FileStoreTable table, List<Predicate> workload) {
+        checkArgument(
+                table.primaryKeys().isEmpty(),
+                "Clustering can only be advised for append tables, but %s has primary keys.",
+                table.name());
+        checkArgument(!workload.isEmpty(), "Workload of filters must not be empty.");
+        this.table = table;
+        this.rowType = table.rowType();
+        this.workload = workload;
+    }
+
+    /** Maximum number of rows to sample. */
+    public ClusteringAdvisor withSampleSize(int sampleSize) {
+        checkArgument(sampleSize > 0, "Sample size must be positive.");
+        this.sampleSize = sampleSize;
+        return this;
+    }
+
+    /**
+     * Number of files to cut the sample into, defaults to the number of current data files. The
+     * number is capped by the sample size, see {@link #MIN_ROWS_PER_SIMULATED_FILE}.
+     */
+    public ClusteringAdvisor withNumFiles(int numFiles) {
+        checkArgument(numFiles > 0, "Number of files must be positive.");
+        this.numFiles = numFiles;
+        return this;
+    }
+
+    /** Sets the {@link IOManager} the sorting of the sample spills to, it must be set. */
+    public ClusteringAdvisor withIOManager(IOManager ioManager) {
+        this.ioManager = ioManager;
+        return this;
+    }
+
+    /**
+     * Advises the clustering over the given columns, if no column is given, the non-partition
+     * columns referenced by the workload are used.
+     */
+    public Report advise(List<String> columns) throws Exception {
+        if (columns.isEmpty()) {
+            columns = referencedColumns();
+        }
+        checkArgument(!columns.isEmpty(), "Workload does not reference any non-partition column.");
+        checkState(ioManager != null, "Sorting the sample spills, an IOManager must be set.");
+        for (String column : columns) {
+            checkArgument(
+                    rowType.containsField(column),
+                    "Column %s is not in the fields %s.",
+                    column,
+                    rowType.getFieldNames());
+        }
+
+        List<Split> splits = table.newReadBuilder().newScan().plan().splits();
+        int currentFiles = countFiles(splits);
+        long[] currentSkipped = new long[workload.size()];
+        for (int i = 0; i < workload.size(); i++) {
+            currentSkipped[i] =
+                    currentFiles
+                            - countFiles(
+                                    table.newReadBuilder()
+                                            .withFilter(workload.get(i))
+                                            .newScan()
+                                            .plan()
+                                            .splits());
+        }
+
+        List<List<InternalRow>> sample = sample(splits);
+        int sampledRows = sample.stream().mapToInt(List::size).sum();
+        checkArgument(sampledRows > 0, "Cannot advise clustering of empty table %s.", table.name());
+        int[] files =
+                simulatedFiles(sample, numFiles == null ? Math.max(currentFiles, 1) : numFiles);
+
+        Candidate unclustered = simulate(OrderType.NONE, Collections.emptyList(), sample, files);
+        List<Candidate> candidates = new ArrayList<>();
+        for (String column : columns) {
+            candidates.add(
+                    simulate(OrderType.ORDER, Collections.singletonList(column), sample, files));
+        }
+        if (columns.size() > 1) {
+            for (OrderType orderType :
+                    new OrderType[] {OrderType.ORDER, OrderType.ZORDER, OrderType.HILBERT}) {
+                candidates.add(simulate(orderType, columns, sample, files));
+            }
+        }
+        // stable sort, simpler candidates come first on ties
+        candidates.sort(Comparator.comparingDouble(Candidate::skipRatio).reversed());
+        return new Report(
+                sampledRows,
+                currentFiles,
+                currentSkipped,
+                unclustered.files,
+                unclustered,
+                candidates);
+    }
+
+    /**
+     * Shares the files among the partitions by their sampled rows, every partition has at least one
+     * file, and too few rows per simulated file would make their min/max stats meaningless.
+     */
+    private static int[] simulatedFiles(List<List<InternalRow>> sample, int totalFiles) {
+        int sampledRows = sample.stream().mapToInt(List::size).sum();
+        int[] files = new int[sample.size()];
+        for (int i = 0; i < files.length; i++) {
+            int rows = sample.get(i).size();
+            files[i] =
+                    Math.min(
+                            Math.max((int) Math.round((double) totalFiles * rows / sampledRows), 1),
+                            Math.max(rows / MIN_ROWS_PER_SIMULATED_FILE, 1));
+        }
+        return files;
+    }
+
+    private List<String> referencedColumns() {
+        Set<String> names = new LinkedHashSet<>();
+        PredicateVisitor<Void> visitor =
+                new PredicateVisitor<Void>() {
+                    @Override
+                    public Void visit(LeafPredicate predicate) {
+                        names.add(predicate.fieldName());
+                        return null;
+                    }
+
+                    @Override
+                    public Void visit(CompoundPredicate predicate) {
+                        for (Predicate child : predicate.children()) {
+                            child.visit(this);
+                        }
+                        return null;
+                    }
+                };
+        workload.forEach(predicate -> predicate.visit(visitor));
+        names.removeAll(table.partitionKeys());
+        return new ArrayList<>(names);
+    }
+
+    private static int countFiles(List<Split> splits) {
+        int count = 0;
+        for (Split split : splits) {
+            count += ((DataSplit) split).dataFiles().size();
+        }
+        return count;
+    }
+
+    /**
+     * Samples rows uniformly from all splits and groups them by partition. Each split gets a quota
+     * of the sample proportional to its row count, and the rows of a split are chosen by reservoir
+     * sampling, so the sample keeps the order of the splits but not the order of rows within a
+     * split.
+     */
+    private List<List<InternalRow>> sample(List<Split> splits) throws Exception {
+        long totalRows = 0;
+        for (Split split : splits) {
+            totalRows += split.rowCount();
+        }
+        Random random = new Random(0);
+        InternalRowSerializer serializer = new InternalRowSerializer(rowType);
+        Map<BinaryRow, List<InternalRow>> sample = new LinkedHashMap<>();
+        for (Split split : splits) {
+            // round randomly, so that the quotas of small splits sum up to their expected share
+            double expected = (double) sampleSize * split.rowCount() / Math.max(totalRows, 1);
+            int quota = (int) expected + (random.nextDouble() < expected % 1 ? 1 : 0);
+            if (quota == 0) {
+                continue;
+            }
+
+            List<InternalRow> reservoir = new ArrayList<>(quota);
+            long seen = 0;
+            try (RecordReaderIterator<InternalRow> iterator =
+                    new RecordReaderIterator<>(table.newRead().createReader(split))) {
+                while (iterator.hasNext()) {
+                    InternalRow row = iterator.next();
+                    if (reservoir.size() < quota) {
+                        reservoir.add(serializer.copy(row));
+                    } else {
+                        long index = (long) (random.nextDouble() * (seen + 1));
+                        if (index < quota) {
+                            reservoir.set((int) index, serializer.copy(row));
+                        }
+                    }
+                    seen++;
+                }
+            }
+            sample.computeIfAbsent(((DataSplit) split).partition(), k -> new ArrayList<>())
+                    .addAll(reservoir);
+        }
+        return new ArrayList<>(sample.values());
+    }
+
+    /** Sorts the sampled rows of each partition and cuts them into the files of the partition. */
+    private Candidate simulate(
+            OrderType orderType, List<String> columns, List<List<InternalRow>> sample, int[] files)
+            throws Exception {
+        long sortMillis = 0;
+        long[] skipped = new long[workload.size()];
+        for (int i = 0; i < sample.size(); i++) {
+            long start = System.currentTimeMillis();
+            List<InternalRow> rows = sort(orderType, columns, sample.get(i));
+            sortMillis += System.currentTimeMillis() - start;
+            countSkipped(rows, files[i], skipped);
+        }
+        return new Candidate(orderType, columns, Arrays.stream(files).sum(), skipped, sortMillis);
+    }
+
+    private List<InternalRow> sort(
+            OrderType orderType, List<String> columns, List<InternalRow> partitionRows)
+            throws Exception {
+        if (orderType == OrderType.NONE) {
+            return partitionRows;
+        }
+        AppendClusteringSorter sorter =
+                new AppendClusteringSorter(
+                        rowType, columns, orderType, table.coreOptions(), ioManager);
+        try {
+            for (InternalRow row : partitionRows) {
+                sorter.write(row);
+            }
+            InternalRowSerializer serializer = new InternalRowSerializer(rowType);
+            List<InternalRow> rows = new ArrayList<>(partitionRows.size());
+            Iterator<InternalRow> sorted = sorter.sortedIterator();
+            while (sorted.hasNext()) {
+                rows.add(serializer.copy(sorted.next()));
+            }
+            return rows;
+        } finally {
+            sorter.clear();
+        }
+    }
+
+    /** Cuts the rows into files and counts the files skipped by each filter of the workload. */
+    private void countSkipped(List<InternalRow> rows, int files, long[] skipped) {
+        for (int file = 0; file < files; file++) {
+            List<InternalRow> fileRows =
+                    rows.subList(
+                            (int) ((long) file * rows.size() / files),
+                            (int) ((long) (file + 1) * rows.size() / files));
+            SimpleStatsCollector collector = new SimpleStatsCollector(rowType);
+            fileRows.forEach(collector::collect);
+            SimpleColStats[] stats = collector.extract();
+            GenericRow minValues = new GenericRow(stats.length);
+            GenericRow maxValues = new GenericRow(stats.length);
+            Long[] nullCounts = new Long[stats.length];
+            for (int i = 0; i < stats.length; i++) {
+                minValues.setField(i, stats[i].min());
+                maxValues.setField(i, stats[i].max());
+                nullCounts[i] = stats[i].nullCount();
+            }
+            for (int i = 0; i < workload.size(); i++) {
+                if (!workload.get(i)
+                        .test(
+                                fileRows.size(),
+                                minValues,
+                                maxValues,
+                                new GenericArray(nullCounts))) {
+                    skipped[i]++;
+                }
+            }
+        }
+    }
+
+    /** Simulated data skipping of a clustering. */
+    public static class Candidate {
+
+        private final OrderType orderType;
+        private final List<String> columns;
+        private final int files;
+        private final long[] skippedFiles;
+        private final long sortMillis;
+
+        public Candidate(
+                OrderType orderType,
+                List<String> columns,
+                int files,
+                long[] skippedFiles,
+                long sortMillis) {
+            this.orderType = orderType;
+            this.columns = columns;
+            this.files = files;
+            this.skippedFiles = skippedFiles;
+            this.sortMillis = sortMillis;
+        }
+
+        public OrderType orderType() {
+            return orderType;
+        }
+
+        /** Value of 'compaction.clustering.strategy' for this clustering. */
+        public String strategy() {
+            return orderType.name().toLowerCase();
+        }
+
+        public List<String> columns() {
+            return columns;
+        }
+
+        /** Number of skipped files for each filter of the workload. */
+        public long[] skippedFiles() {
+            return skippedFiles;
+        }
+
+        /** Average ratio of skipped files over the filters of the workload. */
+        public double skipRatio() {
+            return ratio(skippedFiles, files);
+        }
+
+        public long sortMillis() {
+            return sortMillis;
+        }
+    }
+
+    /** Result of {@link #advise}, candidates are ranked from the best to the worst. */
+    public static class Report {
+
+        private final int sampledRows;
+        private final int currentFiles;
+        private final long[] currentSkippedFiles;
+        private final int simulatedFiles;
+        private final Candidate unclustered;
+        private final List<Candidate> candidates;
+
+        public Report(
+                int sampledRows,
+                int currentFiles,
+                long[] currentSkippedFiles,
+                int simulatedFiles,
+                Candidate unclustered,
+                List<Candidate> candidates) {
+            this.sampledRows = sampledRows;
+            this.currentFiles = currentFiles;
+            this.currentSkippedFiles = currentSkippedFiles;
+            this.simulatedFiles = simulatedFiles;
+            this.unclustered = unclustered;
+            this.candidates = candidates;
+        }
+
+        public int sampledRows() {
+            return sampledRows;
+        }
+
+        public int currentFiles() {
+            return currentFiles;
+        }
+
+        /** Total number of simulated files over all partitions. */
+        public int simulatedFiles() {
+            return simulatedFiles;
+        }
+
+        /** Average ratio of skipped files with the current layout, from the manifests. */
+        public double currentSkipRatio() {
+            return ratio(currentSkippedFiles, currentFiles);
+        }
+
+        /** The simulation of the sample without clustering, as the baseline of candidates. */
+        public Candidate unclustered() {
+            return unclustered;
+        }
+
+        public List<Candidate> candidates() {
+            return candidates;
+        }
+
+        public Candidate best() {
+            return candidates.get(0);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            builder.append(
+                    String.format(
+                            "Current layout: %d files, %.1f%% skipped per filter.%n",
+                            currentFiles, currentSkipRatio() * 100));
+            builder.append(
+                    String.format(
+                            "Simulated on %d sampled rows cut into %d files, "
+                                    + "unclustered: %.1f%% skipped per filter.%n",
+                            sampledRows, simulatedFiles, unclustered.skipRatio() * 100));
+            builder.append(
+                    String.format(
+                            "%-5s %-10s %-30s %-12s %s%n",
+                            "rank", "strategy", "columns", "skip ratio", "sort time"));
+            for (int i = 0; i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                builder.append(
+                        String.format(
+                                "%-5d %-10s %-30s %-12s %d ms%n",
+                                i + 1,
+                                candidate.strategy(),
+                                String.join(",", candidate.columns()),
+                                String.format("%.1f%%", candidate.skipRatio() * 100),
+                                candidate.sortMillis()));
+            }
+            return builder.toString();
+        }
+    }
+
+    private static double ratio(long[] skippedFiles, int files) {
+        if (files == 0 || skippedFiles.length == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (long skipped : skippedFiles) {
+            total += skipped;
+        }
+        return (double) total / files / skippedFiles.length;
+    }
+}
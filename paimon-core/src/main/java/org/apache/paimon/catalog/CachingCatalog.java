@@ -39,6 +39,7 @@ import javax.annotation.Nullable;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -233,6 +234,32 @@ public class CachingCatalog extends DelegateCatalog {
         return table;
     }
 
+    @Override
+    public List<Table> getTables(List<Identifier> identifiers) throws TableNotExistException {
+        // load the missing data tables at once, cached and system tables are got one by one
+        List<Identifier> missing = new ArrayList<>();
+        for (Identifier identifier : identifiers) {
+            if (!identifier.isSystemTable() && tableCache.getIfPresent(identifier) == null) {
+                missing.add(identifier);
+            }
+        }
+        Map<Identifier, Table> loaded = new HashMap<>();
+        if (!missing.isEmpty()) {
+            List<Table> tables = wrapped.getTables(missing);
+            for (int i = 0; i < missing.size(); i++) {
+                putTableCache(missing.get(i), tables.get(i));
+                loaded.put(missing.get(i), tables.get(i));
+            }
+        }
+
+        List<Table> result = new ArrayList<>(identifiers.size());
+        for (Identifier identifier : identifiers) {
+            Table table = loaded.get(identifier);
+            result.add(table == null ? getTable(identifier) : table);
+        }
+        return result;
+    }
+
     private void putTableCache(Identifier identifier, Table table) {
         if (table instanceof FileStoreTable) {
             FileStoreTable storeTable = (FileStoreTable) table;
@@ -33,6 +33,7 @@ import org.apache.paimon.view.ViewChange;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -143,6 +144,23 @@ public interface Catalog extends AutoCloseable {
      */
     Table getTable(Identifier identifier) throws TableNotExistException;
 
+    /**
+     * Return the {@link Table}s identified by the given {@link Identifier}s, in the same order.
+     * Catalogs which can load several tables at once should override it, by default the tables are
+     * loaded one after another.
+     *
+     * @param identifiers Paths of the tables
+     * @return The requested tables
+     * @throws TableNotExistException if any target does not exist
+     */
+    default List<Table> getTables(List<Identifier> identifiers) throws TableNotExistException {
+        List<Table> tables = new ArrayList<>(identifiers.size());
+        for (Identifier identifier : identifiers) {
+            tables.add(getTable(identifier));
+        }
+        return tables;
+    }
+
     /**
      * Get names of all tables under this database. An empty list is returned if none exists.
      *
@@ -21,16 +21,22 @@ package org.apache.paimon.compact;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.io.IndexIncrement;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /** Deletion File from compaction. */
 public interface CompactDeletionFile {
 
-    Optional<IndexFileMeta> getOrCompute();
+    /** Returns the new deletion vectors index files and the ones they replaced. */
+    IndexIncrement getOrCompute();
 
     CompactDeletionFile mergeOldFile(CompactDeletionFile old);
 
@@ -43,6 +49,11 @@ public interface CompactDeletionFile {
      */
     static CompactDeletionFile generateFiles(DeletionVectorsMaintainer maintainer) {
         List<IndexFileMeta> files = maintainer.writeDeletionVectorsIndex();
+        if (maintainer.incremental()) {
+            return new GeneratedIncrementalDeletionFile(
+                    files, maintainer.pollDeletedIndexFiles(), maintainer.indexFileHandler());
+        }
+
         if (files.size() > 1) {
             throw new IllegalStateException(
                     "Should only generate one compact deletion file, this is a bug.");
@@ -72,9 +83,12 @@ public interface CompactDeletionFile {
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public IndexIncrement getOrCompute() {
             this.getInvoked = true;
-            return Optional.ofNullable(deletionFile);
+            return new IndexIncrement(
+                    deletionFile == null
+                            ? Collections.emptyList()
+                            : Collections.singletonList(deletionFile));
         }
 
         @Override
@@ -104,6 +118,77 @@ public interface CompactDeletionFile {
         }
     }
 
+    /**
+     * A generated files implementation of {@link CompactDeletionFile} for incremental deletion
+     * vectors index, the new files only replace some of the old files.
+     */
+    class GeneratedIncrementalDeletionFile implements CompactDeletionFile {
+
+        private final List<IndexFileMeta> newFiles;
+        private final List<IndexFileMeta> deletedFiles;
+        private final IndexFileHandler fileHandler;
+
+        private boolean getInvoked = false;
+
+        public GeneratedIncrementalDeletionFile(
+                List<IndexFileMeta> newFiles,
+                List<IndexFileMeta> deletedFiles,
+                IndexFileHandler fileHandler) {
+            this.newFiles = newFiles;
+            this.deletedFiles = deletedFiles;
+            this.fileHandler = fileHandler;
+        }
+
+        @Override
+        public IndexIncrement getOrCompute() {
+            this.getInvoked = true;
+            return new IndexIncrement(newFiles, deletedFiles);
+        }
+
+        @Override
+        public CompactDeletionFile mergeOldFile(CompactDeletionFile old) {
+            if (!(old instanceof GeneratedIncrementalDeletionFile)) {
+                throw new IllegalStateException(
+                        "old should be a GeneratedIncrementalDeletionFile, but it is: "
+                                + old.getClass());
+            }
+
+            GeneratedIncrementalDeletionFile oldFile = (GeneratedIncrementalDeletionFile) old;
+            if (oldFile.getInvoked) {
+                throw new IllegalStateException("old should not be get, this is a bug.");
+            }
+
+            // old new files replaced by this one have never been committed, just delete them
+            Set<String> deletedFileNames =
+                    deletedFiles.stream().map(IndexFileMeta::fileName).collect(Collectors.toSet());
+            Set<String> oldNewFileNames = new HashSet<>();
+            List<IndexFileMeta> mergedNewFiles = new ArrayList<>();
+            for (IndexFileMeta file : oldFile.newFiles) {
+                oldNewFileNames.add(file.fileName());
+                if (deletedFileNames.contains(file.fileName())) {
+                    fileHandler.deleteIndexFile(file);
+                } else {
+                    mergedNewFiles.add(file);
+                }
+            }
+            mergedNewFiles.addAll(newFiles);
+
+            List<IndexFileMeta> mergedDeletedFiles = new ArrayList<>(oldFile.deletedFiles);
+            for (IndexFileMeta file : deletedFiles) {
+                if (!oldNewFileNames.contains(file.fileName())) {
+                    mergedDeletedFiles.add(file);
+                }
+            }
+            return new GeneratedIncrementalDeletionFile(
+                    mergedNewFiles, mergedDeletedFiles, fileHandler);
+        }
+
+        @Override
+        public void clean() {
+            newFiles.forEach(fileHandler::deleteIndexFile);
+        }
+    }
+
     /** A lazy generation implementation of {@link CompactDeletionFile}. */
     class LazyCompactDeletionFile implements CompactDeletionFile {
 
@@ -116,7 +201,7 @@ public interface CompactDeletionFile {
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public IndexIncrement getOrCompute() {
             generated = true;
             return generateFiles(maintainer).getOrCompute();
         }
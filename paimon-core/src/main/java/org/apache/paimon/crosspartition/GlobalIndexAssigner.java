@@ -19,6 +19,9 @@
 package org.apache.paimon.crosspartition;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.Projection;
 import org.apache.paimon.crosspartition.ExistingProcessor.SortOrder;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
@@ -28,6 +31,7 @@ import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.disk.RowBuffer;
+import org.apache.paimon.io.DataInputDeserializer;
 import org.apache.paimon.lookup.BulkLoader;
 import org.apache.paimon.lookup.RocksDBOptions;
 import org.apache.paimon.lookup.RocksDBState;
@@ -36,6 +40,7 @@ import org.apache.paimon.lookup.RocksDBValueState;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.sort.BinaryExternalSortBuffer;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
@@ -55,12 +60,17 @@ import org.apache.paimon.utils.ProjectToRowFunction;
 import org.apache.paimon.utils.RowIterator;
 import org.apache.paimon.utils.TypeUtils;
 
+import org.rocksdb.RocksIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -79,6 +89,8 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
 
     private static final long serialVersionUID = 1L;
 
+    private static final Logger LOG = LoggerFactory.getLogger(GlobalIndexAssigner.class);
+
     private static final String INDEX_NAME = "keyIndex";
 
     private final FileStoreTable table;
@@ -104,6 +116,14 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
     private transient BucketAssigner bucketAssigner;
     private transient ExistingProcessor existingProcessor;
 
+    @Nullable private transient PersistedKeyIndex persistedIndex;
+    private transient RowCompactedSerializer keySerializer;
+    private transient Projection keyPartKeyProjection;
+    private transient Projection keyHashProjection;
+
+    private transient volatile long numBootstrapKeys;
+    private transient volatile long numBulkLoadedKeys;
+
     public GlobalIndexAssigner(Table table) {
         this.table = (FileStoreTable) table;
     }
@@ -150,10 +170,11 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
                         rocksdbOptions,
                         coreOptions.crossPartitionUpsertIndexTtl());
         RowType keyType = table.schema().logicalTrimmedPrimaryKeysType();
+        this.keySerializer = new RowCompactedSerializer(keyType);
         this.keyIndex =
                 stateFactory.valueState(
                         INDEX_NAME,
-                        new RowCompactedSerializer(keyType),
+                        keySerializer,
                         new PositiveIntIntSerializer(),
                         options.get(RocksDBOptions.LOOKUP_CACHE_ROWS));
 
@@ -163,6 +184,11 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
                 ExistingProcessor.create(
                         coreOptions.mergeEngine(), setPartition, bucketAssigner, this::collect);
 
+        if (coreOptions.crossPartitionUpsertPersistedIndexEnabled()) {
+            this.persistedIndex = new PersistedKeyIndex(table, ioManager, numAssigners, assignId);
+            createKeyHashProjections(keyType, bootstrapType);
+        }
+
         // create bootstrap sort buffer
         this.bootstrap = true;
         this.bootstrapKeys = RocksDBState.createBulkLoadSorter(ioManager, coreOptions);
@@ -185,8 +211,81 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
         int bucket = value.getInt(bucketIndex);
         bucketAssigner.bootstrapBucket(partition, bucket);
         PositiveIntInt partAndBucket = new PositiveIntInt(partId, bucket);
-        bootstrapKeys.write(
-                GenericRow.of(keyIndex.serializeKey(key), keyIndex.serializeValue(partAndBucket)));
+        byte[] keyBytes = keyIndex.serializeKey(key);
+        bootstrapKeys.write(GenericRow.of(keyBytes, keyIndex.serializeValue(partAndBucket)));
+        if (persistedIndex != null) {
+            persistedIndex.add(new KeyIndexEntry(keyBytes, partition, bucket));
+        }
+        numBootstrapKeys++;
+    }
+
+    public boolean persistedIndexEnabled() {
+        return persistedIndex != null;
+    }
+
+    /**
+     * Restores the key index from the persisted index files instead of a bootstrap. The states
+     * should not be empty, a job restored without persisted index is bootstrapped in parallel by
+     * the {@link IndexBootstrap} of all assigners. If a persisted file is missing, this assigner
+     * reads its keys from the whole table with the bootstrap parallelism. The bootstrap is ended
+     * after restoring.
+     */
+    public void restorePersistedIndex(List<byte[]> states) throws Exception {
+        checkArgument(persistedIndex != null && inBoostrap());
+        long startMillis = System.currentTimeMillis();
+        boolean restored =
+                persistedIndex.restore(
+                        states,
+                        entry -> isAssignKey(keyHash(entry.key(), entry.partition())),
+                        this::restoreEntry);
+        if (restored) {
+            LOG.info(
+                    "Restored {} keys from the persisted key index in {} ms.",
+                    numBootstrapKeys,
+                    System.currentTimeMillis() - startMillis);
+        } else {
+            try (RecordReader<InternalRow> reader = new IndexBootstrap(table).bootstrap(1, 0)) {
+                reader.forEachRemaining(
+                        row -> {
+                            if (isAssignKey(keyPartKeyProjection.apply(row).hashCode())) {
+                                try {
+                                    bootstrapKey(row);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            }
+                        });
+            }
+        }
+        endBoostrapWithoutEmit(false).close();
+    }
+
+    /** Persists the key index changed since the last snapshot, returns the state to checkpoint. */
+    public byte[] snapshotPersistedIndex(long checkpointId) throws Exception {
+        checkArgument(persistedIndex != null && !inBoostrap());
+        return persistedIndex.snapshot(checkpointId, this::keyIndexEntries);
+    }
+
+    public void notifyCheckpointComplete(long checkpointId) {
+        if (persistedIndex != null) {
+            persistedIndex.notifyCheckpointComplete(checkpointId);
+        }
+    }
+
+    @VisibleForTesting
+    @Nullable
+    PersistedKeyIndex persistedIndex() {
+        return persistedIndex;
+    }
+
+    /** Number of keys received in bootstrap, for progress metrics. */
+    public long numBootstrapKeys() {
+        return numBootstrapKeys;
+    }
+
+    /** Number of bootstrap keys bulk loaded into the key index, for progress metrics. */
+    public long numBulkLoadedKeys() {
+        return numBulkLoadedKeys;
     }
 
     public boolean inBoostrap() {
@@ -207,12 +306,16 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
         bootstrapRecords.complete();
         boolean isEmpty = true;
         if (bootstrapKeys.size() > 0) {
-            BulkLoader bulkLoader = keyIndex.createBulkLoader();
+            long startMillis = System.currentTimeMillis();
+            BulkLoader bulkLoader =
+                    keyIndex.createBulkLoader(
+                            table.coreOptions().crossPartitionUpsertBootstrapParallelism());
             MutableObjectIterator<BinaryRow> keyIterator = bootstrapKeys.sortedIterator();
             BinaryRow row = new BinaryRow(2);
             try {
                 while ((row = keyIterator.next(row)) != null) {
                     bulkLoader.write(row.getBinary(0), row.getBinary(1));
+                    numBulkLoadedKeys++;
                 }
             } catch (BulkLoader.WriteException e) {
                 throw new RuntimeException(
@@ -223,6 +326,10 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
                         e.getCause());
             }
             bulkLoader.finish();
+            LOG.info(
+                    "Bulk loaded {} bootstrap keys into the key index in {} ms.",
+                    numBulkLoadedKeys,
+                    System.currentTimeMillis() - startMillis);
 
             isEmpty = false;
         }
@@ -272,6 +379,11 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
 
     @Override
     public void close() throws IOException {
+        if (persistedIndex != null) {
+            persistedIndex.close();
+            persistedIndex = null;
+        }
+
         if (stateFactory != null) {
             stateFactory.close();
             stateFactory = null;
@@ -284,6 +396,104 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
 
     // ================== End Public API ===================
 
+    /**
+     * Creates projections to compute the hash of the full primary key, which is the same as the
+     * hash of the key used to shuffle records to the assigners.
+     */
+    private void createKeyHashProjections(RowType keyType, RowType bootstrapType) {
+        List<String> primaryKeys = table.primaryKeys();
+        this.keyPartKeyProjection = CodeGenUtils.newProjection(bootstrapType, primaryKeys);
+
+        RowType keyAndPartType =
+                TypeUtils.concat(
+                        keyType, TypeUtils.project(table.rowType(), table.partitionKeys()));
+        List<String> keyAndPartNames = new ArrayList<>(keyType.getFieldNames());
+        keyAndPartNames.addAll(table.partitionKeys());
+        this.keyHashProjection =
+                CodeGenUtils.newProjection(
+                        keyAndPartType,
+                        primaryKeys.stream().mapToInt(keyAndPartNames::indexOf).toArray());
+    }
+
+    private int keyHash(byte[] key, BinaryRow partition) {
+        return keyHashProjection.apply(new JoinedRow(deserializeKey(key), partition)).hashCode();
+    }
+
+    private InternalRow deserializeKey(byte[] key) {
+        try {
+            return keySerializer.deserialize(new DataInputDeserializer(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isAssignKey(int keyHash) {
+        return computeAssignId(keyHash) == assignId;
+    }
+
+    private void restoreEntry(KeyIndexEntry entry) {
+        try {
+            InternalRow key = deserializeKey(entry.key());
+            PositiveIntInt previous = keyIndex.get(key);
+            if (previous != null) {
+                bucketAssigner.decrement(partMapping.get(previous.i1()), previous.i2());
+            } else {
+                numBootstrapKeys++;
+            }
+            BinaryRow partition = entry.partition();
+            keyIndex.put(key, new PositiveIntInt(partMapping.index(partition), entry.bucket()));
+            bucketAssigner.bootstrapBucket(partition, entry.bucket());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Iterates over all entries of the key index in the order of the serialized keys. The iterator
+     * reads the index of this moment and may be consumed by another thread.
+     */
+    private CloseableIterator<KeyIndexEntry> keyIndexEntries() {
+        RocksIterator iterator = keyIndex.newIterator();
+        iterator.seekToFirst();
+        List<BinaryRow> partitions = new ArrayList<>(partMapping.size());
+        for (int i = 0; i < partMapping.size(); i++) {
+            partitions.add(partMapping.get(i));
+        }
+        PositiveIntIntSerializer valueSerializer = new PositiveIntIntSerializer();
+        return new CloseableIterator<KeyIndexEntry>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.isValid();
+            }
+
+            @Override
+            public KeyIndexEntry next() {
+                if (!iterator.isValid()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    PositiveIntInt partAndBucket =
+                            valueSerializer.deserialize(
+                                    new DataInputDeserializer(iterator.value()));
+                    KeyIndexEntry entry =
+                            new KeyIndexEntry(
+                                    iterator.key(),
+                                    partitions.get(partAndBucket.i1()),
+                                    partAndBucket.i2());
+                    iterator.next();
+                    return entry;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void close() {
+                iterator.close();
+            }
+        };
+    }
+
     /** Sort bootstrap records and assign bucket without RocksDB. */
     private void bulkLoadBootstrapRecords() {
         RowType rowType = table.rowType();
@@ -420,6 +630,9 @@ public class GlobalIndexAssigner implements Serializable, Closeable {
             throws IOException {
         int bucket = assignBucket(partition);
         keyIndex.put(key, new PositiveIntInt(partId, bucket));
+        if (persistedIndex != null) {
+            persistedIndex.add(new KeyIndexEntry(keyIndex.serializeKey(key), partition, bucket));
+        }
         collect(value, bucket);
     }
 
@@ -64,6 +64,14 @@ public class IndexBootstrap implements Serializable {
         this.table = table;
     }
 
+    /**
+     * Whether the key index is persisted, then a restored job loads the index from the persisted
+     * index files and does not need a bootstrap.
+     */
+    public boolean persistedIndexEnabled() {
+        return CoreOptions.fromMap(table.options()).crossPartitionUpsertPersistedIndexEnabled();
+    }
+
     public void bootstrap(int numAssigners, int assignId, Consumer<InternalRow> collector)
             throws IOException {
         bootstrap(numAssigners, assignId).forEachRemaining(collector);
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.crosspartition;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
+
+import java.util.Arrays;
+
+import static org.apache.paimon.utils.SerializationUtils.newBytesType;
+
+/**
+ * An entry of the persisted key index for cross partition upsert, maps a serialized trimmed primary
+ * key to its partition and bucket.
+ */
+public class KeyIndexEntry {
+
+    public static final RowType SCHEMA =
+            new RowType(
+                    false,
+                    Arrays.asList(
+                            new DataField(0, "_KEY", newBytesType(false)),
+                            new DataField(1, "_PARTITION", newBytesType(false)),
+                            new DataField(2, "_BUCKET", new IntType(false))));
+
+    private final byte[] key;
+    private final BinaryRow partition;
+    private final int bucket;
+
+    public KeyIndexEntry(byte[] key, BinaryRow partition, int bucket) {
+        this.key = key;
+        this.partition = partition;
+        this.bucket = bucket;
+    }
+
+    public byte[] key() {
+        return key;
+    }
+
+    public BinaryRow partition() {
+        return partition;
+    }
+
+    public int bucket() {
+        return bucket;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.crosspartition;
+
+import org.apache.paimon.format.FileFormat;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.io.RollingFileWriter;
+import org.apache.paimon.io.SingleFileWriter;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileUtils;
+import org.apache.paimon.utils.ObjectsFile;
+import org.apache.paimon.utils.PathFactory;
+import org.apache.paimon.utils.VersionedObjectSerializer;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** A file of {@link KeyIndexEntry}s, stored in the global index directory of the table. */
+public class KeyIndexFile extends ObjectsFile<KeyIndexEntry> {
+
+    public static final String GLOBAL_INDEX_DIR = "global-index";
+
+    public static final String KEY_INDEX_PREFIX = "key-index-";
+
+    private final long targetFileSize;
+
+    private KeyIndexFile(
+            FileIO fileIO,
+            RowType schema,
+            FileFormat fileFormat,
+            String compression,
+            PathFactory pathFactory,
+            long targetFileSize) {
+        super(
+                fileIO,
+                new KeyIndexEntrySerializer(),
+                schema,
+                fileFormat.createReaderFactory(schema),
+                fileFormat.createWriterFactory(schema),
+                compression,
+                pathFactory,
+                null);
+        this.targetFileSize = targetFileSize;
+    }
+
+    public static KeyIndexFile create(
+            FileIO fileIO,
+            Path tablePath,
+            FileFormat fileFormat,
+            String compression,
+            long targetFileSize) {
+        Path directory = new Path(tablePath, GLOBAL_INDEX_DIR);
+        String uuid = UUID.randomUUID().toString();
+        AtomicInteger fileCount = new AtomicInteger(0);
+        PathFactory pathFactory =
+                new PathFactory() {
+                    @Override
+                    public Path newPath() {
+                        return toPath(KEY_INDEX_PREFIX + uuid + "-" + fileCount.getAndIncrement());
+                    }
+
+                    @Override
+                    public Path toPath(String fileName) {
+                        return new Path(directory, fileName);
+                    }
+                };
+        return new KeyIndexFile(
+                fileIO,
+                VersionedObjectSerializer.versionType(KeyIndexEntry.SCHEMA),
+                fileFormat,
+                compression,
+                pathFactory,
+                targetFileSize);
+    }
+
+    /** Writes the entries to new files rolled at the target file size, returns the new files. */
+    public List<KeyIndexFileMeta> write(Iterator<KeyIndexEntry> entries) {
+        RollingFileWriter<KeyIndexEntry, KeyIndexFileMeta> writer = createRollingWriter();
+        try {
+            writer.write(entries);
+            writer.close();
+        } catch (Exception e) {
+            writer.abort();
+            throw new RuntimeException(e);
+        }
+        return writer.result();
+    }
+
+    public RollingFileWriter<KeyIndexEntry, KeyIndexFileMeta> createRollingWriter() {
+        return new RollingFileWriter<>(KeyIndexEntryWriter::new, targetFileSize);
+    }
+
+    /** Creates a reader which reads the entries of the file in the order they are written. */
+    public RecordReader<KeyIndexEntry> createReader(String fileName) throws IOException {
+        return FileUtils.createFormatReader(
+                        fileIO, readerFactory, pathFactory.toPath(fileName), null)
+                .transform(serializer::fromRow);
+    }
+
+    /** Writer of a single {@link KeyIndexFile}. */
+    private class KeyIndexEntryWriter extends SingleFileWriter<KeyIndexEntry, KeyIndexFileMeta> {
+
+        private KeyIndexEntryWriter() {
+            super(
+                    KeyIndexFile.this.fileIO,
+                    writerFactory,
+                    pathFactory.newPath(),
+                    serializer::toRow,
+                    compression,
+                    false);
+        }
+
+        @Override
+        public KeyIndexFileMeta result() {
+            return new KeyIndexFileMeta(path.getName(), recordCount(), outputBytes);
+        }
+    }
+
+    /** Metadata of a written {@link KeyIndexFile}. */
+    public static class KeyIndexFileMeta {
+
+        private final String fileName;
+        private final long rowCount;
+        private final long fileSize;
+
+        public KeyIndexFileMeta(String fileName, long rowCount, long fileSize) {
+            this.fileName = fileName;
+            this.rowCount = rowCount;
+            this.fileSize = fileSize;
+        }
+
+        public String fileName() {
+            return fileName;
+        }
+
+        public long rowCount() {
+            return rowCount;
+        }
+
+        public long fileSize() {
+            return fileSize;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            KeyIndexFileMeta that = (KeyIndexFileMeta) o;
+            return rowCount == that.rowCount
+                    && fileSize == that.fileSize
+                    && fileName.equals(that.fileName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileName, rowCount, fileSize);
+        }
+
+        @Override
+        public String toString() {
+            return fileName;
+        }
+    }
+}
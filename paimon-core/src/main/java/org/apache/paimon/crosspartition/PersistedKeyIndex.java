@@ -0,0 +1,494 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.crosspartition;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.crosspartition.KeyIndexFile.KeyIndexFileMeta;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.disk.RowBuffer;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.io.RollingFileWriter;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.utils.CloseableIterator;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+import org.apache.paimon.utils.Filter;
+import org.apache.paimon.utils.VersionedObjectSerializer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The key index of a {@link GlobalIndexAssigner} persisted as {@link KeyIndexFile}s, so that a
+ * restored job does not need to bootstrap the index from the whole table.
+ *
+ * <p>Each assigner owns the keys of a hash range, and writes the mappings changed since the last
+ * checkpoint as new files of its range. Entries of later files override entries of earlier files.
+ * The files are compacted in the background and the result is taken by a later snapshot:
+ *
+ * <ul>
+ *   <li>When there are too many small files at the end of the range, they are merged into files of
+ *       the target size.
+ *   <li>When the files of the range have grown to {@link #FULL_COMPACTION_RATIO} times the rows of
+ *       the last full compaction, they are rewritten from the local index to drop overridden
+ *       entries.
+ * </ul>
+ *
+ * <p>The files of each range are kept in the operator state, and files which are no longer
+ * referenced are deleted once a later checkpoint is completed.
+ */
+public class PersistedKeyIndex implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistedKeyIndex.class);
+
+    private static final int STATE_VERSION = 1;
+
+    private static final int BUFFER_PAGES = 32;
+
+    /** The maximum number of small files at the end of a range, before they are merged. */
+    static final int MAX_SMALL_FILES = 10;
+
+    /** The growth of the rows in the files of a range which triggers a full compaction. */
+    static final int FULL_COMPACTION_RATIO = 2;
+
+    private final KeyIndexFile keyIndexFile;
+    private final long targetFileSize;
+    private final KeyIndexEntrySerializer serializer;
+    private final RowBuffer changes;
+    private final int numRanges;
+    private final int rangeId;
+    private final ExecutorService compactExecutor;
+
+    private final List<KeyIndexFileMeta> files;
+    private final List<String> obsoleteFiles;
+    private final TreeMap<Long, List<String>> filesToDelete;
+
+    @Nullable private Compaction compaction;
+
+    /** Rows of the files after the last full compaction, 0 if not known yet. */
+    private long fullCompactedRows;
+
+    public PersistedKeyIndex(
+            FileStoreTable table, IOManager ioManager, int numRanges, int rangeId) {
+        CoreOptions options = table.coreOptions();
+        this.targetFileSize = options.manifestTargetSize().getBytes();
+        this.keyIndexFile =
+                KeyIndexFile.create(
+                        table.fileIO(),
+                        table.location(),
+                        options.manifestFormat(),
+                        options.manifestCompression(),
+                        targetFileSize);
+        this.serializer = new KeyIndexEntrySerializer();
+        this.changes =
+                RowBuffer.getBuffer(
+                        ioManager,
+                        new HeapMemorySegmentPool(
+                                (long) options.pageSize() * BUFFER_PAGES, options.pageSize()),
+                        new InternalRowSerializer(
+                                VersionedObjectSerializer.versionType(KeyIndexEntry.SCHEMA)),
+                        true,
+                        options.writeBufferSpillDiskSize(),
+                        options.spillCompressOptions());
+        this.numRanges = numRanges;
+        this.rangeId = rangeId;
+        this.compactExecutor =
+                Executors.newSingleThreadExecutor(
+                        new ExecutorThreadFactory("paimon-key-index-compaction-" + rangeId));
+        this.files = new ArrayList<>();
+        this.obsoleteFiles = new ArrayList<>();
+        this.filesToDelete = new TreeMap<>();
+    }
+
+    /** Records a changed mapping, it will be written to the files in the next snapshot. */
+    public void add(KeyIndexEntry entry) throws IOException {
+        changes.put(serializer.toRow(entry));
+    }
+
+    /**
+     * Restores the index from the states of all ranges.
+     *
+     * <p>If the number of ranges is unchanged, only the files of this range are read. Otherwise,
+     * the files of all ranges are read, the entries of this range are selected by the given filter
+     * and are rewritten as files of this range in the next snapshot.
+     *
+     * @return false if there is no state or a file is missing, the index should be bootstrapped
+     *     from the table.
+     */
+    public boolean restore(
+            List<byte[]> states, Filter<KeyIndexEntry> filter, Consumer<KeyIndexEntry> consumer)
+            throws IOException {
+        List<RangeState> rangeStates = new ArrayList<>();
+        for (byte[] state : states) {
+            rangeStates.add(RangeState.deserialize(state));
+        }
+
+        boolean rescaled = rangeStates.stream().anyMatch(s -> s.numRanges != numRanges);
+        List<KeyIndexFileMeta> toRead = new ArrayList<>();
+        boolean found = false;
+        for (RangeState state : rangeStates) {
+            if (rescaled || state.rangeId == rangeId) {
+                toRead.addAll(state.files);
+                found = true;
+            }
+        }
+
+        if (!found) {
+            return false;
+        }
+        for (KeyIndexFileMeta file : toRead) {
+            if (!keyIndexFile.exists(file.fileName())) {
+                LOG.warn("Key index file {} is missing, the index will be bootstrapped.", file);
+                return false;
+            }
+        }
+
+        for (KeyIndexFileMeta file : toRead) {
+            try (RecordReader<KeyIndexEntry> reader = keyIndexFile.createReader(file.fileName())) {
+                reader.forEachRemaining(
+                        entry -> {
+                            if (!rescaled) {
+                                consumer.accept(entry);
+                            } else if (filter.test(entry)) {
+                                consumer.accept(entry);
+                                try {
+                                    add(entry);
+                                } catch (IOException e) {
+                                    throw new RuntimeException(e);
+                                }
+                            }
+                        });
+            }
+        }
+
+        if (rescaled) {
+            // files of the previous ranges are deleted by one range only
+            if (rangeId == 0) {
+                toRead.forEach(file -> obsoleteFiles.add(file.fileName()));
+            }
+        } else {
+            files.addAll(toRead);
+            fullCompactedRows = rowCount(files);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the changed mappings to new files, takes the result of a finished compaction, starts a
+     * new compaction if needed and returns the serialized state of this range.
+     *
+     * @param fullIndex supplies all entries of this range for a full compaction. It is called by
+     *     this thread, and the returned iterator is consumed by the compaction thread.
+     */
+    public byte[] snapshot(long checkpointId, Supplier<CloseableIterator<KeyIndexEntry>> fullIndex)
+            throws Exception {
+        takeCompactionResult();
+
+        if (changes.size() > 0) {
+            changes.complete();
+            try (RowBuffer.RowBufferIterator iterator = changes.newIterator()) {
+                files.addAll(keyIndexFile.write(new ChangesIterator(iterator)));
+            }
+            changes.reset();
+        }
+        if (fullCompactedRows == 0) {
+            fullCompactedRows = rowCount(files);
+        }
+
+        if (compaction == null) {
+            triggerCompaction(fullIndex);
+        }
+
+        if (!obsoleteFiles.isEmpty()) {
+            filesToDelete.put(checkpointId, new ArrayList<>(obsoleteFiles));
+            obsoleteFiles.clear();
+        }
+
+        return new RangeState(numRanges, rangeId, files).serialize();
+    }
+
+    private void triggerCompaction(Supplier<CloseableIterator<KeyIndexEntry>> fullIndex) {
+        if (rowCount(files) > FULL_COMPACTION_RATIO * fullCompactedRows) {
+            // the iterator sees the local index of this moment, which contains all the files
+            CloseableIterator<KeyIndexEntry> iterator = fullIndex.get();
+            compaction =
+                    new Compaction(
+                            0,
+                            new ArrayList<>(files),
+                            true,
+                            compactExecutor.submit(() -> compact(iterator)));
+            return;
+        }
+
+        int start = files.size();
+        while (start > 0 && files.get(start - 1).fileSize() < targetFileSize) {
+            start--;
+        }
+        if (files.size() - start > MAX_SMALL_FILES) {
+            List<KeyIndexFileMeta> inputs = new ArrayList<>(files.subList(start, files.size()));
+            compaction =
+                    new Compaction(
+                            start, inputs, false, compactExecutor.submit(() -> merge(inputs)));
+        }
+    }
+
+    private void takeCompactionResult() {
+        if (compaction == null || !compaction.result.isDone()) {
+            return;
+        }
+
+        Compaction done = compaction;
+        compaction = null;
+        List<KeyIndexFileMeta> outputs;
+        try {
+            outputs = done.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            LOG.warn("Failed to compact key index files, they will be compacted later.", e);
+            return;
+        }
+
+        // files are only appended while compacting, the inputs are still at their position
+        List<KeyIndexFileMeta> inputs = files.subList(done.start, done.start + done.inputs.size());
+        inputs.clear();
+        files.addAll(done.start, outputs);
+        done.inputs.forEach(file -> obsoleteFiles.add(file.fileName()));
+        if (done.full) {
+            fullCompactedRows = rowCount(outputs);
+        }
+        LOG.info(
+                "Compacted {} key index files into {} files{}.",
+                done.inputs.size(),
+                outputs.size(),
+                done.full ? " from the local index" : "");
+    }
+
+    private List<KeyIndexFileMeta> compact(CloseableIterator<KeyIndexEntry> iterator)
+            throws Exception {
+        RollingFileWriter<KeyIndexEntry, KeyIndexFileMeta> writer =
+                keyIndexFile.createRollingWriter();
+        try (CloseableIterator<KeyIndexEntry> entries = iterator) {
+            while (entries.hasNext()) {
+                checkInterrupted();
+                writer.write(entries.next());
+            }
+            writer.close();
+        } catch (Exception e) {
+            writer.abort();
+            throw e;
+        }
+        return writer.result();
+    }
+
+    private List<KeyIndexFileMeta> merge(List<KeyIndexFileMeta> inputs) throws Exception {
+        RollingFileWriter<KeyIndexEntry, KeyIndexFileMeta> writer =
+                keyIndexFile.createRollingWriter();
+        try {
+            for (KeyIndexFileMeta input : inputs) {
+                try (CloseableIterator<KeyIndexEntry> entries =
+                        keyIndexFile.createReader(input.fileName()).toCloseableIterator()) {
+                    while (entries.hasNext()) {
+                        checkInterrupted();
+                        writer.write(entries.next());
+                    }
+                }
+            }
+            writer.close();
+        } catch (Exception e) {
+            writer.abort();
+            throw e;
+        }
+        return writer.result();
+    }
+
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Key index compaction is cancelled.");
+        }
+    }
+
+    private static long rowCount(List<KeyIndexFileMeta> files) {
+        return files.stream().mapToLong(KeyIndexFileMeta::rowCount).sum();
+    }
+
+    /** Deletes the files which are not referenced by the completed checkpoint. */
+    public void notifyCheckpointComplete(long checkpointId) {
+        Map<Long, List<String>> completed = filesToDelete.headMap(checkpointId, true);
+        completed.values().forEach(toDelete -> toDelete.forEach(keyIndexFile::delete));
+        completed.clear();
+    }
+
+    public List<KeyIndexFileMeta> files() {
+        return Collections.unmodifiableList(files);
+    }
+
+    /** Waits for the running compaction, its result is taken by the next snapshot. */
+    @VisibleForTesting
+    void waitForCompaction() throws InterruptedException {
+        if (compaction != null) {
+            try {
+                compaction.result.get();
+            } catch (ExecutionException ignored) {
+                // logged when taking the result
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // the compaction may iterate over the local index, it must end before the index is closed
+        compactExecutor.shutdownNow();
+        try {
+            compactExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (compaction != null && compaction.result.isDone()) {
+            try {
+                compaction.result.get().forEach(file -> keyIndexFile.delete(file.fileName()));
+            } catch (Exception ignored) {
+                // files of a failed compaction are cleaned by the writer
+            }
+        }
+        compaction = null;
+        changes.reset();
+    }
+
+    /** A compaction replacing the input files at the start position with its result. */
+    private static class Compaction {
+
+        private final int start;
+        private final List<KeyIndexFileMeta> inputs;
+        private final boolean full;
+        private final Future<List<KeyIndexFileMeta>> result;
+
+        private Compaction(
+                int start,
+                List<KeyIndexFileMeta> inputs,
+                boolean full,
+                Future<List<KeyIndexFileMeta>> result) {
+            this.start = start;
+            this.inputs = inputs;
+            this.full = full;
+            this.result = result;
+        }
+    }
+
+    private class ChangesIterator implements Iterator<KeyIndexEntry> {
+
+        private final RowBuffer.RowBufferIterator iterator;
+
+        private boolean advanced;
+        private boolean hasNext;
+
+        private ChangesIterator(RowBuffer.RowBufferIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!advanced) {
+                hasNext = iterator.advanceNext();
+                advanced = true;
+            }
+            return hasNext;
+        }
+
+        @Override
+        public KeyIndexEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            advanced = false;
+            InternalRow row = iterator.getRow();
+            return serializer.fromRow(row);
+        }
+    }
+
+    /** The files of a range. */
+    private static class RangeState {
+
+        private final int numRanges;
+        private final int rangeId;
+        private final List<KeyIndexFileMeta> files;
+
+        private RangeState(int numRanges, int rangeId, List<KeyIndexFileMeta> files) {
+            this.numRanges = numRanges;
+            this.rangeId = rangeId;
+            this.files = files;
+        }
+
+        private byte[] serialize() throws IOException {
+            DataOutputSerializer out = new DataOutputSerializer(64);
+            out.writeInt(STATE_VERSION);
+            out.writeInt(numRanges);
+            out.writeInt(rangeId);
+            out.writeInt(files.size());
+            for (KeyIndexFileMeta file : files) {
+                out.writeUTF(file.fileName());
+                out.writeLong(file.rowCount());
+                out.writeLong(file.fileSize());
+            }
+            return out.getCopyOfBuffer();
+        }
+
+        private static RangeState deserialize(byte[] bytes) throws IOException {
+            DataInputDeserializer in = new DataInputDeserializer(bytes);
+            int version = in.readInt();
+            if (version != STATE_VERSION) {
+                throw new UnsupportedOperationException(
+                        "Unsupported key index state version: " + version);
+            }
+            int numRanges = in.readInt();
+            int rangeId = in.readInt();
+            int numFiles = in.readInt();
+            List<KeyIndexFileMeta> files = new ArrayList<>(numFiles);
+            for (int i = 0; i < numFiles; i++) {
+                files.add(new KeyIndexFileMeta(in.readUTF(), in.readLong(), in.readLong()));
+            }
+            return new RangeState(numRanges, rangeId, files);
+        }
+    }
+}
@@ -21,21 +21,48 @@ package org.apache.paimon.deletionvectors;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.reader.FileRecordIterator;
+import org.apache.paimon.reader.VectorizedRecordIterator;
+import org.apache.paimon.utils.IntArrayList;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
 
-/** A {@link FileRecordIterator} wraps a {@link FileRecordIterator} and {@link DeletionVector}. */
+/**
+ * A {@link FileRecordIterator} wraps a {@link FileRecordIterator} and {@link DeletionVector}.
+ *
+ * <p>Returned positions only grow, so deleted positions are walked through in order with {@link
+ * DeletionVector#nextDeletedPosition} instead of looking up the deletion vector for every row.
+ */
 public class ApplyDeletionFileRecordIterator implements FileRecordIterator<InternalRow> {
 
     private final FileRecordIterator<InternalRow> iterator;
     private final DeletionVector deletionVector;
 
+    // the next deleted position from the last searched position, -1 if there is none
+    private long searchedPosition;
+    private long nextDeletedPosition;
+
     public ApplyDeletionFileRecordIterator(
             FileRecordIterator<InternalRow> iterator, DeletionVector deletionVector) {
+        this(iterator, deletionVector, -1, -1);
+    }
+
+    private ApplyDeletionFileRecordIterator(
+            FileRecordIterator<InternalRow> iterator,
+            DeletionVector deletionVector,
+            long searchedPosition,
+            long nextDeletedPosition) {
         this.iterator = iterator;
         this.deletionVector = deletionVector;
+        this.searchedPosition = searchedPosition;
+        this.nextDeletedPosition = nextDeletedPosition;
+    }
+
+    /** Creates an iterator for the next batch of the same file, which continues the search. */
+    ApplyDeletionFileRecordIterator nextBatch(FileRecordIterator<InternalRow> batch) {
+        return new ApplyDeletionFileRecordIterator(
+                batch, deletionVector, searchedPosition, nextDeletedPosition);
     }
 
     public FileRecordIterator<InternalRow> iterator() {
@@ -64,12 +91,48 @@ public class ApplyDeletionFileRecordIterator implements FileRecordIterator<Inter
             if (next == null) {
                 return null;
             }
-            if (!deletionVector.isDeleted(returnedPosition())) {
+            if (!isDeleted(returnedPosition())) {
                 return next;
             }
         }
     }
 
+    /**
+     * Applies the deletion vector to the whole batch of a {@link VectorizedRecordIterator}, this
+     * iterator must not be used after calling this method.
+     *
+     * @return the ids of the not deleted rows in the batch, or null if no row is deleted.
+     */
+    @Nullable
+    public int[] selectBatch() throws IOException {
+        int numRows = ((VectorizedRecordIterator) iterator).batch().getNumRows();
+        IntArrayList selected = null;
+        for (int i = 0; i < numRows; i++) {
+            iterator.next();
+            if (isDeleted(iterator.returnedPosition())) {
+                if (selected == null) {
+                    selected = new IntArrayList(numRows);
+                    for (int j = 0; j < i; j++) {
+                        selected.add(j);
+                    }
+                }
+            } else if (selected != null) {
+                selected.add(i);
+            }
+        }
+        return selected == null ? null : selected.toArray();
+    }
+
+    private boolean isDeleted(long position) {
+        if (searchedPosition < 0
+                || position < searchedPosition
+                || (nextDeletedPosition >= 0 && nextDeletedPosition < position)) {
+            searchedPosition = position;
+            nextDeletedPosition = deletionVector.nextDeletedPosition(position);
+        }
+        return nextDeletedPosition == position;
+    }
+
     @Override
     public void releaseBatch() {
         iterator.releaseBatch();
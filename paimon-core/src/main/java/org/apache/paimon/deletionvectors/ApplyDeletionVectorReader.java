@@ -34,6 +34,8 @@ public class ApplyDeletionVectorReader implements FileRecordReader<InternalRow>
 
     private final DeletionVector deletionVector;
 
+    @Nullable private ApplyDeletionFileRecordIterator lastBatch;
+
     public ApplyDeletionVectorReader(
             FileRecordReader<InternalRow> reader, DeletionVector deletionVector) {
         this.reader = reader;
@@ -57,7 +59,12 @@ public class ApplyDeletionVectorReader implements FileRecordReader<InternalRow>
             return null;
         }
 
-        return new ApplyDeletionFileRecordIterator(batch, deletionVector);
+        // continue the search of deleted positions from the last batch
+        lastBatch =
+                lastBatch == null
+                        ? new ApplyDeletionFileRecordIterator(batch, deletionVector)
+                        : lastBatch.nextBatch(batch);
+        return lastBatch;
     }
 
     @Override
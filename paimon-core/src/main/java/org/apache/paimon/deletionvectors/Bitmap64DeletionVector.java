@@ -76,6 +76,14 @@ public class Bitmap64DeletionVector implements DeletionVector {
         return roaringBitmap.contains(position);
     }
 
+    @Override
+    public long nextDeletedPosition(long fromPosition) {
+        if (fromPosition > OptimizedRoaringBitmap64.MAX_VALUE) {
+            return -1;
+        }
+        return roaringBitmap.nextValue(fromPosition);
+    }
+
     @Override
     public boolean isEmpty() {
         return roaringBitmap.isEmpty();
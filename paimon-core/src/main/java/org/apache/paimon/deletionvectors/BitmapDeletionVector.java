@@ -20,6 +20,8 @@ package org.apache.paimon.deletionvectors;
 
 import org.apache.paimon.utils.RoaringBitmap32;
 
+import javax.annotation.Nullable;
+
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -36,6 +38,11 @@ public class BitmapDeletionVector implements DeletionVector {
 
     private final RoaringBitmap32 roaringBitmap;
 
+    /** Selection computed for {@link #selectionRowCount}, reset when a position is deleted. */
+    @Nullable private RoaringBitmap32 selection;
+
+    private long selectionRowCount = -1;
+
     public BitmapDeletionVector() {
         this.roaringBitmap = new RoaringBitmap32();
     }
@@ -48,12 +55,14 @@ public class BitmapDeletionVector implements DeletionVector {
     public void delete(long position) {
         checkPosition(position);
         roaringBitmap.add((int) position);
+        selection = null;
     }
 
     @Override
     public void merge(DeletionVector deletionVector) {
         if (deletionVector instanceof BitmapDeletionVector) {
             roaringBitmap.or(((BitmapDeletionVector) deletionVector).roaringBitmap);
+            selection = null;
         } else {
             throw new RuntimeException("Only instance with the same class type can be merged.");
         }
@@ -62,7 +71,11 @@ public class BitmapDeletionVector implements DeletionVector {
     @Override
     public boolean checkedDelete(long position) {
         checkPosition(position);
-        return roaringBitmap.checkedAdd((int) position);
+        boolean added = roaringBitmap.checkedAdd((int) position);
+        if (added) {
+            selection = null;
+        }
+        return added;
     }
 
     @Override
@@ -71,6 +84,31 @@ public class BitmapDeletionVector implements DeletionVector {
         return roaringBitmap.contains((int) position);
     }
 
+    @Override
+    public long nextDeletedPosition(long fromPosition) {
+        if (fromPosition > RoaringBitmap32.MAX_VALUE) {
+            return -1;
+        }
+        return roaringBitmap.nextValue((int) fromPosition);
+    }
+
+    @Nullable
+    @Override
+    public RoaringBitmap32 toSelection(long rowCount) {
+        if (rowCount > RoaringBitmap32.MAX_VALUE) {
+            return null;
+        }
+
+        // files are opened repeatedly with the same deletion vector, compute the selection once
+        if (selection == null || selectionRowCount != rowCount) {
+            RoaringBitmap32 all = new RoaringBitmap32();
+            all.flip(0, rowCount);
+            selection = RoaringBitmap32.andNot(all, roaringBitmap);
+            selectionRowCount = rowCount;
+        }
+        return selection;
+    }
+
     @Override
     public boolean isEmpty() {
         return roaringBitmap.isEmpty();
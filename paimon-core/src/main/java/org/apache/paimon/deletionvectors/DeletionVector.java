@@ -23,6 +23,7 @@ import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.SeekableInputStream;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.table.source.DeletionFile;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import javax.annotation.Nullable;
 
@@ -30,7 +31,9 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The DeletionVector can efficiently record the positions of rows that are deleted in a file, which
@@ -75,6 +78,40 @@ public interface DeletionVector {
      */
     boolean isDeleted(long position);
 
+    /**
+     * Returns the smallest deleted position which is greater than or equal to the given position,
+     * to walk through deleted positions in order instead of checking every position.
+     *
+     * @param fromPosition The position to start from.
+     * @return the next deleted position, or -1 if there is none.
+     */
+    long nextDeletedPosition(long fromPosition);
+
+    /**
+     * Returns the positions of a file which are not deleted, so that format readers can skip
+     * deleted ranges of rows without decoding them.
+     *
+     * @param rowCount The row count of the file.
+     * @return the not deleted positions, or null if the file has too many rows for a {@link
+     *     RoaringBitmap32}.
+     */
+    @Nullable
+    default RoaringBitmap32 toSelection(long rowCount) {
+        if (rowCount > RoaringBitmap32.MAX_VALUE) {
+            return null;
+        }
+
+        RoaringBitmap32 deleted = new RoaringBitmap32();
+        for (long position = nextDeletedPosition(0);
+                position >= 0 && position < rowCount;
+                position = nextDeletedPosition(position + 1)) {
+            deleted.add((int) position);
+        }
+        RoaringBitmap32 selection = new RoaringBitmap32();
+        selection.flip(0, rowCount);
+        return RoaringBitmap32.andNot(selection, deleted);
+    }
+
     /**
      * Determines if the deletion vector is empty, indicating no deletions.
      *
@@ -149,12 +186,19 @@ public interface DeletionVector {
     static Factory factory(
             FileIO fileIO, List<DataFileMeta> files, @Nullable List<DeletionFile> deletionFiles) {
         DeletionFile.Factory factory = DeletionFile.factory(files, deletionFiles);
+        // a file may be opened several times in a split, read its deletion vector only once
+        Map<String, Optional<DeletionVector>> loaded = new ConcurrentHashMap<>();
         return fileName -> {
-            Optional<DeletionFile> deletionFile = factory.create(fileName);
-            if (deletionFile.isPresent()) {
-                return Optional.of(DeletionVector.read(fileIO, deletionFile.get()));
+            Optional<DeletionVector> deletionVector = loaded.get(fileName);
+            if (deletionVector == null) {
+                Optional<DeletionFile> deletionFile = factory.create(fileName);
+                deletionVector =
+                        deletionFile.isPresent()
+                                ? Optional.of(DeletionVector.read(fileIO, deletionFile.get()))
+                                : Optional.empty();
+                loaded.put(fileName, deletionVector);
             }
-            return Optional.empty();
+            return deletionVector;
         };
     }
 
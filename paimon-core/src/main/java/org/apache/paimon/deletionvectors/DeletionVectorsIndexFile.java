@@ -51,6 +51,7 @@ public class DeletionVectorsIndexFile extends IndexFile {
 
     private final byte writeVersionID;
     private final MemorySize targetSizePerIndexFile;
+    private final boolean incremental;
 
     public DeletionVectorsIndexFile(
             FileIO fileIO, PathFactory pathFactory, MemorySize targetSizePerIndexFile) {
@@ -62,9 +63,31 @@ public class DeletionVectorsIndexFile extends IndexFile {
             PathFactory pathFactory,
             MemorySize targetSizePerIndexFile,
             byte writeVersionID) {
+        this(fileIO, pathFactory, targetSizePerIndexFile, writeVersionID, false);
+    }
+
+    /**
+     * @param incremental whether the deletion vectors of a bucket are maintained incrementally in
+     *     multiple index files, see {@link DeletionVectorsMaintainer}.
+     */
+    public DeletionVectorsIndexFile(
+            FileIO fileIO,
+            PathFactory pathFactory,
+            MemorySize targetSizePerIndexFile,
+            byte writeVersionID,
+            boolean incremental) {
         super(fileIO, pathFactory);
         this.targetSizePerIndexFile = targetSizePerIndexFile;
         this.writeVersionID = writeVersionID;
+        this.incremental = incremental;
+    }
+
+    public MemorySize targetSizePerIndexFile() {
+        return targetSizePerIndexFile;
+    }
+
+    public boolean incremental() {
+        return incremental;
     }
 
     /**
@@ -21,33 +21,91 @@ package org.apache.paimon.deletionvectors;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.index.DeletionVectorMeta;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.manifest.IndexManifestEntry;
+import org.apache.paimon.table.source.DeletionFile;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
-/** Maintainer of deletionVectors index. */
+/**
+ * Maintainer of deletionVectors index.
+ *
+ * <p>By default, all deletion vectors of a bucket are loaded on restore and rewritten into one
+ * index file on each modification. If the index is incremental (see {@link
+ * DeletionVectorsIndexFile#incremental()}), the deletion vectors of a bucket are stored in multiple
+ * index files and loaded only when they are accessed. On each modification, only the index files
+ * containing changed deletion vectors are rewritten, together with the small index files of the
+ * bucket, the replaced index files are reported by {@link #pollDeletedIndexFiles()}.
+ */
 public class DeletionVectorsMaintainer {
 
+    /** Maximum number of unchanged persisted deletion vectors kept after they are read. */
+    @VisibleForTesting static final int MAX_LOADED_DELETION_VECTORS = 1000;
+
     private final IndexFileHandler indexFileHandler;
+    private final boolean incremental;
+
+    // changed deletion vectors, or all deletion vectors if the index is not incremental
     private final Map<String, DeletionVector> deletionVectors;
+
+    // the following are only used by incremental index
+    private final Map<String, IndexFileMeta> indexFiles;
+    private final Map<String, String> dataFileToIndexFile;
+    // persisted deletion vectors which have been read, they are unchanged and evicted in LRU order
+    private final Map<String, DeletionVector> loadedDeletionVectors;
+    private final Set<String> touchedIndexFiles;
+    private final List<IndexFileMeta> deletedIndexFiles;
+
     private boolean modified;
 
     private DeletionVectorsMaintainer(
             IndexFileHandler fileHandler, Map<String, DeletionVector> deletionVectors) {
+        this(fileHandler, false, deletionVectors, Collections.emptyList());
+    }
+
+    private DeletionVectorsMaintainer(
+            IndexFileHandler fileHandler, List<IndexFileMeta> indexFiles) {
+        this(fileHandler, true, new HashMap<>(), indexFiles);
+    }
+
+    private DeletionVectorsMaintainer(
+            IndexFileHandler fileHandler,
+            boolean incremental,
+            Map<String, DeletionVector> deletionVectors,
+            List<IndexFileMeta> indexFiles) {
         this.indexFileHandler = fileHandler;
+        this.incremental = incremental;
         this.deletionVectors = deletionVectors;
+        this.indexFiles = new HashMap<>();
+        this.dataFileToIndexFile = new HashMap<>();
+        this.loadedDeletionVectors =
+                new LinkedHashMap<String, DeletionVector>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, DeletionVector> eldest) {
+                        return size() > MAX_LOADED_DELETION_VECTORS;
+                    }
+                };
+        this.touchedIndexFiles = new HashSet<>();
+        this.deletedIndexFiles = new ArrayList<>();
         this.modified = false;
+        indexFiles.forEach(this::addIndexFile);
     }
 
     /**
@@ -59,7 +117,9 @@ public class DeletionVectorsMaintainer {
      */
     public void notifyNewDeletion(String fileName, long position) {
         DeletionVector deletionVector =
-                deletionVectors.computeIfAbsent(fileName, k -> new BitmapDeletionVector());
+                deletionVectors.computeIfAbsent(
+                        fileName,
+                        k -> readPersistedDeletionVector(k).orElseGet(BitmapDeletionVector::new));
         if (deletionVector.checkedDelete(position)) {
             modified = true;
         }
@@ -84,10 +144,8 @@ public class DeletionVectorsMaintainer {
      * @param deletionVector The deletion vector
      */
     public void mergeNewDeletion(String fileName, DeletionVector deletionVector) {
-        DeletionVector old = deletionVectors.get(fileName);
-        if (old != null) {
-            deletionVector.merge(old);
-        }
+        Optional<DeletionVector> old = deletionVectorOf(fileName);
+        old.ifPresent(deletionVector::merge);
         deletionVectors.put(fileName, deletionVector);
         modified = true;
     }
@@ -103,6 +161,12 @@ public class DeletionVectorsMaintainer {
             deletionVectors.remove(fileName);
             modified = true;
         }
+        loadedDeletionVectors.remove(fileName);
+        String indexFile = dataFileToIndexFile.remove(fileName);
+        if (indexFile != null) {
+            touchedIndexFiles.add(indexFile);
+            modified = true;
+        }
     }
 
     /**
@@ -114,11 +178,74 @@ public class DeletionVectorsMaintainer {
     public List<IndexFileMeta> writeDeletionVectorsIndex() {
         if (modified) {
             modified = false;
-            return indexFileHandler.writeDeletionVectorsIndex(deletionVectors);
+            return incremental
+                    ? writeIncrementalIndex()
+                    : indexFileHandler.writeDeletionVectorsIndex(deletionVectors);
         }
         return Collections.emptyList();
     }
 
+    private List<IndexFileMeta> writeIncrementalIndex() {
+        // rewrite the index files containing changed deletion vectors, and merge small files
+        Set<String> rewriteIndexFiles = new HashSet<>(touchedIndexFiles);
+        for (String dataFile : deletionVectors.keySet()) {
+            String indexFile = dataFileToIndexFile.get(dataFile);
+            if (indexFile != null) {
+                rewriteIndexFiles.add(indexFile);
+            }
+        }
+        long smallFileSize =
+                indexFileHandler.deletionVectorsIndex().targetSizePerIndexFile().getBytes() / 2;
+        for (IndexFileMeta indexFile : indexFiles.values()) {
+            if (indexFile.fileSize() < smallFileSize) {
+                rewriteIndexFiles.add(indexFile.fileName());
+            }
+        }
+
+        Map<String, DeletionVector> toWrite = new LinkedHashMap<>();
+        for (String fileName : rewriteIndexFiles) {
+            IndexFileMeta indexFile = indexFiles.remove(fileName);
+            Map<String, DeletionFile> unchanged = new LinkedHashMap<>();
+            for (DeletionVectorMeta dvMeta : dvMetas(indexFile)) {
+                String dataFile = dvMeta.dataFileName();
+                if (fileName.equals(dataFileToIndexFile.get(dataFile))
+                        && !deletionVectors.containsKey(dataFile)) {
+                    DeletionVector loaded = loadedDeletionVectors.get(dataFile);
+                    if (loaded != null) {
+                        toWrite.put(dataFile, loaded);
+                    } else {
+                        unchanged.put(dataFile, toDeletionFile(indexFile, dvMeta));
+                    }
+                }
+            }
+            toWrite.putAll(indexFileHandler.deletionVectorsIndex().readDeletionVector(unchanged));
+            deletedIndexFiles.add(indexFile);
+        }
+        toWrite.putAll(deletionVectors);
+
+        List<IndexFileMeta> newIndexFiles =
+                toWrite.isEmpty()
+                        ? Collections.emptyList()
+                        : indexFileHandler.writeDeletionVectorsIndex(toWrite);
+        newIndexFiles.forEach(this::addIndexFile);
+        // changed deletion vectors are persisted now, keep them as loaded
+        loadedDeletionVectors.putAll(deletionVectors);
+        deletionVectors.clear();
+        touchedIndexFiles.clear();
+        return newIndexFiles;
+    }
+
+    /**
+     * Returns and clears the index files which are replaced by the index files written by {@link
+     * #writeDeletionVectorsIndex()}, they should be deleted in the same commit. This is always
+     * empty if the index is not incremental.
+     */
+    public List<IndexFileMeta> pollDeletedIndexFiles() {
+        List<IndexFileMeta> result = new ArrayList<>(deletedIndexFiles);
+        deletedIndexFiles.clear();
+        return result;
+    }
+
     /**
      * Retrieves the deletion vector associated with the specified file name.
      *
@@ -127,16 +254,84 @@ public class DeletionVectorsMaintainer {
      *     Optional} if not.
      */
     public Optional<DeletionVector> deletionVectorOf(String fileName) {
-        return Optional.ofNullable(deletionVectors.get(fileName));
+        DeletionVector deletionVector = deletionVectors.get(fileName);
+        return deletionVector == null
+                ? readPersistedDeletionVector(fileName)
+                : Optional.of(deletionVector);
+    }
+
+    /**
+     * Returns whether the specified file has a deletion vector, without reading persisted deletion
+     * vectors.
+     */
+    public boolean hasDeletionVector(String fileName) {
+        return deletionVectors.containsKey(fileName)
+                || (incremental && dataFileToIndexFile.containsKey(fileName));
     }
 
     public IndexFileHandler indexFileHandler() {
         return indexFileHandler;
     }
 
+    public boolean incremental() {
+        return incremental;
+    }
+
     @VisibleForTesting
     public Map<String, DeletionVector> deletionVectors() {
-        return deletionVectors;
+        if (!incremental) {
+            return deletionVectors;
+        }
+
+        Map<String, DeletionVector> result = new HashMap<>();
+        for (String dataFile : dataFileToIndexFile.keySet()) {
+            readPersistedDeletionVector(dataFile).ifPresent(dv -> result.put(dataFile, dv));
+        }
+        result.putAll(deletionVectors);
+        return result;
+    }
+
+    @VisibleForTesting
+    int numLoadedDeletionVectors() {
+        return loadedDeletionVectors.size();
+    }
+
+    private Optional<DeletionVector> readPersistedDeletionVector(String dataFile) {
+        String fileName = dataFileToIndexFile.get(dataFile);
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        DeletionVector deletionVector = loadedDeletionVectors.get(dataFile);
+        if (deletionVector == null) {
+            IndexFileMeta indexFile = indexFiles.get(fileName);
+            DeletionVectorMeta dvMeta = checkNotNull(indexFile.deletionVectorMetas()).get(dataFile);
+            deletionVector =
+                    indexFileHandler
+                            .deletionVectorsIndex()
+                            .readDeletionVector(toDeletionFile(indexFile, dvMeta));
+            loadedDeletionVectors.put(dataFile, deletionVector);
+        }
+        return Optional.of(deletionVector);
+    }
+
+    private void addIndexFile(IndexFileMeta indexFile) {
+        indexFiles.put(indexFile.fileName(), indexFile);
+        for (DeletionVectorMeta dvMeta : dvMetas(indexFile)) {
+            dataFileToIndexFile.put(dvMeta.dataFileName(), indexFile.fileName());
+        }
+    }
+
+    private DeletionFile toDeletionFile(IndexFileMeta indexFile, DeletionVectorMeta dvMeta) {
+        return new DeletionFile(
+                indexFileHandler.filePath(indexFile).toString(),
+                dvMeta.offset(),
+                dvMeta.length(),
+                dvMeta.cardinality());
+    }
+
+    private static Collection<DeletionVectorMeta> dvMetas(IndexFileMeta indexFile) {
+        return checkNotNull(indexFile.deletionVectorMetas()).values();
     }
 
     public static Factory factory(IndexFileHandler handler) {
@@ -158,6 +353,9 @@ public class DeletionVectorsMaintainer {
                     snapshot == null
                             ? Collections.emptyList()
                             : handler.scan(snapshot, DELETION_VECTORS_INDEX, partition, bucket);
+            if (handler.deletionVectorsIndex().incremental()) {
+                return new DeletionVectorsMaintainer(handler, indexFiles);
+            }
             Map<String, DeletionVector> deletionVectors =
                     new HashMap<>(handler.readAllDeletionVectors(indexFiles));
             return createOrRestore(deletionVectors);
@@ -179,6 +377,9 @@ public class DeletionVectorsMaintainer {
         }
 
         public DeletionVectorsMaintainer create() {
+            if (handler.deletionVectorsIndex().incremental()) {
+                return new DeletionVectorsMaintainer(handler, Collections.emptyList());
+            }
             return createOrRestore(new HashMap<>());
         }
 
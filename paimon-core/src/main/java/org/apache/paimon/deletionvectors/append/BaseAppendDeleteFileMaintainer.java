@@ -57,8 +57,9 @@ public interface BaseAppendDeleteFileMaintainer {
             @Nullable Snapshot snapshot,
             BinaryRow partition,
             int bucket) {
-        // bucket should have only one deletion file, so here we should read old deletion vectors,
-        // overwrite the entire deletion file of the bucket when writing deletes.
+        // bucket should have only one deletion file unless the index is incremental, so here we
+        // should read old deletion vectors, overwrite the entire deletion file of the bucket when
+        // writing deletes.
         DeletionVectorsMaintainer maintainer =
                 new DeletionVectorsMaintainer.Factory(indexFileHandler)
                         .createOrRestore(snapshot, partition, bucket);
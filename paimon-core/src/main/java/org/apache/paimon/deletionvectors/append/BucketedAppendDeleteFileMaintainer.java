@@ -58,8 +58,20 @@ public class BucketedAppendDeleteFileMaintainer implements BaseAppendDeleteFileM
 
     @Override
     public List<IndexManifestEntry> persist() {
-        return maintainer.writeDeletionVectorsIndex().stream()
-                .map(fileMeta -> new IndexManifestEntry(FileKind.ADD, partition, bucket, fileMeta))
-                .collect(Collectors.toList());
+        List<IndexManifestEntry> result =
+                maintainer.writeDeletionVectorsIndex().stream()
+                        .map(
+                                fileMeta ->
+                                        new IndexManifestEntry(
+                                                FileKind.ADD, partition, bucket, fileMeta))
+                        .collect(Collectors.toList());
+        maintainer
+                .pollDeletedIndexFiles()
+                .forEach(
+                        fileMeta ->
+                                result.add(
+                                        new IndexManifestEntry(
+                                                FileKind.DELETE, partition, bucket, fileMeta)));
+        return result;
     }
 }
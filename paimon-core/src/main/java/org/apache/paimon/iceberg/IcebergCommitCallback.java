@@ -20,6 +20,7 @@ package org.apache.paimon.iceberg;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.Snapshot;
+import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericArray;
 import org.apache.paimon.data.GenericRow;
@@ -56,11 +57,15 @@ import org.apache.paimon.table.source.snapshot.SnapshotReader;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.DataFilePathFactories;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.ManifestReadThreadPool;
 import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.SnapshotManager;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.io.IOException;
@@ -74,8 +79,13 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -85,9 +95,14 @@ import java.util.stream.Collectors;
  */
 public class IcebergCommitCallback implements CommitCallback {
 
+    private static final Logger LOG = LoggerFactory.getLogger(IcebergCommitCallback.class);
+
     // see org.apache.iceberg.hadoop.Util
     private static final String VERSION_HINT_FILENAME = "version-hint.text";
 
+    // manifest files of a fresh metadata are written in parallel only for large tables
+    @VisibleForTesting static int parallelWriteMinFiles = 10_000;
+
     private final FileStoreTable table;
     private final String commitUser;
 
@@ -98,6 +113,9 @@ public class IcebergCommitCallback implements CommitCallback {
     private final IcebergManifestFile manifestFile;
     private final IcebergManifestList manifestList;
 
+    private final @Nullable ExecutorService compactExecutor;
+    private @Nullable BackgroundCompaction backgroundCompaction;
+
     // -------------------------------------------------------------------------------------
     // Public interface
     // -------------------------------------------------------------------------------------
@@ -126,6 +144,14 @@ public class IcebergCommitCallback implements CommitCallback {
         this.fileStorePathFactory = table.store().pathFactory();
         this.manifestFile = IcebergManifestFile.create(table, pathFactory);
         this.manifestList = IcebergManifestList.create(table, pathFactory);
+
+        this.compactExecutor =
+                table.coreOptions().toConfiguration().get(IcebergOptions.COMPACT_ASYNC)
+                        ? Executors.newSingleThreadExecutor(
+                                new ExecutorThreadFactory(
+                                        Thread.currentThread().getName()
+                                                + "-iceberg-metadata-compaction"))
+                        : null;
     }
 
     public static Path catalogTableMetadataPath(FileStoreTable table) {
@@ -182,7 +208,22 @@ public class IcebergCommitCallback implements CommitCallback {
     }
 
     @Override
-    public void close() throws Exception {}
+    public void close() throws Exception {
+        if (compactExecutor != null) {
+            compactExecutor.shutdownNow();
+            // wait for the interrupted compaction, so that all its manifest files can be deleted
+            if (!compactExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOG.warn(
+                        "Background compaction of Iceberg manifest files did not terminate, "
+                                + "its manifest files may be left behind.");
+            }
+            if (backgroundCompaction != null) {
+                // compacted manifest files are not used by any metadata yet
+                backgroundCompaction.discard();
+                backgroundCompaction = null;
+            }
+        }
+    }
 
     @Override
     public void call(List<ManifestEntry> committedEntries, Snapshot snapshot) {
@@ -232,6 +273,19 @@ public class IcebergCommitCallback implements CommitCallback {
             Path baseMetadataPath = pathFactory.toMetadataPath(snapshotId - 1);
             if (table.fileIO().exists(baseMetadataPath)) {
                 createMetadataWithBase(fileChangesCollector, snapshotId, baseMetadataPath);
+                return;
+            }
+
+            Long baseSnapshotId = findCatchUpBase(snapshotId);
+            if (baseSnapshotId != null) {
+                // catch up with the changes of all snapshots after the base, instead of scanning
+                // the whole table
+                createMetadataWithBase(
+                        (removedFiles, addedFiles) ->
+                                collectFileChanges(
+                                        baseSnapshotId, snapshotId, removedFiles, addedFiles),
+                        snapshotId,
+                        pathFactory.toMetadataPath(baseSnapshotId));
             } else {
                 createMetadataWithoutBase(snapshotId);
             }
@@ -240,25 +294,56 @@ public class IcebergCommitCallback implements CommitCallback {
         }
     }
 
+    /**
+     * Finds the latest Iceberg metadata before the given snapshot, whose following Paimon snapshots
+     * all exist, so that it can be caught up with their changes.
+     */
+    @Nullable
+    private Long findCatchUpBase(long snapshotId) throws IOException {
+        Optional<String> versionHint =
+                table.fileIO()
+                        .readOverwrittenFileUtf8(
+                                new Path(pathFactory.metadataDirectory(), VERSION_HINT_FILENAME));
+        if (!versionHint.isPresent()) {
+            return null;
+        }
+
+        long baseSnapshotId;
+        try {
+            baseSnapshotId = Long.parseLong(versionHint.get().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (baseSnapshotId >= snapshotId
+                || !table.fileIO().exists(pathFactory.toMetadataPath(baseSnapshotId))) {
+            return null;
+        }
+
+        SnapshotManager snapshotManager = table.snapshotManager();
+        for (long id = baseSnapshotId + 1; id < snapshotId; id++) {
+            if (!snapshotManager.snapshotExists(id)) {
+                return null;
+            }
+        }
+        return baseSnapshotId;
+    }
+
     // -------------------------------------------------------------------------------------
     // Create metadata afresh
     // -------------------------------------------------------------------------------------
 
     private void createMetadataWithoutBase(long snapshotId) throws IOException {
         SnapshotReader snapshotReader = table.newSnapshotReader().withSnapshot(snapshotId);
-        SchemaCache schemaCache = new SchemaCache();
-        Iterator<IcebergManifestEntry> entryIterator =
+        List<DataSplit> dataSplits =
                 snapshotReader.read().dataSplits().stream()
                         .filter(DataSplit::rawConvertible)
-                        .flatMap(
-                                s ->
-                                        dataSplitToManifestEntries(s, snapshotId, schemaCache)
-                                                .stream())
-                        .iterator();
+                        .collect(Collectors.toList());
         List<IcebergManifestFileMeta> manifestFileMetas =
-                manifestFile.rollingWrite(entryIterator, snapshotId);
+                writeManifestFiles(dataSplits, snapshotId);
         String manifestListFileName = manifestList.writeWithoutRolling(manifestFileMetas);
 
+        SchemaCache schemaCache = new SchemaCache();
+
         int schemaId = (int) table.schema().id();
         IcebergSchema icebergSchema = schemaCache.get(schemaId);
         List<IcebergPartitionField> partitionFields =
@@ -305,6 +390,66 @@ public class IcebergCommitCallback implements CommitCallback {
         }
     }
 
+    /** Writes the manifest files of the data splits, in parallel if there are many files. */
+    private List<IcebergManifestFileMeta> writeManifestFiles(
+            List<DataSplit> dataSplits, long snapshotId) {
+        Integer parallelism = table.coreOptions().scanManifestParallelism();
+        int numFiles = dataSplits.stream().mapToInt(s -> s.dataFiles().size()).sum();
+        int numChunks =
+                Math.max(
+                        1,
+                        Math.min(
+                                parallelism == null
+                                        ? Runtime.getRuntime().availableProcessors()
+                                        : parallelism,
+                                numFiles / parallelWriteMinFiles));
+        if (numChunks == 1) {
+            return writeManifestFiles(manifestFile, dataSplits, snapshotId);
+        }
+
+        int filesPerChunk = (numFiles + numChunks - 1) / numChunks;
+        List<List<DataSplit>> chunks = new ArrayList<>();
+        List<DataSplit> chunk = new ArrayList<>();
+        int chunkFiles = 0;
+        for (DataSplit dataSplit : dataSplits) {
+            chunk.add(dataSplit);
+            chunkFiles += dataSplit.dataFiles().size();
+            if (chunkFiles >= filesPerChunk) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkFiles = 0;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        List<IcebergManifestFileMeta> result = new ArrayList<>();
+        ManifestReadThreadPool.randomlyExecuteSequentialReturn(
+                        splits ->
+                                writeManifestFiles(
+                                        IcebergManifestFile.create(table, pathFactory),
+                                        splits,
+                                        snapshotId),
+                        chunks,
+                        parallelism)
+                .forEachRemaining(result::add);
+        return result;
+    }
+
+    private List<IcebergManifestFileMeta> writeManifestFiles(
+            IcebergManifestFile writer, List<DataSplit> dataSplits, long snapshotId) {
+        SchemaCache schemaCache = new SchemaCache();
+        return writer.rollingWrite(
+                dataSplits.stream()
+                        .flatMap(
+                                s ->
+                                        dataSplitToManifestEntries(s, snapshotId, schemaCache)
+                                                .stream())
+                        .iterator(),
+                snapshotId);
+    }
+
     private List<IcebergManifestEntry> dataSplitToManifestEntries(
             DataSplit dataSplit, long snapshotId, SchemaCache schemaCache) {
         List<IcebergManifestEntry> result = new ArrayList<>();
@@ -392,9 +537,12 @@ public class IcebergCommitCallback implements CommitCallback {
             newManifestFileMetas = result.getLeft();
             snapshotSummary = result.getRight();
         }
-        String manifestListFileName =
-                manifestList.writeWithoutRolling(
-                        compactMetadataIfNeeded(newManifestFileMetas, snapshotId));
+        if (compactExecutor == null) {
+            newManifestFileMetas = compactMetadataIfNeeded(newManifestFileMetas, snapshotId);
+        } else {
+            newManifestFileMetas = applyBackgroundCompaction(newManifestFileMetas);
+        }
+        String manifestListFileName = manifestList.writeWithoutRolling(newManifestFileMetas);
 
         // add new schema if needed
         SchemaCache schemaCache = new SchemaCache();
@@ -448,6 +596,10 @@ public class IcebergCommitCallback implements CommitCallback {
                         new Path(pathFactory.metadataDirectory(), VERSION_HINT_FILENAME),
                         String.valueOf(snapshotId));
 
+        if (compactExecutor != null) {
+            triggerBackgroundCompaction(newManifestFileMetas, snapshotId);
+        }
+
         deleteApplicableMetadataFiles(snapshotId);
         for (int i = 0; i + 1 < toExpireExceptLast.size(); i++) {
             expireManifestList(
@@ -497,6 +649,19 @@ public class IcebergCommitCallback implements CommitCallback {
         return isAddOnly;
     }
 
+    /** Collects the changes of snapshots in (fromSnapshotId, toSnapshotId]. */
+    private boolean collectFileChanges(
+            long fromSnapshotId,
+            long toSnapshotId,
+            Map<String, BinaryRow> removedFiles,
+            Map<String, Pair<BinaryRow, DataFileMeta>> addedFiles) {
+        boolean isAddOnly = true;
+        for (long id = fromSnapshotId + 1; id <= toSnapshotId; id++) {
+            isAddOnly &= collectFileChanges(id, removedFiles, addedFiles);
+        }
+        return isAddOnly;
+    }
+
     private boolean collectFileChanges(
             long snapshotId,
             Map<String, BinaryRow> removedFiles,
@@ -571,74 +736,79 @@ public class IcebergCommitCallback implements CommitCallback {
         PartitionPredicate predicate =
                 PartitionPredicate.fromMultiple(partitionType, modifiedPartitions);
 
+        // use partition predicate to only check modified partitions
+        Set<IcebergManifestFileMeta> toCheck = new HashSet<>();
         for (IcebergManifestFileMeta fileMeta : baseManifestFileMetas) {
-            // use partition predicate to only check modified partitions
-            int numFields = partitionType.getFieldCount();
-            GenericRow minValues = new GenericRow(numFields);
-            GenericRow maxValues = new GenericRow(numFields);
-            long[] nullCounts = new long[numFields];
-            for (int i = 0; i < numFields; i++) {
-                IcebergPartitionSummary summary = fileMeta.partitions().get(i);
-                DataType fieldType = partitionType.getTypeAt(i);
-                minValues.setField(
-                        i, IcebergConversions.toPaimonObject(fieldType, summary.lowerBound()));
-                maxValues.setField(
-                        i, IcebergConversions.toPaimonObject(fieldType, summary.upperBound()));
-                // IcebergPartitionSummary only has `containsNull` field and does not have the
-                // exact number of nulls.
-                nullCounts[i] = summary.containsNull() ? 1 : 0;
+            if (predicate == null || mayContainPartitions(fileMeta, partitionType, predicate)) {
+                toCheck.add(fileMeta);
             }
+        }
 
-            if (predicate == null
-                    || predicate.test(
-                            fileMeta.liveRowsCount(),
-                            minValues,
-                            maxValues,
-                            new GenericArray(nullCounts))) {
-                // check if any IcebergManifestEntry in this manifest file meta is removed
-                List<IcebergManifestEntry> entries =
-                        manifestFile.read(new Path(fileMeta.manifestPath()).getName());
-                boolean canReuseFile = true;
-                for (IcebergManifestEntry entry : entries) {
-                    if (entry.isLive()) {
-                        String path = entry.file().filePath();
-                        if (addedFiles.containsKey(path)) {
-                            // added file already exists (most probably due to level changes),
-                            // remove it to not add a duplicate.
-                            addedFiles.remove(path);
-                        } else if (removedFiles.containsKey(path)) {
-                            canReuseFile = false;
-                        }
+        // manifest files to check are read in parallel, and processed in order
+        Function<
+                        IcebergManifestFileMeta,
+                        List<Pair<IcebergManifestFileMeta, List<IcebergManifestEntry>>>>
+                reader =
+                        fileMeta -> {
+                            List<IcebergManifestEntry> entries = null;
+                            if (toCheck.contains(fileMeta)) {
+                                entries =
+                                        IcebergManifestFile.create(table, pathFactory)
+                                                .read(new Path(fileMeta.manifestPath()).getName());
+                            }
+                            return Collections.singletonList(Pair.of(fileMeta, entries));
+                        };
+        for (Pair<IcebergManifestFileMeta, List<IcebergManifestEntry>> pair :
+                ManifestReadThreadPool.sequentialBatchedExecute(
+                        reader,
+                        baseManifestFileMetas,
+                        table.coreOptions().scanManifestParallelism())) {
+            IcebergManifestFileMeta fileMeta = pair.getLeft();
+            List<IcebergManifestEntry> entries = pair.getRight();
+            if (entries == null) {
+                // partition of this file meta is not modified in this snapshot,
+                // use this file meta again
+                newManifestFileMetas.add(fileMeta);
+                continue;
+            }
+
+            // check if any IcebergManifestEntry in this manifest file meta is removed
+            boolean canReuseFile = true;
+            for (IcebergManifestEntry entry : entries) {
+                if (entry.isLive()) {
+                    String path = entry.file().filePath();
+                    if (addedFiles.containsKey(path)) {
+                        // added file already exists (most probably due to level changes),
+                        // remove it to not add a duplicate.
+                        addedFiles.remove(path);
+                    } else if (removedFiles.containsKey(path)) {
+                        canReuseFile = false;
                     }
                 }
+            }
 
-                if (canReuseFile) {
-                    // nothing is removed, use this file meta again
-                    newManifestFileMetas.add(fileMeta);
-                } else {
-                    // some file is removed, rewrite this file meta
-                    snapshotSummary = IcebergSnapshotSummary.OVERWRITE;
-                    List<IcebergManifestEntry> newEntries = new ArrayList<>();
-                    for (IcebergManifestEntry entry : entries) {
-                        if (entry.isLive()) {
-                            newEntries.add(
-                                    new IcebergManifestEntry(
-                                            removedFiles.containsKey(entry.file().filePath())
-                                                    ? IcebergManifestEntry.Status.DELETED
-                                                    : IcebergManifestEntry.Status.EXISTING,
-                                            entry.snapshotId(),
-                                            entry.sequenceNumber(),
-                                            entry.fileSequenceNumber(),
-                                            entry.file()));
-                        }
+            if (canReuseFile) {
+                // nothing is removed, use this file meta again
+                newManifestFileMetas.add(fileMeta);
+            } else {
+                // some file is removed, rewrite this file meta
+                snapshotSummary = IcebergSnapshotSummary.OVERWRITE;
+                List<IcebergManifestEntry> newEntries = new ArrayList<>();
+                for (IcebergManifestEntry entry : entries) {
+                    if (entry.isLive()) {
+                        newEntries.add(
+                                new IcebergManifestEntry(
+                                        removedFiles.containsKey(entry.file().filePath())
+                                                ? IcebergManifestEntry.Status.DELETED
+                                                : IcebergManifestEntry.Status.EXISTING,
+                                        entry.snapshotId(),
+                                        entry.sequenceNumber(),
+                                        entry.fileSequenceNumber(),
+                                        entry.file()));
                     }
-                    newManifestFileMetas.addAll(
-                            manifestFile.rollingWrite(newEntries.iterator(), currentSnapshotId));
                 }
-            } else {
-                // partition of this file meta is not modified in this snapshot,
-                // use this file meta again
-                newManifestFileMetas.add(fileMeta);
+                newManifestFileMetas.addAll(
+                        manifestFile.rollingWrite(newEntries.iterator(), currentSnapshotId));
             }
         }
 
@@ -647,35 +817,80 @@ public class IcebergCommitCallback implements CommitCallback {
         return Pair.of(newManifestFileMetas, snapshotSummary);
     }
 
+    private boolean mayContainPartitions(
+            IcebergManifestFileMeta fileMeta, RowType partitionType, PartitionPredicate predicate) {
+        int numFields = partitionType.getFieldCount();
+        GenericRow minValues = new GenericRow(numFields);
+        GenericRow maxValues = new GenericRow(numFields);
+        long[] nullCounts = new long[numFields];
+        for (int i = 0; i < numFields; i++) {
+            IcebergPartitionSummary summary = fileMeta.partitions().get(i);
+            DataType fieldType = partitionType.getTypeAt(i);
+            minValues.setField(
+                    i, IcebergConversions.toPaimonObject(fieldType, summary.lowerBound()));
+            maxValues.setField(
+                    i, IcebergConversions.toPaimonObject(fieldType, summary.upperBound()));
+            // IcebergPartitionSummary only has `containsNull` field and does not have the
+            // exact number of nulls.
+            nullCounts[i] = summary.containsNull() ? 1 : 0;
+        }
+        return predicate.test(
+                fileMeta.liveRowsCount(), minValues, maxValues, new GenericArray(nullCounts));
+    }
+
     // -------------------------------------------------------------------------------------
     // Compact
     // -------------------------------------------------------------------------------------
 
     private List<IcebergManifestFileMeta> compactMetadataIfNeeded(
-            List<IcebergManifestFileMeta> toCompact, long currentSnapshotId) throws IOException {
-        List<IcebergManifestFileMeta> result = new ArrayList<>();
+            List<IcebergManifestFileMeta> toCompact, long currentSnapshotId) {
+        List<IcebergManifestFileMeta> candidates = pickCompactCandidates(toCompact);
+        if (candidates.isEmpty()) {
+            return toCompact;
+        }
+
+        List<IcebergManifestFileMeta> result = new ArrayList<>(toCompact);
+        result.removeAll(candidates);
+        result.addAll(compactManifestFiles(manifestFile, candidates, currentSnapshotId, true));
+        return result;
+    }
+
+    /** Returns the small manifest files to compact, or an empty list if no compaction is needed. */
+    private List<IcebergManifestFileMeta> pickCompactCandidates(
+            List<IcebergManifestFileMeta> manifestFileMetas) {
         long targetSizeInBytes = table.coreOptions().manifestTargetSize().getBytes();
 
         List<IcebergManifestFileMeta> candidates = new ArrayList<>();
         long totalSizeInBytes = 0;
-        for (IcebergManifestFileMeta meta : toCompact) {
+        for (IcebergManifestFileMeta meta : manifestFileMetas) {
             if (meta.manifestLength() < targetSizeInBytes * 2 / 3) {
                 candidates.add(meta);
                 totalSizeInBytes += meta.manifestLength();
-            } else {
-                result.add(meta);
             }
         }
 
         Options options = new Options(table.options());
         if (candidates.size() < options.get(IcebergOptions.COMPACT_MIN_FILE_NUM)) {
-            return toCompact;
+            return Collections.emptyList();
         }
         if (candidates.size() < options.get(IcebergOptions.COMPACT_MAX_FILE_NUM)
                 && totalSizeInBytes < targetSizeInBytes) {
-            return toCompact;
+            return Collections.emptyList();
         }
+        return candidates;
+    }
 
+    /**
+     * Compacts the manifest files into new ones as of the current snapshot.
+     *
+     * @param deleteCurrent whether to delete the compacted manifest files created for the current
+     *     snapshot, which are not recorded in any metadata.
+     */
+    private List<IcebergManifestFileMeta> compactManifestFiles(
+            IcebergManifestFile writer,
+            List<IcebergManifestFileMeta> candidates,
+            long currentSnapshotId,
+            boolean deleteCurrent) {
         Function<IcebergManifestFileMeta, List<IcebergManifestEntry>> processor =
                 meta -> {
                     List<IcebergManifestEntry> entries = new ArrayList<>();
@@ -705,7 +920,7 @@ public class IcebergCommitCallback implements CommitCallback {
                                             entry.file()));
                         }
                     }
-                    if (meta.sequenceNumber() == currentSnapshotId) {
+                    if (deleteCurrent && meta.sequenceNumber() == currentSnapshotId) {
                         // this file is created for this snapshot, so it is not recorded in any
                         // iceberg metas, we need to clean it
                         table.fileIO().deleteQuietly(new Path(meta.manifestPath()));
@@ -714,10 +929,92 @@ public class IcebergCommitCallback implements CommitCallback {
                 };
         Iterable<IcebergManifestEntry> newEntries =
                 ManifestReadThreadPool.sequentialBatchedExecute(processor, candidates, null);
-        result.addAll(manifestFile.rollingWrite(newEntries.iterator(), currentSnapshotId));
+        return writer.rollingWrite(newEntries.iterator(), currentSnapshotId);
+    }
+
+    /**
+     * Replaces the manifest files with the result of the finished background compaction, if all the
+     * manifest files it compacted are still in use.
+     */
+    private List<IcebergManifestFileMeta> applyBackgroundCompaction(
+            List<IcebergManifestFileMeta> manifestFileMetas) {
+        if (backgroundCompaction == null || !backgroundCompaction.result.isDone()) {
+            return manifestFileMetas;
+        }
+
+        BackgroundCompaction compaction = backgroundCompaction;
+        backgroundCompaction = null;
+        List<IcebergManifestFileMeta> compacted;
+        try {
+            compacted = compaction.result.get();
+        } catch (Exception e) {
+            LOG.warn("Failed to compact Iceberg manifest files in background.", e);
+            return manifestFileMetas;
+        }
+
+        if (!new HashSet<>(manifestFileMetas).containsAll(compaction.candidates)) {
+            // some compacted manifest files have been rewritten by later commits
+            compaction.discard();
+            return manifestFileMetas;
+        }
+
+        List<IcebergManifestFileMeta> result = new ArrayList<>(manifestFileMetas);
+        result.removeAll(compaction.candidates);
+        result.addAll(compacted);
         return result;
     }
 
+    private void triggerBackgroundCompaction(
+            List<IcebergManifestFileMeta> manifestFileMetas, long snapshotId) {
+        if (compactExecutor == null || backgroundCompaction != null) {
+            return;
+        }
+
+        List<IcebergManifestFileMeta> candidates = pickCompactCandidates(manifestFileMetas);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // manifest files of this snapshot are recorded in its metadata, so they must not be
+        // deleted by compaction
+        IcebergManifestFile writer = IcebergManifestFile.create(table, pathFactory);
+        backgroundCompaction =
+                new BackgroundCompaction(
+                        candidates,
+                        compactExecutor.submit(
+                                () -> compactManifestFiles(writer, candidates, snapshotId, false)));
+    }
+
+    /** Compaction of manifest files running in background. */
+    private class BackgroundCompaction {
+
+        private final List<IcebergManifestFileMeta> candidates;
+        private final Future<List<IcebergManifestFileMeta>> result;
+
+        private BackgroundCompaction(
+                List<IcebergManifestFileMeta> candidates,
+                Future<List<IcebergManifestFileMeta>> result) {
+            this.candidates = candidates;
+            this.result = result;
+        }
+
+        /** Deletes the compacted manifest files which will not be used. */
+        private void discard() {
+            if (!result.isDone() || result.isCancelled()) {
+                result.cancel(true);
+                return;
+            }
+
+            try {
+                for (IcebergManifestFileMeta meta : result.get()) {
+                    table.fileIO().deleteQuietly(new Path(meta.manifestPath()));
+                }
+            } catch (Exception ignored) {
+                // failed compaction has nothing to delete
+            }
+        }
+    }
+
     // -------------------------------------------------------------------------------------
     // Expire
     // -------------------------------------------------------------------------------------
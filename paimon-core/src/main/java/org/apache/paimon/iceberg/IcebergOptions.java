@@ -59,6 +59,15 @@ public class IcebergOptions {
                             "If number of small Iceberg manifest metadata files exceeds this limit, "
                                     + "always trigger manifest metadata compaction regardless of their total size.");
 
+    public static final ConfigOption<Boolean> COMPACT_ASYNC =
+            key("metadata.iceberg.compaction.async")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to compact Iceberg manifest metadata files in a background thread "
+                                    + "instead of in the commit. The compacted manifest files are used "
+                                    + "by a later commit if the manifest files they replace are not changed.");
+
     public static final ConfigOption<Boolean> METADATA_DELETE_AFTER_COMMIT =
             key("metadata.iceberg.delete-after-commit.enabled")
                     .booleanType()
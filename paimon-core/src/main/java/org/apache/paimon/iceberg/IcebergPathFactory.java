@@ -26,6 +26,7 @@ import org.apache.paimon.utils.PathFactory;
 
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 /** Path factory for Iceberg metadata files. */
@@ -34,8 +35,9 @@ public class IcebergPathFactory {
     private final Path metadataDirectory;
     private final String uuid;
 
-    private int manifestFileCount;
-    private int manifestListCount;
+    // manifest files may be written by multiple threads
+    private final AtomicInteger manifestFileCount = new AtomicInteger();
+    private final AtomicInteger manifestListCount = new AtomicInteger();
 
     public IcebergPathFactory(Path metadataDirectory) {
         this.metadataDirectory = metadataDirectory;
@@ -47,8 +49,7 @@ public class IcebergPathFactory {
     }
 
     public Path newManifestFile() {
-        manifestFileCount++;
-        return toManifestFilePath(uuid + "-m" + manifestFileCount + ".avro");
+        return toManifestFilePath(uuid + "-m" + manifestFileCount.incrementAndGet() + ".avro");
     }
 
     public Path toManifestFilePath(String manifestFileName) {
@@ -56,8 +57,8 @@ public class IcebergPathFactory {
     }
 
     public Path newManifestListFile() {
-        manifestListCount++;
-        return toManifestListPath("snap-" + manifestListCount + "-" + uuid + ".avro");
+        return toManifestListPath(
+                "snap-" + manifestListCount.incrementAndGet() + "-" + uuid + ".avro");
     }
 
     public Path toManifestListPath(String manifestListName) {
@@ -168,6 +168,8 @@ public class IcebergManifestFile extends ObjectsFile<IcebergManifestEntry> {
             writer.write(entries);
             writer.close();
         } catch (Exception e) {
+            // reading the entries may fail or be interrupted, delete the files written so far
+            writer.abort();
             throw new RuntimeException(e);
         }
         return writer.result();
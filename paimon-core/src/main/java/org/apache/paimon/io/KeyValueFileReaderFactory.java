@@ -42,6 +42,7 @@ import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.AsyncRecordReader;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.FormatReaderMapping;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import javax.annotation.Nullable;
 
@@ -125,18 +126,23 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
         Path filePath = pathFactory.toPath(file);
 
         long fileSize = file.fileSize();
+        Optional<DeletionVector> deletionVector = dvFactory.create(file.fileName());
+        // let format readers skip deleted ranges of rows
+        RoaringBitmap32 selection =
+                deletionVector.isPresent() && !deletionVector.get().isEmpty()
+                        ? deletionVector.get().toSelection(file.rowCount())
+                        : null;
         FileRecordReader<InternalRow> fileRecordReader =
                 new DataFileRecordReader(
                         formatReaderMapping.getReaderFactory(),
                         orcPoolSize == null
-                                ? new FormatReaderContext(fileIO, filePath, fileSize)
+                                ? new FormatReaderContext(fileIO, filePath, fileSize, selection)
                                 : new OrcFormatReaderContext(
-                                        fileIO, filePath, fileSize, orcPoolSize),
+                                        fileIO, filePath, fileSize, selection, orcPoolSize),
                         formatReaderMapping.getIndexMapping(),
                         formatReaderMapping.getCastMapping(),
                         PartitionUtils.create(formatReaderMapping.getPartitionPair(), partition));
 
-        Optional<DeletionVector> deletionVector = dvFactory.create(file.fileName());
         if (deletionVector.isPresent() && !deletionVector.get().isEmpty()) {
             fileRecordReader =
                     new ApplyDeletionVectorReader(fileRecordReader, deletionVector.get());
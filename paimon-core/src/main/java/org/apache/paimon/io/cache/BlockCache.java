@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.operation.metrics.CacheMetrics;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache of fixed size blocks of immutable files. Blocks are kept in memory with a W-TinyLFU
+ * eviction policy, and blocks evicted from memory are spilled to an optional LRU disk tier.
+ *
+ * <p>Cached blocks are never invalidated, so this cache must only be used for files which are never
+ * modified after creation, such as data files of a table.
+ */
+@ThreadSafe
+public class BlockCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlockCache.class);
+
+    private static final Map<Config, BlockCache> CACHES = new ConcurrentHashMap<>();
+
+    /** Maximum number of evicted blocks waiting to be spilled, further blocks are dropped. */
+    private static final int MAX_PENDING_SPILLS = 64;
+
+    private final int blockSize;
+    private final Cache<BlockKey, byte[]> memoryCache;
+    @Nullable private final DiskBlockStore diskStore;
+    @Nullable private final ExecutorService spillExecutor;
+    private final CacheMetrics metrics;
+
+    @VisibleForTesting
+    BlockCache(
+            int blockSize,
+            MemorySize maxMemorySize,
+            @Nullable String diskDir,
+            MemorySize maxDiskSize) {
+        this.blockSize = blockSize;
+        this.diskStore =
+                diskDir == null ? null : new DiskBlockStore(new File(diskDir), maxDiskSize);
+        // spill evicted blocks in the background, so that readers never wait for local disk
+        this.spillExecutor =
+                diskStore == null
+                        ? null
+                        : new ThreadPoolExecutor(
+                                1,
+                                1,
+                                0L,
+                                TimeUnit.MILLISECONDS,
+                                new LinkedBlockingQueue<>(MAX_PENDING_SPILLS),
+                                new ExecutorThreadFactory("paimon-block-cache-spill"),
+                                new ThreadPoolExecutor.DiscardPolicy());
+        this.memoryCache =
+                Caffeine.newBuilder()
+                        .weigher((BlockKey key, byte[] block) -> block.length)
+                        .maximumWeight(maxMemorySize.getBytes())
+                        .removalListener(this::onRemoval)
+                        .executor(Runnable::run)
+                        .build();
+        this.metrics = new CacheMetrics();
+        LOG.info(
+                "Initialize block cache with block size of {}, memory of {} and disk of {} in {}.",
+                MemorySize.ofBytes(blockSize),
+                maxMemorySize,
+                diskStore == null ? MemorySize.ZERO : maxDiskSize,
+                diskDir);
+    }
+
+    /** Returns the block cache shared in the process for the given configuration. */
+    public static BlockCache getOrCreate(
+            int blockSize,
+            MemorySize maxMemorySize,
+            @Nullable String diskDir,
+            MemorySize maxDiskSize) {
+        return CACHES.computeIfAbsent(
+                new Config(blockSize, maxMemorySize, diskDir, maxDiskSize),
+                c -> new BlockCache(blockSize, maxMemorySize, diskDir, maxDiskSize));
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+
+    public CacheMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the block of the given file, reading it with the given reader if it is neither in
+     * memory nor on local disk. The returned block is shorter than {@link #blockSize()} only if it
+     * is the last block of the file.
+     */
+    public byte[] getBlock(String file, long blockIndex, BlockReader reader) throws IOException {
+        BlockKey key = new BlockKey(file, blockIndex);
+        byte[] block = memoryCache.getIfPresent(key);
+        if (block == null && diskStore != null) {
+            block = diskStore.get(key);
+            if (block != null) {
+                memoryCache.put(key, block);
+            }
+        }
+
+        if (block != null) {
+            metrics.increaseHitObject();
+            return block;
+        }
+
+        metrics.increaseMissedObject();
+        block = reader.read(blockIndex * blockSize, blockSize);
+        memoryCache.put(key, block);
+        return block;
+    }
+
+    private void onRemoval(@Nullable BlockKey key, @Nullable byte[] block, RemovalCause cause) {
+        if (diskStore != null && key != null && block != null && cause.wasEvicted()) {
+            spillExecutor.execute(() -> diskStore.put(key, block));
+        }
+    }
+
+    @VisibleForTesting
+    void cleanUp() {
+        memoryCache.cleanUp();
+        if (spillExecutor != null) {
+            // wait for the blocks evicted so far to be spilled
+            try {
+                spillExecutor.submit(() -> {}).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /** Reader to read a block of a file from the underlying file system. */
+    @FunctionalInterface
+    public interface BlockReader {
+
+        byte[] read(long position, int length) throws IOException;
+    }
+
+    /** Key of a block, a file and the index of the block in the file. */
+    static class BlockKey {
+
+        final String file;
+        final long blockIndex;
+
+        BlockKey(String file, long blockIndex) {
+            this.file = file;
+            this.blockIndex = blockIndex;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BlockKey that = (BlockKey) o;
+            return blockIndex == that.blockIndex && Objects.equals(file, that.file);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(file, blockIndex);
+        }
+    }
+
+    private static class Config {
+
+        private final int blockSize;
+        private final MemorySize maxMemorySize;
+        @Nullable private final String diskDir;
+        private final MemorySize maxDiskSize;
+
+        private Config(
+                int blockSize,
+                MemorySize maxMemorySize,
+                @Nullable String diskDir,
+                MemorySize maxDiskSize) {
+            this.blockSize = blockSize;
+            this.maxMemorySize = maxMemorySize;
+            this.diskDir = diskDir;
+            this.maxDiskSize = maxDiskSize;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Config that = (Config) o;
+            return blockSize == that.blockSize
+                    && Objects.equals(maxMemorySize, that.maxMemorySize)
+                    && Objects.equals(diskDir, that.diskDir)
+                    && Objects.equals(maxDiskSize, that.maxDiskSize);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(blockSize, maxMemorySize, diskDir, maxDiskSize);
+        }
+    }
+}
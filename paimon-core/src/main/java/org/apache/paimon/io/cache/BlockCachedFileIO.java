@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.RemoteIterator;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.options.Options;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.apache.paimon.CoreOptions.DATA_FILE_BLOCK_CACHE_BLOCK_SIZE;
+import static org.apache.paimon.CoreOptions.DATA_FILE_BLOCK_CACHE_DISK_DIR;
+import static org.apache.paimon.CoreOptions.DATA_FILE_BLOCK_CACHE_MAX_DISK_SIZE;
+import static org.apache.paimon.CoreOptions.DATA_FILE_BLOCK_CACHE_MAX_MEMORY_SIZE;
+
+/**
+ * A {@link FileIO} which reads files through the process wide {@link BlockCache}, all other
+ * operations are delegated to the wrapped {@link FileIO}.
+ *
+ * <p>Only use this for reading immutable files, such as data files. Files which may be overwritten,
+ * such as hint files, are always read from the wrapped {@link FileIO} by {@link #readFileUtf8} and
+ * {@link #readOverwrittenFileUtf8}.
+ */
+public class BlockCachedFileIO implements FileIO {
+
+    private static final long serialVersionUID = 1L;
+
+    private final FileIO fileIO;
+    private final int blockSize;
+    private final MemorySize maxMemorySize;
+    @Nullable private final String diskDir;
+    private final MemorySize maxDiskSize;
+
+    private transient BlockCache cache;
+
+    public BlockCachedFileIO(
+            FileIO fileIO,
+            int blockSize,
+            MemorySize maxMemorySize,
+            @Nullable String diskDir,
+            MemorySize maxDiskSize) {
+        this.fileIO = fileIO;
+        this.blockSize = blockSize;
+        this.maxMemorySize = maxMemorySize;
+        this.diskDir = diskDir;
+        this.maxDiskSize = maxDiskSize;
+    }
+
+    /** Wraps the {@link FileIO} if the data file block cache is enabled in the options. */
+    public static FileIO wrapIfEnabled(FileIO fileIO, CoreOptions options) {
+        if (!options.dataFileBlockCacheEnabled() || fileIO instanceof BlockCachedFileIO) {
+            return fileIO;
+        }
+
+        Options conf = options.toConfiguration();
+        return new BlockCachedFileIO(
+                fileIO,
+                (int) conf.get(DATA_FILE_BLOCK_CACHE_BLOCK_SIZE).getBytes(),
+                conf.get(DATA_FILE_BLOCK_CACHE_MAX_MEMORY_SIZE),
+                conf.get(DATA_FILE_BLOCK_CACHE_DISK_DIR),
+                conf.get(DATA_FILE_BLOCK_CACHE_MAX_DISK_SIZE));
+    }
+
+    /** Returns the process wide {@link BlockCache} if it is enabled in the options. */
+    @Nullable
+    public static BlockCache cacheIfEnabled(CoreOptions options) {
+        if (!options.dataFileBlockCacheEnabled()) {
+            return null;
+        }
+
+        Options conf = options.toConfiguration();
+        return BlockCache.getOrCreate(
+                (int) conf.get(DATA_FILE_BLOCK_CACHE_BLOCK_SIZE).getBytes(),
+                conf.get(DATA_FILE_BLOCK_CACHE_MAX_MEMORY_SIZE),
+                conf.get(DATA_FILE_BLOCK_CACHE_DISK_DIR),
+                conf.get(DATA_FILE_BLOCK_CACHE_MAX_DISK_SIZE));
+    }
+
+    public FileIO wrapped() {
+        return fileIO;
+    }
+
+    public BlockCache cache() {
+        if (cache == null) {
+            cache = BlockCache.getOrCreate(blockSize, maxMemorySize, diskDir, maxDiskSize);
+        }
+        return cache;
+    }
+
+    @Override
+    public boolean isObjectStore() {
+        return fileIO.isObjectStore();
+    }
+
+    @Override
+    public void configure(CatalogContext context) {
+        fileIO.configure(context);
+    }
+
+    @Override
+    public SeekableInputStream newInputStream(Path path) {
+        return new BlockCachedInputStream(fileIO, path, cache());
+    }
+
+    @Override
+    public PositionOutputStream newOutputStream(Path path, boolean overwrite) throws IOException {
+        return fileIO.newOutputStream(path, overwrite);
+    }
+
+    @Override
+    public FileStatus getFileStatus(Path path) throws IOException {
+        return fileIO.getFileStatus(path);
+    }
+
+    @Override
+    public FileStatus[] listStatus(Path path) throws IOException {
+        return fileIO.listStatus(path);
+    }
+
+    @Override
+    public FileStatus[] listFiles(Path path, boolean recursive) throws IOException {
+        return fileIO.listFiles(path, recursive);
+    }
+
+    @Override
+    public RemoteIterator<FileStatus> listFilesIterative(Path path, boolean recursive)
+            throws IOException {
+        return fileIO.listFilesIterative(path, recursive);
+    }
+
+    @Override
+    public FileStatus[] listDirectories(Path path) throws IOException {
+        return fileIO.listDirectories(path);
+    }
+
+    @Override
+    public boolean exists(Path path) throws IOException {
+        return fileIO.exists(path);
+    }
+
+    @Override
+    public boolean delete(Path path, boolean recursive) throws IOException {
+        return fileIO.delete(path, recursive);
+    }
+
+    @Override
+    public boolean mkdirs(Path path) throws IOException {
+        return fileIO.mkdirs(path);
+    }
+
+    @Override
+    public boolean rename(Path src, Path dst) throws IOException {
+        return fileIO.rename(src, dst);
+    }
+
+    @Override
+    public long getFileSize(Path path) throws IOException {
+        return fileIO.getFileSize(path);
+    }
+
+    @Override
+    public String readFileUtf8(Path path) throws IOException {
+        return fileIO.readFileUtf8(path);
+    }
+
+    @Override
+    public Optional<String> readOverwrittenFileUtf8(Path path) throws IOException {
+        return fileIO.readOverwrittenFileUtf8(path);
+    }
+
+    @Override
+    public boolean tryToWriteAtomic(Path path, String content) throws IOException {
+        return fileIO.tryToWriteAtomic(path, content);
+    }
+
+    @Override
+    public void overwriteFileUtf8(Path path, String content) throws IOException {
+        fileIO.overwriteFileUtf8(path, content);
+    }
+
+    @Override
+    public void overwriteHintFile(Path path, String content) throws IOException {
+        fileIO.overwriteHintFile(path, content);
+    }
+}
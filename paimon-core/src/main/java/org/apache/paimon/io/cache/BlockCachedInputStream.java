@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
+
+import javax.annotation.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A {@link SeekableInputStream} which reads an immutable file block by block through a {@link
+ * BlockCache}. The underlying stream is only opened when a block is missing in the cache.
+ */
+public class BlockCachedInputStream extends SeekableInputStream {
+
+    private final FileIO fileIO;
+    private final Path path;
+    private final String file;
+    private final BlockCache cache;
+    private final int blockSize;
+
+    @Nullable private SeekableInputStream in;
+
+    private long pos;
+    private long currentBlockIndex;
+    @Nullable private byte[] currentBlock;
+
+    public BlockCachedInputStream(FileIO fileIO, Path path, BlockCache cache) {
+        this.fileIO = fileIO;
+        this.path = path;
+        this.file = path.toString();
+        this.cache = cache;
+        this.blockSize = cache.blockSize();
+        this.pos = 0;
+        this.currentBlockIndex = -1;
+    }
+
+    @Override
+    public void seek(long desired) throws IOException {
+        if (desired < 0) {
+            throw new IOException("Cannot seek to negative position " + desired);
+        }
+        this.pos = desired;
+    }
+
+    @Override
+    public long getPos() {
+        return pos;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] block = block();
+        int offset = (int) (pos - currentBlockIndex * blockSize);
+        if (offset >= block.length) {
+            return -1;
+        }
+        pos++;
+        return block[offset] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        int read = 0;
+        while (read < len) {
+            byte[] block = block();
+            int offset = (int) (pos - currentBlockIndex * blockSize);
+            if (offset >= block.length) {
+                break;
+            }
+            int n = Math.min(len - read, block.length - offset);
+            System.arraycopy(block, offset, b, off + read, n);
+            pos += n;
+            read += n;
+            if (block.length < blockSize) {
+                // last block of the file
+                break;
+            }
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    private byte[] block() throws IOException {
+        long blockIndex = pos / blockSize;
+        if (currentBlock == null || blockIndex != currentBlockIndex) {
+            currentBlock = cache.getBlock(file, blockIndex, this::readBlock);
+            currentBlockIndex = blockIndex;
+        }
+        return currentBlock;
+    }
+
+    private byte[] readBlock(long position, int length) throws IOException {
+        if (in == null) {
+            in = fileIO.newInputStream(path);
+        }
+        try {
+            in.seek(position);
+        } catch (EOFException e) {
+            // position is at or beyond the end of the file
+            return new byte[0];
+        }
+        byte[] block = new byte[length];
+        int read = 0;
+        while (read < length) {
+            int n = in.read(block, read, length - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return read == length ? block : Arrays.copyOf(block, read);
+    }
+
+    @Override
+    public void close() throws IOException {
+        currentBlock = null;
+        if (in != null) {
+            in.close();
+            in = null;
+        }
+    }
+}
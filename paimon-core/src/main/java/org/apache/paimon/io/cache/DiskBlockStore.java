@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.io.cache.BlockCache.BlockKey;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.FileIOUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A size bounded LRU store of blocks in a local directory, used as the disk tier of {@link
+ * BlockCache}.
+ */
+@ThreadSafe
+class DiskBlockStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DiskBlockStore.class);
+
+    /** Directories of all stores in the process, deleted by a single shutdown hook. */
+    private static final Set<File> DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime()
+                .addShutdownHook(
+                        new Thread(() -> DIRECTORIES.forEach(FileIOUtils::deleteDirectoryQuietly)));
+    }
+
+    private final File directory;
+    private final long maxDiskSize;
+
+    /** Cached blocks and their sizes in access order. */
+    private final LinkedHashMap<BlockKey, Integer> blocks;
+
+    private long diskSize;
+
+    DiskBlockStore(File parent, MemorySize maxDiskSize) {
+        this.directory = new File(parent, "paimon-block-cache-" + UUID.randomUUID());
+        if (!directory.mkdirs()) {
+            throw new IllegalArgumentException(
+                    "Failed to create directory for block cache: " + directory);
+        }
+        this.maxDiskSize = maxDiskSize.getBytes();
+        this.blocks = new LinkedHashMap<>(16, 0.75f, true);
+        this.diskSize = 0;
+        DIRECTORIES.add(directory);
+    }
+
+    @Nullable
+    byte[] get(BlockKey key) {
+        synchronized (this) {
+            if (blocks.get(key) == null) {
+                return null;
+            }
+        }
+
+        try {
+            return Files.readAllBytes(file(key).toPath());
+        } catch (IOException e) {
+            // the block may be evicted concurrently
+            synchronized (this) {
+                remove(key);
+            }
+            return null;
+        }
+    }
+
+    void put(BlockKey key, byte[] block) {
+        if (block.length > maxDiskSize) {
+            return;
+        }
+
+        synchronized (this) {
+            if (blocks.containsKey(key)) {
+                return;
+            }
+        }
+
+        File file = file(key);
+        File tmp = new File(directory, file.getName() + ".tmp-" + UUID.randomUUID());
+        try {
+            Files.write(tmp.toPath(), block);
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Failed to spill block of file {} to local disk.", key.file, e);
+            tmp.delete();
+            return;
+        }
+
+        synchronized (this) {
+            if (blocks.put(key, block.length) == null) {
+                diskSize += block.length;
+            }
+            evict();
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<BlockKey, Integer>> iterator = blocks.entrySet().iterator();
+        while (diskSize > maxDiskSize && iterator.hasNext()) {
+            Map.Entry<BlockKey, Integer> eldest = iterator.next();
+            iterator.remove();
+            diskSize -= eldest.getValue();
+            file(eldest.getKey()).delete();
+        }
+    }
+
+    private void remove(BlockKey key) {
+        Integer size = blocks.remove(key);
+        if (size != null) {
+            diskSize -= size;
+            file(key).delete();
+        }
+    }
+
+    private File file(BlockKey key) {
+        UUID fileId = UUID.nameUUIDFromBytes(key.file.getBytes(StandardCharsets.UTF_8));
+        return new File(directory, fileId + "-" + key.blockIndex);
+    }
+}
@@ -18,6 +18,8 @@
 
 package org.apache.paimon.lookup;
 
+import org.apache.paimon.utils.ExecutorThreadFactory;
+
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.EnvOptions;
 import org.rocksdb.IngestExternalFileOptions;
@@ -27,13 +29,29 @@ import org.rocksdb.RocksDBException;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.TtlDB;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bulk loader for RocksDB. Records must be written in ascending order of keys.
+ *
+ * <p>With a parallelism larger than 1, records are cut into chunks of consecutive keys, and the SST
+ * files of the chunks are built in parallel. The key ranges of the files do not overlap, so they
+ * can be ingested together.
+ */
+public class BulkLoader implements StateBulkLoader {
 
-/** Bulk loader for RocksDB. */
-public class BulkLoader {
+    /** Max bytes of records buffered by a chunk, to bound the memory of parallel building. */
+    private static final long MAX_CHUNK_BYTES = 8 * 1024 * 1024;
 
     private final String uuid = UUID.randomUUID().toString();
 
@@ -49,16 +67,48 @@ public class BulkLoader {
     private int sstIndex = 0;
     private long recordNum = 0;
 
+    @Nullable private final ExecutorService executor;
+    @Nullable private final Semaphore permits;
+    private final List<Future<?>> chunkFutures = new ArrayList<>();
+    private List<byte[]> chunkKeys = new ArrayList<>();
+    private List<byte[]> chunkValues = new ArrayList<>();
+    private long chunkBytes = 0;
+    @Nullable private byte[] lastKey;
+
     public BulkLoader(RocksDB db, Options options, ColumnFamilyHandle columnFamily, String path) {
+        this(db, options, columnFamily, path, 1);
+    }
+
+    public BulkLoader(
+            RocksDB db,
+            Options options,
+            ColumnFamilyHandle columnFamily,
+            String path,
+            int parallelism) {
         this.db = db;
         this.isTtlEnabled = db instanceof TtlDB;
         this.options = options;
         this.columnFamily = columnFamily;
         this.path = path;
         this.currentTimeSeconds = (int) (System.currentTimeMillis() / 1000);
+        if (parallelism > 1) {
+            this.executor =
+                    Executors.newFixedThreadPool(
+                            parallelism, new ExecutorThreadFactory("rocksdb-bulk-load"));
+            this.permits = new Semaphore(parallelism);
+        } else {
+            this.executor = null;
+            this.permits = null;
+        }
     }
 
+    @Override
     public void write(byte[] key, byte[] value) throws WriteException {
+        if (executor != null) {
+            writeToChunk(key, value);
+            return;
+        }
+
         try {
             if (writer == null) {
                 writer = new SstFileWriter(new EnvOptions(), options);
@@ -89,6 +139,80 @@ public class BulkLoader {
         }
     }
 
+    private void writeToChunk(byte[] key, byte[] value) throws WriteException {
+        // the SST writer fails asynchronously, check the order here to fail fast
+        if (lastKey != null && compareKeys(lastKey, key) >= 0) {
+            executor.shutdownNow();
+            throw new WriteException(
+                    new RocksDBException("Keys must be added in strict ascending order."));
+        }
+        lastKey = key;
+
+        if (isTtlEnabled) {
+            value = appendTimestamp(value);
+        }
+        chunkKeys.add(key);
+        chunkValues.add(value);
+        chunkBytes += key.length + value.length;
+        if (chunkBytes >= Math.min(MAX_CHUNK_BYTES, options.targetFileSizeBase())) {
+            flushChunk();
+        }
+    }
+
+    private void flushChunk() {
+        if (chunkKeys.isEmpty()) {
+            return;
+        }
+
+        List<byte[]> keys = chunkKeys;
+        List<byte[]> values = chunkValues;
+        String path = new File(this.path, "sst-" + uuid + "-" + (sstIndex++)).getPath();
+        files.add(path);
+        chunkKeys = new ArrayList<>();
+        chunkValues = new ArrayList<>();
+        chunkBytes = 0;
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        chunkFutures.add(
+                executor.submit(
+                        () -> {
+                            try {
+                                writeSstFile(path, keys, values);
+                            } finally {
+                                permits.release();
+                            }
+                            return null;
+                        }));
+    }
+
+    private void writeSstFile(String path, List<byte[]> keys, List<byte[]> values)
+            throws RocksDBException {
+        try (EnvOptions envOptions = new EnvOptions();
+                SstFileWriter writer = new SstFileWriter(envOptions, options)) {
+            writer.open(path);
+            for (int i = 0; i < keys.size(); i++) {
+                writer.put(keys.get(i), values.get(i));
+            }
+            writer.finish();
+        }
+    }
+
+    private static int compareKeys(byte[] a, byte[] b) {
+        int len = Math.min(a.length, b.length);
+        for (int i = 0; i < len; i++) {
+            int cmp = (a[i] & 0xff) - (b[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return a.length - b.length;
+    }
+
     private byte[] appendTimestamp(byte[] value) {
         byte[] newValue = new byte[value.length + 4];
         System.arraycopy(value, 0, newValue, 0, value.length);
@@ -99,7 +223,24 @@ public class BulkLoader {
         return newValue;
     }
 
+    @Override
     public void finish() {
+        if (executor != null) {
+            try {
+                flushChunk();
+                for (Future<?> future : chunkFutures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
         try {
             if (writer != null) {
                 writer.finish();
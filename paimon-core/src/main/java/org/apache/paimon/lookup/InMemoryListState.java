@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.utils.ListDelimitedSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory state for key -> List of value. Each value of the map is a list serialized by {@link
+ * ListDelimitedSerializer}, added values and bulk loaded lists are appended to the key.
+ */
+public class InMemoryListState<K, V> extends InMemoryState<K, V> implements ListState<K, V> {
+
+    private final ListDelimitedSerializer listSerializer = new ListDelimitedSerializer();
+
+    public InMemoryListState(
+            Serializer<K> keySerializer, Serializer<V> valueSerializer, PagedBytesMap map) {
+        super(keySerializer, valueSerializer, map);
+    }
+
+    @Override
+    public void add(K key, V value) throws IOException {
+        map.append(serializeKey(key), serializeValue(value));
+    }
+
+    @Override
+    public List<V> get(K key) throws IOException {
+        List<V> values = new ArrayList<>();
+        for (byte[] valueBytes : map.getAll(serializeKey(key))) {
+            values.addAll(listSerializer.deserializeList(valueBytes, valueSerializer));
+        }
+        return values;
+    }
+
+    @Override
+    public byte[] serializeList(List<byte[]> valueList) throws IOException {
+        return listSerializer.serializeList(valueList);
+    }
+
+    @Override
+    public StateBulkLoader createBulkLoader() {
+        return new StateBulkLoader() {
+            @Override
+            public void write(byte[] key, byte[] value) {
+                map.append(key, value);
+            }
+
+            @Override
+            public void finish() {}
+        };
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * In-memory state for key -> Set values. Each value of the map is the set of serialized values of
+ * the key, every serialized value prefixed by its length.
+ */
+public class InMemorySetState<K, V> extends InMemoryState<K, V> implements SetState<K, V> {
+
+    private final DataOutputSerializer setOutView = new DataOutputSerializer(64);
+    private final DataInputDeserializer setInView = new DataInputDeserializer();
+
+    public InMemorySetState(
+            Serializer<K> keySerializer, Serializer<V> valueSerializer, PagedBytesMap map) {
+        super(keySerializer, valueSerializer, map);
+    }
+
+    @Override
+    public List<V> get(K key) throws IOException {
+        List<byte[]> valueBytes = getSet(serializeKey(key));
+        List<V> values = new ArrayList<>(valueBytes.size());
+        for (byte[] value : valueBytes) {
+            values.add(deserialize(value));
+        }
+        return values;
+    }
+
+    @Override
+    public void retract(K key, V value) throws IOException {
+        checkArgument(value != null);
+        byte[] keyBytes = serializeKey(key);
+        byte[] valueBytes = serializeValue(value);
+        List<byte[]> set = getSet(keyBytes);
+        if (set.removeIf(v -> Arrays.equals(v, valueBytes))) {
+            if (set.isEmpty()) {
+                map.delete(keyBytes);
+            } else {
+                map.put(keyBytes, serializeSet(set));
+            }
+        }
+    }
+
+    @Override
+    public void add(K key, V value) throws IOException {
+        checkArgument(value != null);
+        byte[] keyBytes = serializeKey(key);
+        byte[] valueBytes = serializeValue(value);
+        List<byte[]> set = getSet(keyBytes);
+        for (byte[] v : set) {
+            if (Arrays.equals(v, valueBytes)) {
+                return;
+            }
+        }
+        set.add(valueBytes);
+        map.put(keyBytes, serializeSet(set));
+    }
+
+    private List<byte[]> getSet(byte[] keyBytes) throws IOException {
+        byte[] setBytes = map.get(keyBytes);
+        if (setBytes == null) {
+            return new ArrayList<>();
+        }
+
+        setInView.setBuffer(setBytes);
+        List<byte[]> set = new ArrayList<>();
+        while (setInView.available() > 0) {
+            byte[] value = new byte[setInView.readInt()];
+            setInView.readFully(value);
+            set.add(value);
+        }
+        return set;
+    }
+
+    private byte[] serializeSet(List<byte[]> set) throws IOException {
+        setOutView.clear();
+        for (byte[] value : set) {
+            setOutView.writeInt(value.length);
+            setOutView.write(value);
+        }
+        return setOutView.getCopyOfBuffer();
+    }
+}
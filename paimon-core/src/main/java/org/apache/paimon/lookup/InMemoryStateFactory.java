@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.serializer.Serializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory to create in-memory states, which store serialized keys and values in heap pages of
+ * {@link PagedBytesMap}s. There is no cache of deserialized values, the lru cache size is ignored.
+ */
+public class InMemoryStateFactory implements StateFactory {
+
+    private final int pageSize;
+    private final List<PagedBytesMap> maps;
+
+    public InMemoryStateFactory(int pageSize) {
+        this.pageSize = pageSize;
+        this.maps = new ArrayList<>();
+    }
+
+    @Override
+    public <K, V> InMemoryValueState<K, V> valueState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        return new InMemoryValueState<>(keySerializer, valueSerializer, createMap());
+    }
+
+    @Override
+    public <K, V> InMemorySetState<K, V> setState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        return new InMemorySetState<>(keySerializer, valueSerializer, createMap());
+    }
+
+    @Override
+    public <K, V> InMemoryListState<K, V> listState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        return new InMemoryListState<>(keySerializer, valueSerializer, createMap());
+    }
+
+    @Override
+    public boolean requiresSortedBulkLoad() {
+        return false;
+    }
+
+    /** Memory size of all states in bytes. */
+    public long memorySize() {
+        return maps.stream().mapToLong(PagedBytesMap::memorySize).sum();
+    }
+
+    private PagedBytesMap createMap() {
+        PagedBytesMap map = new PagedBytesMap(pageSize);
+        maps.add(map);
+        return map;
+    }
+
+    @Override
+    public void close() {
+        maps.forEach(PagedBytesMap::clear);
+        maps.clear();
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A hash map from bytes to bytes, records are appended to heap {@link MemorySegment} pages and are
+ * indexed by an open addressing hash table with linear probing. Pages are on heap so that they are
+ * accounted to the JVM heap, direct memory is not budgeted by the engines and only freed by GC.
+ *
+ * <p>A record is [previous record address, key length, value length, key, value]. Besides putting a
+ * value, values can be appended to a key, which links the new record to the previous record of the
+ * key, so appending does not copy the existing values. Replaced and deleted records are left in the
+ * pages as garbage, the pages are compacted when garbage takes more than half of them.
+ *
+ * <p>This class is not thread safe.
+ */
+public class PagedBytesMap {
+
+    private static final long EMPTY = -1L;
+    private static final long TOMBSTONE = -2L;
+    private static final long NO_PREVIOUS = -1L;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    private final int pageSize;
+
+    private List<MemorySegment> pages;
+    // pages to write records to, differs from the pages to read only in compaction
+    private List<MemorySegment> writePages;
+    @Nullable private MemorySegment currentPage;
+    private int currentOffset;
+
+    private long[] addresses;
+    private int[] hashes;
+    private int size;
+    private int numTombstones;
+
+    private long usedBytes;
+    private long garbageBytes;
+
+    public PagedBytesMap(int pageSize) {
+        this.pageSize = pageSize;
+        this.pages = new ArrayList<>();
+        this.writePages = pages;
+        initIndex(INITIAL_CAPACITY);
+    }
+
+    /** Returns the last put or appended value of the key, or null if the key does not exist. */
+    @Nullable
+    public byte[] get(byte[] key) {
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? null : readValue(addresses[slot]);
+    }
+
+    /** Returns all values of the key in the order they are appended. */
+    public List<byte[]> getAll(byte[] key) {
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return Collections.emptyList();
+        }
+
+        List<byte[]> values = new ArrayList<>();
+        for (long address = addresses[slot]; address != NO_PREVIOUS; address = previous(address)) {
+            values.add(readValue(address));
+        }
+        Collections.reverse(values);
+        return values;
+    }
+
+    /** Puts the value of the key, replacing all existing values of the key. */
+    public void put(byte[] key, byte[] value) {
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            garbageBytes += chainBytes(addresses[slot]);
+            addresses[slot] = writeRecord(NO_PREVIOUS, key, value);
+            compactIfNeeded();
+        } else {
+            insert(-slot - 1, hash, writeRecord(NO_PREVIOUS, key, value));
+        }
+    }
+
+    /** Appends a value to the existing values of the key. */
+    public void append(byte[] key, byte[] value) {
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            addresses[slot] = writeRecord(addresses[slot], key, value);
+        } else {
+            insert(-slot - 1, hash, writeRecord(NO_PREVIOUS, key, value));
+        }
+    }
+
+    /** Deletes all values of the key, returns false if the key does not exist. */
+    public boolean delete(byte[] key) {
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return false;
+        }
+
+        garbageBytes += chainBytes(addresses[slot]);
+        addresses[slot] = TOMBSTONE;
+        size--;
+        numTombstones++;
+        compactIfNeeded();
+        return true;
+    }
+
+    /** Number of keys. */
+    public int size() {
+        return size;
+    }
+
+    /** Memory size of the pages and the index in bytes. */
+    public long memorySize() {
+        long pageBytes = 0;
+        for (MemorySegment page : pages) {
+            pageBytes += page.size();
+        }
+        return pageBytes + (long) addresses.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    /** Releases the memory of this map, the map can still be used afterwards. */
+    public void clear() {
+        pages = new ArrayList<>();
+        writePages = pages;
+        currentPage = null;
+        currentOffset = 0;
+        usedBytes = 0;
+        garbageBytes = 0;
+        size = 0;
+        initIndex(INITIAL_CAPACITY);
+    }
+
+    // ------------------------------------------------------------------------
+    //  Index
+    // ------------------------------------------------------------------------
+
+    private void initIndex(int capacity) {
+        this.addresses = new long[capacity];
+        Arrays.fill(addresses, EMPTY);
+        this.hashes = new int[capacity];
+        this.numTombstones = 0;
+    }
+
+    private static int hash(byte[] key) {
+        return MurmurHashUtils.hashBytes(key);
+    }
+
+    /**
+     * Returns the slot of the key if it exists, otherwise returns {@code -slot - 1} where slot is
+     * the slot to insert the key.
+     */
+    private int findSlot(byte[] key, int hash) {
+        int mask = addresses.length - 1;
+        int insertSlot = -1;
+        MemorySegment keySegment = null;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            long address = addresses[slot];
+            if (address == EMPTY) {
+                return -(insertSlot >= 0 ? insertSlot : slot) - 1;
+            } else if (address == TOMBSTONE) {
+                if (insertSlot < 0) {
+                    insertSlot = slot;
+                }
+            } else if (hashes[slot] == hash) {
+                if (keySegment == null) {
+                    keySegment = MemorySegment.wrap(key);
+                }
+                if (keyEquals(address, keySegment, key.length)) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    private void insert(int slot, int hash, long address) {
+        if (addresses[slot] == TOMBSTONE) {
+            numTombstones--;
+        }
+        addresses[slot] = address;
+        hashes[slot] = hash;
+        size++;
+
+        if (size + numTombstones > addresses.length * MAX_LOAD_FACTOR) {
+            // only grow if there are too many keys, otherwise just clean up the tombstones
+            int capacity =
+                    size > addresses.length * MAX_LOAD_FACTOR / 2
+                            ? addresses.length * 2
+                            : addresses.length;
+            rehash(capacity);
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldAddresses = addresses;
+        int[] oldHashes = hashes;
+        initIndex(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldAddresses.length; i++) {
+            long address = oldAddresses[i];
+            if (address >= 0) {
+                int slot = oldHashes[i] & mask;
+                while (addresses[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                addresses[slot] = address;
+                hashes[slot] = oldHashes[i];
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    //  Pages
+    // ------------------------------------------------------------------------
+
+    private long writeRecord(long previous, byte[] key, byte[] value) {
+        int recordSize = HEADER_SIZE + key.length + value.length;
+        if (currentPage == null || currentOffset + recordSize > currentPage.size()) {
+            // a record never spans pages, large records get a page of their own
+            currentPage = MemorySegment.allocateHeapMemory(Math.max(pageSize, recordSize));
+            currentOffset = 0;
+            writePages.add(currentPage);
+        }
+
+        int offset = currentOffset;
+        currentPage.putLong(offset, previous);
+        currentPage.putInt(offset + 8, key.length);
+        currentPage.putInt(offset + 12, value.length);
+        currentPage.put(offset + HEADER_SIZE, key, 0, key.length);
+        currentPage.put(offset + HEADER_SIZE + key.length, value, 0, value.length);
+        currentOffset += recordSize;
+        usedBytes += recordSize;
+        return ((long) (writePages.size() - 1) << 32) | offset;
+    }
+
+    private MemorySegment page(long address) {
+        return pages.get((int) (address >>> 32));
+    }
+
+    private static int offset(long address) {
+        return (int) address;
+    }
+
+    private long previous(long address) {
+        return page(address).getLong(offset(address));
+    }
+
+    private boolean keyEquals(long address, MemorySegment key, int keyLength) {
+        MemorySegment page = page(address);
+        int offset = offset(address);
+        return page.getInt(offset + 8) == keyLength
+                && page.equalTo(key, offset + HEADER_SIZE, 0, keyLength);
+    }
+
+    private byte[] readKey(long address) {
+        MemorySegment page = page(address);
+        int offset = offset(address);
+        byte[] key = new byte[page.getInt(offset + 8)];
+        page.get(offset + HEADER_SIZE, key, 0, key.length);
+        return key;
+    }
+
+    private byte[] readValue(long address) {
+        MemorySegment page = page(address);
+        int offset = offset(address);
+        int keyLength = page.getInt(offset + 8);
+        byte[] value = new byte[page.getInt(offset + 12)];
+        page.get(offset + HEADER_SIZE + keyLength, value, 0, value.length);
+        return value;
+    }
+
+    private long chainBytes(long address) {
+        long bytes = 0;
+        for (; address != NO_PREVIOUS; address = previous(address)) {
+            MemorySegment page = page(address);
+            int offset = offset(address);
+            bytes += HEADER_SIZE + page.getInt(offset + 8) + page.getInt(offset + 12);
+        }
+        return bytes;
+    }
+
+    private void compactIfNeeded() {
+        if (garbageBytes > pageSize && garbageBytes > usedBytes / 2) {
+            compact();
+        }
+    }
+
+    /** Copies the live records to new pages, keeping the order of the values of each key. */
+    private void compact() {
+        writePages = new ArrayList<>();
+        currentPage = null;
+        currentOffset = 0;
+        usedBytes = 0;
+        garbageBytes = 0;
+
+        List<Long> chain = new ArrayList<>();
+        for (int i = 0; i < addresses.length; i++) {
+            if (addresses[i] < 0) {
+                continue;
+            }
+
+            chain.clear();
+            for (long address = addresses[i]; address != NO_PREVIOUS; address = previous(address)) {
+                chain.add(address);
+            }
+            byte[] key = readKey(chain.get(0));
+            List<byte[]> values = new ArrayList<>(chain.size());
+            for (int j = chain.size() - 1; j >= 0; j--) {
+                values.add(readValue(chain.get(j)));
+            }
+
+            long address = NO_PREVIOUS;
+            for (byte[] value : values) {
+                address = writeRecord(address, key, value);
+            }
+            addresses[i] = address;
+        }
+        pages = writePages;
+    }
+}
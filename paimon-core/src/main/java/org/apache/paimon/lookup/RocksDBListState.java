@@ -29,7 +29,7 @@ import java.util.Collections;
 import java.util.List;
 
 /** RocksDB state for key -> List of value. */
-public class RocksDBListState<K, V> extends RocksDBState<K, V, List<V>> {
+public class RocksDBListState<K, V> extends RocksDBState<K, V, List<V>> implements ListState<K, V> {
 
     private final ListDelimitedSerializer listSerializer = new ListDelimitedSerializer();
 
@@ -42,6 +42,7 @@ public class RocksDBListState<K, V> extends RocksDBState<K, V, List<V>> {
         super(stateFactory, columnFamily, keySerializer, valueSerializer, lruCacheSize);
     }
 
+    @Override
     public void add(K key, V value) throws IOException {
         byte[] keyBytes = serializeKey(key);
         byte[] valueBytes = serializeValue(value);
@@ -53,6 +54,7 @@ public class RocksDBListState<K, V> extends RocksDBState<K, V, List<V>> {
         cache.invalidate(wrap(keyBytes));
     }
 
+    @Override
     public List<V> get(K key) throws IOException {
         byte[] keyBytes = serializeKey(key);
         return cache.get(
@@ -72,12 +74,7 @@ public class RocksDBListState<K, V> extends RocksDBState<K, V, List<V>> {
                 });
     }
 
-    public byte[] serializeValue(V value) throws IOException {
-        valueOutputView.clear();
-        valueSerializer.serialize(value, valueOutputView);
-        return valueOutputView.getCopyOfBuffer();
-    }
-
+    @Override
     public byte[] serializeList(List<byte[]> valueList) throws IOException {
         return listSerializer.serializeList(valueList);
     }
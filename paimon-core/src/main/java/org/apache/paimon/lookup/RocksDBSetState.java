@@ -32,7 +32,8 @@ import java.util.List;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** Rocksdb state for key -> Set values. */
-public class RocksDBSetState<K, V> extends RocksDBState<K, V, List<byte[]>> {
+public class RocksDBSetState<K, V> extends RocksDBState<K, V, List<byte[]>>
+        implements SetState<K, V> {
 
     private static final byte[] EMPTY = new byte[0];
 
@@ -45,6 +46,7 @@ public class RocksDBSetState<K, V> extends RocksDBState<K, V, List<byte[]>> {
         super(stateFactory, columnFamily, keySerializer, valueSerializer, lruCacheSize);
     }
 
+    @Override
     public List<V> get(K key) throws IOException {
         ByteArray keyBytes = wrap(serializeKey(key));
         List<byte[]> valueBytes = cache.getIfPresent(keyBytes);
@@ -73,6 +75,7 @@ public class RocksDBSetState<K, V> extends RocksDBState<K, V, List<byte[]>> {
         return values;
     }
 
+    @Override
     public void retract(K key, V value) throws IOException {
         try {
             byte[] bytes = invalidKeyAndGetKVBytes(key, value);
@@ -84,6 +87,7 @@ public class RocksDBSetState<K, V> extends RocksDBState<K, V, List<byte[]>> {
         }
     }
 
+    @Override
     public void add(K key, V value) throws IOException {
         try {
             byte[] bytes = invalidKeyAndGetKVBytes(key, value);
@@ -32,6 +32,7 @@ import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caff
 
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.WriteOptions;
 
 import javax.annotation.Nullable;
@@ -40,7 +41,7 @@ import java.io.IOException;
 import java.util.Arrays;
 
 /** Rocksdb state for key value. */
-public abstract class RocksDBState<K, V, CacheV> {
+public abstract class RocksDBState<K, V, CacheV> implements State<K, V> {
 
     protected final RocksDBStateFactory stateFactory;
 
@@ -85,12 +86,20 @@ public abstract class RocksDBState<K, V, CacheV> {
                         .build();
     }
 
+    @Override
     public byte[] serializeKey(K key) throws IOException {
         keyOutView.clear();
         keySerializer.serialize(key, keyOutView);
         return keyOutView.getCopyOfBuffer();
     }
 
+    @Override
+    public byte[] serializeValue(V value) throws IOException {
+        valueOutputView.clear();
+        valueSerializer.serialize(value, valueOutputView);
+        return valueOutputView.getCopyOfBuffer();
+    }
+
     protected ByteArray wrap(byte[] bytes) {
         return new ByteArray(bytes);
     }
@@ -100,7 +109,18 @@ public abstract class RocksDBState<K, V, CacheV> {
     }
 
     public BulkLoader createBulkLoader() {
-        return new BulkLoader(db, stateFactory.options(), columnFamily, stateFactory.path());
+        return createBulkLoader(1);
+    }
+
+    /** Creates a bulk loader which builds SST files with the given parallelism. */
+    public BulkLoader createBulkLoader(int parallelism) {
+        return new BulkLoader(
+                db, stateFactory.options(), columnFamily, stateFactory.path(), parallelism);
+    }
+
+    /** Creates an iterator over the serialized keys and values of this state, ordered by key. */
+    public RocksIterator newIterator() {
+        return db.newIterator(columnFamily);
     }
 
     public static BinaryExternalSortBuffer createBulkLoadSorter(
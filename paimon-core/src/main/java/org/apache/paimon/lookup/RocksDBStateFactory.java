@@ -31,13 +31,12 @@ import org.rocksdb.TtlDB;
 
 import javax.annotation.Nullable;
 
-import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 /** Factory to create state. */
-public class RocksDBStateFactory implements Closeable {
+public class RocksDBStateFactory implements StateFactory {
 
     public static final String MERGE_OPERATOR_NAME = "stringappendtest";
 
@@ -85,6 +84,7 @@ public class RocksDBStateFactory implements Closeable {
         return path;
     }
 
+    @Override
     public <K, V> RocksDBValueState<K, V> valueState(
             String name,
             Serializer<K> keySerializer,
@@ -95,6 +95,7 @@ public class RocksDBStateFactory implements Closeable {
                 this, createColumnFamily(name), keySerializer, valueSerializer, lruCacheSize);
     }
 
+    @Override
     public <K, V> RocksDBSetState<K, V> setState(
             String name,
             Serializer<K> keySerializer,
@@ -105,6 +106,7 @@ public class RocksDBStateFactory implements Closeable {
                 this, createColumnFamily(name), keySerializer, valueSerializer, lruCacheSize);
     }
 
+    @Override
     public <K, V> RocksDBListState<K, V> listState(
             String name,
             Serializer<K> keySerializer,
@@ -116,6 +118,11 @@ public class RocksDBStateFactory implements Closeable {
                 this, createColumnFamily(name), keySerializer, valueSerializer, lruCacheSize);
     }
 
+    @Override
+    public boolean requiresSortedBulkLoad() {
+        return true;
+    }
+
     private ColumnFamilyHandle createColumnFamily(String name) throws IOException {
         try {
             return db.createColumnFamily(
@@ -29,7 +29,8 @@ import java.io.IOException;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** Rocksdb state for key -> a single value. */
-public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Reference> {
+public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Reference>
+        implements ValueState<K, V> {
 
     public RocksDBValueState(
             RocksDBStateFactory stateFactory,
@@ -41,6 +42,7 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
     }
 
     @Nullable
+    @Override
     public V get(K key) throws IOException {
         try {
             Reference valueRef = get(wrap(serializeKey(key)));
@@ -60,6 +62,7 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
         return valueRef;
     }
 
+    @Override
     public void put(K key, V value) throws IOException {
         checkArgument(value != null);
 
@@ -73,6 +76,7 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
         }
     }
 
+    @Override
     public void delete(K key) throws IOException {
         try {
             byte[] keyBytes = serializeKey(key);
@@ -86,14 +90,9 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
         }
     }
 
+    @Override
     public V deserializeValue(byte[] valueBytes) throws IOException {
         valueInputView.setBuffer(valueBytes);
         return valueSerializer.deserialize(valueInputView);
     }
-
-    public byte[] serializeValue(V value) throws IOException {
-        valueOutputView.clear();
-        valueSerializer.serialize(value, valueOutputView);
-        return valueOutputView.getCopyOfBuffer();
-    }
 }
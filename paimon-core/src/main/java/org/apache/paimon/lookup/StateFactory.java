@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.serializer.Serializer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/** Factory to create {@link State}s. */
+public interface StateFactory extends Closeable {
+
+    <K, V> ValueState<K, V> valueState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize)
+            throws IOException;
+
+    <K, V> SetState<K, V> setState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize)
+            throws IOException;
+
+    <K, V> ListState<K, V> listState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize)
+            throws IOException;
+
+    /**
+     * Whether the bulk loaders of the states require the keys to be written in sorted order without
+     * duplicates. Otherwise, a key may be written several times, the values of a list state are
+     * appended and the last value of a value state wins.
+     */
+    boolean requiresSortedBulkLoad();
+}
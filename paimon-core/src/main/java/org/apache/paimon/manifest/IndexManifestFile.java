@@ -57,16 +57,23 @@ public class IndexManifestFile extends ObjectsFile<IndexManifestEntry> {
                 cache);
     }
 
-    /** Write new index files to index manifest. */
+    /**
+     * Write new index files to index manifest.
+     *
+     * @param dvIndexIncremental whether the deletion vectors index files of a bucket are written
+     *     incrementally, then they are combined by file name instead of by bucket.
+     */
     @Nullable
     public String writeIndexFiles(
             @Nullable String previousIndexManifest,
             List<IndexManifestEntry> newIndexFiles,
-            BucketMode bucketMode) {
+            BucketMode bucketMode,
+            boolean dvIndexIncremental) {
         if (newIndexFiles.isEmpty()) {
             return previousIndexManifest;
         }
-        IndexManifestFileHandler handler = new IndexManifestFileHandler(this, bucketMode);
+        IndexManifestFileHandler handler =
+                new IndexManifestFileHandler(this, bucketMode, dvIndexIncremental);
         return handler.write(previousIndexManifest, newIndexFiles);
     }
 
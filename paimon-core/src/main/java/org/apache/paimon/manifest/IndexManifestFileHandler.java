@@ -26,6 +26,7 @@ import org.apache.paimon.utils.Pair;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,9 +44,19 @@ public class IndexManifestFileHandler {
 
     private final BucketMode bucketMode;
 
+    private final boolean dvIndexIncremental;
+
     IndexManifestFileHandler(IndexManifestFile indexManifestFile, BucketMode bucketMode) {
+        this(indexManifestFile, bucketMode, false);
+    }
+
+    IndexManifestFileHandler(
+            IndexManifestFile indexManifestFile,
+            BucketMode bucketMode,
+            boolean dvIndexIncremental) {
         this.indexManifestFile = indexManifestFile;
         this.bucketMode = bucketMode;
+        this.dvIndexIncremental = dvIndexIncremental;
     }
 
     String write(@Nullable String previousIndexManifest, List<IndexManifestEntry> newIndexFiles) {
@@ -93,7 +104,8 @@ public class IndexManifestFileHandler {
     }
 
     private IndexManifestFileCombiner getIndexManifestFileCombine(String indexType) {
-        if (DELETION_VECTORS_INDEX.equals(indexType) && BucketMode.BUCKET_UNAWARE == bucketMode) {
+        if (DELETION_VECTORS_INDEX.equals(indexType)
+                && (BucketMode.BUCKET_UNAWARE == bucketMode || dvIndexIncremental)) {
             return new GlobalCombiner();
         } else {
             return new BucketedCombiner();
@@ -107,7 +119,7 @@ public class IndexManifestFileHandler {
 
     /**
      * We combine the previous and new index files by the file name. This is only used for tables
-     * without bucket.
+     * without bucket, or deletion vectors index files written incrementally.
      */
     static class GlobalCombiner implements IndexManifestFileCombiner {
 
@@ -130,15 +142,19 @@ public class IndexManifestFileHandler {
         }
     }
 
-    /** We combine the previous and new index files by {@link BucketIdentifier}. */
+    /**
+     * We combine the previous and new index files by {@link BucketIdentifier}. A bucket may have
+     * multiple previous index files if they were written incrementally, they are all replaced by
+     * the new index files of the bucket.
+     */
     static class BucketedCombiner implements IndexManifestFileCombiner {
 
         @Override
         public List<IndexManifestEntry> combine(
                 List<IndexManifestEntry> prevIndexFiles, List<IndexManifestEntry> newIndexFiles) {
-            Map<BucketIdentifier, IndexManifestEntry> indexEntries = new HashMap<>();
+            Map<BucketIdentifier, List<IndexManifestEntry>> indexEntries = new HashMap<>();
             for (IndexManifestEntry entry : prevIndexFiles) {
-                indexEntries.put(identifier(entry), entry);
+                indexEntries.computeIfAbsent(identifier(entry), k -> new ArrayList<>()).add(entry);
             }
 
             // The deleted entry is processed first to avoid overwriting a new entry.
@@ -153,10 +169,14 @@ public class IndexManifestFileHandler {
             for (IndexManifestEntry entry : removed) {
                 indexEntries.remove(identifier(entry));
             }
+            Map<BucketIdentifier, List<IndexManifestEntry>> addedEntries = new HashMap<>();
             for (IndexManifestEntry entry : added) {
-                indexEntries.put(identifier(entry), entry);
+                addedEntries.put(identifier(entry), Collections.singletonList(entry));
             }
-            return new ArrayList<>(indexEntries.values());
+            indexEntries.putAll(addedEntries);
+            return indexEntries.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
         }
     }
 
@@ -33,6 +33,7 @@ import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.memory.MemoryPoolFactory;
 import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.metrics.CompactionMetrics;
+import org.apache.paimon.operation.metrics.MetricUtils;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.types.RowType;
@@ -91,6 +92,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     protected final String tableName;
     private boolean isInsertOnly;
     private final boolean legacyPartitionName;
+    private final CoreOptions coreOptions;
 
     protected AbstractFileStoreWrite(
             SnapshotManager snapshotManager,
@@ -116,6 +118,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         this.tableName = tableName;
         this.writerNumberMax = options.writeMaxWritersToSpill();
         this.legacyPartitionName = options.legacyPartitionName();
+        this.coreOptions = options;
     }
 
     @Override
@@ -223,9 +226,12 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 if (writerContainer.indexMaintainer != null) {
                     newIndexFiles.addAll(writerContainer.indexMaintainer.prepareCommit());
                 }
+                List<IndexFileMeta> deletedIndexFiles = new ArrayList<>();
                 CompactDeletionFile compactDeletionFile = increment.compactDeletionFile();
                 if (compactDeletionFile != null) {
-                    compactDeletionFile.getOrCompute().ifPresent(newIndexFiles::add);
+                    IndexIncrement dvIncrement = compactDeletionFile.getOrCompute();
+                    newIndexFiles.addAll(dvIncrement.newIndexFiles());
+                    deletedIndexFiles.addAll(dvIncrement.deletedIndexFiles());
                 }
                 CommitMessageImpl committable =
                         new CommitMessageImpl(
@@ -234,7 +240,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                                 writerContainer.totalBuckets,
                                 increment.newFilesIncrement(),
                                 increment.compactIncrement(),
-                                new IndexIncrement(newIndexFiles));
+                                new IndexIncrement(newIndexFiles, deletedIndexFiles));
                 result.add(committable);
 
                 if (committable.isEmpty()) {
@@ -479,6 +485,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     @Override
     public FileStoreWrite<T> withMetricRegistry(MetricRegistry metricRegistry) {
         this.compactionMetrics = new CompactionMetrics(metricRegistry, tableName);
+        MetricUtils.registerFileCacheMetrics(metricRegistry, tableName, coreOptions);
         return this;
     }
 
@@ -20,6 +20,7 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.AppendOnlyFileStore;
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.append.AppendClusteringSorter;
 import org.apache.paimon.append.AppendOnlyWriter;
 import org.apache.paimon.compact.CompactManager;
 import org.apache.paimon.data.BinaryRow;
@@ -58,6 +59,8 @@ import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
+import static org.apache.paimon.utils.Preconditions.checkState;
+
 /** {@link FileStoreWrite} for {@link AppendOnlyFileStore}. */
 public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<InternalRow>
         implements BundleFileStoreWriter {
@@ -149,9 +152,27 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
             @Nullable Function<String, DeletionVector> dvFactory,
             List<DataFileMeta> toCompact)
             throws Exception {
+        return compactRewrite(partition, bucket, dvFactory, toCompact, Collections.emptyList());
+    }
+
+    /**
+     * Rewrites the files, if clustering columns are given, the rows are sorted by the columns
+     * before being written, so that the rolled files cover disjoint ranges of the columns. Only the
+     * given files are sorted, the output may overlap with files of other compactions.
+     */
+    public List<DataFileMeta> compactRewrite(
+            BinaryRow partition,
+            int bucket,
+            @Nullable Function<String, DeletionVector> dvFactory,
+            List<DataFileMeta> toCompact,
+            List<String> clusteringColumns)
+            throws Exception {
         if (toCompact.isEmpty()) {
             return Collections.emptyList();
         }
+        checkState(
+                clusteringColumns.isEmpty() || ioManager != null,
+                "Clustering compaction spills the sorted rows, an IOManager must be set.");
         Exception collectedExceptions = null;
         RowDataRollingFileWriter rewriter =
                 createRollingFileWriter(
@@ -164,7 +185,13 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
             }
         }
         try {
-            rewriter.write(createFilesIterator(partition, bucket, toCompact, dvFactories));
+            RecordReaderIterator<InternalRow> iterator =
+                    createFilesIterator(partition, bucket, toCompact, dvFactories);
+            if (clusteringColumns.isEmpty()) {
+                rewriter.write(iterator);
+            } else {
+                clusterWrite(iterator, clusteringColumns, rewriter);
+            }
         } catch (Exception e) {
             collectedExceptions = e;
         } finally {
@@ -180,6 +207,27 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
         return rewriter.result();
     }
 
+    private void clusterWrite(
+            RecordReaderIterator<InternalRow> iterator,
+            List<String> clusteringColumns,
+            RowDataRollingFileWriter rewriter)
+            throws Exception {
+        AppendClusteringSorter sorter =
+                new AppendClusteringSorter(rowType, clusteringColumns, options, ioManager);
+        try {
+            try {
+                while (iterator.hasNext()) {
+                    sorter.write(iterator.next());
+                }
+            } finally {
+                iterator.close();
+            }
+            rewriter.write(sorter.sortedIterator());
+        } finally {
+            sorter.clear();
+        }
+    }
+
     private RowDataRollingFileWriter createRollingFileWriter(
             BinaryRow partition, int bucket, LongCounter seqNumCounter) {
         return new RowDataRollingFileWriter(
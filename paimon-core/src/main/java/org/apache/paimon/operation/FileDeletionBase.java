@@ -37,6 +37,7 @@ import org.apache.paimon.stats.StatsFileHandler;
 import org.apache.paimon.utils.DataFilePathFactories;
 import org.apache.paimon.utils.FileDeletionThreadPool;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.ManifestReadThreadPool;
 import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.SnapshotManager;
 
@@ -49,6 +50,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -65,6 +67,9 @@ public abstract class FileDeletionBase<T extends Snapshot> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileDeletionBase.class);
 
+    /** Pending deletions are awaited once there are this many, to bound their memory. */
+    private static final int MAX_PENDING_DELETIONS = 10_000;
+
     protected final FileIO fileIO;
     protected final FileStorePathFactory pathFactory;
     protected final ManifestFile manifestFile;
@@ -78,6 +83,11 @@ public abstract class FileDeletionBase<T extends Snapshot> {
 
     protected boolean changelogDecoupled;
 
+    /** Whether data files are deleted in the background, see {@link #setPipelined}. */
+    private boolean pipelined;
+
+    private final List<CompletableFuture<Void>> pendingDeletions = new ArrayList<>();
+
     /** Used to record which tag is cached. */
     private long cachedTag = 0;
 
@@ -126,8 +136,39 @@ public abstract class FileDeletionBase<T extends Snapshot> {
         this.changelogDecoupled = changelogDecoupled;
     }
 
+    /**
+     * If pipelined, the cleaning of data files returns once the files to delete are determined, and
+     * the files are deleted in the background, so that deleting the data files of a snapshot
+     * overlaps with reading the manifests of next snapshots. At most {@link #MAX_PENDING_DELETIONS}
+     * deletions are pending, more deletions wait for the pending ones first. Callers must call
+     * {@link #awaitPendingDeletions()} before deleting the manifests. Turning pipelining off
+     * forgets the deletions which are not awaited, for example if the expiration failed.
+     */
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+        if (!pipelined) {
+            pendingDeletions.clear();
+        }
+    }
+
+    /** Wait for the data files being deleted in the background. */
+    public void awaitPendingDeletions() {
+        if (pendingDeletions.isEmpty()) {
+            return;
+        }
+
+        try {
+            CompletableFuture.allOf(pendingDeletions.toArray(new CompletableFuture[0])).get();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            pendingDeletions.clear();
+        }
+    }
+
     /** Try to delete data directories that may be empty after data file deletion. */
     public void cleanEmptyDirectories() {
+        awaitPendingDeletions();
         if (!cleanEmptyDirectories || deletionBuckets.isEmpty()) {
             return;
         }
@@ -174,21 +215,22 @@ public abstract class FileDeletionBase<T extends Snapshot> {
     public void cleanUnusedDataFiles(String manifestList, Predicate<ExpireFileEntry> skipper) {
         // try read manifests
         List<ManifestFileMeta> manifests = tryReadManifestList(manifestList);
-        List<ExpireFileEntry> manifestEntries;
         // data file path -> (original manifest entry, extra file paths)
         Map<Path, Pair<ExpireFileEntry, List<Path>>> dataFileToDelete = new HashMap<>();
-        for (ManifestFileMeta manifest : manifests) {
-            try {
-                manifestEntries =
-                        manifestFile.readExpireFileEntries(
-                                manifest.fileName(), manifest.fileSize());
-            } catch (Exception e) {
-                // cancel deletion if any exception occurs
-                LOG.warn("Failed to read some manifest files. Cancel deletion.", e);
-                return;
-            }
-
-            getDataFileToDelete(dataFileToDelete, manifestEntries);
+        try {
+            // manifests are read in parallel, entries are returned in the order of manifests
+            Iterable<ExpireFileEntry> manifestEntries =
+                    ManifestReadThreadPool.sequentialBatchedExecute(
+                            manifest ->
+                                    manifestFile.readExpireFileEntries(
+                                            manifest.fileName(), manifest.fileSize()),
+                            manifests,
+                            null);
+            getDataFileToDelete(dataFileToDelete, manifestEntries.iterator());
+        } catch (Exception e) {
+            // cancel deletion if any exception occurs
+            LOG.warn("Failed to read some manifest files. Cancel deletion.", e);
+            return;
         }
 
         doCleanUnusedDataFile(dataFileToDelete, skipper);
@@ -210,16 +252,39 @@ public abstract class FileDeletionBase<T extends Snapshot> {
                         recordDeletionBuckets(entry);
                     }
                 });
-        deleteFiles(actualDataFileToDelete, fileIO::deleteQuietly);
+        deleteDataFiles(actualDataFileToDelete);
+    }
+
+    private void deleteDataFiles(List<Path> files) {
+        if (!pipelined) {
+            deleteFiles(files, fileIO::deleteQuietly);
+            return;
+        }
+
+        for (Path file : files) {
+            if (pendingDeletions.size() >= MAX_PENDING_DELETIONS) {
+                awaitPendingDeletions();
+            }
+            pendingDeletions.add(
+                    CompletableFuture.runAsync(
+                            () -> fileIO.deleteQuietly(file), deleteFileExecutor));
+        }
     }
 
     protected void getDataFileToDelete(
             Map<Path, Pair<ExpireFileEntry, List<Path>>> dataFileToDelete,
             List<ExpireFileEntry> dataFileEntries) {
+        getDataFileToDelete(dataFileToDelete, dataFileEntries.iterator());
+    }
+
+    private void getDataFileToDelete(
+            Map<Path, Pair<ExpireFileEntry, List<Path>>> dataFileToDelete,
+            Iterator<ExpireFileEntry> dataFileEntries) {
         // we cannot delete a data file directly when we meet a DELETE entry, because that
         // file might be upgraded
         DataFilePathFactories factories = new DataFilePathFactories(pathFactory);
-        for (ExpireFileEntry entry : dataFileEntries) {
+        while (dataFileEntries.hasNext()) {
+            ExpireFileEntry entry = dataFileEntries.next();
             DataFilePathFactory dataFilePathFactory =
                     factories.get(entry.partition(), entry.bucket());
             Path dataFilePath = dataFilePathFactory.toPath(entry);
@@ -385,11 +450,15 @@ public abstract class FileDeletionBase<T extends Snapshot> {
     protected Collection<ExpireFileEntry> readMergedDataFiles(List<ManifestFileMeta> manifests)
             throws IOException {
         Map<Identifier, ExpireFileEntry> map = new HashMap<>();
-        for (ManifestFileMeta manifest : manifests) {
-            List<ExpireFileEntry> entries =
-                    manifestFile.readExpireFileEntries(manifest.fileName(), manifest.fileSize());
-            FileEntry.mergeEntries(entries, map);
-        }
+        // manifests are read in parallel, entries are returned in the order of manifests
+        Iterable<ExpireFileEntry> entries =
+                ManifestReadThreadPool.sequentialBatchedExecute(
+                        manifest ->
+                                manifestFile.readExpireFileEntries(
+                                        manifest.fileName(), manifest.fileSize()),
+                        manifests,
+                        null);
+        FileEntry.mergeEntries(entries, map);
 
         return map.values();
     }
@@ -139,6 +139,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final List<CommitCallback> commitCallbacks;
     private final StatsFileHandler statsFileHandler;
     private final BucketMode bucketMode;
+    private final boolean dvIndexIncremental;
+    private final boolean snapshotTimelineEnabled;
     private final long commitTimeout;
     private final int commitMaxRetries;
     private final InternalRowPartitionComputer partitionComputer;
@@ -214,6 +216,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.commitMetrics = null;
         this.statsFileHandler = statsFileHandler;
         this.bucketMode = bucketMode;
+        this.dvIndexIncremental = options.deletionVectorIndexFileIncremental();
+        this.snapshotTimelineEnabled = options.snapshotTimelineEnabled();
     }
 
     @Override
@@ -954,7 +958,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
             if (rewriteIndexManifest) {
                 indexManifest =
-                        indexManifestFile.writeIndexFiles(oldIndexManifest, indexFiles, bucketMode);
+                        indexManifestFile.writeIndexFiles(
+                                oldIndexManifest, indexFiles, bucketMode, dvIndexIncremental);
             }
 
             long latestSchemaId = schemaManager.latest().get().id();
@@ -1020,6 +1025,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                                         + "with identifier %s and kind %s.",
                                 newSnapshotId, commitUser, identifier, commitKind.name()));
             }
+            appendTimeline(newSnapshot);
             commitCallbacks.forEach(callback -> callback.call(deltaFiles, newSnapshot));
             return new SuccessResult();
         }
@@ -1148,6 +1154,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             return new ManifestCompactResult(
                     baseManifestList, deltaManifestList, mergeBeforeManifests, mergeAfterManifests);
         } else {
+            appendTimeline(newSnapshot);
             return new SuccessManifestCompactResult();
         }
     }
@@ -1175,6 +1182,19 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
     }
 
+    private void appendTimeline(Snapshot newSnapshot) {
+        if (!snapshotTimelineEnabled) {
+            return;
+        }
+
+        // the snapshot is committed, the timeline is only a hint and can be left behind
+        try {
+            snapshotManager.timeline().append(newSnapshot);
+        } catch (Exception e) {
+            LOG.warn("Failed to append snapshot #{} to timeline.", newSnapshot.id(), e);
+        }
+    }
+
     private List<SimpleFileEntry> readIncrementalChanges(
             Snapshot from, Snapshot to, List<BinaryRow> changedPartitions) {
         List<SimpleFileEntry> entries = new ArrayList<>();
@@ -21,16 +21,25 @@ package org.apache.paimon.operation;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.sort.BinaryExternalSortBuffer;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.MutableObjectIterator;
 import org.apache.paimon.utils.Pair;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -65,16 +74,27 @@ import static org.apache.paimon.utils.ThreadPoolUtils.randomlyOnlyExecute;
  */
 public class LocalOrphanFilesClean extends OrphanFilesClean {
 
+    private static final int USED_FILE = 0;
+    private static final int CANDIDATE_FILE = 1;
+
+    /** Row of file name, whether it is used, file path and file size. */
+    private static final RowType FILE_NAME_ROW_TYPE =
+            RowType.of(DataTypes.STRING(), DataTypes.INT(), DataTypes.STRING(), DataTypes.BIGINT());
+
     private final ThreadPoolExecutor executor;
 
     private final List<Path> deleteFiles;
 
     private final boolean dryRun;
 
+    private final boolean externalSort;
+
     private final AtomicLong deletedFilesLenInBytes = new AtomicLong(0);
 
     private Set<String> candidateDeletes;
 
+    @Nullable private IOManager ioManager;
+
     public LocalOrphanFilesClean(FileStoreTable table) {
         this(table, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1));
     }
@@ -90,6 +110,16 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
                 createCachedThreadPool(
                         table.coreOptions().deleteFileThreadNum(), "ORPHAN_FILES_CLEAN");
         this.dryRun = dryRun;
+        this.externalSort = table.coreOptions().orphanFilesCleanExternalSort();
+    }
+
+    /**
+     * Sets the {@link IOManager} the external sort spills to, engines should pass the one of their
+     * configured temp directories. If not set, a temporary one in java.io.tmpdir is used.
+     */
+    public LocalOrphanFilesClean withIOManager(@Nullable IOManager ioManager) {
+        this.ioManager = ioManager;
+        return this;
     }
 
     public CleanOrphanFilesResult clean()
@@ -99,6 +129,12 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
         // specially handle to clear snapshot dir
         cleanSnapshotDir(branches, deleteFiles::add, deletedFilesLenInBytes::addAndGet);
 
+        if (externalSort) {
+            cleanWithExternalSort(branches);
+            return new CleanOrphanFilesResult(
+                    deleteFiles.size(), deletedFilesLenInBytes.get(), deleteFiles);
+        }
+
         // get candidate files
         Map<String, Pair<Path, Long>> candidates = getCandidateDeletingFiles();
         if (candidates.isEmpty()) {
@@ -138,6 +174,133 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
                 deleteFiles.size(), deletedFilesLenInBytes.get(), deleteFiles);
     }
 
+    /**
+     * Finds orphan files by writing the names of candidate files and used files into an external
+     * sort buffer, and merging the sorted names, so that the memory usage is bounded no matter how
+     * many files the table has.
+     */
+    private void cleanWithExternalSort(List<String> branches) throws IOException {
+        CoreOptions options = table.coreOptions();
+        IOManager tempIOManager =
+                ioManager == null ? IOManager.create(System.getProperty("java.io.tmpdir")) : null;
+        try {
+            BinaryExternalSortBuffer sortBuffer =
+                    BinaryExternalSortBuffer.create(
+                            ioManager == null ? tempIOManager : ioManager,
+                            FILE_NAME_ROW_TYPE,
+                            new int[] {0, 1},
+                            options.writeBufferSize() / 2,
+                            options.pageSize(),
+                            options.localSortMaxNumFileHandles(),
+                            options.spillCompressOptions(),
+                            options.writeBufferSpillDiskSize(),
+                            true);
+            try {
+                boolean hasCandidates = writeCandidateFiles(sortBuffer);
+                if (!hasCandidates) {
+                    return;
+                }
+
+                for (String branch : branches) {
+                    writeUsedFiles(branch, sortBuffer);
+                }
+
+                // used name is sorted before the candidates with the same name
+                MutableObjectIterator<BinaryRow> iterator = sortBuffer.sortedIterator();
+                BinaryRow row = new BinaryRow(FILE_NAME_ROW_TYPE.getFieldCount());
+                String usedName = null;
+                while ((row = iterator.next(row)) != null) {
+                    String name = row.getString(0).toString();
+                    if (row.getInt(1) == USED_FILE) {
+                        usedName = name;
+                    } else if (!name.equals(usedName)) {
+                        Path path = new Path(row.getString(2).toString());
+                        deletedFilesLenInBytes.addAndGet(row.getLong(3));
+                        cleanFile(path);
+                        deleteFiles.add(path);
+                    }
+                }
+            } finally {
+                sortBuffer.clear();
+            }
+        } finally {
+            if (tempIOManager != null) {
+                try {
+                    tempIOManager.close();
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+            }
+        }
+
+        // clean empty directory
+        if (!dryRun) {
+            cleanEmptyDataDirectory(deleteFiles);
+        }
+    }
+
+    private boolean writeCandidateFiles(BinaryExternalSortBuffer sortBuffer) throws IOException {
+        List<Path> fileDirs = listPaimonFileDirs();
+        Function<Path, List<Pair<Path, Long>>> processor =
+                path ->
+                        tryBestListingDirs(path).stream()
+                                .filter(this::oldEnough)
+                                .map(status -> Pair.of(status.getPath(), status.getLen()))
+                                .collect(Collectors.toList());
+        Iterator<Pair<Path, Long>> allFilesInfo =
+                randomlyExecuteSequentialReturn(executor, processor, fileDirs);
+        boolean hasCandidates = false;
+        while (allFilesInfo.hasNext()) {
+            Pair<Path, Long> fileInfo = allFilesInfo.next();
+            sortBuffer.write(
+                    GenericRow.of(
+                            BinaryString.fromString(fileInfo.getLeft().getName()),
+                            CANDIDATE_FILE,
+                            BinaryString.fromString(fileInfo.getLeft().toString()),
+                            fileInfo.getRight()));
+            hasCandidates = true;
+        }
+        return hasCandidates;
+    }
+
+    private void writeUsedFiles(String branch, BinaryExternalSortBuffer sortBuffer)
+            throws IOException {
+        GenericRow usedRow = GenericRow.of(null, USED_FILE, BinaryString.EMPTY_UTF8, 0L);
+        Consumer<String> usedFileConsumer =
+                fileName -> {
+                    // the sort buffer is not thread safe
+                    synchronized (sortBuffer) {
+                        usedRow.setField(0, BinaryString.fromString(fileName));
+                        try {
+                            sortBuffer.write(usedRow);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                };
+
+        ManifestFile manifestFile =
+                table.switchToBranch(branch).store().manifestFileFactory().create();
+        Set<String> manifests = ConcurrentHashMap.newKeySet();
+        collectWithoutDataFile(branch, usedFileConsumer, manifests::add);
+        randomlyOnlyExecute(
+                executor,
+                manifestName -> {
+                    try {
+                        for (ManifestEntry entry :
+                                retryReadingFiles(
+                                        () -> manifestFile.readWithIOException(manifestName),
+                                        Collections.<ManifestEntry>emptyList())) {
+                            usedFileConsumer.accept(entry.file().fileName());
+                            entry.file().extraFiles().forEach(usedFileConsumer);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                manifests);
+    }
+
     private void cleanEmptyDataDirectory(List<Path> deleteFiles) {
         if (deleteFiles.isEmpty()) {
             return;
@@ -235,7 +398,8 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
             @Nullable String tableName,
             long olderThanMillis,
             @Nullable Integer parallelism,
-            boolean dryRun)
+            boolean dryRun,
+            @Nullable IOManager ioManager)
             throws Catalog.DatabaseNotExistException, Catalog.TableNotExistException {
         List<String> tableNames = Collections.singletonList(tableName);
         if (tableName == null || "*".equals(tableName)) {
@@ -263,7 +427,8 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
                     table.getClass().getName());
 
             orphanFilesCleans.add(
-                    new LocalOrphanFilesClean((FileStoreTable) table, olderThanMillis, dryRun));
+                    new LocalOrphanFilesClean((FileStoreTable) table, olderThanMillis, dryRun)
+                            .withIOManager(ioManager));
         }
 
         return orphanFilesCleans;
@@ -275,11 +440,18 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
             @Nullable String tableName,
             long olderThanMillis,
             @Nullable Integer parallelism,
-            boolean dryRun)
+            boolean dryRun,
+            @Nullable IOManager ioManager)
             throws Catalog.DatabaseNotExistException, Catalog.TableNotExistException {
         List<LocalOrphanFilesClean> tableCleans =
                 createOrphanFilesCleans(
-                        catalog, databaseName, tableName, olderThanMillis, parallelism, dryRun);
+                        catalog,
+                        databaseName,
+                        tableName,
+                        olderThanMillis,
+                        parallelism,
+                        dryRun,
+                        ioManager);
 
         ExecutorService executorService =
                 Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
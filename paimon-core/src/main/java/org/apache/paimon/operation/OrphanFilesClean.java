@@ -66,6 +66,7 @@ import static org.apache.paimon.utils.FileStorePathFactory.BUCKET_PATH_PREFIX;
 import static org.apache.paimon.utils.HintFileUtils.EARLIEST;
 import static org.apache.paimon.utils.HintFileUtils.LATEST;
 import static org.apache.paimon.utils.SnapshotManager.SNAPSHOT_PREFIX;
+import static org.apache.paimon.utils.SnapshotTimeline.TIMELINE_PREFIX;
 import static org.apache.paimon.utils.StringUtils.isNullOrWhitespaceOnly;
 
 /**
@@ -191,6 +192,7 @@ public abstract class OrphanFilesClean implements Serializable {
         return path -> {
             String name = path.getName();
             return !name.startsWith(SNAPSHOT_PREFIX)
+                    && !name.startsWith(TIMELINE_PREFIX)
                     && !name.equals(EARLIEST)
                     && !name.equals(LATEST);
         };
@@ -225,9 +225,12 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
             if (deletion != null) {
                 selection = RoaringBitmap32.andNot(selection, deletion);
             }
-            if (selection.isEmpty()) {
-                return new EmptyFileRecordReader<>();
-            }
+        } else if (deletionVector != null && !deletionVector.isEmpty()) {
+            // let format readers skip deleted ranges of rows
+            selection = deletionVector.toSelection(file.rowCount());
+        }
+        if (selection != null && selection.isEmpty()) {
+            return new EmptyFileRecordReader<>();
         }
 
         FormatReaderContext formatReaderContext =
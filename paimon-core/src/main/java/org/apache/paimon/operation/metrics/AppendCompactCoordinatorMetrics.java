@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics to measure the backlog of the compaction coordinator of append tables. */
+public class AppendCompactCoordinatorMetrics {
+
+    public static final String GROUP_NAME = "compactionCoordinator";
+    public static final String PENDING_FILE_COUNT = "pendingFileCount";
+    public static final String PENDING_PARTITION_COUNT = "pendingPartitionCount";
+    public static final String MAX_PARTITION_PENDING_FILE_COUNT = "maxPartitionPendingFileCount";
+    public static final String PLANNED_TASK_COUNT = "plannedTaskCount";
+
+    private final MetricGroup metricGroup;
+    private final Counter plannedTaskCounter;
+
+    private volatile long pendingFileCount;
+    private volatile int pendingPartitionCount;
+    private volatile int maxPartitionPendingFileCount;
+
+    public AppendCompactCoordinatorMetrics(MetricRegistry registry, String tableName) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(PENDING_FILE_COUNT, () -> pendingFileCount);
+        metricGroup.gauge(PENDING_PARTITION_COUNT, () -> pendingPartitionCount);
+        metricGroup.gauge(MAX_PARTITION_PENDING_FILE_COUNT, () -> maxPartitionPendingFileCount);
+        this.plannedTaskCounter = metricGroup.counter(PLANNED_TASK_COUNT);
+    }
+
+    @VisibleForTesting
+    MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /** Reports the result of a round of planning and the files still waiting in partitions. */
+    public void reportPlan(
+            int plannedTasks,
+            long pendingFileCount,
+            int pendingPartitionCount,
+            int maxPartitionPendingFileCount) {
+        plannedTaskCounter.inc(plannedTasks);
+        this.pendingFileCount = pendingFileCount;
+        this.pendingPartitionCount = pendingPartitionCount;
+        this.maxPartitionPendingFileCount = maxPartitionPendingFileCount;
+    }
+}
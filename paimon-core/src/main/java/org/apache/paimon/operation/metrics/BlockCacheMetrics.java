@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.io.cache.BlockCache;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics of the process wide data file {@link BlockCache} used by a table. */
+public class BlockCacheMetrics {
+
+    public static final String GROUP_NAME = "blockCache";
+    public static final String BLOCK_HIT_CACHE = "blockHitCache";
+    public static final String BLOCK_MISSED_CACHE = "blockMissedCache";
+
+    private final MetricGroup metricGroup;
+
+    public BlockCacheMetrics(MetricRegistry registry, String tableName, BlockCache cache) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        CacheMetrics cacheMetrics = cache.metrics();
+        metricGroup.gauge(BLOCK_HIT_CACHE, () -> cacheMetrics.getHitObject().get());
+        metricGroup.gauge(BLOCK_MISSED_CACHE, () -> cacheMetrics.getMissedObject().get());
+    }
+
+    @VisibleForTesting
+    MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+}
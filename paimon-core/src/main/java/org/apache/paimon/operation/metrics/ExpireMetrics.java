@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics to measure a snapshot expiration, including the duration of each of its phases. */
+public class ExpireMetrics {
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 100;
+    private static final String GROUP_NAME = "expire";
+
+    @VisibleForTesting static final String EXPIRE_DURATION = "expireDuration";
+    @VisibleForTesting static final String LAST_EXPIRE_DURATION = "lastExpireDuration";
+    @VisibleForTesting static final String LAST_EXPIRED_SNAPSHOTS = "lastExpiredSnapshots";
+
+    @VisibleForTesting
+    static final String LAST_DATA_FILES_CLEAN_DURATION = "lastDataFilesCleanDuration";
+
+    @VisibleForTesting
+    static final String LAST_CHANGELOG_FILES_CLEAN_DURATION = "lastChangelogFilesCleanDuration";
+
+    @VisibleForTesting
+    static final String LAST_MANIFESTS_CLEAN_DURATION = "lastManifestsCleanDuration";
+
+    private final MetricGroup metricGroup;
+    private final Histogram durationHistogram;
+
+    private long lastExpiredSnapshots;
+    private long lastDataFilesMillis;
+    private long lastChangelogFilesMillis;
+    private long lastManifestsMillis;
+
+    public ExpireMetrics(MetricRegistry registry, String tableName) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        this.durationHistogram = metricGroup.histogram(EXPIRE_DURATION, HISTOGRAM_WINDOW_SIZE);
+        metricGroup.gauge(
+                LAST_EXPIRE_DURATION,
+                () -> lastDataFilesMillis + lastChangelogFilesMillis + lastManifestsMillis);
+        metricGroup.gauge(LAST_EXPIRED_SNAPSHOTS, () -> lastExpiredSnapshots);
+        metricGroup.gauge(LAST_DATA_FILES_CLEAN_DURATION, () -> lastDataFilesMillis);
+        metricGroup.gauge(LAST_CHANGELOG_FILES_CLEAN_DURATION, () -> lastChangelogFilesMillis);
+        metricGroup.gauge(LAST_MANIFESTS_CLEAN_DURATION, () -> lastManifestsMillis);
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /**
+     * Reports an expiration which deleted snapshots, with the time taken by cleaning data files,
+     * changelog files and empty directories, and manifests.
+     */
+    public void reportExpire(
+            long expiredSnapshots,
+            long dataFilesMillis,
+            long changelogFilesMillis,
+            long manifestsMillis) {
+        this.lastExpiredSnapshots = expiredSnapshots;
+        this.lastDataFilesMillis = dataFilesMillis;
+        this.lastChangelogFilesMillis = changelogFilesMillis;
+        this.lastManifestsMillis = manifestsMillis;
+        durationHistogram.update(dataFilesMillis + changelogFilesMillis + manifestsMillis);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.format.FooterCache;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics of the process wide data file {@link FooterCache} used by a table. */
+public class FooterCacheMetrics {
+
+    public static final String GROUP_NAME = "footerCache";
+    public static final String FOOTER_HIT_CACHE = "footerHitCache";
+    public static final String FOOTER_MISSED_CACHE = "footerMissedCache";
+
+    private final MetricGroup metricGroup;
+
+    public FooterCacheMetrics(MetricRegistry registry, String tableName, CacheMetrics metrics) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(FOOTER_HIT_CACHE, () -> metrics.getHitObject().get());
+        metricGroup.gauge(FOOTER_MISSED_CACHE, () -> metrics.getMissedObject().get());
+    }
+
+    @VisibleForTesting
+    MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+}
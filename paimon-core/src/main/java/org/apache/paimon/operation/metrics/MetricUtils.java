@@ -18,11 +18,32 @@
 
 package org.apache.paimon.operation.metrics;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.format.FooterCache;
+import org.apache.paimon.io.cache.BlockCache;
+import org.apache.paimon.io.cache.BlockCachedFileIO;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.options.MemorySize;
+
 import org.slf4j.Logger;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static org.apache.paimon.CoreOptions.FILE_FOOTER_CACHE_MAX_MEMORY_SIZE;
+
 /** Utils for metrics. */
 public class MetricUtils {
 
+    /**
+     * Tables whose file cache metrics are registered, per registry. Writers and scans of a table
+     * may share one registry, the process wide caches must only be reported once.
+     */
+    private static final Map<MetricRegistry, Set<String>> FILE_CACHE_METRIC_TABLES =
+            new WeakHashMap<>();
+
     public static void safeCall(Runnable runnable, Logger logger) {
         try {
             runnable.run();
@@ -30,4 +51,33 @@ public class MetricUtils {
             logger.warn("Exception occurs when reporting metrics", t);
         }
     }
+
+    /**
+     * Registers metrics of the process wide data file caches enabled in the options, at most once
+     * for each table of a registry.
+     */
+    public static void registerFileCacheMetrics(
+            MetricRegistry registry, String tableName, CoreOptions options) {
+        synchronized (FILE_CACHE_METRIC_TABLES) {
+            if (!FILE_CACHE_METRIC_TABLES
+                    .computeIfAbsent(registry, k -> new HashSet<>())
+                    .add(tableName)) {
+                return;
+            }
+        }
+
+        BlockCache blockCache = BlockCachedFileIO.cacheIfEnabled(options);
+        if (blockCache != null) {
+            new BlockCacheMetrics(registry, tableName, blockCache);
+        }
+
+        MemorySize footerCacheSize =
+                options.toConfiguration().get(FILE_FOOTER_CACHE_MAX_MEMORY_SIZE);
+        if (footerCacheSize.getBytes() > 0) {
+            new FooterCacheMetrics(
+                    registry,
+                    tableName,
+                    FooterCache.metrics(options.fileFormatString(), footerCacheSize));
+        }
+    }
 }
@@ -33,6 +33,7 @@ import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.utils.Preconditions;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -158,6 +159,23 @@ public class PrivilegedCatalog extends DelegateCatalog {
         }
     }
 
+    @Override
+    public List<Table> getTables(List<Identifier> identifiers) throws TableNotExistException {
+        List<Table> tables = wrapped.getTables(identifiers);
+        List<Table> result = new ArrayList<>(tables.size());
+        for (int i = 0; i < tables.size(); i++) {
+            Table table = tables.get(i);
+            result.add(
+                    table instanceof FileStoreTable
+                            ? PrivilegedFileStoreTable.wrap(
+                                    (FileStoreTable) table,
+                                    privilegeManager.getPrivilegeChecker(),
+                                    identifiers.get(i))
+                            : table);
+        }
+        return result;
+    }
+
     @Override
     public void markDonePartitions(Identifier identifier, List<Map<String, String>> partitions)
             throws TableNotExistException {
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.rest;
+
+import javax.annotation.Nullable;
+
+/**
+ * Response of a conditional GET request. The response is null if the resource has not been modified
+ * since the ETag sent with the request.
+ *
+ * @param <T> type of the response.
+ */
+public class ConditionalResponse<T extends RESTResponse> {
+
+    @Nullable private final T response;
+    @Nullable private final String etag;
+
+    public ConditionalResponse(@Nullable T response, @Nullable String etag) {
+        this.response = response;
+        this.etag = etag;
+    }
+
+    @Nullable
+    public T response() {
+        return response;
+    }
+
+    /** ETag of the resource returned by the server, null if the server does not support it. */
+    @Nullable
+    public String etag() {
+        return etag;
+    }
+
+    public boolean notModified() {
+        return response == null;
+    }
+}
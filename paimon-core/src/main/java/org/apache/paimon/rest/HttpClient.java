@@ -27,6 +27,10 @@ import org.apache.paimon.utils.StringUtils;
 
 import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
 
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
@@ -35,11 +39,18 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 
+import javax.annotation.Nullable;
+
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static okhttp3.ConnectionSpec.CLEARTEXT;
@@ -48,12 +59,18 @@ import static okhttp3.ConnectionSpec.MODERN_TLS;
 import static org.apache.paimon.rest.LoggingInterceptor.DEFAULT_REQUEST_ID;
 import static org.apache.paimon.rest.LoggingInterceptor.REQUEST_ID_KEY;
 import static org.apache.paimon.rest.RESTObjectMapper.OBJECT_MAPPER;
+import static org.apache.paimon.utils.ThreadUtils.newDaemonThreadFactory;
 
 /** HTTP client for REST catalog. */
 public class HttpClient implements RESTClient {
 
+    private static final int MAX_CONCURRENT_REQUESTS = 64;
+    private static final int MAX_IDLE_CONNECTIONS = 16;
+
     private static final OkHttpClient HTTP_CLIENT =
             new OkHttpClient.Builder()
+                    .dispatcher(createDispatcher())
+                    .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, 5, TimeUnit.MINUTES))
                     .retryOnConnectionFailure(true)
                     .connectionSpecs(Arrays.asList(MODERN_TLS, COMPATIBLE_TLS, CLEARTEXT))
                     .addInterceptor(new ExponentialHttpRetryInterceptor(5))
@@ -64,6 +81,10 @@ public class HttpClient implements RESTClient {
 
     private static final MediaType MEDIA_TYPE = MediaType.parse("application/json");
 
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final int NOT_MODIFIED_CODE = 304;
+
     private final String uri;
 
     private ErrorHandler errorHandler;
@@ -77,6 +98,22 @@ public class HttpClient implements RESTClient {
         this.errorHandler = DefaultErrorHandler.getInstance();
     }
 
+    private static Dispatcher createDispatcher() {
+        // daemon threads, so that pending async requests do not block the exit of the jvm
+        Dispatcher dispatcher =
+                new Dispatcher(
+                        new ThreadPoolExecutor(
+                                0,
+                                Integer.MAX_VALUE,
+                                60,
+                                TimeUnit.SECONDS,
+                                new SynchronousQueue<>(),
+                                newDaemonThreadFactory("rest-client-dispatcher")));
+        dispatcher.setMaxRequests(MAX_CONCURRENT_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_CONCURRENT_REQUESTS);
+        return dispatcher;
+    }
+
     @VisibleForTesting
     void setErrorHandler(ErrorHandler errorHandler) {
         this.errorHandler = errorHandler;
@@ -112,6 +149,70 @@ public class HttpClient implements RESTClient {
         return exec(request, responseType);
     }
 
+    @Override
+    public <T extends RESTResponse> ConditionalResponse<T> getIfModified(
+            String path,
+            @Nullable String etag,
+            Class<T> responseType,
+            RESTAuthFunction restAuthFunction) {
+        Request request = conditionalGetRequest(path, etag, restAuthFunction);
+        try (Response response = HTTP_CLIENT.newCall(request).execute()) {
+            return readConditionalResponse(response, responseType);
+        } catch (RESTException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RESTException(e, "rest exception");
+        }
+    }
+
+    @Override
+    public <T extends RESTResponse> CompletableFuture<ConditionalResponse<T>> getIfModifiedAsync(
+            String path,
+            @Nullable String etag,
+            Class<T> responseType,
+            RESTAuthFunction restAuthFunction) {
+        Request request = conditionalGetRequest(path, etag, restAuthFunction);
+        CompletableFuture<ConditionalResponse<T>> future = new CompletableFuture<>();
+        HTTP_CLIENT
+                .newCall(request)
+                .enqueue(
+                        new Callback() {
+                            @Override
+                            public void onFailure(Call call, IOException e) {
+                                future.completeExceptionally(
+                                        new RESTException(e, "rest exception"));
+                            }
+
+                            @Override
+                            public void onResponse(Call call, Response response) {
+                                try (Response closeable = response) {
+                                    future.complete(
+                                            readConditionalResponse(closeable, responseType));
+                                } catch (RESTException e) {
+                                    future.completeExceptionally(e);
+                                } catch (Exception e) {
+                                    future.completeExceptionally(
+                                            new RESTException(e, "rest exception"));
+                                }
+                            }
+                        });
+        return future;
+    }
+
+    private Request conditionalGetRequest(
+            String path, @Nullable String etag, RESTAuthFunction restAuthFunction) {
+        Map<String, String> authHeaders = getHeaders(path, "GET", "", restAuthFunction);
+        Request.Builder builder =
+                new Request.Builder()
+                        .url(getRequestUrl(uri, path, null))
+                        .get()
+                        .headers(Headers.of(authHeaders));
+        if (etag != null) {
+            builder.header(IF_NONE_MATCH_HEADER, etag);
+        }
+        return builder.build();
+    }
+
     @Override
     public <T extends RESTResponse> T post(
             String path, RESTRequest body, RESTAuthFunction restAuthFunction) {
@@ -186,31 +287,7 @@ public class HttpClient implements RESTClient {
 
     private <T extends RESTResponse> T exec(Request request, Class<T> responseType) {
         try (Response response = HTTP_CLIENT.newCall(request).execute()) {
-            String responseBodyStr = response.body() != null ? response.body().string() : null;
-            if (!response.isSuccessful()) {
-                ErrorResponse error;
-                try {
-                    error = OBJECT_MAPPER.readValue(responseBodyStr, ErrorResponse.class);
-                } catch (JsonProcessingException e) {
-                    error =
-                            new ErrorResponse(
-                                    null,
-                                    null,
-                                    responseBodyStr != null
-                                            ? responseBodyStr
-                                            : "response body is null",
-                                    response.code());
-                }
-                String requestId = response.header(REQUEST_ID_KEY, DEFAULT_REQUEST_ID);
-                errorHandler.accept(error, requestId);
-            }
-            if (responseType != null && responseBodyStr != null) {
-                return OBJECT_MAPPER.readValue(responseBodyStr, responseType);
-            } else if (responseType == null) {
-                return null;
-            } else {
-                throw new RESTException("response body is null.");
-            }
+            return readResponse(response, responseType);
         } catch (RESTException e) {
             throw e;
         } catch (Exception e) {
@@ -218,6 +295,42 @@ public class HttpClient implements RESTClient {
         }
     }
 
+    private <T extends RESTResponse> ConditionalResponse<T> readConditionalResponse(
+            Response response, Class<T> responseType) throws IOException {
+        String etag = response.header(ETAG_HEADER);
+        if (response.code() == NOT_MODIFIED_CODE) {
+            return new ConditionalResponse<>(null, etag);
+        }
+        return new ConditionalResponse<>(readResponse(response, responseType), etag);
+    }
+
+    private <T extends RESTResponse> T readResponse(Response response, Class<T> responseType)
+            throws IOException {
+        String responseBodyStr = response.body() != null ? response.body().string() : null;
+        if (!response.isSuccessful()) {
+            ErrorResponse error;
+            try {
+                error = OBJECT_MAPPER.readValue(responseBodyStr, ErrorResponse.class);
+            } catch (JsonProcessingException e) {
+                error =
+                        new ErrorResponse(
+                                null,
+                                null,
+                                responseBodyStr != null ? responseBodyStr : "response body is null",
+                                response.code());
+            }
+            String requestId = response.header(REQUEST_ID_KEY, DEFAULT_REQUEST_ID);
+            errorHandler.accept(error, requestId);
+        }
+        if (responseType != null && responseBodyStr != null) {
+            return OBJECT_MAPPER.readValue(responseBodyStr, responseType);
+        } else if (responseType == null) {
+            return null;
+        } else {
+            throw new RESTException("response body is null.");
+        }
+    }
+
     private static RequestBody buildRequestBody(String body) throws JsonProcessingException {
         return RequestBody.create(body.getBytes(StandardCharsets.UTF_8), MEDIA_TYPE);
     }
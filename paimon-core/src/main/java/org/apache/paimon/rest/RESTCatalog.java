@@ -85,6 +85,8 @@ import org.apache.paimon.view.ViewChange;
 import org.apache.paimon.view.ViewImpl;
 import org.apache.paimon.view.ViewSchema;
 
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.paimon.shade.guava30.com.google.common.collect.ImmutableMap;
 import org.apache.paimon.shade.guava30.com.google.common.collect.Maps;
 
@@ -102,6 +104,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -119,6 +123,7 @@ import static org.apache.paimon.options.CatalogOptions.CASE_SENSITIVE;
 import static org.apache.paimon.options.CatalogOptions.WAREHOUSE;
 import static org.apache.paimon.rest.RESTUtil.extractPrefixMap;
 import static org.apache.paimon.rest.auth.AuthSession.createAuthSession;
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
 import static org.apache.paimon.utils.ThreadPoolUtils.createScheduledThreadPool;
 
 /** A catalog implementation for REST. */
@@ -134,6 +139,7 @@ public class RESTCatalog implements Catalog {
     private final CatalogContext context;
     private final boolean dataTokenEnabled;
     private final RESTAuthFunction restAuthFunction;
+    @Nullable private final Cache<Identifier, CachedTableMetadata> tableMetadataCache;
 
     private volatile ScheduledExecutorService refreshExecutor = null;
 
@@ -170,6 +176,15 @@ public class RESTCatalog implements Catalog {
         this.context = context;
         this.resourcePaths = ResourcePaths.forCatalogProperties(options);
         this.dataTokenEnabled = options.get(RESTTokenFileIO.DATA_TOKEN_ENABLED);
+        this.tableMetadataCache =
+                options.get(RESTCatalogOptions.TABLE_METADATA_CACHE_ENABLED)
+                        ? Caffeine.newBuilder()
+                                .maximumSize(
+                                        options.get(
+                                                RESTCatalogOptions.TABLE_METADATA_CACHE_MAX_SIZE))
+                                .executor(Runnable::run)
+                                .build()
+                        : null;
     }
 
     @Override
@@ -368,6 +383,64 @@ public class RESTCatalog implements Catalog {
                 null);
     }
 
+    /**
+     * Loads the given tables. The metadata requests of all tables are pipelined over the pooled
+     * connections of the client instead of being sent one after another.
+     */
+    @Override
+    public List<Table> getTables(List<Identifier> identifiers) throws TableNotExistException {
+        List<CompletableFuture<TableMetadata>> futures = new ArrayList<>(identifiers.size());
+        for (Identifier identifier : identifiers) {
+            Identifier loadTableIdentifier = dataTableIdentifier(identifier);
+            CachedTableMetadata cached = cachedTableMetadata(loadTableIdentifier);
+            futures.add(
+                    client.getIfModifiedAsync(
+                                    tablePath(loadTableIdentifier),
+                                    cached == null ? null : cached.etag,
+                                    GetTableResponse.class,
+                                    restAuthFunction)
+                            .thenApply(
+                                    response ->
+                                            toTableMetadata(
+                                                    loadTableIdentifier, cached, response)));
+        }
+
+        List<Table> tables = new ArrayList<>(identifiers.size());
+        for (int i = 0; i < identifiers.size(); i++) {
+            Identifier identifier = identifiers.get(i);
+            TableMetadata metadata = joinTableMetadata(identifier, futures.get(i));
+            tables.add(
+                    CatalogUtils.loadTable(
+                            this,
+                            identifier,
+                            path -> fileIOForData(path, identifier),
+                            this::fileIOFromOptions,
+                            id -> metadata,
+                            null,
+                            null));
+        }
+        return tables;
+    }
+
+    private TableMetadata joinTableMetadata(
+            Identifier identifier, CompletableFuture<TableMetadata> future)
+            throws TableNotExistException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof NoSuchResourceException) {
+                invalidateTableMetadata(identifier);
+                throw new TableNotExistException(identifier);
+            } else if (cause instanceof ForbiddenException) {
+                throw new TableNoPermissionException(identifier, cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Optional<TableSnapshot> loadSnapshot(Identifier identifier)
             throws TableNotExistException {
@@ -452,31 +525,66 @@ public class RESTCatalog implements Catalog {
     }
 
     private TableMetadata loadTableMetadata(Identifier identifier) throws TableNotExistException {
-        GetTableResponse response;
+        Identifier loadTableIdentifier = dataTableIdentifier(identifier);
+        CachedTableMetadata cached = cachedTableMetadata(loadTableIdentifier);
+        ConditionalResponse<GetTableResponse> response;
         try {
-            // if the table is system table, we need to load table metadata from the system table's
-            // data table
-            Identifier loadTableIdentifier =
-                    identifier.isSystemTable()
-                            ? new Identifier(
-                                    identifier.getDatabaseName(),
-                                    identifier.getTableName(),
-                                    identifier.getBranchName())
-                            : identifier;
             response =
-                    client.get(
-                            resourcePaths.table(
-                                    loadTableIdentifier.getDatabaseName(),
-                                    loadTableIdentifier.getObjectName()),
+                    client.getIfModified(
+                            tablePath(loadTableIdentifier),
+                            cached == null ? null : cached.etag,
                             GetTableResponse.class,
                             restAuthFunction);
         } catch (NoSuchResourceException e) {
+            invalidateTableMetadata(identifier);
             throw new TableNotExistException(identifier);
         } catch (ForbiddenException e) {
             throw new TableNoPermissionException(identifier, e);
         }
 
-        return toTableMetadata(identifier.getDatabaseName(), response);
+        return toTableMetadata(loadTableIdentifier, cached, response);
+    }
+
+    // if the table is system table, we need to load table metadata from the system table's data
+    // table
+    private static Identifier dataTableIdentifier(Identifier identifier) {
+        return identifier.isSystemTable()
+                ? new Identifier(
+                        identifier.getDatabaseName(),
+                        identifier.getTableName(),
+                        identifier.getBranchName())
+                : identifier;
+    }
+
+    private String tablePath(Identifier identifier) {
+        return resourcePaths.table(identifier.getDatabaseName(), identifier.getObjectName());
+    }
+
+    @Nullable
+    private CachedTableMetadata cachedTableMetadata(Identifier identifier) {
+        return tableMetadataCache == null ? null : tableMetadataCache.getIfPresent(identifier);
+    }
+
+    private void invalidateTableMetadata(Identifier identifier) {
+        if (tableMetadataCache != null) {
+            tableMetadataCache.invalidate(dataTableIdentifier(identifier));
+        }
+    }
+
+    private TableMetadata toTableMetadata(
+            Identifier identifier,
+            @Nullable CachedTableMetadata cached,
+            ConditionalResponse<GetTableResponse> response) {
+        if (response.notModified()) {
+            checkNotNull(cached, "Server returns not modified for table %s.", identifier);
+            return cached.metadata;
+        }
+
+        TableMetadata metadata = toTableMetadata(identifier.getDatabaseName(), response.response());
+        if (tableMetadataCache != null && response.etag() != null) {
+            tableMetadataCache.put(identifier, new CachedTableMetadata(response.etag(), metadata));
+        }
+        return metadata;
     }
 
     private TableMetadata toTableMetadata(String db, GetTableResponse response) {
@@ -542,6 +650,7 @@ public class RESTCatalog implements Catalog {
         checkNotBranch(toTable, "renameTable");
         checkNotSystemTable(fromTable, "renameTable");
         checkNotSystemTable(toTable, "renameTable");
+        invalidateTableMetadata(fromTable);
         try {
             RenameTableRequest request = new RenameTableRequest(fromTable, toTable);
             client.post(resourcePaths.renameTable(), request, restAuthFunction);
@@ -563,6 +672,7 @@ public class RESTCatalog implements Catalog {
             Identifier identifier, List<SchemaChange> changes, boolean ignoreIfNotExists)
             throws TableNotExistException, ColumnAlreadyExistException, ColumnNotExistException {
         checkNotSystemTable(identifier, "alterTable");
+        invalidateTableMetadata(identifier);
         try {
             AlterTableRequest request = new AlterTableRequest(changes);
             client.post(
@@ -596,6 +706,7 @@ public class RESTCatalog implements Catalog {
             throws TableNotExistException {
         checkNotBranch(identifier, "dropTable");
         checkNotSystemTable(identifier, "dropTable");
+        invalidateTableMetadata(identifier);
         try {
             client.delete(
                     resourcePaths.table(identifier.getDatabaseName(), identifier.getObjectName()),
@@ -1041,4 +1152,16 @@ public class RESTCatalog implements Catalog {
         }
         return queryParams;
     }
+
+    /** Table metadata cached with the ETag it was returned with. */
+    private static class CachedTableMetadata {
+
+        private final String etag;
+        private final TableMetadata metadata;
+
+        private CachedTableMetadata(String etag, TableMetadata metadata) {
+            this.etag = etag;
+            this.metadata = metadata;
+        }
+    }
 }
@@ -50,6 +50,22 @@ public class RESTCatalogOptions {
                     .noDefaultValue()
                     .withDescription("REST Catalog auth token provider.");
 
+    public static final ConfigOption<Boolean> TABLE_METADATA_CACHE_ENABLED =
+            ConfigOptions.key("table-metadata.cache-enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to cache table metadata in REST Catalog client. Cached metadata is "
+                                    + "refreshed by conditional requests, the server only sends the metadata "
+                                    + "again when it has changed.");
+
+    public static final ConfigOption<Integer> TABLE_METADATA_CACHE_MAX_SIZE =
+            ConfigOptions.key("table-metadata.cache-max-size")
+                    .intType()
+                    .defaultValue(1000)
+                    .withDescription(
+                            "Maximum number of tables whose metadata is cached in REST Catalog client.");
+
     public static final ConfigOption<String> DLF_REGION =
             ConfigOptions.key("dlf.region")
                     .stringType()
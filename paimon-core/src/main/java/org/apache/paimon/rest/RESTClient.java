@@ -20,8 +20,11 @@ package org.apache.paimon.rest;
 
 import org.apache.paimon.rest.auth.RESTAuthFunction;
 
+import javax.annotation.Nullable;
+
 import java.io.Closeable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /** Interface for a basic HTTP Client for interfacing with the REST catalog. */
 public interface RESTClient extends Closeable {
@@ -35,6 +38,26 @@ public interface RESTClient extends Closeable {
             Class<T> responseType,
             RESTAuthFunction restAuthFunction);
 
+    /**
+     * Gets the resource only if it has changed since the given ETag. The returned response is empty
+     * if the server replies that the resource is not modified.
+     */
+    <T extends RESTResponse> ConditionalResponse<T> getIfModified(
+            String path,
+            @Nullable String etag,
+            Class<T> responseType,
+            RESTAuthFunction restAuthFunction);
+
+    /**
+     * Asynchronous version of {@link #getIfModified(String, String, Class, RESTAuthFunction)},
+     * requests are pipelined over the pooled connections of the client.
+     */
+    <T extends RESTResponse> CompletableFuture<ConditionalResponse<T>> getIfModifiedAsync(
+            String path,
+            @Nullable String etag,
+            Class<T> responseType,
+            RESTAuthFunction restAuthFunction);
+
     <T extends RESTResponse> T post(
             String path, RESTRequest body, RESTAuthFunction restAuthFunction);
 
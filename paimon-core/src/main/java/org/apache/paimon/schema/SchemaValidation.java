@@ -226,6 +226,21 @@ public class SchemaValidation {
         if (options.deletionVectorsEnabled()) {
             validateForDeletionVectors(options);
         }
+
+        List<String> clusteringColumns = options.compactionClusteringColumns();
+        if (!clusteringColumns.isEmpty()) {
+            checkArgument(
+                    schema.primaryKeys().isEmpty(),
+                    "Cannot set %s on table with primary keys.",
+                    CoreOptions.COMPACTION_CLUSTERING_COLUMNS.key());
+            clusteringColumns.forEach(
+                    column ->
+                            checkArgument(
+                                    schema.fieldNames().contains(column),
+                                    "Clustering column '%s' can not be found in table schema.",
+                                    column));
+            options.compactionClusteringStrategy(clusteringColumns.size());
+        }
     }
 
     public static void validateFallbackBranch(SchemaManager schemaManager, TableSchema schema) {
@@ -29,6 +29,7 @@ import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.operation.DefaultValueAssigner;
 import org.apache.paimon.operation.FileStoreScan;
+import org.apache.paimon.operation.metrics.ExpireMetrics;
 import org.apache.paimon.options.ExpireConfig;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
@@ -79,6 +80,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedMap;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import static org.apache.paimon.CoreOptions.PATH;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -420,7 +422,7 @@ abstract class AbstractFileStoreTable implements FileStoreTable {
     }
 
     @Override
-    public ExpireSnapshots newExpireSnapshots() {
+    public ExpireSnapshotsImpl newExpireSnapshots() {
         return new ExpireSnapshotsImpl(
                 snapshotManager(),
                 changelogManager(),
@@ -442,7 +444,7 @@ abstract class AbstractFileStoreTable implements FileStoreTable {
         CoreOptions options = coreOptions();
         return new TableCommitImpl(
                 store().newCommit(commitUser, this),
-                newExpireRunnable(),
+                newSnapshotExpire(),
                 options.writeOnly() ? null : store().newPartitionExpire(commitUser, this),
                 options.writeOnly() ? null : store().newTagCreationManager(),
                 CoreOptions.fromMap(options()).consumerExpireTime(),
@@ -457,19 +459,21 @@ abstract class AbstractFileStoreTable implements FileStoreTable {
         return new ConsumerManager(fileIO, path, snapshotManager().branch());
     }
 
+    /** Creates the expiration run after commits, which reports to the given metrics if not null. */
     @Nullable
-    protected Runnable newExpireRunnable() {
+    protected Consumer<ExpireMetrics> newSnapshotExpire() {
         CoreOptions options = coreOptions();
-        Runnable snapshotExpire = null;
+        Consumer<ExpireMetrics> snapshotExpire = null;
 
         if (!options.writeOnly()) {
             boolean changelogDecoupled = options.changelogLifecycleDecoupled();
             ExpireConfig expireConfig = options.expireConfig();
             ExpireSnapshots expireChangelog = newExpireChangelog().config(expireConfig);
-            ExpireSnapshots expireSnapshots = newExpireSnapshots().config(expireConfig);
+            ExpireSnapshotsImpl expireSnapshots = newExpireSnapshots();
+            expireSnapshots.config(expireConfig);
             snapshotExpire =
-                    () -> {
-                        expireSnapshots.expire();
+                    metrics -> {
+                        expireSnapshots.withMetrics(metrics).expire();
                         if (changelogDecoupled) {
                             expireChangelog.expire();
                         }
@@ -24,6 +24,7 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.consumer.ConsumerManager;
 import org.apache.paimon.manifest.ExpireFileEntry;
 import org.apache.paimon.operation.SnapshotDeletion;
+import org.apache.paimon.operation.metrics.ExpireMetrics;
 import org.apache.paimon.options.ExpireConfig;
 import org.apache.paimon.utils.ChangelogManager;
 import org.apache.paimon.utils.Preconditions;
@@ -33,6 +34,8 @@ import org.apache.paimon.utils.TagManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -58,6 +61,8 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
 
     private ExpireConfig expireConfig;
 
+    @Nullable private ExpireMetrics metrics;
+
     public ExpireSnapshotsImpl(
             SnapshotManager snapshotManager,
             ChangelogManager changelogManager,
@@ -81,6 +86,11 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         return this;
     }
 
+    public ExpireSnapshotsImpl withMetrics(@Nullable ExpireMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
     @Override
     public int expire() {
         snapshotDeletion.setChangelogDecoupled(expireConfig.isChangelogDecoupled());
@@ -168,32 +178,43 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         // delete merge tree files
         // deleted merge tree files in a snapshot are not used by the next snapshot, so the range of
         // id should be (beginInclusiveId, endExclusiveId]
-        for (long id = beginInclusiveId + 1; id <= endExclusiveId; id++) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Ready to delete merge tree files not used by snapshot #" + id);
-            }
-            Snapshot snapshot;
-            try {
-                snapshot = snapshotManager.tryGetSnapshot(id);
-            } catch (FileNotFoundException e) {
-                beginInclusiveId = id + 1;
-                continue;
-            }
-            // expire merge tree files and collect changed buckets
-            Predicate<ExpireFileEntry> skipper;
-            try {
-                skipper = snapshotDeletion.createDataFileSkipperForTags(taggedSnapshots, id);
-            } catch (Exception e) {
-                LOG.info(
-                        String.format(
-                                "Skip cleaning data files of snapshot '%s' due to failed to build skipping set.",
-                                id),
-                        e);
-                continue;
-            }
+        // data files are deleted in the background while reading manifests of next snapshots
+        long startMillis = System.currentTimeMillis();
+        snapshotDeletion.setPipelined(true);
+        try {
+            for (long id = beginInclusiveId + 1; id <= endExclusiveId; id++) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Ready to delete merge tree files not used by snapshot #" + id);
+                }
+                Snapshot snapshot;
+                try {
+                    snapshot = snapshotManager.tryGetSnapshot(id);
+                } catch (FileNotFoundException e) {
+                    beginInclusiveId = id + 1;
+                    continue;
+                }
+                // expire merge tree files and collect changed buckets
+                Predicate<ExpireFileEntry> skipper;
+                try {
+                    skipper = snapshotDeletion.createDataFileSkipperForTags(taggedSnapshots, id);
+                } catch (Exception e) {
+                    LOG.info(
+                            String.format(
+                                    "Skip cleaning data files of snapshot '%s' due to failed to build skipping set.",
+                                    id),
+                            e);
+                    continue;
+                }
 
-            snapshotDeletion.cleanUnusedDataFiles(snapshot, skipper);
+                snapshotDeletion.cleanUnusedDataFiles(snapshot, skipper);
+            }
+            snapshotDeletion.awaitPendingDeletions();
+        } finally {
+            // forgets the pending deletions if cleaning failed
+            snapshotDeletion.setPipelined(false);
         }
+        long dataFilesMillis = System.currentTimeMillis() - startMillis;
+        startMillis = System.currentTimeMillis();
 
         // delete changelog files
         if (!expireConfig.isChangelogDecoupled()) {
@@ -217,6 +238,8 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         // data files and changelog files in bucket directories has been deleted
         // then delete changed bucket directories if they are empty
         snapshotDeletion.cleanEmptyDirectories();
+        long changelogFilesMillis = System.currentTimeMillis() - startMillis;
+        startMillis = System.currentTimeMillis();
 
         // delete manifests and indexFiles
         List<Snapshot> skippingSnapshots =
@@ -252,6 +275,7 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
                 snapshotDeletion.cleanUnusedManifests(snapshot, skippingSet);
             }
         }
+        long manifestsMillis = System.currentTimeMillis() - startMillis;
 
         // delete snapshot file finally
         for (long id = beginInclusiveId; id < endExclusiveId; id++) {
@@ -269,6 +293,22 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         }
 
         writeEarliestHint(endExclusiveId);
+        snapshotManager.timeline().expireBefore(earliestId, endExclusiveId);
+        LOG.info(
+                "Expired snapshots [{}, {}), cleaning data files took {} ms, "
+                        + "changelog files and directories took {} ms, manifests took {} ms.",
+                beginInclusiveId,
+                endExclusiveId,
+                dataFilesMillis,
+                changelogFilesMillis,
+                manifestsMillis);
+        if (metrics != null) {
+            metrics.reportExpire(
+                    endExclusiveId - beginInclusiveId,
+                    dataFilesMillis,
+                    changelogFilesMillis,
+                    manifestsMillis);
+        }
         return (int) (endExclusiveId - beginInclusiveId);
     }
 
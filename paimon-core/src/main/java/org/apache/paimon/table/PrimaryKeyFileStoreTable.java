@@ -29,6 +29,7 @@ import org.apache.paimon.mergetree.compact.LookupMergeFunction;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.operation.KeyValueFileStoreScan;
+import org.apache.paimon.operation.metrics.ExpireMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.TableSchema;
@@ -46,6 +47,7 @@ import javax.annotation.Nullable;
 
 import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import static org.apache.paimon.predicate.PredicateBuilder.and;
 import static org.apache.paimon.predicate.PredicateBuilder.pickTransformFieldMapping;
@@ -182,11 +184,11 @@ public class PrimaryKeyFileStoreTable extends AbstractFileStoreTable {
 
     @Override
     @Nullable
-    protected Runnable newExpireRunnable() {
+    protected Consumer<ExpireMetrics> newSnapshotExpire() {
         if (coreOptions().bucket() == BucketMode.POSTPONE_BUCKET) {
             return null;
         } else {
-            return super.newExpireRunnable();
+            return super.newSnapshotExpire();
         }
     }
 
@@ -113,6 +113,7 @@ public class RollbackHelper {
 
         // modify the latest hint
         try {
+            snapshotManager.timeline().truncateAfter(retainedSnapshot.id(), latest);
             snapshotManager.commitLatestHint(retainedSnapshot.id());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
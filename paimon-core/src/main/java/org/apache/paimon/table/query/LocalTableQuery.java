@@ -53,6 +53,8 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.CoreOptions.MergeEngine.DEDUPLICATE;
@@ -83,9 +85,12 @@ public class LocalTableQuery implements TableQuery {
 
     @Nullable private Filter<InternalRow> cacheRowFilter;
 
+    private final List<BiConsumer<BinaryRow, Integer>> refreshListeners;
+
     public LocalTableQuery(FileStoreTable table) {
         this.options = table.coreOptions();
         this.tableView = new HashMap<>();
+        this.refreshListeners = new CopyOnWriteArrayList<>();
         FileStore<?> tableStore = table.store();
         if (!(tableStore instanceof KeyValueFileStore)) {
             throw new UnsupportedOperationException(
@@ -139,6 +144,14 @@ public class LocalTableQuery implements TableQuery {
         } else {
             lookupLevels.getLevels().update(beforeFiles, dataFiles);
         }
+        refreshListeners.forEach(listener -> listener.accept(partition, bucket));
+    }
+
+    /**
+     * Adds a listener which is notified with the partition and bucket whose files are refreshed.
+     */
+    public void addRefreshListener(BiConsumer<BinaryRow, Integer> listener) {
+        refreshListeners.add(listener);
     }
 
     private void newLookupLevels(BinaryRow partition, int bucket, List<DataFileMeta> dataFiles) {
@@ -29,6 +29,7 @@ import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.FileStoreCommit;
 import org.apache.paimon.operation.PartitionExpire;
 import org.apache.paimon.operation.metrics.CommitMetrics;
+import org.apache.paimon.operation.metrics.ExpireMetrics;
 import org.apache.paimon.stats.Statistics;
 import org.apache.paimon.tag.TagAutoManager;
 import org.apache.paimon.utils.DataFilePathFactories;
@@ -74,7 +75,7 @@ public class TableCommitImpl implements InnerTableCommit {
     private static final Logger LOG = LoggerFactory.getLogger(TableCommitImpl.class);
 
     private final FileStoreCommit commit;
-    @Nullable private final Runnable expireSnapshots;
+    @Nullable private final Consumer<ExpireMetrics> expireSnapshots;
     @Nullable private final PartitionExpire partitionExpire;
     @Nullable private final TagAutoManager tagAutoManager;
 
@@ -86,13 +87,15 @@ public class TableCommitImpl implements InnerTableCommit {
 
     private final String tableName;
 
+    @Nullable private ExpireMetrics expireMetrics;
+
     @Nullable private Map<String, String> overwritePartition = null;
     private boolean batchCommitted = false;
     private final boolean forceCreatingSnapshot;
 
     public TableCommitImpl(
             FileStoreCommit commit,
-            @Nullable Runnable expireSnapshots,
+            @Nullable Consumer<ExpireMetrics> expireSnapshots,
             @Nullable PartitionExpire partitionExpire,
             @Nullable TagAutoManager tagAutoManager,
             @Nullable Duration consumerExpireTime,
@@ -151,6 +154,9 @@ public class TableCommitImpl implements InnerTableCommit {
     @Override
     public InnerTableCommit withMetricRegistry(MetricRegistry registry) {
         commit.withMetrics(new CommitMetrics(registry, tableName));
+        if (expireSnapshots != null) {
+            expireMetrics = new ExpireMetrics(registry, tableName);
+        }
         return this;
     }
 
@@ -351,7 +357,7 @@ public class TableCommitImpl implements InnerTableCommit {
 
     public void expireSnapshots() {
         if (expireSnapshots != null) {
-            expireSnapshots.run();
+            expireSnapshots.accept(expireMetrics);
         }
     }
 
@@ -167,6 +167,13 @@ public class FileSystemBranchManager implements BranchManager {
                             .flatMap(Collection::stream)
                             .collect(Collectors.toList());
 
+            // Drop the timeline entries of the replaced snapshots, the timeline files of the
+            // branch are copied with its snapshots
+            Long latestSnapshotId = snapshotManager.latestSnapshotId();
+            if (latestSnapshotId != null) {
+                snapshotManager.timeline().truncateAfter(earliestSnapshotId - 1, latestSnapshotId);
+            }
+
             // Delete latest snapshot hint
             snapshotManager.deleteLatestHint();
 
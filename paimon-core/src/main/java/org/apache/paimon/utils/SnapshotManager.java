@@ -71,6 +71,7 @@ public class SnapshotManager implements Serializable {
     private final String branch;
     @Nullable private final SnapshotLoader snapshotLoader;
     @Nullable private final Cache<Path, Snapshot> cache;
+    private final boolean timelineEnabled;
 
     public SnapshotManager(
             FileIO fileIO,
@@ -78,11 +79,22 @@ public class SnapshotManager implements Serializable {
             @Nullable String branchName,
             @Nullable SnapshotLoader snapshotLoader,
             @Nullable Cache<Path, Snapshot> cache) {
+        this(fileIO, tablePath, branchName, snapshotLoader, cache, false);
+    }
+
+    public SnapshotManager(
+            FileIO fileIO,
+            Path tablePath,
+            @Nullable String branchName,
+            @Nullable SnapshotLoader snapshotLoader,
+            @Nullable Cache<Path, Snapshot> cache,
+            boolean timelineEnabled) {
         this.fileIO = fileIO;
         this.tablePath = tablePath;
         this.branch = BranchManager.normalizeBranch(branchName);
         this.snapshotLoader = snapshotLoader;
         this.cache = cache;
+        this.timelineEnabled = timelineEnabled;
     }
 
     public SnapshotManager copyWithBranch(String branchName) {
@@ -90,7 +102,8 @@ public class SnapshotManager implements Serializable {
         if (snapshotLoader != null) {
             newSnapshotLoader = snapshotLoader.copyWithBranch(branchName);
         }
-        return new SnapshotManager(fileIO, tablePath, branchName, newSnapshotLoader, cache);
+        return new SnapshotManager(
+                fileIO, tablePath, branchName, newSnapshotLoader, cache, timelineEnabled);
     }
 
     public FileIO fileIO() {
@@ -114,6 +127,10 @@ public class SnapshotManager implements Serializable {
         return new Path(branchPath(tablePath, branch) + "/snapshot");
     }
 
+    public SnapshotTimeline timeline() {
+        return new SnapshotTimeline(fileIO, snapshotDirectory());
+    }
+
     public void invalidateCache() {
         if (cache != null) {
             cache.invalidateAll();
@@ -268,6 +285,11 @@ public class SnapshotManager implements Serializable {
      * mills. If there is no such a snapshot, returns null.
      */
     public @Nullable Snapshot earlierOrEqualTimeMills(long timestampMills) {
+        return searchWithTimeline(timeline -> earlierOrEqualTimeMills(timestampMills, timeline));
+    }
+
+    private @Nullable Snapshot earlierOrEqualTimeMills(
+            long timestampMills, SnapshotTimeline.Reader timeline) {
         Long latest = latestSnapshotId();
         if (latest == null) {
             return null;
@@ -279,22 +301,21 @@ public class SnapshotManager implements Serializable {
         }
         long earliest = earliestSnapShot.id();
 
-        Snapshot finalSnapshot = null;
+        Long finalSnapshotId = null;
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
-            long commitTime = snapshot.timeMillis();
+            long commitTime = timeMillis(timeline, mid);
             if (commitTime > timestampMills) {
                 latest = mid - 1; // Search in the left half
             } else if (commitTime < timestampMills) {
                 earliest = mid + 1; // Search in the right half
-                finalSnapshot = snapshot;
+                finalSnapshotId = mid;
             } else {
-                finalSnapshot = snapshot; // Found the exact match
+                finalSnapshotId = mid; // Found the exact match
                 break;
             }
         }
-        return finalSnapshot;
+        return finalSnapshotId == null ? null : timeline.verify(snapshot(finalSnapshotId));
     }
 
     /**
@@ -302,6 +323,11 @@ public class SnapshotManager implements Serializable {
      * If there is no such a snapshot, returns null.
      */
     public @Nullable Snapshot laterOrEqualTimeMills(long timestampMills) {
+        return searchWithTimeline(timeline -> laterOrEqualTimeMills(timestampMills, timeline));
+    }
+
+    private @Nullable Snapshot laterOrEqualTimeMills(
+            long timestampMills, SnapshotTimeline.Reader timeline) {
         Long earliest = earliestSnapshotId();
         Long latest = latestSnapshotId();
         if (earliest == null || latest == null) {
@@ -312,25 +338,29 @@ public class SnapshotManager implements Serializable {
         if (latestSnapShot.timeMillis() < timestampMills) {
             return null;
         }
-        Snapshot finalSnapshot = null;
+        Long finalSnapshotId = null;
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
-            long commitTime = snapshot.timeMillis();
+            long commitTime = timeMillis(timeline, mid);
             if (commitTime > timestampMills) {
                 latest = mid - 1; // Search in the left half
-                finalSnapshot = snapshot;
+                finalSnapshotId = mid;
             } else if (commitTime < timestampMills) {
                 earliest = mid + 1; // Search in the right half
             } else {
-                finalSnapshot = snapshot; // Found the exact match
+                finalSnapshotId = mid; // Found the exact match
                 break;
             }
         }
-        return finalSnapshot;
+        return finalSnapshotId == null ? null : timeline.verify(snapshot(finalSnapshotId));
     }
 
     public @Nullable Snapshot earlierOrEqualWatermark(long watermark) {
+        return searchWithTimeline(timeline -> earlierOrEqualWatermark(watermark, timeline));
+    }
+
+    private @Nullable Snapshot earlierOrEqualWatermark(
+            long watermark, SnapshotTimeline.Reader timeline) {
         Long latest = latestSnapshotId();
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
@@ -349,7 +379,7 @@ public class SnapshotManager implements Serializable {
         if ((earliestWatermark = earliestSnapShot.watermark()) == null) {
             while (earliest < latest) {
                 earliest++;
-                earliestWatermark = snapshot(earliest).watermark();
+                earliestWatermark = watermark(timeline, earliest);
                 if (earliestWatermark != null) {
                     break;
                 }
@@ -360,19 +390,19 @@ public class SnapshotManager implements Serializable {
         }
 
         if (earliestWatermark >= watermark) {
-            return snapshot(earliest);
+            return timeline.verify(snapshot(earliest));
         }
-        Snapshot finalSnapshot = null;
+        Long finalSnapshotId = null;
 
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
-            Long commitWatermark = snapshot.watermark();
+            long snapshotId = mid;
+            Long commitWatermark = watermark(timeline, mid);
             if (commitWatermark == null) {
                 // find the first snapshot with watermark
                 while (mid >= earliest) {
                     mid--;
-                    commitWatermark = snapshot(mid).watermark();
+                    commitWatermark = watermark(timeline, mid);
                     if (commitWatermark != null) {
                         break;
                     }
@@ -385,17 +415,22 @@ public class SnapshotManager implements Serializable {
                     latest = mid - 1; // Search in the left half
                 } else if (commitWatermark < watermark) {
                     earliest = mid + 1; // Search in the right half
-                    finalSnapshot = snapshot;
+                    finalSnapshotId = snapshotId;
                 } else {
-                    finalSnapshot = snapshot; // Found the exact match
+                    finalSnapshotId = snapshotId; // Found the exact match
                     break;
                 }
             }
         }
-        return finalSnapshot;
+        return finalSnapshotId == null ? null : timeline.verify(snapshot(finalSnapshotId));
     }
 
     public @Nullable Snapshot laterOrEqualWatermark(long watermark) {
+        return searchWithTimeline(timeline -> laterOrEqualWatermark(watermark, timeline));
+    }
+
+    private @Nullable Snapshot laterOrEqualWatermark(
+            long watermark, SnapshotTimeline.Reader timeline) {
         Long latest = latestSnapshotId();
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
@@ -414,7 +449,7 @@ public class SnapshotManager implements Serializable {
         if ((earliestWatermark = earliestSnapShot.watermark()) == null) {
             while (earliest < latest) {
                 earliest++;
-                earliestWatermark = snapshot(earliest).watermark();
+                earliestWatermark = watermark(timeline, earliest);
                 if (earliestWatermark != null) {
                     break;
                 }
@@ -425,19 +460,19 @@ public class SnapshotManager implements Serializable {
         }
 
         if (earliestWatermark >= watermark) {
-            return snapshot(earliest);
+            return timeline.verify(snapshot(earliest));
         }
-        Snapshot finalSnapshot = null;
+        Long finalSnapshotId = null;
 
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
-            Long commitWatermark = snapshot.watermark();
+            long snapshotId = mid;
+            Long commitWatermark = watermark(timeline, mid);
             if (commitWatermark == null) {
                 // find the first snapshot with watermark
                 while (mid >= earliest) {
                     mid--;
-                    commitWatermark = snapshot(mid).watermark();
+                    commitWatermark = watermark(timeline, mid);
                     if (commitWatermark != null) {
                         break;
                     }
@@ -448,16 +483,47 @@ public class SnapshotManager implements Serializable {
             } else {
                 if (commitWatermark > watermark) {
                     latest = mid - 1; // Search in the left half
-                    finalSnapshot = snapshot;
+                    finalSnapshotId = snapshotId;
                 } else if (commitWatermark < watermark) {
                     earliest = mid + 1; // Search in the right half
                 } else {
-                    finalSnapshot = snapshot; // Found the exact match
+                    finalSnapshotId = snapshotId; // Found the exact match
                     break;
                 }
             }
         }
-        return finalSnapshot;
+        return finalSnapshotId == null ? null : timeline.verify(snapshot(finalSnapshotId));
+    }
+
+    private long timeMillis(SnapshotTimeline.Reader timeline, long snapshotId) {
+        SnapshotTimeline.Entry entry = timeline.entry(snapshotId);
+        return entry == null ? snapshot(snapshotId).timeMillis() : entry.timeMillis();
+    }
+
+    private @Nullable Long watermark(SnapshotTimeline.Reader timeline, long snapshotId) {
+        SnapshotTimeline.Entry entry = timeline.entry(snapshotId);
+        return entry == null ? snapshot(snapshotId).watermark() : entry.watermark();
+    }
+
+    /**
+     * Runs a search with the timeline if it is enabled. If an entry of the timeline does not match
+     * a snapshot read by the search, the timeline is stale and the search runs again without it.
+     */
+    private <T> T searchWithTimeline(Function<SnapshotTimeline.Reader, T> search) {
+        SnapshotTimeline timeline = timeline();
+        if (!timelineEnabled) {
+            return search.apply(timeline.disabledReader());
+        }
+
+        SnapshotTimeline.Reader reader = timeline.newReader();
+        T result = search.apply(reader);
+        if (reader.stale()) {
+            LOG.warn(
+                    "Snapshot timeline in {} does not match the snapshots, search without it.",
+                    snapshotDirectory());
+            result = search.apply(timeline.disabledReader());
+        }
+        return result;
     }
 
     public long snapshotCount() throws IOException {
@@ -565,6 +631,10 @@ public class SnapshotManager implements Serializable {
         }
     }
 
+    /**
+     * Returns the latest snapshot committed by the given user. This drives the deduplication of
+     * commits on recovery, so snapshot files are always read and the timeline is not used.
+     */
     public Optional<Snapshot> latestSnapshotOfUser(String user) {
         Long latestId = latestSnapshotId();
         if (latestId == null) {
@@ -609,7 +679,10 @@ public class SnapshotManager implements Serializable {
         return Optional.empty();
     }
 
-    /** Find the snapshot of the specified identifiers written by the specified user. */
+    /**
+     * Find the snapshot of the specified identifiers written by the specified user. Like {@link
+     * #latestSnapshotOfUser}, this reads snapshot files instead of the timeline.
+     */
     public List<Snapshot> findSnapshotsForIdentifiers(
             @Nonnull String user, List<Long> identifiers) {
         if (identifiers.isEmpty()) {
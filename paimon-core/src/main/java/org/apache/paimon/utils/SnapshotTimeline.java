@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonCreator;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonGetter;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonInclude;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A compact index of the snapshots of a table, stored alongside the snapshot files. For each
+ * snapshot, the timeline keeps the fields used to search snapshots, such as commit time and
+ * watermark, so that searching does not need to read the snapshot files one by one. Commit
+ * deduplication must not rely on it, concurrent committers may overwrite each other's entries.
+ *
+ * <p>The timeline is split into files of {@link #ENTRIES_PER_FILE} snapshot ids, only the last file
+ * is rewritten on each commit, and the files of expired snapshots are deleted on expiration. The
+ * timeline is only a hint, snapshots which are missing from it must be read from snapshot files,
+ * and readers verify the entries of the snapshots they read, see {@link Reader#verify}.
+ */
+public class SnapshotTimeline implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TIMELINE_PREFIX = "timeline-";
+
+    public static final int ENTRIES_PER_FILE = 100;
+
+    private final FileIO fileIO;
+    private final Path snapshotDirectory;
+
+    public SnapshotTimeline(FileIO fileIO, Path snapshotDirectory) {
+        this.fileIO = fileIO;
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    public Path timelinePath(long fileIndex) {
+        return new Path(snapshotDirectory, TIMELINE_PREFIX + fileIndex);
+    }
+
+    /**
+     * Appends the entry of a newly committed snapshot. Entries whose id is not less than the id of
+     * the snapshot are dropped, they are left by a rollback and are no longer valid.
+     */
+    public void append(Snapshot snapshot) throws IOException {
+        long fileIndex = fileIndex(snapshot.id());
+        List<Entry> entries = new ArrayList<>(read(fileIndex));
+        entries.removeIf(entry -> entry.id() >= snapshot.id());
+        entries.add(Entry.of(snapshot));
+        write(fileIndex, entries);
+    }
+
+    /** Removes the entries whose id is larger than the given id, used by rollback. */
+    public void truncateAfter(long snapshotId, long latestSnapshotId) throws IOException {
+        long fileIndex = fileIndex(snapshotId);
+        List<Entry> entries = new ArrayList<>(read(fileIndex));
+        if (entries.removeIf(entry -> entry.id() > snapshotId)) {
+            write(fileIndex, entries);
+        }
+        for (long i = fileIndex + 1; i <= fileIndex(latestSnapshotId); i++) {
+            fileIO.delete(timelinePath(i), false);
+        }
+    }
+
+    /** Deletes the timeline files which only contain snapshots earlier than the given id. */
+    public void expireBefore(long fromSnapshotId, long earliestSnapshotId) {
+        for (long i = fileIndex(fromSnapshotId); i < fileIndex(earliestSnapshotId); i++) {
+            fileIO.deleteQuietly(timelinePath(i));
+        }
+    }
+
+    /** Creates a reader which caches the timeline files it has read. */
+    public Reader newReader() {
+        return new Reader(true);
+    }
+
+    /** Creates a reader which never reads timeline files, all entries are missing. */
+    public Reader disabledReader() {
+        return new Reader(false);
+    }
+
+    private List<Entry> read(long fileIndex) throws IOException {
+        Optional<String> json = fileIO.readOverwrittenFileUtf8(timelinePath(fileIndex));
+        if (!json.isPresent()) {
+            return Collections.emptyList();
+        }
+        return JsonSerdeUtil.fromJson(json.get(), TimelineFile.class).entries();
+    }
+
+    private void write(long fileIndex, List<Entry> entries) throws IOException {
+        fileIO.overwriteFileUtf8(
+                timelinePath(fileIndex), JsonSerdeUtil.toFlatJson(new TimelineFile(entries)));
+    }
+
+    private static long fileIndex(long snapshotId) {
+        return snapshotId / ENTRIES_PER_FILE;
+    }
+
+    /** Reader of the timeline, timeline files are read once and only when they are accessed. */
+    public class Reader {
+
+        private final Map<Long, Map<Long, Entry>> files = new HashMap<>();
+
+        private boolean enabled;
+        private boolean stale;
+
+        private Reader(boolean enabled) {
+            this.enabled = enabled;
+            this.stale = false;
+        }
+
+        /** Returns the entry of the given snapshot, or null if it is not in the timeline. */
+        @Nullable
+        public Entry entry(long snapshotId) {
+            if (!enabled) {
+                return null;
+            }
+            return files.computeIfAbsent(fileIndex(snapshotId), this::readFile).get(snapshotId);
+        }
+
+        /**
+         * Verifies the entry of a snapshot which has been read against the snapshot. If they do not
+         * match, the timeline was not updated when snapshots were replaced, the timeline file of
+         * the snapshot is deleted, this reader ignores the timeline from now on and {@link
+         * #stale()} returns true.
+         */
+        public Snapshot verify(Snapshot snapshot) {
+            Entry entry = entry(snapshot.id());
+            if (entry != null && !entry.matches(snapshot)) {
+                fileIO.deleteQuietly(timelinePath(fileIndex(snapshot.id())));
+                enabled = false;
+                stale = true;
+            }
+            return snapshot;
+        }
+
+        /** Whether an entry of this timeline did not match its snapshot. */
+        public boolean stale() {
+            return stale;
+        }
+
+        private Map<Long, Entry> readFile(long fileIndex) {
+            List<Entry> entries;
+            try {
+                entries = read(fileIndex);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Map<Long, Entry> result = new HashMap<>(entries.size());
+            for (Entry entry : entries) {
+                result.put(entry.id(), entry);
+            }
+            return result;
+        }
+    }
+
+    /** Content of a timeline file. */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class TimelineFile {
+
+        private static final String FIELD_VERSION = "version";
+        private static final String FIELD_ENTRIES = "entries";
+
+        private static final int CURRENT_VERSION = 1;
+
+        private final int version;
+        private final List<Entry> entries;
+
+        public TimelineFile(List<Entry> entries) {
+            this(CURRENT_VERSION, entries);
+        }
+
+        @JsonCreator
+        public TimelineFile(
+                @JsonProperty(FIELD_VERSION) int version,
+                @JsonProperty(FIELD_ENTRIES) List<Entry> entries) {
+            this.version = version;
+            this.entries = entries;
+        }
+
+        @JsonGetter(FIELD_VERSION)
+        public int version() {
+            return version;
+        }
+
+        @JsonGetter(FIELD_ENTRIES)
+        public List<Entry> entries() {
+            return entries;
+        }
+    }
+
+    /** Entry of a snapshot in the timeline. */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Entry {
+
+        private static final String FIELD_ID = "id";
+        private static final String FIELD_TIME_MILLIS = "timeMillis";
+        private static final String FIELD_WATERMARK = "watermark";
+        private static final String FIELD_COMMIT_USER = "commitUser";
+        private static final String FIELD_COMMIT_IDENTIFIER = "commitIdentifier";
+        private static final String FIELD_COMMIT_KIND = "commitKind";
+
+        private final long id;
+        private final long timeMillis;
+        @Nullable private final Long watermark;
+        private final String commitUser;
+        private final long commitIdentifier;
+        private final Snapshot.CommitKind commitKind;
+
+        @JsonCreator
+        public Entry(
+                @JsonProperty(FIELD_ID) long id,
+                @JsonProperty(FIELD_TIME_MILLIS) long timeMillis,
+                @JsonProperty(FIELD_WATERMARK) @Nullable Long watermark,
+                @JsonProperty(FIELD_COMMIT_USER) String commitUser,
+                @JsonProperty(FIELD_COMMIT_IDENTIFIER) long commitIdentifier,
+                @JsonProperty(FIELD_COMMIT_KIND) Snapshot.CommitKind commitKind) {
+            this.id = id;
+            this.timeMillis = timeMillis;
+            this.watermark = watermark;
+            this.commitUser = commitUser;
+            this.commitIdentifier = commitIdentifier;
+            this.commitKind = commitKind;
+        }
+
+        public static Entry of(Snapshot snapshot) {
+            return new Entry(
+                    snapshot.id(),
+                    snapshot.timeMillis(),
+                    snapshot.watermark(),
+                    snapshot.commitUser(),
+                    snapshot.commitIdentifier(),
+                    snapshot.commitKind());
+        }
+
+        /** Whether this entry is the entry of the given snapshot. */
+        public boolean matches(Snapshot snapshot) {
+            return id == snapshot.id()
+                    && timeMillis == snapshot.timeMillis()
+                    && Objects.equals(watermark, snapshot.watermark())
+                    && Objects.equals(commitUser, snapshot.commitUser())
+                    && commitIdentifier == snapshot.commitIdentifier()
+                    && commitKind == snapshot.commitKind();
+        }
+
+        @JsonGetter(FIELD_ID)
+        public long id() {
+            return id;
+        }
+
+        @JsonGetter(FIELD_TIME_MILLIS)
+        public long timeMillis() {
+            return timeMillis;
+        }
+
+        @JsonGetter(FIELD_WATERMARK)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Nullable
+        public Long watermark() {
+            return watermark;
+        }
+
+        @JsonGetter(FIELD_COMMIT_USER)
+        public String commitUser() {
+            return commitUser;
+        }
+
+        @JsonGetter(FIELD_COMMIT_IDENTIFIER)
+        public long commitIdentifier() {
+            return commitIdentifier;
+        }
+
+        @JsonGetter(FIELD_COMMIT_KIND)
+        public Snapshot.CommitKind commitKind() {
+            return commitKind;
+        }
+    }
+}
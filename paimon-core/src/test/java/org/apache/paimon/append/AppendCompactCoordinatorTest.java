@@ -39,10 +39,13 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.apache.paimon.CoreOptions.COMPACTION_MAX_TASKS_PER_PARTITION;
 import static org.apache.paimon.CoreOptions.COMPACTION_MIN_FILE_NUM;
 import static org.apache.paimon.CoreOptions.DELETION_VECTORS_ENABLED;
 import static org.apache.paimon.mergetree.compact.MergeTreeCompactManagerTest.row;
@@ -205,6 +208,52 @@ public class AppendCompactCoordinatorTest {
         assertTasks(files, 1);
     }
 
+    @Test
+    public void testPlanHotPartitionFirst() {
+        BinaryRow cold = row(1);
+        BinaryRow hot = row(2);
+        compactionCoordinator.notifyNewFiles(cold, generateNewFiles(10, 0));
+        for (int i = 0; i < 3; i++) {
+            compactionCoordinator.notifyNewFiles(hot, generateNewFiles(4, 0));
+        }
+
+        // the hot partition has fewer files, but they arrived more frequently
+        List<AppendCompactTask> tasks = compactionCoordinator.compactPlan();
+        assertThat(tasks).hasSize(2);
+        assertThat(tasks.get(0).partition()).isEqualTo(hot);
+        assertThat(tasks.get(1).partition()).isEqualTo(cold);
+
+        // with the same heat, the partition with more small files goes first
+        compactionCoordinator.notifyNewFiles(hot, generateNewFiles(4, 0));
+        compactionCoordinator.notifyNewFiles(cold, generateNewFiles(10, 0));
+        tasks = compactionCoordinator.compactPlan();
+        assertThat(tasks).hasSize(2);
+        assertThat(tasks.get(0).partition()).isEqualTo(cold);
+    }
+
+    @Test
+    public void testMaxTasksPerPartition() {
+        compactionCoordinator =
+                new AppendCompactCoordinator(
+                        appendOnlyFileStoreTable.copy(
+                                Collections.singletonMap(
+                                        COMPACTION_MAX_TASKS_PER_PARTITION.key(), "1")),
+                        true);
+        List<DataFileMeta> files = generateNewFiles(200, 0);
+        compactionCoordinator.notifyNewFiles(partition, files);
+
+        Set<DataFileMeta> compacted = new HashSet<>();
+        for (int i = 0; i < 2; i++) {
+            List<AppendCompactTask> tasks = compactionCoordinator.compactPlan();
+            assertThat(tasks).hasSize(1);
+            compacted.addAll(tasks.get(0).compactBefore());
+            assertThat(compactionCoordinator.backlog().getOrDefault(partition, 0))
+                    .isEqualTo(files.size() - compacted.size());
+        }
+        assertThat(compacted).containsExactlyInAnyOrderElementsOf(files);
+        assertThat(compactionCoordinator.compactPlan()).isEmpty();
+    }
+
     private void assertTasks(List<DataFileMeta> files, int taskNum) {
         compactionCoordinator.notifyNewFiles(partition, files);
         List<AppendCompactTask> tasks = compactionCoordinator.compactPlan();
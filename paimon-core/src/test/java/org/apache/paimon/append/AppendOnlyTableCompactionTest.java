@@ -18,13 +18,17 @@
 
 package org.apache.paimon.append;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.operation.BaseAppendFileStoreWrite;
+import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.Schema;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
@@ -34,22 +38,28 @@ import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.table.sink.StreamTableWrite;
 import org.apache.paimon.table.sink.TableCommitImpl;
+import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.utils.SnapshotManager;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonMap;
 import static org.apache.paimon.SnapshotTest.newSnapshotManager;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for append table compaction. */
 public class AppendOnlyTableCompactionTest {
@@ -57,6 +67,8 @@ public class AppendOnlyTableCompactionTest {
     private static final Random random = new Random();
 
     @TempDir private Path tempDir;
+    @TempDir private Path ioTempDir;
+    private IOManager ioManager;
     private FileStoreTable appendOnlyFileStoreTable;
     private SnapshotManager snapshotManager;
     private AppendCompactCoordinator coordinator;
@@ -71,9 +83,15 @@ public class AppendOnlyTableCompactionTest {
         path = new org.apache.paimon.fs.Path(tempDir.toString());
         tableSchema = new SchemaManager(fileIO, path).createTable(schema());
         snapshotManager = newSnapshotManager(fileIO, path);
+        ioManager = IOManager.create(ioTempDir.toString());
         recreate();
     }
 
+    @AfterEach
+    public void after() throws Exception {
+        ioManager.close();
+    }
+
     private void recreate() {
         appendOnlyFileStoreTable =
                 FileStoreTableFactory.create(
@@ -82,6 +100,7 @@ public class AppendOnlyTableCompactionTest {
                         tableSchema);
         coordinator = new AppendCompactCoordinator(appendOnlyFileStoreTable, true);
         write = (BaseAppendFileStoreWrite) appendOnlyFileStoreTable.store().newWrite(commitUser);
+        write.withIOManager(ioManager);
     }
 
     @Test
@@ -173,6 +192,76 @@ public class AppendOnlyTableCompactionTest {
         assertThat(remainedSize).isEqualTo(coordinator.listRestoredFiles().size()).isEqualTo(1);
     }
 
+    @Test
+    public void testClusteringCompaction() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.COMPACTION_CLUSTERING_COLUMNS.key(), "f0");
+        options.put(CoreOptions.TARGET_FILE_SIZE.key(), "1 kb");
+        tableSchema = tableSchema.copy(options);
+        recreate();
+
+        List<DataFileMeta> files = new ArrayList<>();
+        List<InternalRow> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            files.addAll(writeFile(1000, expected));
+        }
+
+        // clustering spills the sorted rows to the io manager of the writer
+        BaseAppendFileStoreWrite noIOManagerWrite =
+                (BaseAppendFileStoreWrite) appendOnlyFileStoreTable.store().newWrite(commitUser);
+        assertThatThrownBy(
+                        () ->
+                                noIOManagerWrite.compactRewrite(
+                                        BinaryRow.EMPTY_ROW,
+                                        0,
+                                        null,
+                                        files,
+                                        appendOnlyFileStoreTable
+                                                .coreOptions()
+                                                .compactionClusteringColumns()))
+                .isInstanceOf(IllegalStateException.class);
+        noIOManagerWrite.close();
+
+        List<DataFileMeta> compacted =
+                write.compactRewrite(
+                        BinaryRow.EMPTY_ROW,
+                        0,
+                        null,
+                        files,
+                        appendOnlyFileStoreTable.coreOptions().compactionClusteringColumns());
+
+        assertThat(compacted).hasSizeGreaterThan(1);
+        assertThat(compacted.stream().mapToLong(DataFileMeta::rowCount).sum()).isEqualTo(5000);
+        // the rolled files cover disjoint ranges of the clustering column
+        for (int i = 1; i < compacted.size(); i++) {
+            int previousMax = compacted.get(i - 1).valueStats().maxValues().getInt(0);
+            int min = compacted.get(i).valueStats().minValues().getInt(0);
+            assertThat(previousMax).isLessThanOrEqualTo(min);
+        }
+        assertThat(read(compacted)).containsExactlyInAnyOrderElementsOf(toString(expected));
+    }
+
+    @Test
+    public void testZorderClusteringCompaction() throws Exception {
+        tableSchema =
+                tableSchema.copy(
+                        singletonMap(CoreOptions.COMPACTION_CLUSTERING_COLUMNS.key(), "f0,f1"));
+        recreate();
+        assertThat(appendOnlyFileStoreTable.coreOptions().compactionClusteringStrategy(2))
+                .isEqualTo(CoreOptions.OrderType.ZORDER);
+
+        List<CommitMessage> messages = writeCommit(11);
+        commit(messages);
+        List<AppendCompactTask> tasks = coordinator.run();
+        assertThat(tasks).hasSize(1);
+        List<DataFileMeta> before = new ArrayList<>(tasks.get(0).compactBefore());
+        List<String> expected = read(before);
+
+        commit(doCompact(tasks));
+        assertThat(tasks.get(0).compactAfter()).hasSize(1);
+        assertThat(read(tasks.get(0).compactAfter())).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
     private static Schema schema() {
         Schema.Builder schemaBuilder = Schema.newBuilder();
         schemaBuilder.column("f0", DataTypes.INT());
@@ -200,6 +289,60 @@ public class AppendOnlyTableCompactionTest {
         return messages;
     }
 
+    private List<DataFileMeta> writeFile(int numRows, List<InternalRow> expected) throws Exception {
+        List<DataFileMeta> files = new ArrayList<>();
+        try (StreamTableWrite writer =
+                appendOnlyFileStoreTable.newStreamWriteBuilder().newWrite()) {
+            for (int i = 0; i < numRows; i++) {
+                InternalRow row = randomRow();
+                writer.write(row);
+                expected.add(row);
+            }
+            for (CommitMessage message : writer.prepareCommit(true, 0)) {
+                files.addAll(((CommitMessageImpl) message).newFilesIncrement().newFiles());
+            }
+        }
+        return files;
+    }
+
+    private List<String> read(List<DataFileMeta> files) throws Exception {
+        DataSplit split =
+                DataSplit.builder()
+                        .withPartition(BinaryRow.EMPTY_ROW)
+                        .withBucket(0)
+                        .withBucketPath("not used")
+                        .withDataFiles(files)
+                        .rawConvertible(true)
+                        .build();
+        List<InternalRow> rows = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                appendOnlyFileStoreTable.newRead().createReader(split)) {
+            reader.forEachRemaining(
+                    row ->
+                            rows.add(
+                                    GenericRow.of(
+                                            row.getInt(0),
+                                            row.getString(1),
+                                            row.getString(2),
+                                            row.getString(3))));
+        }
+        return toString(rows);
+    }
+
+    private static List<String> toString(List<InternalRow> rows) {
+        return rows.stream()
+                .map(
+                        row ->
+                                row.getInt(0)
+                                        + ","
+                                        + row.getString(1)
+                                        + ","
+                                        + row.getString(2)
+                                        + ","
+                                        + row.getString(3))
+                .collect(Collectors.toList());
+    }
+
     private List<CommitMessage> doCompact(List<AppendCompactTask> tasks) throws Exception {
         List<CommitMessage> result = new ArrayList<>();
         for (AppendCompactTask task : tasks) {
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.append;
+
+import org.apache.paimon.CoreOptions.OrderType;
+import org.apache.paimon.catalog.Catalog;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.TableTestBase;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link ClusteringAdvisor}. */
+public class ClusteringAdvisorTest extends TableTestBase {
+
+    @TempDir java.nio.file.Path ioTempDir;
+
+    private IOManager ioManager;
+
+    @BeforeEach
+    public void beforeEach() throws Catalog.DatabaseAlreadyExistException {
+        super.beforeEach();
+        ioManager = IOManager.create(ioTempDir.toString());
+    }
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        ioManager.close();
+    }
+
+    @Test
+    public void testAdviseSingleColumn() throws Exception {
+        FileStoreTable table = createAndWrite();
+        PredicateBuilder builder = new PredicateBuilder(table.rowType());
+        ClusteringAdvisor.Report report =
+                new ClusteringAdvisor(table, Collections.singletonList(builder.equal(0, 5)))
+                        .withIOManager(ioManager)
+                        .advise(Collections.emptyList());
+
+        // every file covers the whole range of f0
+        assertThat(report.currentSkipRatio()).isEqualTo(0);
+        assertThat(report.candidates()).hasSize(1);
+        ClusteringAdvisor.Candidate best = report.best();
+        assertThat(best.orderType()).isEqualTo(OrderType.ORDER);
+        assertThat(best.columns()).containsExactly("f0");
+        assertThat(best.skipRatio()).isGreaterThan(0.8);
+        assertThat(best.skipRatio()).isGreaterThan(report.unclustered().skipRatio());
+    }
+
+    @Test
+    public void testAdviseMultipleColumns() throws Exception {
+        FileStoreTable table = createAndWrite();
+        PredicateBuilder builder = new PredicateBuilder(table.rowType());
+        Predicate onF0 = builder.lessThan(0, 10);
+        Predicate onF1 = builder.lessThan(1, 10);
+        ClusteringAdvisor.Report report =
+                new ClusteringAdvisor(table, Arrays.asList(onF0, onF1))
+                        .withIOManager(ioManager)
+                        .withSampleSize(500)
+                        .withNumFiles(10)
+                        .advise(Collections.emptyList());
+
+        // order by f0, order by f1, and order, zorder, hilbert by f0 and f1
+        assertThat(report.candidates()).hasSize(5);
+        ClusteringAdvisor.Candidate best = report.best();
+        assertThat(best.columns()).containsExactly("f0", "f1");
+        assertThat(best.orderType()).isIn(OrderType.ZORDER, OrderType.HILBERT);
+        assertThat(best.skippedFiles()[0]).isGreaterThan(0);
+        assertThat(best.skippedFiles()[1]).isGreaterThan(0);
+        for (ClusteringAdvisor.Candidate candidate : report.candidates()) {
+            assertThat(best.skipRatio()).isGreaterThanOrEqualTo(candidate.skipRatio());
+        }
+        assertThat(report.toString()).contains("rank", "zorder", "hilbert", "f0,f1");
+    }
+
+    @Test
+    public void testSampleCoversAllFiles() throws Exception {
+        FileStoreTable table = createAndWrite();
+        // each new file has a single value of f2
+        Random random = new Random(7);
+        for (int i = 0; i < 10; i++) {
+            InternalRow[] rows = new InternalRow[100];
+            for (int j = 0; j < rows.length; j++) {
+                rows[j] =
+                        GenericRow.of(
+                                random.nextInt(100),
+                                random.nextInt(100),
+                                BinaryString.fromString("w" + i));
+            }
+            write(table, rows);
+        }
+
+        PredicateBuilder builder = new PredicateBuilder(table.rowType());
+        ClusteringAdvisor.Report report =
+                new ClusteringAdvisor(
+                                table,
+                                Collections.singletonList(
+                                        builder.equal(2, BinaryString.fromString("w5"))))
+                        .withIOManager(ioManager)
+                        .withSampleSize(200)
+                        .advise(Collections.emptyList());
+
+        assertThat(report.sampledRows()).isBetween(150, 250);
+        // the 20 files of the table are capped by the sample size
+        assertThat(report.simulatedFiles())
+                .isEqualTo(report.sampledRows() / ClusteringAdvisor.MIN_ROWS_PER_SIMULATED_FILE);
+        // sampled rows of all files are mixed, reading the first files only would skip all
+        assertThat(report.unclustered().skipRatio()).isLessThan(1);
+        assertThat(report.best().skipRatio()).isGreaterThan(report.unclustered().skipRatio());
+    }
+
+    @Test
+    public void testInvalidColumn() throws Exception {
+        FileStoreTable table = createAndWrite();
+        PredicateBuilder builder = new PredicateBuilder(table.rowType());
+        assertThatThrownBy(
+                        () ->
+                                new ClusteringAdvisor(
+                                                table,
+                                                Collections.singletonList(builder.equal(0, 5)))
+                                        .withIOManager(ioManager)
+                                        .advise(Collections.singletonList("f9")))
+                .hasMessageContaining("Column f9 is not in the fields");
+    }
+
+    @Test
+    public void testWithoutIOManager() throws Exception {
+        FileStoreTable table = createAndWrite();
+        PredicateBuilder builder = new PredicateBuilder(table.rowType());
+        assertThatThrownBy(
+                        () ->
+                                new ClusteringAdvisor(
+                                                table,
+                                                Collections.singletonList(builder.equal(0, 5)))
+                                        .advise(Collections.emptyList()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("an IOManager must be set");
+    }
+
+    @Test
+    public void testPartitionedTable() throws Exception {
+        Identifier identifier = identifier("T");
+        Schema schema =
+                Schema.newBuilder()
+                        .column("f0", DataTypes.INT())
+                        .column("f1", DataTypes.INT())
+                        .column("pt", DataTypes.STRING())
+                        .partitionKeys("pt")
+                        .option("bucket", "-1")
+                        .build();
+        catalog.createTable(identifier, schema, false);
+        FileStoreTable table = (FileStoreTable) catalog.getTable(identifier);
+        Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            InternalRow[] rows = new InternalRow[100];
+            for (int j = 0; j < rows.length; j++) {
+                rows[j] =
+                        GenericRow.of(
+                                random.nextInt(100),
+                                random.nextInt(100),
+                                BinaryString.fromString(i % 2 == 0 ? "a" : "b"));
+            }
+            write(table, rows);
+        }
+
+        PredicateBuilder builder = new PredicateBuilder(table.rowType());
+        ClusteringAdvisor.Report report =
+                new ClusteringAdvisor(
+                                table,
+                                Collections.singletonList(
+                                        PredicateBuilder.and(
+                                                builder.equal(2, BinaryString.fromString("a")),
+                                                builder.equal(0, 5))))
+                        .withIOManager(ioManager)
+                        .advise(Collections.emptyList());
+
+        // the sample is cut into files within each partition, like the current layout
+        assertThat(report.currentFiles()).isEqualTo(10);
+        assertThat(report.simulatedFiles()).isEqualTo(10);
+        // the files of partition b are always skipped, as in the current layout
+        assertThat(report.currentSkipRatio()).isEqualTo(0.5);
+        assertThat(report.unclustered().skipRatio()).isEqualTo(0.5);
+        assertThat(report.best().columns()).containsExactly("f0");
+        assertThat(report.best().skipRatio()).isGreaterThan(0.7);
+    }
+
+    private FileStoreTable createAndWrite() throws Exception {
+        Identifier identifier = identifier("T");
+        Schema schema =
+                Schema.newBuilder()
+                        .column("f0", DataTypes.INT())
+                        .column("f1", DataTypes.INT())
+                        .column("f2", DataTypes.STRING())
+                        .option("bucket", "-1")
+                        .build();
+        catalog.createTable(identifier, schema, false);
+        FileStoreTable table = (FileStoreTable) catalog.getTable(identifier);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            InternalRow[] rows = new InternalRow[100];
+            for (int j = 0; j < rows.length; j++) {
+                rows[j] =
+                        GenericRow.of(
+                                random.nextInt(100),
+                                random.nextInt(100),
+                                BinaryString.fromString("v" + j));
+            }
+            write(table, rows);
+        }
+        return table;
+    }
+}
@@ -53,6 +53,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -175,6 +176,31 @@ class CachingCatalogTest extends CatalogTestBase {
                 .hasMessage("Table db.tbl$branch_b1 does not exist.");
     }
 
+    @Test
+    public void testGetTablesLoadsMissingTablesAtOnce() throws Exception {
+        Catalog wrapped = Mockito.spy(this.catalog);
+        TestableCachingCatalog catalog =
+                new TestableCachingCatalog(wrapped, EXPIRATION_TTL, ticker);
+        Identifier cachedIdent = new Identifier("db", "tbl1");
+        Identifier missingIdent = new Identifier("db", "tbl2");
+        catalog.createTable(cachedIdent, DEFAULT_TABLE_SCHEMA, false);
+        catalog.createTable(missingIdent, DEFAULT_TABLE_SCHEMA, false);
+        Table cached = catalog.getTable(cachedIdent);
+
+        List<Table> tables =
+                catalog.getTables(
+                        Arrays.asList(
+                                cachedIdent, missingIdent, new Identifier("db", "tbl2$files")));
+        Mockito.verify(wrapped).getTables(singletonList(missingIdent));
+        assertThat(tables).hasSize(3);
+        assertThat(tables.get(0)).isSameAs(cached);
+        assertThat(tables.get(1)).isSameAs(catalog.tableCache().getIfPresent(missingIdent));
+        assertThat(tables.get(2).name()).isEqualTo("tbl2$files");
+
+        assertThatThrownBy(() -> catalog.getTables(singletonList(new Identifier("db", "unknown"))))
+                .isInstanceOf(Catalog.TableNotExistException.class);
+    }
+
     @Test
     public void testTableExpiresAfterInterval() throws Exception {
         TestableCachingCatalog catalog =
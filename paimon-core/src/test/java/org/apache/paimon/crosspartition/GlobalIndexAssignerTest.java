@@ -24,8 +24,13 @@ import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.lookup.RocksDBOptions;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.TableTestBase;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowKind;
@@ -38,7 +43,10 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,8 +60,12 @@ public class GlobalIndexAssignerTest extends TableTestBase {
 
     private GlobalIndexAssigner createAssigner(MergeEngine mergeEngine, boolean enableTtl)
             throws Exception {
+        return createAssigner(mergeEngine, enableTtl, new Options());
+    }
+
+    private GlobalIndexAssigner createAssigner(
+            MergeEngine mergeEngine, boolean enableTtl, Options options) throws Exception {
         Identifier identifier = identifier("T");
-        Options options = new Options();
         options.set(CoreOptions.MERGE_ENGINE, mergeEngine);
         if (mergeEngine == MergeEngine.FIRST_ROW) {
             options.set(CoreOptions.CHANGELOG_PRODUCER, CoreOptions.ChangelogProducer.LOOKUP);
@@ -266,4 +278,131 @@ public class GlobalIndexAssignerTest extends TableTestBase {
 
         assertThat(output).containsExactlyInAnyOrder(Arrays.asList(1, 1, 1, 1));
     }
+
+    @Test
+    public void testParallelBulkLoad() throws Exception {
+        Options options = new Options();
+        // small sst files to build them in parallel
+        options.set(RocksDBOptions.TARGET_FILE_SIZE_BASE, MemorySize.parse("1 kb"));
+        options.set(CoreOptions.CROSS_PARTITION_UPSERT_BOOTSTRAP_PARALLELISM, 4);
+        GlobalIndexAssigner assigner = createAssigner(MergeEngine.DEDUPLICATE, false, options);
+        List<Integer> output = new ArrayList<>();
+        assigner.open(0, ioManager(), 1, 0, (row, bucket) -> output.add(bucket));
+
+        int numKeys = 5000;
+        for (int i = 0; i < numKeys; i++) {
+            assigner.bootstrapKey(GenericRow.of(i, 1, i % 7));
+        }
+        assertThat(assigner.numBootstrapKeys()).isEqualTo(numKeys);
+        assigner.endBoostrap(false);
+        assertThat(assigner.numBulkLoadedKeys()).isEqualTo(numKeys);
+
+        // existing keys are assigned to their bootstrapped buckets
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < numKeys; i++) {
+            assigner.processInput(GenericRow.of(1, i, i));
+            expected.add(i % 7);
+        }
+        assertThat(output).isEqualTo(expected);
+        assigner.close();
+    }
+
+    @Test
+    public void testPersistedIndex() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.CROSS_PARTITION_UPSERT_PERSISTED_INDEX_ENABLED, true);
+        GlobalIndexAssigner assigner = createAssigner(MergeEngine.DEDUPLICATE, false, options);
+        Map<Integer, Integer> buckets = new HashMap<>();
+        assigner.open(0, ioManager(), 1, 0, (row, bucket) -> buckets.put(row.getInt(1), bucket));
+
+        for (int i = 0; i < 10; i++) {
+            assigner.bootstrapKey(GenericRow.of(i, 1, i % 3));
+            buckets.put(i, i % 3);
+        }
+        assigner.endBoostrap(false);
+        for (int i = 10; i < 15; i++) {
+            assigner.processInput(GenericRow.of(2, i, i));
+        }
+        assigner.snapshotPersistedIndex(1);
+        // move key 0 to another partition
+        assigner.processInput(GenericRow.of(3, 0, 0));
+        byte[] state = assigner.snapshotPersistedIndex(2);
+        assigner.close();
+
+        // restore with the same number of assigners
+        Map<Integer, Integer> restoredBuckets = new HashMap<>();
+        GlobalIndexAssigner restored = new GlobalIndexAssigner(getTable(identifier("T")));
+        restored.open(
+                0, ioManager(), 1, 0, (row, bucket) -> restoredBuckets.put(row.getInt(1), bucket));
+        restored.restorePersistedIndex(Collections.singletonList(state));
+        assertThat(restored.inBoostrap()).isFalse();
+        assertThat(restored.numBootstrapKeys()).isEqualTo(15);
+        restored.processInput(GenericRow.of(3, 0, 0));
+        for (int i = 1; i < 10; i++) {
+            restored.processInput(GenericRow.of(1, i, i));
+        }
+        for (int i = 10; i < 15; i++) {
+            restored.processInput(GenericRow.of(2, i, i));
+        }
+        assertThat(restoredBuckets).isEqualTo(buckets);
+
+        // too many small files are merged in the background, the result is taken by the next
+        // snapshot and the previous files are deleted on completion
+        PersistedKeyIndex persistedIndex = restored.persistedIndex();
+        int numNewKeys = PersistedKeyIndex.MAX_SMALL_FILES - 1;
+        long checkpointId = 2;
+        for (int i = 0; i < numNewKeys; i++) {
+            restored.processInput(GenericRow.of(4, 100 + i, i));
+            state = restored.snapshotPersistedIndex(++checkpointId);
+        }
+        assertThat(persistedIndex.files()).hasSize(PersistedKeyIndex.MAX_SMALL_FILES + 1);
+        persistedIndex.waitForCompaction();
+        state = restored.snapshotPersistedIndex(++checkpointId);
+        assertThat(persistedIndex.files()).hasSize(1);
+        assertThat(persistedIndex.files().get(0).rowCount()).isEqualTo(16 + numNewKeys);
+        assertThat(listIndexFiles()).hasSize(PersistedKeyIndex.MAX_SMALL_FILES + 2);
+        restored.notifyCheckpointComplete(checkpointId);
+        assertThat(listIndexFiles()).hasSize(1);
+
+        // moved keys grow the files until they are fully compacted from the local index
+        int numMovedKeys = 8;
+        for (int i = 0; i < numMovedKeys; i++) {
+            restored.processInput(GenericRow.of(5, 100 + i, i));
+            state = restored.snapshotPersistedIndex(++checkpointId);
+        }
+        persistedIndex.waitForCompaction();
+        state = restored.snapshotPersistedIndex(++checkpointId);
+        restored.notifyCheckpointComplete(checkpointId);
+        assertThat(persistedIndex.files()).hasSize(1);
+        assertThat(persistedIndex.files().get(0).rowCount()).isEqualTo(15 + numNewKeys);
+        assertThat(listIndexFiles()).hasSize(1);
+        restored.close();
+
+        // restore with a different number of assigners
+        List<GlobalIndexAssigner> rescaled = new ArrayList<>();
+        for (int assignId = 0; assignId < 2; assignId++) {
+            GlobalIndexAssigner rescaledAssigner =
+                    new GlobalIndexAssigner(getTable(identifier("T")));
+            rescaledAssigner.open(0, ioManager(), 2, assignId, (row, bucket) -> {});
+            rescaledAssigner.restorePersistedIndex(Collections.singletonList(state));
+            assertThat(rescaledAssigner.numBootstrapKeys()).isGreaterThan(0);
+            rescaled.add(rescaledAssigner);
+        }
+        assertThat(rescaled.get(0).numBootstrapKeys() + rescaled.get(1).numBootstrapKeys())
+                .isEqualTo(15 + numNewKeys);
+        checkpointId++;
+        for (GlobalIndexAssigner rescaledAssigner : rescaled) {
+            rescaledAssigner.snapshotPersistedIndex(checkpointId);
+        }
+        for (GlobalIndexAssigner rescaledAssigner : rescaled) {
+            rescaledAssigner.notifyCheckpointComplete(checkpointId);
+            rescaledAssigner.close();
+        }
+        assertThat(listIndexFiles()).hasSize(2);
+    }
+
+    private FileStatus[] listIndexFiles() throws Exception {
+        FileStoreTable table = getTable(identifier("T"));
+        return table.fileIO().listStatus(new Path(table.location(), KeyIndexFile.GLOBAL_INDEX_DIR));
+    }
 }
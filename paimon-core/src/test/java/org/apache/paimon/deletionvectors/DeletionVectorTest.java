@@ -18,6 +18,8 @@
 
 package org.apache.paimon.deletionvectors;
 
+import org.apache.paimon.utils.RoaringBitmap32;
+
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
@@ -134,4 +136,34 @@ public class DeletionVectorTest {
             assertThat(bitmap64DeletionVector.isDeleted(i)).isFalse();
         }
     }
+
+    @Test
+    public void testNextDeletedPositionAndSelection() {
+        DeletionVector[] vectors =
+                new DeletionVector[] {new BitmapDeletionVector(), new Bitmap64DeletionVector()};
+        for (DeletionVector deletionVector : vectors) {
+            assertThat(deletionVector.nextDeletedPosition(0)).isEqualTo(-1);
+            deletionVector.delete(3);
+            deletionVector.delete(4);
+            deletionVector.delete(100);
+
+            assertThat(deletionVector.nextDeletedPosition(0)).isEqualTo(3);
+            assertThat(deletionVector.nextDeletedPosition(4)).isEqualTo(4);
+            assertThat(deletionVector.nextDeletedPosition(5)).isEqualTo(100);
+            assertThat(deletionVector.nextDeletedPosition(101)).isEqualTo(-1);
+
+            RoaringBitmap32 selection = deletionVector.toSelection(10);
+            assertThat(selection).isNotNull();
+            assertThat(selection.getCardinality()).isEqualTo(8);
+            for (int i = 0; i < 10; i++) {
+                assertThat(selection.contains(i)).isEqualTo(i != 3 && i != 4);
+            }
+            assertThat(deletionVector.toSelection(Integer.MAX_VALUE + 1L)).isNull();
+
+            // the selection reflects positions deleted after it was computed
+            deletionVector.delete(5);
+            assertThat(deletionVector.toSelection(10).getCardinality()).isEqualTo(7);
+            assertThat(deletionVector.toSelection(20).getCardinality()).isEqualTo(17);
+        }
+    }
 }
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.deletionvectors;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
 import org.apache.paimon.compact.CompactDeletionFile;
@@ -27,6 +28,7 @@ import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.io.CompactIncrement;
 import org.apache.paimon.io.DataIncrement;
 import org.apache.paimon.io.IndexIncrement;
+import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.sink.BatchTableCommit;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
@@ -38,9 +40,11 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Test for {@link DeletionVectorsMaintainer}. */
@@ -169,4 +173,162 @@ public class DeletionVectorsMaintainerTest extends PrimaryKeyTableTestBase {
         deletionFile4.getOrCompute();
         assertThat(indexDir.listFiles()).hasSize(1);
     }
+
+    @Test
+    public void testIncrementalIndex() {
+        // every deletion vector is written into its own index file
+        FileStoreTable table = incrementalTable("1 b");
+        DeletionVectorsMaintainer.Factory factory =
+                new DeletionVectorsMaintainer.Factory(table.store().newIndexFileHandler());
+
+        DeletionVectorsMaintainer dvMaintainer = factory.create();
+        assertThat(dvMaintainer.incremental()).isTrue();
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        dvMaintainer.notifyNewDeletion("f2", 2);
+        dvMaintainer.notifyNewDeletion("f3", 3);
+        dvMaintainer.notifyNewDeletion("f4", 4);
+        List<IndexFileMeta> newFiles = dvMaintainer.writeDeletionVectorsIndex();
+        assertThat(newFiles).hasSize(4);
+        assertThat(dvMaintainer.pollDeletedIndexFiles()).isEmpty();
+        commit(table, newFiles, Collections.emptyList());
+
+        dvMaintainer =
+                factory.createOrRestore(
+                        table.snapshotManager().latestSnapshot(), BinaryRow.EMPTY_ROW, 0);
+        assertThat(dvMaintainer.hasDeletionVector("f1")).isTrue();
+        assertThat(dvMaintainer.hasDeletionVector("f5")).isFalse();
+        assertThat(dvMaintainer.deletionVectorOf("f2").get().isDeleted(2)).isTrue();
+        // persisted deletion vectors are read only once
+        assertThat(dvMaintainer.deletionVectorOf("f2").get())
+                .isSameAs(dvMaintainer.deletionVectorOf("f2").get());
+        dvMaintainer.notifyNewDeletion("f2", 10);
+        dvMaintainer.removeDeletionVectorOf("f3");
+        newFiles = dvMaintainer.writeDeletionVectorsIndex();
+        List<IndexFileMeta> deletedFiles = dvMaintainer.pollDeletedIndexFiles();
+        // only the index files of f2 and f3 are replaced
+        assertThat(newFiles).hasSize(1);
+        assertThat(deletedFiles).hasSize(2);
+        commit(table, newFiles, deletedFiles);
+        assertThat(dvMaintainer.hasDeletionVector("f3")).isFalse();
+        assertThat(dvMaintainer.deletionVectorOf("f2").get().isDeleted(10)).isTrue();
+
+        Snapshot snapshot = table.snapshotManager().latestSnapshot();
+        IndexFileHandler handler = table.store().newIndexFileHandler();
+        assertThat(handler.scan(snapshot, DELETION_VECTORS_INDEX, BinaryRow.EMPTY_ROW, 0))
+                .hasSize(3);
+        Map<String, DeletionVector> deletionVectors =
+                factory.createOrRestore(snapshot, BinaryRow.EMPTY_ROW, 0).deletionVectors();
+        assertThat(deletionVectors.keySet()).containsExactlyInAnyOrder("f1", "f2", "f4");
+        assertThat(deletionVectors.get("f1").isDeleted(1)).isTrue();
+        assertThat(deletionVectors.get("f2").isDeleted(2)).isTrue();
+        assertThat(deletionVectors.get("f2").isDeleted(10)).isTrue();
+        assertThat(deletionVectors.get("f4").isDeleted(4)).isTrue();
+    }
+
+    @Test
+    public void testIncrementalIndexMergeSmallFiles() {
+        FileStoreTable table = incrementalTable("2 mb");
+        DeletionVectorsMaintainer.Factory factory =
+                new DeletionVectorsMaintainer.Factory(table.store().newIndexFileHandler());
+
+        for (int i = 0; i < 3; i++) {
+            DeletionVectorsMaintainer dvMaintainer =
+                    factory.createOrRestore(
+                            table.snapshotManager().latestSnapshot(), BinaryRow.EMPTY_ROW, 0);
+            dvMaintainer.notifyNewDeletion("f" + i, i);
+            commit(
+                    table,
+                    dvMaintainer.writeDeletionVectorsIndex(),
+                    dvMaintainer.pollDeletedIndexFiles());
+        }
+
+        Snapshot snapshot = table.snapshotManager().latestSnapshot();
+        IndexFileHandler handler = table.store().newIndexFileHandler();
+        List<IndexFileMeta> indexFiles =
+                handler.scan(snapshot, DELETION_VECTORS_INDEX, BinaryRow.EMPTY_ROW, 0);
+        assertThat(indexFiles).hasSize(1);
+        assertThat(handler.readAllDeletionVectors(indexFiles).keySet())
+                .containsExactlyInAnyOrder("f0", "f1", "f2");
+    }
+
+    @Test
+    public void testIncrementalCompactDeletion() {
+        FileStoreTable table = incrementalTable("2 mb");
+        DeletionVectorsMaintainer dvMaintainer =
+                new DeletionVectorsMaintainer.Factory(table.store().newIndexFileHandler()).create();
+        File indexDir = new File(tempPath.toFile(), "/default.db/T/index");
+
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        CompactDeletionFile deletionFile1 = CompactDeletionFile.generateFiles(dvMaintainer);
+        assertThat(indexDir.listFiles()).hasSize(1);
+
+        dvMaintainer.notifyNewDeletion("f2", 4);
+        CompactDeletionFile deletionFile2 = CompactDeletionFile.generateFiles(dvMaintainer);
+        assertThat(indexDir.listFiles()).hasSize(2);
+
+        // the uncommitted file replaced by the new one is deleted directly
+        IndexIncrement increment = deletionFile2.mergeOldFile(deletionFile1).getOrCompute();
+        assertThat(indexDir.listFiles()).hasSize(1);
+        assertThat(increment.newIndexFiles()).hasSize(1);
+        assertThat(increment.deletedIndexFiles()).isEmpty();
+    }
+
+    @Test
+    public void testIncrementalIndexBoundsLoadedDeletionVectors() {
+        FileStoreTable table = incrementalTable("2 mb");
+        DeletionVectorsMaintainer.Factory factory =
+                new DeletionVectorsMaintainer.Factory(table.store().newIndexFileHandler());
+        int numFiles = DeletionVectorsMaintainer.MAX_LOADED_DELETION_VECTORS + 100;
+
+        DeletionVectorsMaintainer dvMaintainer = factory.create();
+        for (int i = 0; i < numFiles; i++) {
+            dvMaintainer.notifyNewDeletion("f" + i, i);
+        }
+        commit(
+                table,
+                dvMaintainer.writeDeletionVectorsIndex(),
+                dvMaintainer.pollDeletedIndexFiles());
+        assertThat(dvMaintainer.numLoadedDeletionVectors())
+                .isEqualTo(DeletionVectorsMaintainer.MAX_LOADED_DELETION_VECTORS);
+
+        DeletionVectorsMaintainer restored =
+                factory.createOrRestore(
+                        table.snapshotManager().latestSnapshot(), BinaryRow.EMPTY_ROW, 0);
+        for (int i = 0; i < numFiles; i++) {
+            assertThat(restored.deletionVectorOf("f" + i).get().isDeleted(i)).isTrue();
+        }
+        assertThat(restored.numLoadedDeletionVectors())
+                .isEqualTo(DeletionVectorsMaintainer.MAX_LOADED_DELETION_VECTORS);
+
+        // evicted deletion vectors are read again when their index file is rewritten
+        restored.notifyNewDeletion("f0", 1);
+        commit(table, restored.writeDeletionVectorsIndex(), restored.pollDeletedIndexFiles());
+        Map<String, DeletionVector> all =
+                factory.createOrRestore(
+                                table.snapshotManager().latestSnapshot(), BinaryRow.EMPTY_ROW, 0)
+                        .deletionVectors();
+        assertThat(all).hasSize(numFiles);
+        assertThat(all.get("f0").isDeleted(1)).isTrue();
+        assertThat(all.get("f" + (numFiles - 1)).isDeleted(numFiles - 1)).isTrue();
+    }
+
+    private FileStoreTable incrementalTable(String targetSize) {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.DELETION_VECTOR_INDEX_FILE_INCREMENTAL.key(), "true");
+        options.put(CoreOptions.DELETION_VECTOR_INDEX_FILE_TARGET_SIZE.key(), targetSize);
+        return table.copy(options);
+    }
+
+    private void commit(
+            FileStoreTable table, List<IndexFileMeta> newFiles, List<IndexFileMeta> deletedFiles) {
+        CommitMessage commitMessage =
+                new CommitMessageImpl(
+                        BinaryRow.EMPTY_ROW,
+                        0,
+                        1,
+                        DataIncrement.emptyIncrement(),
+                        CompactIncrement.emptyIncrement(),
+                        new IndexIncrement(newFiles, deletedFiles));
+        table.newBatchWriteBuilder().newCommit().commit(Collections.singletonList(commitMessage));
+    }
 }
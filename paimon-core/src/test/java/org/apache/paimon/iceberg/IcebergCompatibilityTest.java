@@ -34,10 +34,13 @@ import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.iceberg.manifest.IcebergManifestEntry;
 import org.apache.paimon.iceberg.manifest.IcebergManifestFile;
 import org.apache.paimon.iceberg.manifest.IcebergManifestFileMeta;
 import org.apache.paimon.iceberg.manifest.IcebergManifestList;
 import org.apache.paimon.iceberg.metadata.IcebergMetadata;
+import org.apache.paimon.iceberg.metadata.IcebergSnapshot;
+import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.Schema;
@@ -47,6 +50,7 @@ import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.TableCommitImpl;
 import org.apache.paimon.table.sink.TableWriteImpl;
+import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DataTypeRoot;
@@ -294,6 +298,232 @@ public class IcebergCompatibilityTest {
         commit.close();
     }
 
+    @Test
+    public void testCatchUpAppendOnlyTable() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT()}, new String[] {"k", "v"});
+        FileStoreTable table =
+                createPaimonTable(rowType, Collections.emptyList(), Collections.emptyList(), -1);
+
+        String commitUser = UUID.randomUUID().toString();
+        try (TableWriteImpl<?> write = table.newWrite(commitUser);
+                TableCommitImpl commit = table.newCommit(commitUser)) {
+            write.write(GenericRow.of(1, 10));
+            write.write(GenericRow.of(2, 20));
+            commit.commit(1, write.prepareCommit(false, 1));
+        }
+        IcebergPathFactory pathFactory =
+                new IcebergPathFactory(new Path(table.location(), "metadata"));
+        IcebergManifestList manifestList = IcebergManifestList.create(table, pathFactory);
+        IcebergMetadata metadata1 =
+                IcebergMetadata.fromPath(table.fileIO(), pathFactory.toMetadataPath(1));
+        List<IcebergManifestFileMeta> manifests1 =
+                manifestList.read(new Path(metadata1.currentSnapshot().manifestList()).getName());
+
+        commitWithoutIceberg(
+                table,
+                commitUser,
+                write -> {
+                    write.write(GenericRow.of(3, 30));
+                    return write.prepareCommit(false, 2);
+                });
+
+        try (TableWriteImpl<?> write = table.newWrite(commitUser);
+                TableCommitImpl commit = table.newCommit(commitUser)) {
+            write.write(GenericRow.of(4, 40));
+            commit.commit(3, write.prepareCommit(false, 3));
+        }
+        assertLiveFilesMatchPaimon(table);
+
+        // metadata is caught up from the metadata of snapshot 1, instead of created afresh
+        IcebergMetadata metadata3 =
+                IcebergMetadata.fromPath(table.fileIO(), pathFactory.toMetadataPath(3));
+        assertThat(metadata3.tableUuid()).isEqualTo(metadata1.tableUuid());
+        assertThat(metadata3.snapshots())
+                .extracting(IcebergSnapshot::snapshotId)
+                .containsExactly(1L, 3L);
+        assertThat(
+                        manifestList.read(
+                                new Path(metadata3.currentSnapshot().manifestList()).getName()))
+                .containsAll(manifests1)
+                .hasSize(manifests1.size() + 1);
+    }
+
+    @Test
+    public void testCatchUpPrimaryKeyTable() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT()}, new String[] {"k", "v"});
+        FileStoreTable table =
+                createPaimonTable(
+                        rowType, Collections.emptyList(), Collections.singletonList("k"), 1);
+
+        String commitUser = UUID.randomUUID().toString();
+        try (TableWriteImpl<?> write = table.newWrite(commitUser);
+                TableCommitImpl commit = table.newCommit(commitUser)) {
+            write.write(GenericRow.of(1, 10));
+            write.write(GenericRow.of(2, 20));
+            commit.commit(1, write.prepareCommit(true, 1));
+        }
+
+        // files of snapshot 1 are removed by the compaction of snapshot 3
+        commitWithoutIceberg(
+                table,
+                commitUser,
+                write -> {
+                    write.write(GenericRow.of(1, 11));
+                    write.write(GenericRow.of(3, 30));
+                    write.compact(BinaryRow.EMPTY_ROW, 0, true);
+                    return write.prepareCommit(true, 2);
+                });
+        long noIcebergSnapshotId = table.snapshotManager().latestSnapshotId();
+        IcebergPathFactory pathFactory =
+                new IcebergPathFactory(new Path(table.location(), "metadata"));
+        assertThat(table.fileIO().exists(pathFactory.toMetadataPath(noIcebergSnapshotId)))
+                .isFalse();
+
+        try (TableWriteImpl<?> write = table.newWrite(commitUser);
+                TableCommitImpl commit = table.newCommit(commitUser)) {
+            write.write(GenericRow.of(2, 21));
+            write.compact(BinaryRow.EMPTY_ROW, 0, true);
+            commit.commit(3, write.prepareCommit(true, 3));
+        }
+        assertLiveFilesMatchPaimon(table);
+    }
+
+    @Test
+    public void testAsyncCompactMetadata() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT()}, new String[] {"k", "v"});
+        FileStoreTable table =
+                createPaimonTable(
+                        rowType,
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        -1,
+                        Collections.singletonMap(IcebergOptions.COMPACT_ASYNC.key(), "true"));
+
+        String commitUser = UUID.randomUUID().toString();
+        IcebergPathFactory pathFactory =
+                new IcebergPathFactory(new Path(table.location(), "metadata"));
+        IcebergManifestList manifestList = IcebergManifestList.create(table, pathFactory);
+        int numCommits = 30;
+        try (TableWriteImpl<?> write = table.newWrite(commitUser);
+                TableCommitImpl commit = table.newCommit(commitUser)) {
+            for (int i = 1; i <= numCommits; i++) {
+                write.write(GenericRow.of(i, i * 10));
+                commit.commit(i, write.prepareCommit(false, i));
+                assertLiveFilesMatchPaimon(table);
+            }
+        }
+
+        IcebergMetadata metadata =
+                IcebergMetadata.fromPath(table.fileIO(), pathFactory.toMetadataPath(numCommits));
+        // each commit adds a manifest file, compacted manifest files are used by later commits
+        assertThat(manifestList.read(new Path(metadata.currentSnapshot().manifestList()).getName()))
+                .hasSizeLessThan(numCommits);
+    }
+
+    @Test
+    public void testParallelWriteManifestFiles() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT(), DataTypes.INT()},
+                        new String[] {"pt", "k", "v"});
+        FileStoreTable table =
+                createPaimonTable(
+                        rowType,
+                        Collections.singletonList("pt"),
+                        Collections.emptyList(),
+                        -1,
+                        Collections.singletonMap(CoreOptions.SCAN_MANIFEST_PARALLELISM.key(), "4"));
+
+        int previous = IcebergCommitCallback.parallelWriteMinFiles;
+        IcebergCommitCallback.parallelWriteMinFiles = 2;
+        try {
+            String commitUser = UUID.randomUUID().toString();
+            try (TableWriteImpl<?> write = table.newWrite(commitUser);
+                    TableCommitImpl commit = table.newCommit(commitUser)) {
+                for (int pt = 0; pt < 8; pt++) {
+                    write.write(GenericRow.of(pt, pt, pt * 10));
+                }
+                commit.commit(1, write.prepareCommit(false, 1));
+            }
+        } finally {
+            IcebergCommitCallback.parallelWriteMinFiles = previous;
+        }
+        assertLiveFilesMatchPaimon(table);
+
+        // the 8 files of the fresh metadata are written by 4 writers in parallel
+        IcebergPathFactory pathFactory =
+                new IcebergPathFactory(new Path(table.location(), "metadata"));
+        IcebergManifestList manifestList = IcebergManifestList.create(table, pathFactory);
+        IcebergMetadata metadata =
+                IcebergMetadata.fromPath(table.fileIO(), pathFactory.toMetadataPath(1));
+        assertThat(manifestList.read(new Path(metadata.currentSnapshot().manifestList()).getName()))
+                .hasSize(4);
+    }
+
+    private void commitWithoutIceberg(
+            FileStoreTable table,
+            String commitUser,
+            ThrowingFunction<TableWriteImpl<?>, List<CommitMessage>> writer)
+            throws Exception {
+        FileStoreTable noIcebergTable =
+                table.copy(
+                        Collections.singletonMap(
+                                IcebergOptions.METADATA_ICEBERG_STORAGE.key(),
+                                IcebergOptions.StorageType.DISABLED.toString()));
+        try (TableWriteImpl<?> write = noIcebergTable.newWrite(commitUser);
+                TableCommitImpl commit = noIcebergTable.newCommit(commitUser)) {
+            commit.commit(2, writer.apply(write));
+        }
+    }
+
+    /**
+     * Checks that the live entries in the Iceberg manifests of the latest snapshot are exactly the
+     * data files Paimon exposes to Iceberg, without going through the Iceberg reader.
+     */
+    private void assertLiveFilesMatchPaimon(FileStoreTable table) {
+        long snapshotId = table.snapshotManager().latestSnapshotId();
+        IcebergPathFactory pathFactory =
+                new IcebergPathFactory(new Path(table.location(), "metadata"));
+        IcebergManifestList manifestList = IcebergManifestList.create(table, pathFactory);
+        IcebergManifestFile manifestFile = IcebergManifestFile.create(table, pathFactory);
+        IcebergMetadata metadata =
+                IcebergMetadata.fromPath(table.fileIO(), pathFactory.toMetadataPath(snapshotId));
+        assertThat(metadata.currentSnapshotId()).isEqualTo(snapshotId);
+
+        List<String> icebergFiles = new ArrayList<>();
+        for (IcebergManifestFileMeta meta :
+                manifestList.read(new Path(metadata.currentSnapshot().manifestList()).getName())) {
+            for (IcebergManifestEntry entry : manifestFile.read(meta)) {
+                if (entry.isLive()) {
+                    icebergFiles.add(new Path(entry.file().filePath()).getName());
+                }
+            }
+        }
+
+        int maxLevel = table.coreOptions().numLevels() - 1;
+        List<String> paimonFiles = new ArrayList<>();
+        for (DataSplit split : table.newSnapshotReader().read().dataSplits()) {
+            for (DataFileMeta file : split.dataFiles()) {
+                if (table.primaryKeys().isEmpty() || file.level() == maxLevel) {
+                    paimonFiles.add(file.fileName());
+                }
+            }
+        }
+        assertThat(paimonFiles).isNotEmpty();
+        assertThat(icebergFiles).containsExactlyInAnyOrderElementsOf(paimonFiles);
+    }
+
+    /** A function which may throw exception. */
+    private interface ThrowingFunction<T, R> {
+        R apply(T t) throws Exception;
+    }
+
     @Test
     public void testSchemaChange() throws Exception {
         RowType rowType =
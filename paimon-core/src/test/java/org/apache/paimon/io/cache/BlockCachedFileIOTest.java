@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link BlockCachedFileIO} and {@link BlockCache}. */
+public class BlockCachedFileIOTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testRandomRead() throws IOException {
+        LocalFileIO fileIO = LocalFileIO.create();
+        Path path = new Path(tempDir.toString(), "data-1.orc");
+        byte[] data = new byte[10_000];
+        new Random().nextBytes(data);
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false)) {
+            out.write(data);
+        }
+
+        BlockCache cache = new BlockCache(1024, MemorySize.ofMebiBytes(1), null, MemorySize.ZERO);
+        Random random = new Random();
+        for (int i = 0; i < 100; i++) {
+            try (SeekableInputStream in = new BlockCachedInputStream(fileIO, path, cache)) {
+                int pos = random.nextInt(data.length);
+                int len = random.nextInt(3000) + 1;
+                in.seek(pos);
+                byte[] bytes = new byte[len];
+                int read = readFully(in, bytes);
+                assertThat(read).isEqualTo(Math.min(len, data.length - pos));
+                for (int j = 0; j < read; j++) {
+                    assertThat(bytes[j]).isEqualTo(data[pos + j]);
+                }
+                assertThat(in.getPos()).isEqualTo(pos + read);
+                int next = pos + read < data.length ? data[pos + read] & 0xFF : -1;
+                assertThat(in.read()).isEqualTo(next);
+            }
+        }
+
+        // all 10 blocks are read from file system only once
+        assertThat(cache.metrics().getMissedObject().get()).isLessThanOrEqualTo(10);
+        assertThat(cache.metrics().getHitObject().get()).isGreaterThan(0);
+    }
+
+    @Test
+    public void testDiskTier() throws IOException {
+        LocalFileIO fileIO = LocalFileIO.create();
+        Path path = new Path(tempDir.toString(), "data-2.orc");
+        byte[] data = new byte[8192];
+        new Random().nextBytes(data);
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false)) {
+            out.write(data);
+        }
+
+        // memory can only hold two blocks, the others are spilled to disk
+        BlockCache cache =
+                new BlockCache(
+                        1024,
+                        MemorySize.ofBytes(2048),
+                        tempDir.resolve("cache").toString(),
+                        MemorySize.ofMebiBytes(1));
+        byte[] bytes = new byte[data.length];
+        try (SeekableInputStream in = new BlockCachedInputStream(fileIO, path, cache)) {
+            assertThat(readFully(in, bytes)).isEqualTo(data.length);
+        }
+        cache.cleanUp();
+        assertThat(cache.metrics().getMissedObject().get()).isEqualTo(8);
+
+        // delete the file, all blocks should be served from memory or local disk
+        fileIO.delete(path, false);
+        bytes = new byte[data.length];
+        try (SeekableInputStream in = new BlockCachedInputStream(fileIO, path, cache)) {
+            assertThat(readFully(in, bytes)).isEqualTo(data.length);
+        }
+        assertThat(bytes).isEqualTo(data);
+        assertThat(cache.metrics().getMissedObject().get()).isEqualTo(8);
+    }
+
+    private static int readFully(SeekableInputStream in, byte[] bytes) throws IOException {
+        int read = 0;
+        while (read < bytes.length) {
+            int n = in.read(bytes, read, bytes.length - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return read;
+    }
+}
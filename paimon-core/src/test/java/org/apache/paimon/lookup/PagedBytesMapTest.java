@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link PagedBytesMap}. */
+public class PagedBytesMapTest {
+
+    @Test
+    public void testPutGetDelete() {
+        PagedBytesMap map = new PagedBytesMap(1024);
+        map.put(bytes(1), bytes(10));
+        map.put(bytes(2), bytes(20));
+        map.put(bytes(1), bytes(11));
+        assertThat(map.get(bytes(1))).isEqualTo(bytes(11));
+        assertThat(map.get(bytes(2))).isEqualTo(bytes(20));
+        assertThat(map.get(bytes(3))).isNull();
+        assertThat(map.size()).isEqualTo(2);
+
+        assertThat(map.delete(bytes(1))).isTrue();
+        assertThat(map.delete(bytes(1))).isFalse();
+        assertThat(map.get(bytes(1))).isNull();
+        assertThat(map.size()).isEqualTo(1);
+
+        map.clear();
+        assertThat(map.size()).isEqualTo(0);
+        assertThat(map.get(bytes(2))).isNull();
+    }
+
+    @Test
+    public void testAppend() {
+        PagedBytesMap map = new PagedBytesMap(1024);
+        map.append(bytes(1), bytes(10));
+        map.append(bytes(1), bytes(11));
+        map.append(bytes(2), bytes(20));
+        map.append(bytes(1), bytes(12));
+
+        assertThat(map.getAll(bytes(1))).containsExactly(bytes(10), bytes(11), bytes(12));
+        assertThat(map.getAll(bytes(2))).containsExactly(bytes(20));
+        assertThat(map.getAll(bytes(3))).isEmpty();
+
+        map.put(bytes(1), bytes(13));
+        assertThat(map.getAll(bytes(1))).containsExactly(bytes(13));
+    }
+
+    @Test
+    public void testRandom() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        // small pages to trigger compaction, records may be larger than a page
+        PagedBytesMap map = new PagedBytesMap(256);
+        Map<Integer, List<byte[]>> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int key = rnd.nextInt(500);
+            byte[] value = randomBytes(rnd.nextInt(10) == 0 ? 300 + rnd.nextInt(300) : 8);
+            switch (rnd.nextInt(4)) {
+                case 0:
+                    map.put(bytes(key), value);
+                    List<byte[]> values = new ArrayList<>();
+                    values.add(value);
+                    expected.put(key, values);
+                    break;
+                case 1:
+                    if (expected.containsKey(key) && expected.get(key).size() > 10) {
+                        break;
+                    }
+                    map.append(bytes(key), value);
+                    expected.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+                    break;
+                case 2:
+                    assertThat(map.delete(bytes(key))).isEqualTo(expected.remove(key) != null);
+                    break;
+                default:
+                    List<byte[]> all = expected.get(key);
+                    if (all == null) {
+                        assertThat(map.get(bytes(key))).isNull();
+                        assertThat(map.getAll(bytes(key))).isEmpty();
+                    } else {
+                        assertThat(map.get(bytes(key))).isEqualTo(all.get(all.size() - 1));
+                        assertThat(map.getAll(bytes(key))).containsExactlyElementsOf(all);
+                    }
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (Map.Entry<Integer, List<byte[]>> entry : expected.entrySet()) {
+            assertThat(map.getAll(bytes(entry.getKey())))
+                    .containsExactlyElementsOf(entry.getValue());
+        }
+        map.clear();
+    }
+
+    private static byte[] bytes(int i) {
+        return new byte[] {(byte) (i >>> 24), (byte) (i >>> 16), (byte) (i >>> 8), (byte) i};
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -227,6 +227,36 @@ public class FileDeletionTest {
         assertPathExists(fileIO, pathFactory.bucketPath(partition, 1));
     }
 
+    @Test
+    public void testPipelinedDataFileDeletion() throws Exception {
+        TestFileStore store = createStore(TestKeyValueGenerator.GeneratorMode.NON_PARTITIONED);
+        TestKeyValueGenerator gen =
+                new TestKeyValueGenerator(TestKeyValueGenerator.GeneratorMode.NON_PARTITIONED);
+        FileStorePathFactory pathFactory = store.pathFactory();
+
+        Map<BinaryRow, Map<Integer, RecordWriter<KeyValue>>> writers = new HashMap<>();
+        for (int bucket : Arrays.asList(0, 1)) {
+            List<KeyValue> kvs = partitionedData(5, gen);
+            BinaryRow partition = gen.getPartition(kvs.get(0));
+            writeData(store, kvs, partition, bucket, writers);
+        }
+        commitData(store, commitIdentifier++, writers);
+
+        BinaryRow partition = gen.getPartition(gen.next());
+        cleanBucket(store, partition, 0);
+
+        SnapshotDeletion snapshotDeletion = store.newSnapshotDeletion();
+        snapshotDeletion.setPipelined(true);
+        snapshotDeletion.cleanUnusedDataFiles(store.snapshotManager().snapshot(2), f -> false);
+        snapshotDeletion.awaitPendingDeletions();
+
+        // changelog files are not cleaned here
+        assertThat(fileIO.listStatus(pathFactory.bucketPath(partition, 0)))
+                .noneMatch(status -> status.getPath().getName().startsWith("data-"));
+        assertThat(fileIO.listStatus(pathFactory.bucketPath(partition, 1)))
+                .anyMatch(status -> status.getPath().getName().startsWith("data-"));
+    }
+
     /**
      * This test checks FileStoreExpire won't delete data files and manifests that are used by tags.
      * Test process:
@@ -26,6 +26,9 @@ import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.DataFormatTestUtil;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.FileIOChannel;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileStatus;
 import org.apache.paimon.fs.Path;
@@ -63,6 +66,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -77,6 +82,7 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -91,6 +97,7 @@ public class LocalOrphanFilesCleanTest {
 
     @TempDir private java.nio.file.Path tempDir;
     @TempDir private java.nio.file.Path tmpExternalPath;
+    @TempDir private java.nio.file.Path ioTempDir;
     private Path tablePath;
     private FileIO fileIO;
     private RowType rowType;
@@ -100,6 +107,7 @@ public class LocalOrphanFilesCleanTest {
     private Path manifestDir;
     private long incrementalIdentifier;
     private List<Path> manuallyAddedFiles;
+    @Nullable private IOManager ioManager;
 
     @BeforeEach
     public void beforeEach() throws Exception {
@@ -150,6 +158,32 @@ public class LocalOrphanFilesCleanTest {
         normallyRemoving(tablePath);
     }
 
+    @Test
+    public void testNormallyRemovingWithExternalSort() throws Throwable {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.ORPHAN_FILES_CLEAN_EXTERNAL_SORT.key(), "true");
+        // small buffer to spill file names to disk
+        options.put(CoreOptions.WRITE_BUFFER_SIZE.key(), "64 kb");
+        options.put(CoreOptions.PAGE_SIZE.key(), "4 kb");
+        table = table.copy(options);
+        // the external sort spills to the io manager given by the engine
+        AtomicInteger spillChannels = new AtomicInteger();
+        ioManager =
+                new IOManagerImpl(ioTempDir.toString()) {
+                    @Override
+                    public FileIOChannel.Enumerator createChannelEnumerator() {
+                        spillChannels.incrementAndGet();
+                        return super.createChannelEnumerator();
+                    }
+                };
+        try {
+            normallyRemoving(tablePath);
+        } finally {
+            ioManager.close();
+        }
+        assertThat(spillChannels.get()).isGreaterThan(0);
+    }
+
     public void normallyRemoving(Path dataPath) throws Throwable {
         int commitTimes = 30;
         List<List<TestPojo>> committedData = new ArrayList<>();
@@ -199,7 +233,8 @@ public class LocalOrphanFilesCleanTest {
         // second check
         orphanFilesClean =
                 new LocalOrphanFilesClean(
-                        table, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2));
+                                table, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2))
+                        .withIOManager(ioManager);
         List<Path> deleted = orphanFilesClean.clean().getDeletedFilesPath();
         try {
             validate(deleted, snapshotData, new HashMap<>());
@@ -302,7 +337,8 @@ public class LocalOrphanFilesCleanTest {
         // second check
         orphanFilesClean =
                 new LocalOrphanFilesClean(
-                        table, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2));
+                                table, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2))
+                        .withIOManager(ioManager);
         List<Path> deleted = orphanFilesClean.clean().getDeletedFilesPath();
         try {
             validate(deleted, snapshotData, new HashMap<>());
@@ -510,7 +546,8 @@ public class LocalOrphanFilesCleanTest {
         // second check
         orphanFilesClean =
                 new LocalOrphanFilesClean(
-                        table, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2));
+                                table, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2))
+                        .withIOManager(ioManager);
         List<Path> deleted = orphanFilesClean.clean().getDeletedFilesPath();
         validate(deleted, snapshotData, changelogData);
     }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.TestMetricRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link AppendCompactCoordinatorMetrics}. */
+public class AppendCompactCoordinatorMetricsTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMetricsAreUpdated() {
+        AppendCompactCoordinatorMetrics metrics =
+                new AppendCompactCoordinatorMetrics(new TestMetricRegistry(), "myTable");
+        Map<String, Metric> registered = metrics.getMetricGroup().getMetrics();
+        assertThat(registered.keySet())
+                .containsExactlyInAnyOrder(
+                        AppendCompactCoordinatorMetrics.PENDING_FILE_COUNT,
+                        AppendCompactCoordinatorMetrics.PENDING_PARTITION_COUNT,
+                        AppendCompactCoordinatorMetrics.MAX_PARTITION_PENDING_FILE_COUNT,
+                        AppendCompactCoordinatorMetrics.PLANNED_TASK_COUNT);
+
+        Gauge<Long> pendingFiles =
+                (Gauge<Long>) registered.get(AppendCompactCoordinatorMetrics.PENDING_FILE_COUNT);
+        Gauge<Integer> pendingPartitions =
+                (Gauge<Integer>)
+                        registered.get(AppendCompactCoordinatorMetrics.PENDING_PARTITION_COUNT);
+        Gauge<Integer> maxPartitionPendingFiles =
+                (Gauge<Integer>)
+                        registered.get(
+                                AppendCompactCoordinatorMetrics.MAX_PARTITION_PENDING_FILE_COUNT);
+        Counter plannedTasks =
+                (Counter) registered.get(AppendCompactCoordinatorMetrics.PLANNED_TASK_COUNT);
+        assertThat(pendingFiles.getValue()).isEqualTo(0L);
+        assertThat(plannedTasks.getCount()).isEqualTo(0L);
+
+        metrics.reportPlan(3, 20, 2, 15);
+        metrics.reportPlan(2, 10, 1, 10);
+        assertThat(pendingFiles.getValue()).isEqualTo(10L);
+        assertThat(pendingPartitions.getValue()).isEqualTo(1);
+        assertThat(maxPartitionPendingFiles.getValue()).isEqualTo(10);
+        assertThat(plannedTasks.getCount()).isEqualTo(5L);
+    }
+}
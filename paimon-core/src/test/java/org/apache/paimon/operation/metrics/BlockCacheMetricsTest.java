@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.io.cache.BlockCache;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.metrics.TestMetricRegistry;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.options.Options;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link BlockCacheMetrics}. */
+public class BlockCacheMetricsTest {
+
+    @Test
+    public void testMetricsAreUpdated() throws IOException {
+        BlockCache cache =
+                BlockCache.getOrCreate(16, MemorySize.ofKibiBytes(1), null, MemorySize.ZERO);
+        BlockCacheMetrics metrics =
+                new BlockCacheMetrics(new TestMetricRegistry(), "myTable", cache);
+        MetricGroup metricGroup = metrics.getMetricGroup();
+        assertThat(metricGroup.getGroupName()).isEqualTo(BlockCacheMetrics.GROUP_NAME);
+        Map<String, Metric> registeredMetrics = metricGroup.getMetrics();
+        assertThat(registeredMetrics.keySet())
+                .containsExactlyInAnyOrder(
+                        BlockCacheMetrics.BLOCK_HIT_CACHE, BlockCacheMetrics.BLOCK_MISSED_CACHE);
+
+        long hit = gauge(registeredMetrics, BlockCacheMetrics.BLOCK_HIT_CACHE);
+        long missed = gauge(registeredMetrics, BlockCacheMetrics.BLOCK_MISSED_CACHE);
+
+        String file = "block-cache-metrics-test-" + System.nanoTime();
+        cache.getBlock(file, 0, (position, length) -> new byte[length]);
+        cache.getBlock(file, 0, (position, length) -> new byte[length]);
+
+        assertThat(gauge(registeredMetrics, BlockCacheMetrics.BLOCK_MISSED_CACHE))
+                .isEqualTo(missed + 1);
+        assertThat(gauge(registeredMetrics, BlockCacheMetrics.BLOCK_HIT_CACHE)).isEqualTo(hit + 1);
+    }
+
+    @Test
+    public void testRegisteredOncePerTable() {
+        List<String> groups = new ArrayList<>();
+        MetricRegistry registry =
+                new TestMetricRegistry() {
+                    @Override
+                    protected MetricGroup createMetricGroup(
+                            String groupName, Map<String, String> variables) {
+                        groups.add(groupName + "." + variables.get("table"));
+                        return super.createMetricGroup(groupName, variables);
+                    }
+                };
+        Options options = new Options();
+        options.set(CoreOptions.DATA_FILE_BLOCK_CACHE_ENABLED, true);
+        CoreOptions coreOptions = new CoreOptions(options);
+
+        // a writer and a scan of the same table share the registry
+        MetricUtils.registerFileCacheMetrics(registry, "t1", coreOptions);
+        MetricUtils.registerFileCacheMetrics(registry, "t1", coreOptions);
+        MetricUtils.registerFileCacheMetrics(registry, "t2", coreOptions);
+        MetricUtils.registerFileCacheMetrics(new TestMetricRegistry(), "t1", coreOptions);
+
+        assertThat(groups)
+                .containsExactly(
+                        BlockCacheMetrics.GROUP_NAME + ".t1", BlockCacheMetrics.GROUP_NAME + ".t2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private long gauge(Map<String, Metric> metrics, String name) {
+        return ((Gauge<Long>) metrics.get(name)).getValue();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.TestMetricRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ExpireMetrics}. */
+public class ExpireMetricsTest {
+
+    /** Tests that the metrics are updated properly. */
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testMetricsAreUpdated() {
+        ExpireMetrics expireMetrics = new ExpireMetrics(new TestMetricRegistry(), "myTable");
+        Map<String, Metric> metrics = expireMetrics.getMetricGroup().getMetrics();
+        Gauge<Long> lastExpireDuration =
+                (Gauge<Long>) metrics.get(ExpireMetrics.LAST_EXPIRE_DURATION);
+        Gauge<Long> lastExpiredSnapshots =
+                (Gauge<Long>) metrics.get(ExpireMetrics.LAST_EXPIRED_SNAPSHOTS);
+        Gauge<Long> lastDataFilesCleanDuration =
+                (Gauge<Long>) metrics.get(ExpireMetrics.LAST_DATA_FILES_CLEAN_DURATION);
+        Gauge<Long> lastChangelogFilesCleanDuration =
+                (Gauge<Long>) metrics.get(ExpireMetrics.LAST_CHANGELOG_FILES_CLEAN_DURATION);
+        Gauge<Long> lastManifestsCleanDuration =
+                (Gauge<Long>) metrics.get(ExpireMetrics.LAST_MANIFESTS_CLEAN_DURATION);
+        Histogram expireDuration = (Histogram) metrics.get(ExpireMetrics.EXPIRE_DURATION);
+
+        assertThat(lastExpireDuration.getValue()).isEqualTo(0);
+        assertThat(lastExpiredSnapshots.getValue()).isEqualTo(0);
+        assertThat(expireDuration.getCount()).isEqualTo(0);
+
+        expireMetrics.reportExpire(5, 300, 20, 100);
+        assertThat(lastExpireDuration.getValue()).isEqualTo(420);
+        assertThat(lastExpiredSnapshots.getValue()).isEqualTo(5);
+        assertThat(lastDataFilesCleanDuration.getValue()).isEqualTo(300);
+        assertThat(lastChangelogFilesCleanDuration.getValue()).isEqualTo(20);
+        assertThat(lastManifestsCleanDuration.getValue()).isEqualTo(100);
+        assertThat(expireDuration.getCount()).isEqualTo(1);
+        assertThat(expireDuration.getStatistics().getMax()).isEqualTo(420);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.format.FooterCache;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.TestMetricRegistry;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link FooterCacheMetrics}. */
+public class FooterCacheMetricsTest {
+
+    @Test
+    public void testMetricsAreUpdated() {
+        MemorySize cacheSize = MemorySize.ofKibiBytes(1);
+        FooterCache<String> cache =
+                FooterCache.getOrCreate(
+                        "footer-metrics-test", cacheSize, Collections.emptyMap(), String::length);
+        FooterCacheMetrics metrics =
+                new FooterCacheMetrics(
+                        new TestMetricRegistry(),
+                        "myTable",
+                        FooterCache.metrics("footer-metrics-test", cacheSize));
+        MetricGroup metricGroup = metrics.getMetricGroup();
+        assertThat(metricGroup.getGroupName()).isEqualTo(FooterCacheMetrics.GROUP_NAME);
+        Map<String, Metric> registeredMetrics = metricGroup.getMetrics();
+        assertThat(registeredMetrics.keySet())
+                .containsExactlyInAnyOrder(
+                        FooterCacheMetrics.FOOTER_HIT_CACHE,
+                        FooterCacheMetrics.FOOTER_MISSED_CACHE);
+
+        Path path = new Path("/footer-metrics-test");
+        assertThat(cache.getIfPresent(path)).isNull();
+        cache.put(path, "footer");
+        assertThat(cache.getIfPresent(path)).isEqualTo("footer");
+
+        assertThat(gauge(registeredMetrics, FooterCacheMetrics.FOOTER_MISSED_CACHE)).isEqualTo(1);
+        assertThat(gauge(registeredMetrics, FooterCacheMetrics.FOOTER_HIT_CACHE)).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private long gauge(Map<String, Metric> metrics, String name) {
+        return ((Gauge<Long>) metrics.get(name)).getValue();
+    }
+}
@@ -33,16 +33,22 @@ import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -51,7 +57,9 @@ import static okhttp3.ConnectionSpec.COMPATIBLE_TLS;
 import static okhttp3.ConnectionSpec.MODERN_TLS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
@@ -135,6 +143,51 @@ public class HttpClientTest {
                 () -> httpClient.get(MOCK_PATH, MockRESTData.class, restAuthFunction));
     }
 
+    @Test
+    public void testConditionalGet() throws Exception {
+        server.enqueueResponse(
+                server.generateMockResponse(mockResponseDataStr, 200).addHeader("ETag", "\"v1\""));
+        ConditionalResponse<MockRESTData> response =
+                httpClient.getIfModified(MOCK_PATH, null, MockRESTData.class, restAuthFunction);
+        assertEquals(mockResponseData.data(), response.response().data());
+        assertEquals("\"v1\"", response.etag());
+        assertNull(server.takeRequest(10, TimeUnit.SECONDS).getHeader("If-None-Match"));
+
+        server.enqueueResponse(new MockResponse().setResponseCode(304).addHeader("ETag", "\"v1\""));
+        response =
+                httpClient.getIfModified(MOCK_PATH, "\"v1\"", MockRESTData.class, restAuthFunction);
+        assertTrue(response.notModified());
+        assertEquals("\"v1\"", server.takeRequest(10, TimeUnit.SECONDS).getHeader("If-None-Match"));
+    }
+
+    @Test
+    public void testGetAsync() throws Exception {
+        List<CompletableFuture<ConditionalResponse<MockRESTData>>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            server.enqueueResponse(mockResponseDataStr, 200);
+            futures.add(
+                    httpClient.getIfModifiedAsync(
+                            MOCK_PATH, null, MockRESTData.class, restAuthFunction));
+        }
+        for (CompletableFuture<ConditionalResponse<MockRESTData>> future : futures) {
+            assertEquals(mockResponseData.data(), future.get().response().data());
+        }
+
+        server.enqueueResponse(errorResponseStr, 400);
+        ExecutionException e =
+                assertThrows(
+                        ExecutionException.class,
+                        () ->
+                                httpClient
+                                        .getIfModifiedAsync(
+                                                MOCK_PATH,
+                                                null,
+                                                MockRESTData.class,
+                                                restAuthFunction)
+                                        .get());
+        assertTrue(e.getCause() instanceof BadRequestException);
+    }
+
     @Test
     public void testPostSuccess() {
         server.enqueueResponse(mockResponseDataStr, 200);
@@ -34,6 +34,8 @@ import org.apache.paimon.rest.auth.DLFTokenLoaderFactory;
 import org.apache.paimon.rest.auth.RESTAuthParameter;
 import org.apache.paimon.rest.exceptions.NotAuthorizedException;
 import org.apache.paimon.rest.responses.ConfigResponse;
+import org.apache.paimon.schema.SchemaChange;
+import org.apache.paimon.table.Table;
 
 import org.apache.paimon.shade.guava30.com.google.common.collect.ImmutableMap;
 
@@ -43,10 +45,12 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -147,6 +151,36 @@ class MockRESTCatalogTest extends RESTCatalogTest {
         assertEquals(headers.get(serverDefineHeaderName), serverDefineHeaderValue);
     }
 
+    @Test
+    void testConditionalTableMetadataRefresh() throws Exception {
+        Identifier identifier = Identifier.create("cache_db", "t");
+        restCatalog.createDatabase(identifier.getDatabaseName(), false);
+        restCatalog.createTable(identifier, DEFAULT_TABLE_SCHEMA, false);
+
+        Table table = restCatalog.getTable(identifier);
+        assertThat(restCatalogServer.notModifiedCount()).isEqualTo(0);
+        // the second load is answered with not modified, and uses the cached metadata
+        assertThat(restCatalog.getTable(identifier).uuid()).isEqualTo(table.uuid());
+        assertThat(restCatalogServer.notModifiedCount()).isEqualTo(1);
+        restCatalog.getTables(Collections.singletonList(identifier));
+        assertThat(restCatalogServer.notModifiedCount()).isEqualTo(2);
+
+        restCatalog.alterTable(
+                identifier, Collections.singletonList(SchemaChange.setOption("k", "v")), false);
+        assertThat(restCatalog.getTable(identifier).options()).containsEntry("k", "v");
+        assertThat(restCatalogServer.notModifiedCount()).isEqualTo(2);
+        assertThat(restCatalog.getTable(identifier).options()).containsEntry("k", "v");
+        assertThat(restCatalogServer.notModifiedCount()).isEqualTo(3);
+
+        // without cache, conditional requests are never sent
+        options.set(RESTCatalogOptions.TABLE_METADATA_CACHE_ENABLED, false);
+        try (RESTCatalog catalogWithoutCache = new RESTCatalog(CatalogContext.create(options))) {
+            catalogWithoutCache.getTable(identifier);
+            catalogWithoutCache.getTable(identifier);
+        }
+        assertThat(restCatalogServer.notModifiedCount()).isEqualTo(3);
+    }
+
     private void testDlfAuth(RESTCatalog restCatalog) throws Exception {
         String databaseName = "db1";
         restCatalog.createDatabase(databaseName, true);
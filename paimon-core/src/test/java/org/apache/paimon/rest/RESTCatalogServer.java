@@ -92,6 +92,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableMap;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
@@ -104,6 +106,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.CoreOptions.PATH;
@@ -141,6 +144,7 @@ public class RESTCatalogServer {
     public final String warehouse;
 
     private final ResourcePaths resourcePaths;
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
 
     public RESTCatalogServer(
             String dataPath, AuthProvider authProvider, ConfigResponse config, String warehouse) {
@@ -204,6 +208,10 @@ public class RESTCatalogServer {
         DataTokenStore.removeDataToken(warehouse, identifier.getFullName());
     }
 
+    public int notModifiedCount() {
+        return notModifiedCount.get();
+    }
+
     public void addNoPermissionDatabase(String database) {
         noPermissionDatabases.add(database);
     }
@@ -391,7 +399,8 @@ public class RESTCatalogServer {
                             return tableHandle(
                                     restAuthParameter.method(),
                                     restAuthParameter.data(),
-                                    identifier);
+                                    identifier,
+                                    headers.get("if-none-match"));
                         } else if (isTables) {
                             return tablesHandle(
                                     restAuthParameter.method(),
@@ -968,7 +977,8 @@ public class RESTCatalogServer {
         return Options.fromMap(schema.options()).get(TYPE) == FORMAT_TABLE;
     }
 
-    private MockResponse tableHandle(String method, String data, Identifier identifier)
+    private MockResponse tableHandle(
+            String method, String data, Identifier identifier, @Nullable String ifNoneMatch)
             throws Exception {
         RESTResponse response;
         if (noPermissionTables.contains(identifier.getFullName())) {
@@ -1000,7 +1010,13 @@ public class RESTCatalogServer {
                                 "created",
                                 1L,
                                 "updated");
-                return mockResponse(response, 200);
+                String body = OBJECT_MAPPER.writeValueAsString(response);
+                String etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+                if (etag.equals(ifNoneMatch)) {
+                    notModifiedCount.incrementAndGet();
+                    return new MockResponse().setResponseCode(304).addHeader("ETag", etag);
+                }
+                return mockResponse(response, 200).addHeader("ETag", etag);
             case "POST":
                 AlterTableRequest requestBody =
                         OBJECT_MAPPER.readValue(data, AlterTableRequest.class);
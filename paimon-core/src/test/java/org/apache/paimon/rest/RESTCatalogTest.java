@@ -74,6 +74,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.CoreOptions.METASTORE_PARTITIONED_TABLE;
 import static org.apache.paimon.CoreOptions.METASTORE_TAG_TO_PARTITION;
@@ -441,6 +442,38 @@ public abstract class RESTCatalogTest extends CatalogTestBase {
                                         "non_existing_db", finalMaxResults, pageToken));
     }
 
+    @Test
+    public void testGetTables() throws Exception {
+        String databaseName = "get_tables_db";
+        restCatalog.createDatabase(databaseName, false);
+        List<Identifier> identifiers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Identifier identifier = Identifier.create(databaseName, "table" + i);
+            restCatalog.createTable(identifier, DEFAULT_TABLE_SCHEMA, false);
+            identifiers.add(identifier);
+        }
+        identifiers.add(Identifier.create(databaseName, "table0$snapshots"));
+
+        List<Table> tables = restCatalog.getTables(identifiers);
+        assertThat(tables).hasSize(identifiers.size());
+        for (int i = 0; i < identifiers.size(); i++) {
+            assertThat(tables.get(i).name()).isEqualTo(identifiers.get(i).getObjectName());
+        }
+        // loading again returns the same tables
+        assertThat(restCatalog.getTables(identifiers))
+                .extracting(Table::uuid)
+                .containsExactlyElementsOf(
+                        tables.stream().map(Table::uuid).collect(Collectors.toList()));
+
+        assertThatExceptionOfType(Catalog.TableNotExistException.class)
+                .isThrownBy(
+                        () ->
+                                restCatalog.getTables(
+                                        Arrays.asList(
+                                                identifiers.get(0),
+                                                Identifier.create(databaseName, "non_existing"))));
+    }
+
     @Test
     void testListViews() throws Exception {
         String databaseName = "views_paged_db";
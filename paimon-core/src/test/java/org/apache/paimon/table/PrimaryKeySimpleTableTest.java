@@ -107,6 +107,8 @@ import static org.apache.paimon.CoreOptions.CHANGELOG_NUM_RETAINED_MIN;
 import static org.apache.paimon.CoreOptions.CHANGELOG_PRODUCER;
 import static org.apache.paimon.CoreOptions.ChangelogProducer.LOOKUP;
 import static org.apache.paimon.CoreOptions.DELETION_VECTORS_ENABLED;
+import static org.apache.paimon.CoreOptions.DELETION_VECTOR_INDEX_FILE_INCREMENTAL;
+import static org.apache.paimon.CoreOptions.DELETION_VECTOR_INDEX_FILE_TARGET_SIZE;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT_PARQUET;
 import static org.apache.paimon.CoreOptions.LOOKUP_LOCAL_FILE_TYPE;
@@ -124,6 +126,7 @@ import static org.apache.paimon.CoreOptions.SOURCE_SPLIT_TARGET_SIZE;
 import static org.apache.paimon.CoreOptions.TARGET_FILE_SIZE;
 import static org.apache.paimon.Snapshot.CommitKind.COMPACT;
 import static org.apache.paimon.data.DataFormatTestUtil.internalRowToString;
+import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.apache.paimon.predicate.PredicateBuilder.and;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -898,6 +901,57 @@ public class PrimaryKeySimpleTableTest extends SimpleTableTestBase {
                                 "1|4|500|binary|varbinary|mapKey:mapVal|multiset"));
     }
 
+    @Test
+    public void testDeletionVectorsWithIncrementalIndex() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(BUCKET, 1);
+                            conf.set(DELETION_VECTORS_ENABLED, true);
+                            conf.set(DELETION_VECTOR_INDEX_FILE_INCREMENTAL, true);
+                            conf.set(DELETION_VECTOR_INDEX_FILE_TARGET_SIZE, MemorySize.ofBytes(1));
+                            conf.set(TARGET_FILE_SIZE, MemorySize.ofBytes(1));
+                        });
+
+        StreamTableWrite write =
+                table.newWrite(commitUser).withIOManager(new IOManagerImpl(tempDir.toString()));
+        StreamTableCommit commit = table.newCommit(commitUser);
+
+        // data files roll every 1000 records, update some keys of each file in every round
+        Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            for (int key = 0; key < 3000; key++) {
+                if (i == 0 || key % 10 == i) {
+                    write.write(rowData(1, key, (long) i));
+                    expected.put(key, (long) i);
+                }
+            }
+            commit.commit(i, write.prepareCommit(true, i));
+
+            List<DataSplit> splits = table.newSnapshotReader().read().dataSplits();
+            Map<Integer, Long> result = new HashMap<>();
+            for (String row : getResult(table.newRead(), toSplits(splits), BATCH_ROW_TO_STRING)) {
+                String[] fields = row.split("\\|");
+                result.put(Integer.parseInt(fields[1]), Long.parseLong(fields[2]));
+            }
+            assertThat(result).isEqualTo(expected);
+        }
+
+        // deletion vectors of a bucket are stored in multiple index files
+        assertThat(
+                        table.store()
+                                .newIndexFileHandler()
+                                .scan(
+                                        table.snapshotManager().latestSnapshot(),
+                                        DELETION_VECTORS_INDEX,
+                                        row(1),
+                                        0))
+                .hasSizeGreaterThan(1);
+
+        write.close();
+        commit.close();
+    }
+
     @Test
     public void testDeletionVectorsWithParquetFilter() throws Exception {
         // RowGroup record range [pk] :
@@ -67,6 +67,7 @@ import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.BranchManager;
 import org.apache.paimon.utils.SnapshotManager;
+import org.apache.paimon.utils.SnapshotTimeline;
 import org.apache.paimon.utils.TagManager;
 import org.apache.paimon.utils.TraceableFileIO;
 
@@ -1326,6 +1327,40 @@ public abstract class SimpleTableTestBase {
                         "4|40|400|binary|varbinary|mapKey:mapVal|multiset");
     }
 
+    @Test
+    public void testFastForwardWithTimeline() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        options -> options.set(CoreOptions.SNAPSHOT_TIMELINE_ENABLED, true));
+        generateBranch(table);
+        FileStoreTable tableBranch = table.switchToBranch(BRANCH_NAME);
+
+        // snapshot 2 of main and branch1 are committed by different users
+        try (StreamTableWrite write = table.newWrite("main-user");
+                StreamTableCommit commit = table.newCommit("main-user")) {
+            write.write(rowData(1, 10, 100L));
+            commit.commit(1, write.prepareCommit(false, 2));
+        }
+        try (StreamTableWrite write = tableBranch.newWrite("branch-user");
+                StreamTableCommit commit = tableBranch.newCommit("branch-user")) {
+            write.write(rowData(2, 20, 200L));
+            commit.commit(1, write.prepareCommit(false, 2));
+        }
+
+        // the timeline of branch1 may be missing, for example if it is disabled in branch1
+        tableBranch
+                .fileIO()
+                .delete(tableBranch.snapshotManager().timeline().timelinePath(0), false);
+        table.fastForward(BRANCH_NAME);
+
+        // the timeline entry of the replaced snapshot must not be used anymore
+        SnapshotManager snapshotManager = table.snapshotManager();
+        SnapshotTimeline.Entry entry = snapshotManager.timeline().newReader().entry(2);
+        assertThat(entry == null || entry.matches(snapshotManager.snapshot(2))).isTrue();
+        assertThat(snapshotManager.latestSnapshotOfUser("main-user")).isEmpty();
+        assertThat(snapshotManager.latestSnapshotOfUser("branch-user").get().id()).isEqualTo(2);
+    }
+
     @Test
     public void testUnsupportedTagName() throws Exception {
         FileStoreTable table = createFileStoreTable();
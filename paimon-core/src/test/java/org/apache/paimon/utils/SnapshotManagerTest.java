@@ -22,6 +22,7 @@ import org.apache.paimon.Changelog;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.table.source.snapshot.TimeTravelUtil;
 
@@ -35,10 +36,13 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -364,6 +368,120 @@ public class SnapshotManagerTest {
         assertThat(exception.get()).isNull();
     }
 
+    @Test
+    public void testSearchWithTimeline() throws IOException {
+        AtomicInteger snapshotReads = new AtomicInteger();
+        AtomicInteger timelineReads = new AtomicInteger();
+        FileIO fileIO =
+                new LocalFileIO() {
+                    @Override
+                    public SeekableInputStream newInputStream(Path path) throws IOException {
+                        if (path.getName().startsWith(SnapshotManager.SNAPSHOT_PREFIX)) {
+                            snapshotReads.incrementAndGet();
+                        } else if (path.getName().startsWith(SnapshotTimeline.TIMELINE_PREFIX)) {
+                            timelineReads.incrementAndGet();
+                        }
+                        return super.newInputStream(path);
+                    }
+                };
+        Path tablePath = new Path(tempDir.toString());
+        SnapshotManager snapshotManager =
+                new SnapshotManager(fileIO, tablePath, DEFAULT_MAIN_BRANCH, null, null, true);
+        SnapshotTimeline timeline = snapshotManager.timeline();
+
+        // 2500 snapshots in 26 timeline files, watermark starts from snapshot 100
+        for (long i = 1; i <= 2500; i++) {
+            Snapshot snapshot =
+                    createSnapshot(
+                            i,
+                            i == 7 ? "user0" : "user" + (i % 2 + 1),
+                            i * 1000,
+                            i < 100 ? null : i * 10);
+            fileIO.tryToWriteAtomic(snapshotManager.snapshotPath(i), snapshot.toJson());
+            timeline.append(snapshot);
+        }
+
+        assertThat(snapshotManager.latestSnapshotOfUser("user0").get().id()).isEqualTo(7);
+        assertThat(snapshotManager.findSnapshotsForIdentifiers("user1", Arrays.asList(10L, 2000L)))
+                .extracting(Snapshot::id)
+                .containsExactly(2000L, 10L);
+
+        snapshotReads.set(0);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(1234500).id()).isEqualTo(1234);
+        assertThat(snapshotManager.laterOrEqualTimeMills(1234500).id()).isEqualTo(1235);
+        assertThat(snapshotManager.earlierOrEqualWatermark(12345).id()).isEqualTo(1234);
+        assertThat(snapshotManager.laterOrEqualWatermark(12345).id()).isEqualTo(1235);
+        assertThat(snapshotReads.get()).isLessThanOrEqualTo(12);
+
+        // the timeline is not read if it is disabled
+        timelineReads.set(0);
+        SnapshotManager withoutTimeline = newSnapshotManager(fileIO, tablePath);
+        assertThat(withoutTimeline.earlierOrEqualTimeMills(1234500).id()).isEqualTo(1234);
+        assertThat(withoutTimeline.latestSnapshotOfUser("user0").get().id()).isEqualTo(7);
+        assertThat(timelineReads.get()).isEqualTo(0);
+
+        // commit deduplication reads snapshot files, a stale timeline entry naming another user
+        // does not hide the snapshot
+        fileIO.overwriteFileUtf8(
+                snapshotManager.snapshotPath(2400),
+                createSnapshot(2400, "user0", 2400000, 24000L).toJson());
+        assertThat(snapshotManager.latestSnapshotOfUser("user0").get().id()).isEqualTo(2400);
+        assertThat(
+                        snapshotManager.findSnapshotsForIdentifiers(
+                                "user0", Collections.singletonList(2400L)))
+                .extracting(Snapshot::id)
+                .containsExactly(2400L);
+
+        // fall back to snapshot files if timeline files are missing
+        fileIO.deleteQuietly(timeline.timelinePath(0));
+        assertThat(snapshotManager.laterOrEqualTimeMills(50500).id()).isEqualTo(51);
+
+        // a snapshot replaced without updating the timeline is detected when it is read, and
+        // the stale timeline file is dropped
+        fileIO.overwriteFileUtf8(
+                snapshotManager.snapshotPath(2500),
+                createSnapshot(2500, "user0", 2500500, 25000L).toJson());
+        assertThat(snapshotManager.earlierOrEqualTimeMills(2500600).id()).isEqualTo(2500);
+        assertThat(fileIO.exists(timeline.timelinePath(25))).isFalse();
+        assertThat(snapshotManager.latestSnapshotOfUser("user0").get().id()).isEqualTo(2500);
+
+        // rollback and expire
+        timeline.truncateAfter(1500, 2500);
+        assertThat(fileIO.exists(timeline.timelinePath(16))).isFalse();
+        assertThat(fileIO.exists(timeline.timelinePath(25))).isFalse();
+        assertThat(timeline.newReader().entry(1500)).isNotNull();
+        assertThat(timeline.newReader().entry(1501)).isNull();
+        timeline.append(createSnapshot(1501, "user3", 1501000, null));
+        assertThat(timeline.newReader().entry(1501).commitUser()).isEqualTo("user3");
+        timeline.expireBefore(1, 1200);
+        assertThat(fileIO.exists(timeline.timelinePath(11))).isFalse();
+        assertThat(fileIO.exists(timeline.timelinePath(12))).isTrue();
+    }
+
+    private Snapshot createSnapshot(
+            long id, String commitUser, long millis, @Nullable Long watermark) {
+        return new Snapshot(
+                id,
+                0L,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                commitUser,
+                id,
+                Snapshot.CommitKind.APPEND,
+                millis,
+                null,
+                null,
+                null,
+                null,
+                watermark,
+                null);
+    }
+
     @Test
     public void testTraversalSnapshotsFromLatestSafely() throws IOException, InterruptedException {
         FileIO localFileIO = LocalFileIO.create();
@@ -21,11 +21,17 @@ package org.apache.paimon.flink.lookup;
 import org.apache.flink.table.connector.source.LookupTableSource.LookupRuntimeProvider;
 import org.apache.flink.table.connector.source.TableFunctionProvider;
 
+import java.time.Duration;
+
 /** Factory to create {@link LookupRuntimeProvider}. */
 public class LookupRuntimeProviderFactory {
 
     public static LookupRuntimeProvider create(
-            FileStoreLookupFunction function, boolean enableAsync, int asyncThreadNumber) {
+            FileStoreLookupFunction function,
+            boolean enableAsync,
+            int asyncThreadNumber,
+            int miniBatchSize,
+            Duration miniBatchLatency) {
         return TableFunctionProvider.of(new OldLookupFunction(function));
     }
 }
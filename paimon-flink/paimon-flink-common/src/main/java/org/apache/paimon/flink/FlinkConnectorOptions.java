@@ -224,6 +224,23 @@ public class FlinkConnectorOptions {
                     .withDescription(
                             "Whether shuffle by partition and bucket when streaming read.");
 
+    public static final ConfigOption<StreamingBucketAssignMode> STREAMING_READ_BUCKET_ASSIGN_MODE =
+            key("streaming-read.bucket-assign-mode")
+                    .enumType(StreamingBucketAssignMode.class)
+                    .defaultValue(StreamingBucketAssignMode.HASH)
+                    .withDescription(
+                            "The mode used by the streaming source to assign buckets to subtasks.");
+
+    public static final ConfigOption<Duration> STREAMING_READ_BUCKET_AFFINITY_IDLE_TIMEOUT =
+            key("streaming-read.bucket-affinity.idle-timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofHours(1))
+                    .withDescription(
+                            "In sticky bucket assign mode, the bucket affinities of a partition are "
+                                    + "dropped when no splits of the partition have been read for "
+                                    + "this long and all its splits have been consumed. The "
+                                    + "affinities of unpartitioned reads are never dropped.");
+
     /**
      * Weight of writer buffer in managed memory, Flink will compute the memory size for writer
      * according to the weight, the actual memory used depends on the running environment.
@@ -277,12 +294,39 @@ public class FlinkConnectorOptions {
                     .defaultValue(16)
                     .withDescription("The thread number for lookup async.");
 
+    public static final ConfigOption<Integer> LOOKUP_ASYNC_MINI_BATCH_SIZE =
+            ConfigOptions.key("lookup.async.mini-batch.size")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of keys buffered by async lookup join before they are looked up "
+                                    + "in one batch. The distinct keys of a batch are looked up at once, keys of "
+                                    + "the same bucket are looked up together. The value 1 disables mini-batch.");
+
+    public static final ConfigOption<Duration> LOOKUP_ASYNC_MINI_BATCH_LATENCY =
+            ConfigOptions.key("lookup.async.mini-batch.latency")
+                    .durationType()
+                    .defaultValue(Duration.ofMillis(10))
+                    .withDescription(
+                            "The max time a key is buffered by async lookup join before the mini-batch is "
+                                    + "looked up, only used when 'lookup.async.mini-batch.size' is larger than 1.");
+
     public static final ConfigOption<LookupCacheMode> LOOKUP_CACHE_MODE =
             ConfigOptions.key("lookup.cache")
                     .enumType(LookupCacheMode.class)
                     .defaultValue(LookupCacheMode.AUTO)
                     .withDescription("The cache mode of lookup join.");
 
+    public static final ConfigOption<FullCacheBackend> LOOKUP_FULL_CACHE_BACKEND =
+            ConfigOptions.key("lookup.full-cache.backend")
+                    .enumType(FullCacheBackend.class)
+                    .defaultValue(FullCacheBackend.ROCKSDB)
+                    .withDescription(
+                            "The backend to store the table in full cache mode of lookup join. "
+                                    + "The memory backend avoids the serialization and compaction costs of "
+                                    + "RocksDB, but the whole table must fit in the JVM heap memory of "
+                                    + "the task manager.");
+
     public static final ConfigOption<String> SCAN_PARTITIONS =
             ConfigOptions.key("scan.partitions")
                     .stringType()
@@ -319,6 +363,26 @@ public class FlinkConnectorOptions {
                     .withDescription(
                             "If the pending snapshot count exceeds the threshold, lookup operator will refresh the table in sync.");
 
+    public static final ConfigOption<Boolean> LOOKUP_REFRESH_DOUBLE_BUFFER =
+            ConfigOptions.key("lookup.refresh.double-buffer.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to keep two copies of the full cache lookup table. Lookups are served by "
+                                    + "one copy while the other copy is refreshed in an async thread, and the two "
+                                    + "copies are swapped after refreshing, so lookups are never blocked by refreshing. "
+                                    + "This doubles the memory and disk usage of the lookup table.");
+
+    public static final ConfigOption<Duration> LOOKUP_REFRESH_DOUBLE_BUFFER_MAX_STALENESS =
+            ConfigOptions.key("lookup.refresh.double-buffer.max-staleness")
+                    .durationType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The max staleness of the copy serving lookups when "
+                                    + "'lookup.refresh.double-buffer.enabled' is true. If the serving copy is "
+                                    + "older than it, the lookup operator waits for the running refresh to finish. "
+                                    + "By default, lookups never wait.");
+
     public static final ConfigOption<String> LOOKUP_REFRESH_TIME_PERIODS_BLACKLIST =
             ConfigOptions.key("lookup.refresh.time-periods-blacklist")
                     .stringType()
@@ -511,6 +575,15 @@ public class FlinkConnectorOptions {
         FULL
     }
 
+    /** Backend to store the table in full cache mode of lookup join. */
+    public enum FullCacheBackend {
+        /** Store the table in local RocksDB. */
+        ROCKSDB,
+
+        /** Store the table in heap memory pages. */
+        MEMORY
+    }
+
     /** Watermark emit strategy for scan. */
     public enum WatermarkEmitStrategy implements DescribedEnum {
         ON_PERIODIC(
@@ -547,7 +620,11 @@ public class FlinkConnectorOptions {
                 "Distribute splits evenly when batch reading to prevent a few tasks from reading all."),
         PREEMPTIVE(
                 "preemptive",
-                "Distribute splits preemptively according to the consumption speed of the task.");
+                "Distribute splits preemptively according to the consumption speed of the task."),
+        WORK_STEALING(
+                "work-stealing",
+                "Distribute splits evenly and one at a time, idle tasks steal pending splits of "
+                        + "busy tasks, a raw convertible split is divided by its files when stolen.");
 
         private final String value;
         private final String description;
@@ -568,6 +645,34 @@ public class FlinkConnectorOptions {
         }
     }
 
+    /** The mode to assign buckets to subtasks in streaming read. */
+    public enum StreamingBucketAssignMode implements DescribedEnum {
+        HASH("hash", "Assign buckets to subtasks by the hash of the bucket."),
+        STICKY(
+                "sticky",
+                "Assign buckets by consistent hashing with bounded loads, balanced by the bytes read. "
+                        + "The assignment is kept in checkpoints, so a bucket stays on its subtask after "
+                        + "failover, and only a part of buckets are moved after rescale.");
+
+        private final String value;
+        private final String description;
+
+        StreamingBucketAssignMode(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
     /** The mode for partition mark done. */
     public enum PartitionMarkDoneActionMode implements DescribedEnum {
         PROCESS_TIME(
@@ -47,6 +47,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -152,29 +153,32 @@ public class CompactDatabaseAction extends ActionBase {
             for (String databaseName : databases) {
                 Matcher databaseMatcher = databasePattern.matcher(databaseName);
                 if (databaseMatcher.matches()) {
-                    List<String> tables = catalog.listTables(databaseName);
-                    for (String tableName : tables) {
+                    List<Identifier> identifiers = new ArrayList<>();
+                    for (String tableName : catalog.listTables(databaseName)) {
                         String fullTableName = String.format("%s.%s", databaseName, tableName);
                         if (shouldCompactionTable(fullTableName)) {
-                            Table table =
-                                    catalog.getTable(Identifier.create(databaseName, tableName));
-                            if (!(table instanceof FileStoreTable)) {
-                                LOG.error(
-                                        String.format(
-                                                "Only FileStoreTable supports compact action. The table type is '%s'.",
-                                                table.getClass().getName()));
-                                continue;
-                            }
-                            Map<String, String> dynamicOptions =
-                                    new HashMap<>(tableOptions.toMap());
-                            dynamicOptions.put(CoreOptions.WRITE_ONLY.key(), "false");
-                            FileStoreTable fileStoreTable =
-                                    (FileStoreTable) table.copy(dynamicOptions);
-                            tableMap.put(fullTableName, fileStoreTable);
+                            identifiers.add(Identifier.create(databaseName, tableName));
                         } else {
                             LOG.debug("The table {} is excluded.", fullTableName);
                         }
                     }
+
+                    // load all tables of the database at once
+                    List<Table> tables = catalog.getTables(identifiers);
+                    for (int i = 0; i < tables.size(); i++) {
+                        Table table = tables.get(i);
+                        if (!(table instanceof FileStoreTable)) {
+                            LOG.error(
+                                    String.format(
+                                            "Only FileStoreTable supports compact action. The table type is '%s'.",
+                                            table.getClass().getName()));
+                            continue;
+                        }
+                        Map<String, String> dynamicOptions = new HashMap<>(tableOptions.toMap());
+                        dynamicOptions.put(CoreOptions.WRITE_ONLY.key(), "false");
+                        FileStoreTable fileStoreTable = (FileStoreTable) table.copy(dynamicOptions);
+                        tableMap.put(identifiers.get(i).getFullName(), fileStoreTable);
+                    }
                 }
             }
         } catch (Catalog.DatabaseNotExistException | Catalog.TableNotExistException e) {
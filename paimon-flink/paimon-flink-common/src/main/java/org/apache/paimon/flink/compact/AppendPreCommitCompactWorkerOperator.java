@@ -19,6 +19,7 @@
 package org.apache.paimon.flink.compact;
 
 import org.apache.paimon.append.AppendCompactTask;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.sink.Committable;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.io.CompactIncrement;
@@ -54,6 +55,7 @@ public class AppendPreCommitCompactWorkerOperator extends AbstractStreamOperator
     private transient AppendFileStoreWrite write;
     private transient FileStorePathFactory pathFactory;
     private transient FileIO fileIO;
+    private transient IOManager ioManager;
 
     public AppendPreCommitCompactWorkerOperator(FileStoreTable table) {
         this.table = table;
@@ -62,7 +64,14 @@ public class AppendPreCommitCompactWorkerOperator extends AbstractStreamOperator
     @Override
     public void open() throws Exception {
         super.open();
+        this.ioManager =
+                IOManager.create(
+                        getContainingTask()
+                                .getEnvironment()
+                                .getIOManager()
+                                .getSpillingDirectoriesPaths());
         this.write = (AppendFileStoreWrite) table.store().newWrite(null);
+        this.write.withIOManager(ioManager);
         this.pathFactory = table.store().pathFactory();
         this.fileIO = table.fileIO();
     }
@@ -114,5 +123,8 @@ public class AppendPreCommitCompactWorkerOperator extends AbstractStreamOperator
         if (write != null) {
             write.close();
         }
+        if (ioManager != null) {
+            ioManager.close();
+        }
     }
 }
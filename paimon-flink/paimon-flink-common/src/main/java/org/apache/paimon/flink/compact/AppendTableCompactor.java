@@ -21,6 +21,7 @@ package org.apache.paimon.flink.compact;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.append.AppendCompactTask;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.sink.Committable;
 import org.apache.paimon.operation.BaseAppendFileStoreWrite;
@@ -66,10 +67,13 @@ public class AppendTableCompactor {
             FileStoreTable table,
             String commitUser,
             Supplier<ExecutorService> lazyCompactExecutor,
-            @Nullable MetricGroup metricGroup) {
+            @Nullable MetricGroup metricGroup,
+            @Nullable IOManager ioManager) {
         this.table = table;
         this.commitUser = commitUser;
         this.write = (BaseAppendFileStoreWrite) table.store().newWrite(commitUser);
+        // clustering compaction spills sorted rows to the io manager
+        this.write.withIOManager(ioManager);
         this.result = new LinkedList<>();
         this.compactExecutorsupplier = lazyCompactExecutor;
         this.compactionMetrics =
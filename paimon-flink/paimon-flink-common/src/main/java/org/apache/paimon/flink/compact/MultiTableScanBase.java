@@ -31,6 +31,7 @@ import org.apache.flink.api.connector.source.ReaderOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -84,24 +85,30 @@ public abstract class MultiTableScanBase<T> implements AutoCloseable {
 
         for (String databaseName : databases) {
             if (databasePattern.matcher(databaseName).matches()) {
-                List<String> tables = catalog.listTables(databaseName);
-                for (String tableName : tables) {
+                List<Identifier> identifiers = new ArrayList<>();
+                for (String tableName : catalog.listTables(databaseName)) {
                     Identifier identifier = Identifier.create(databaseName, tableName);
                     if (shouldCompactTable(identifier, includingPattern, excludingPattern)
                             && (!checkTableScanned(identifier))) {
-                        Table table = catalog.getTable(identifier);
-                        if (!(table instanceof FileStoreTable)) {
-                            LOG.error(
-                                    String.format(
-                                            "Only FileStoreTable supports compact action. The table type is '%s'.",
-                                            table.getClass().getName()));
-                            continue;
-                        }
-
-                        FileStoreTable fileStoreTable = ((FileStoreTable) table).copy(tableOptions);
-                        addScanTable(fileStoreTable, identifier);
+                        identifiers.add(identifier);
                     }
                 }
+
+                // load the new tables of the database at once
+                List<Table> tables = catalog.getTables(identifiers);
+                for (int i = 0; i < tables.size(); i++) {
+                    Table table = tables.get(i);
+                    if (!(table instanceof FileStoreTable)) {
+                        LOG.error(
+                                String.format(
+                                        "Only FileStoreTable supports compact action. The table type is '%s'.",
+                                        table.getClass().getName()));
+                        continue;
+                    }
+
+                    FileStoreTable fileStoreTable = ((FileStoreTable) table).copy(tableOptions);
+                    addScanTable(fileStoreTable, identifiers.get(i));
+                }
             }
         }
     }
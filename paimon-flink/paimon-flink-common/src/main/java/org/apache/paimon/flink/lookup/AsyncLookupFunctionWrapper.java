@@ -19,46 +19,101 @@
 package org.apache.paimon.flink.lookup;
 
 import org.apache.paimon.utils.ExecutorThreadFactory;
+import org.apache.paimon.utils.Pair;
 
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.functions.AsyncLookupFunction;
 import org.apache.flink.table.functions.FunctionContext;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
-/** A {@link AsyncLookupFunction} to wrap sync function. */
+/**
+ * A {@link AsyncLookupFunction} to wrap sync function.
+ *
+ * <p>If mini-batch is enabled, the keys are buffered until the batch size is reached or the max
+ * latency has passed, then the distinct keys of the batch are looked up at once and the futures are
+ * completed together.
+ */
 public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
 
     private final NewLookupFunction function;
     private final int threadNumber;
+    private final int miniBatchSize;
+    private final Duration miniBatchLatency;
 
     private transient ExecutorService lazyExecutor;
 
+    private transient Object bufferLock;
+    private transient List<Pair<RowData, CompletableFuture<Collection<RowData>>>> buffer;
+    @Nullable private transient ScheduledExecutorService lazyFlushTimer;
+    @Nullable private transient ScheduledFuture<?> flushFuture;
+
     public AsyncLookupFunctionWrapper(NewLookupFunction function, int threadNumber) {
+        this(function, threadNumber, 0, Duration.ZERO);
+    }
+
+    public AsyncLookupFunctionWrapper(
+            NewLookupFunction function,
+            int threadNumber,
+            int miniBatchSize,
+            Duration miniBatchLatency) {
         this.function = function;
         this.threadNumber = threadNumber;
+        this.miniBatchSize = miniBatchSize;
+        this.miniBatchLatency = miniBatchLatency;
     }
 
     @Override
     public void open(FunctionContext context) throws Exception {
         function.open(context);
+        this.bufferLock = new Object();
+        this.buffer = new ArrayList<>();
     }
 
     private Collection<RowData> lookup(RowData keyRow) {
+        return withClassLoader(
+                () -> {
+                    try {
+                        synchronized (function) {
+                            return function.lookup(keyRow);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private List<Collection<RowData>> lookup(List<RowData> keyRows) {
+        return withClassLoader(
+                () -> {
+                    synchronized (function) {
+                        return function.lookup(keyRows);
+                    }
+                });
+    }
+
+    private <T> T withClassLoader(Supplier<T> supplier) {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         Thread.currentThread()
                 .setContextClassLoader(AsyncLookupFunctionWrapper.class.getClassLoader());
         try {
-            synchronized (function) {
-                return function.lookup(keyRow);
-            }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+            return supplier.get();
         } finally {
             Thread.currentThread().setContextClassLoader(cl);
         }
@@ -66,12 +121,78 @@ public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
 
     @Override
     public CompletableFuture<Collection<RowData>> asyncLookup(RowData keyRow) {
-        return CompletableFuture.supplyAsync(() -> lookup(keyRow), executor());
+        if (miniBatchSize <= 1) {
+            return CompletableFuture.supplyAsync(() -> lookup(keyRow), executor());
+        }
+
+        CompletableFuture<Collection<RowData>> future = new CompletableFuture<>();
+        synchronized (bufferLock) {
+            buffer.add(Pair.of(keyRow, future));
+            if (buffer.size() >= miniBatchSize) {
+                flush();
+            } else if (buffer.size() == 1) {
+                flushFuture =
+                        flushTimer()
+                                .schedule(
+                                        this::flushOnTimer,
+                                        miniBatchLatency.toMillis(),
+                                        TimeUnit.MILLISECONDS);
+            }
+        }
+        return future;
+    }
+
+    private void flushOnTimer() {
+        synchronized (bufferLock) {
+            if (!buffer.isEmpty()) {
+                flush();
+            }
+        }
+    }
+
+    private void flush() {
+        if (flushFuture != null) {
+            flushFuture.cancel(false);
+            flushFuture = null;
+        }
+        List<Pair<RowData, CompletableFuture<Collection<RowData>>>> batch = buffer;
+        buffer = new ArrayList<>();
+        executor().execute(() -> lookupBatch(batch));
+    }
+
+    private void lookupBatch(List<Pair<RowData, CompletableFuture<Collection<RowData>>>> batch) {
+        // deduplicate the keys, the futures of the same key are completed with the same result
+        Map<RowData, List<CompletableFuture<Collection<RowData>>>> futures = new LinkedHashMap<>();
+        for (Pair<RowData, CompletableFuture<Collection<RowData>>> pair : batch) {
+            futures.computeIfAbsent(pair.getKey(), k -> new ArrayList<>()).add(pair.getValue());
+        }
+
+        List<Collection<RowData>> results;
+        try {
+            results = lookup(new ArrayList<>(futures.keySet()));
+        } catch (Throwable t) {
+            for (Pair<RowData, CompletableFuture<Collection<RowData>>> pair : batch) {
+                pair.getValue().completeExceptionally(t);
+            }
+            return;
+        }
+
+        int i = 0;
+        for (List<CompletableFuture<Collection<RowData>>> keyFutures : futures.values()) {
+            Collection<RowData> result = results.get(i++);
+            for (CompletableFuture<Collection<RowData>> future : keyFutures) {
+                future.complete(result);
+            }
+        }
     }
 
     @Override
     public void close() throws Exception {
         function.close();
+        if (lazyFlushTimer != null) {
+            lazyFlushTimer.shutdownNow();
+            lazyFlushTimer = null;
+        }
         if (lazyExecutor != null) {
             lazyExecutor.shutdownNow();
             lazyExecutor = null;
@@ -87,4 +208,14 @@ public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
         }
         return lazyExecutor;
     }
+
+    private ScheduledExecutorService flushTimer() {
+        if (lazyFlushTimer == null) {
+            lazyFlushTimer =
+                    Executors.newSingleThreadScheduledExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-async-batch"));
+        }
+        return lazyFlushTimer;
+    }
 }
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.table.source.OutOfRangeException;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+import org.apache.paimon.utils.ExecutorUtils;
+import org.apache.paimon.utils.Filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link LookupTable} which keeps two copies of a lookup table. Lookups are served by the active
+ * copy, while the standby copy is refreshed in an async thread. Once the standby copy is refreshed,
+ * the two copies are swapped by the lookup thread, so lookups never wait for refreshing and always
+ * see the data of a complete refresh.
+ *
+ * <p>If the active copy is older than the max staleness, {@link #refresh()} waits for the running
+ * refresh to finish.
+ */
+public class DoubleBufferedLookupTable implements LookupTable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DoubleBufferedLookupTable.class);
+
+    private final Factory factory;
+    @Nullable private final Duration maxStaleness;
+
+    @Nullable private Predicate partitionFilter;
+    @Nullable private Filter<InternalRow> cacheRowFilter;
+
+    private ExecutorService refreshExecutor;
+    private LookupTable active;
+    @Nullable private LookupTable standby;
+    @Nullable private Future<Long> refreshFuture;
+
+    // time when the refresh of the active copy was started, the data is at least as fresh as it
+    private volatile long activeRefreshTime;
+    private volatile long lastRefreshDuration;
+
+    public DoubleBufferedLookupTable(Factory factory, @Nullable Duration maxStaleness) {
+        this.factory = factory;
+        this.maxStaleness = maxStaleness;
+    }
+
+    @Override
+    public void specificPartitionFilter(Predicate filter) {
+        this.partitionFilter = filter;
+    }
+
+    @Override
+    public void specifyCacheRowFilter(Filter<InternalRow> filter) {
+        this.cacheRowFilter = filter;
+    }
+
+    @Override
+    public void open() throws Exception {
+        this.refreshExecutor =
+                Executors.newSingleThreadExecutor(
+                        new ExecutorThreadFactory(
+                                String.format(
+                                        "%s-lookup-double-buffer-refresh",
+                                        Thread.currentThread().getName())));
+        long startTime = System.currentTimeMillis();
+        this.active = createTable();
+        this.activeRefreshTime = startTime;
+        this.lastRefreshDuration = System.currentTimeMillis() - startTime;
+    }
+
+    @Override
+    public List<InternalRow> get(InternalRow key) throws IOException {
+        trySwap();
+        return active.get(key);
+    }
+
+    @Override
+    public List<List<InternalRow>> batchGet(List<InternalRow> keys) throws IOException {
+        trySwap();
+        return active.batchGet(keys);
+    }
+
+    /** Starts refreshing the standby copy in the async thread if no refresh is running. */
+    @Override
+    public void refresh() throws Exception {
+        trySwap();
+        if (refreshFuture == null) {
+            refreshFuture = refreshExecutor.submit(this::refreshStandby);
+        } else if (maxStaleness != null && staleness() > maxStaleness.toMillis()) {
+            LOG.info(
+                    "Lookup table has not been refreshed for {} ms, waiting for the running refresh.",
+                    staleness());
+            refreshFuture.get();
+            trySwap();
+        }
+    }
+
+    private void trySwap() throws IOException {
+        if (refreshFuture == null || !refreshFuture.isDone()) {
+            return;
+        }
+
+        long refreshTime;
+        try {
+            refreshTime = refreshFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to refresh the standby lookup table.", e.getCause());
+        } finally {
+            refreshFuture = null;
+        }
+
+        // only the lookup thread reads the active copy, so the old active copy can be refreshed
+        // by the async thread after swapping
+        LookupTable newActive = standby;
+        standby = active;
+        active = newActive;
+        activeRefreshTime = refreshTime;
+    }
+
+    /** Refreshes the standby copy to the latest snapshot, returns the start time. */
+    private long refreshStandby() throws Exception {
+        long startTime = System.currentTimeMillis();
+        if (standby == null) {
+            standby = createTable();
+        } else {
+            try {
+                standby.refresh();
+            } catch (OutOfRangeException | ReopenException e) {
+                LOG.info("Standby lookup table cannot be refreshed incrementally, reloading.", e);
+                standby.close();
+                standby = null;
+                standby = createTable();
+            }
+        }
+        lastRefreshDuration = System.currentTimeMillis() - startTime;
+        return startTime;
+    }
+
+    private LookupTable createTable() throws Exception {
+        LookupTable table = factory.create();
+        if (partitionFilter != null) {
+            table.specificPartitionFilter(partitionFilter);
+        }
+        if (cacheRowFilter != null) {
+            table.specifyCacheRowFilter(cacheRowFilter);
+        }
+        table.open();
+        return table;
+    }
+
+    /** Milliseconds since the refresh of the active copy was started. */
+    public long staleness() {
+        return System.currentTimeMillis() - activeRefreshTime;
+    }
+
+    /** Duration in milliseconds of the last refresh. */
+    public long lastRefreshDuration() {
+        return lastRefreshDuration;
+    }
+
+    @VisibleForTesting
+    LookupTable active() {
+        return active;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Future<Long> refreshFuture() {
+        return refreshFuture;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the standby copy may only be closed once the refresh writing to it has stopped
+        boolean refreshStopped = true;
+        try {
+            if (refreshFuture != null) {
+                refreshFuture.cancel(true);
+                refreshFuture = null;
+            }
+            if (refreshExecutor != null) {
+                ExecutorUtils.gracefulShutdown(1L, TimeUnit.MINUTES, refreshExecutor);
+                refreshStopped = refreshExecutor.isTerminated();
+                refreshExecutor = null;
+            }
+        } finally {
+            try {
+                if (active != null) {
+                    active.close();
+                    active = null;
+                }
+            } finally {
+                if (standby != null) {
+                    if (refreshStopped) {
+                        standby.close();
+                    } else {
+                        LOG.warn(
+                                "Refresh of the standby lookup table did not stop, "
+                                        + "leaving the standby lookup table open.");
+                    }
+                    standby = null;
+                }
+            }
+        }
+    }
+
+    /** Factory to create a copy of the lookup table, each copy must use its own local path. */
+    @FunctionalInterface
+    public interface Factory {
+        LookupTable create() throws Exception;
+    }
+}
@@ -39,6 +39,7 @@ import org.apache.paimon.utils.Preconditions;
 
 import org.apache.paimon.shade.guava30.com.google.common.primitives.Ints;
 
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.streaming.api.operators.StreamingRuntimeContext;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.functions.FunctionContext;
@@ -68,6 +69,9 @@ import java.util.stream.IntStream;
 
 import static org.apache.paimon.CoreOptions.CONTINUOUS_DISCOVERY_INTERVAL;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_CACHE_MODE;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_DOUBLE_BUFFER;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_DOUBLE_BUFFER_MAX_STALENESS;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_TIME_PERIODS_BLACKLIST;
 import static org.apache.paimon.flink.query.RemoteTableQuery.isRemoteServiceAvailable;
 import static org.apache.paimon.lookup.RocksDBOptions.LOOKUP_CACHE_ROWS;
@@ -81,6 +85,9 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileStoreLookupFunction.class);
 
+    private static final String LOOKUP_REFRESH_LAG = "lookupRefreshLag";
+    private static final String LOOKUP_LAST_REFRESH_DURATION = "lookupLastRefreshDuration";
+
     private final FileStoreTable table;
     @Nullable private final PartitionLoader partitionLoader;
     private final List<String> projectFields;
@@ -156,6 +163,23 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         this.functionContext = context;
         String tmpDirectory = getTmpDirectory(context);
         open(tmpDirectory);
+        if (lookupTable instanceof DoubleBufferedLookupTable) {
+            // a reopened lookup table is double buffered as well, it is only null while reopening
+            MetricGroup metricGroup = context.getMetricGroup();
+            metricGroup.gauge(
+                    LOOKUP_REFRESH_LAG,
+                    () ->
+                            lookupTable == null
+                                    ? 0L
+                                    : ((DoubleBufferedLookupTable) lookupTable).staleness());
+            metricGroup.gauge(
+                    LOOKUP_LAST_REFRESH_DURATION,
+                    () ->
+                            lookupTable == null
+                                    ? 0L
+                                    : ((DoubleBufferedLookupTable) lookupTable)
+                                            .lastRefreshDuration());
+        }
     }
 
     // we tag this method friendly for testing
@@ -206,16 +230,25 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
             }
         }
 
+        if (lookupTable == null && options.get(LOOKUP_REFRESH_DOUBLE_BUFFER)) {
+            // the copies are refreshed by the async thread of the double buffer
+            FileStoreTable bufferTable =
+                    table.copy(Collections.singletonMap(LOOKUP_REFRESH_ASYNC.key(), "false"));
+            this.lookupTable =
+                    new DoubleBufferedLookupTable(
+                            () ->
+                                    FullCacheLookupTable.create(
+                                            createFullCacheContext(
+                                                    bufferTable,
+                                                    projection,
+                                                    new File(path, "buffer-" + UUID.randomUUID())),
+                                            options.get(LOOKUP_CACHE_ROWS)),
+                            options.get(LOOKUP_REFRESH_DOUBLE_BUFFER_MAX_STALENESS));
+            LOG.info("Created {}.", lookupTable.getClass().getSimpleName());
+        }
+
         if (lookupTable == null) {
-            FullCacheLookupTable.Context context =
-                    new FullCacheLookupTable.Context(
-                            table,
-                            projection,
-                            predicate,
-                            createProjectedPredicate(projection),
-                            path,
-                            joinKeys,
-                            getRequireCachedBucketIds());
+            FullCacheLookupTable.Context context = createFullCacheContext(table, projection, path);
             this.lookupTable = FullCacheLookupTable.create(context, options.get(LOOKUP_CACHE_ROWS));
             LOG.info("Created {}.", lookupTable.getClass().getSimpleName());
         }
@@ -235,6 +268,21 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         lookupTable.open();
     }
 
+    private FullCacheLookupTable.Context createFullCacheContext(
+            FileStoreTable table, int[] projection, File path) {
+        if (!path.exists() && !path.mkdirs()) {
+            throw new RuntimeException("Failed to create dir: " + path);
+        }
+        return new FullCacheLookupTable.Context(
+                table,
+                projection,
+                predicate,
+                createProjectedPredicate(projection),
+                path,
+                joinKeys,
+                getRequireCachedBucketIds());
+    }
+
     @Nullable
     private Predicate createProjectedPredicate(int[] projection) {
         Predicate adjustedPredicate = null;
@@ -280,6 +328,56 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         }
     }
 
+    /** Looks up several keys at once, the results are in the same order as the keys. */
+    public List<Collection<RowData>> lookup(List<RowData> keyRows) {
+        try {
+            tryRefresh();
+
+            List<Collection<RowData>> results = new ArrayList<>(keyRows.size());
+            if (partitionLoader == null) {
+                List<InternalRow> keys = new ArrayList<>(keyRows.size());
+                for (RowData keyRow : keyRows) {
+                    keys.add(new FlinkRowWrapper(keyRow));
+                }
+                for (List<InternalRow> matched : lookupTable.batchGet(keys)) {
+                    results.add(toRowData(matched));
+                }
+                return results;
+            }
+
+            List<BinaryRow> partitions = partitionLoader.partitions();
+            List<InternalRow> keys = new ArrayList<>(keyRows.size() * partitions.size());
+            for (RowData keyRow : keyRows) {
+                InternalRow key = new FlinkRowWrapper(keyRow);
+                for (BinaryRow partition : partitions) {
+                    keys.add(JoinedRow.join(key, partition));
+                }
+            }
+            List<List<InternalRow>> matched = lookupTable.batchGet(keys);
+            for (int i = 0; i < keyRows.size(); i++) {
+                List<RowData> rows = new ArrayList<>();
+                for (int j = 0; j < partitions.size(); j++) {
+                    rows.addAll(toRowData(matched.get(i * partitions.size() + j)));
+                }
+                results.add(rows);
+            }
+            return results;
+        } catch (OutOfRangeException | ReopenException e) {
+            reopen();
+            return lookup(keyRows);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<RowData> toRowData(List<InternalRow> matched) {
+        List<RowData> rows = new ArrayList<>(matched.size());
+        for (InternalRow matchedRow : matched) {
+            rows.add(new FlinkRowData(matchedRow));
+        }
+        return rows;
+    }
+
     private List<RowData> lookupInternal(InternalRow key) throws IOException {
         List<RowData> rows = new ArrayList<>();
         List<InternalRow> lookupResults = lookupTable.get(key);
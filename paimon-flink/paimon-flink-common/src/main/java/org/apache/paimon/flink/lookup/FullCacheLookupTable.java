@@ -24,9 +24,12 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.flink.FlinkConnectorOptions.FullCacheBackend;
 import org.apache.paimon.lookup.BulkLoader;
+import org.apache.paimon.lookup.InMemoryStateFactory;
 import org.apache.paimon.lookup.RocksDBState;
 import org.apache.paimon.lookup.RocksDBStateFactory;
+import org.apache.paimon.lookup.StateFactory;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
@@ -64,6 +67,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_FULL_CACHE_BACKEND;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC_PENDING_SNAPSHOT_COUNT;
 
@@ -79,7 +83,7 @@ public abstract class FullCacheLookupTable implements LookupTable {
     @Nullable protected final FieldsComparator userDefinedSeqComparator;
     protected final int appendUdsFieldNumber;
 
-    protected RocksDBStateFactory stateFactory;
+    protected StateFactory stateFactory;
     @Nullable private ExecutorService refreshExecutor;
     private final AtomicReference<Exception> cachedException;
     private final int maxPendingSnapshotCount;
@@ -143,11 +147,14 @@ public abstract class FullCacheLookupTable implements LookupTable {
     }
 
     protected void init() throws Exception {
+        Options options = Options.fromMap(context.table.options());
         this.stateFactory =
-                new RocksDBStateFactory(
-                        context.tempPath.toString(),
-                        context.table.coreOptions().toConfiguration(),
-                        null);
+                options.get(LOOKUP_FULL_CACHE_BACKEND) == FullCacheBackend.MEMORY
+                        ? new InMemoryStateFactory(context.table.coreOptions().pageSize())
+                        : new RocksDBStateFactory(
+                                context.tempPath.toString(),
+                                context.table.coreOptions().toConfiguration(),
+                                null);
         this.refreshExecutor =
                 this.refreshAsync
                         ? Executors.newSingleThreadExecutor(
@@ -168,10 +175,26 @@ public abstract class FullCacheLookupTable implements LookupTable {
                         scanPredicate,
                         context.requiredCachedBucketIds,
                         cacheRowFilter);
+        Predicate predicate = projectedPredicate();
+        if (!stateFactory.requiresSortedBulkLoad()) {
+            // load the records directly in the order they are read
+            TableBulkLoader bulkLoader = createBulkLoader();
+            try (RecordReaderIterator<InternalRow> batch =
+                    new RecordReaderIterator<>(reader.nextBatch(true))) {
+                while (batch.hasNext()) {
+                    InternalRow row = batch.next();
+                    if (predicate == null || predicate.test(row)) {
+                        bulkLoader.write(toKeyBytes(row), toValueBytes(row));
+                    }
+                }
+            }
+            bulkLoader.finish();
+            return;
+        }
+
         BinaryExternalSortBuffer bulkLoadSorter =
                 RocksDBState.createBulkLoadSorter(
                         IOManager.create(context.tempPath.toString()), context.table.coreOptions());
-        Predicate predicate = projectedPredicate();
         try (RecordReaderIterator<InternalRow> batch =
                 new RecordReaderIterator<>(reader.nextBatch(true))) {
             while (batch.hasNext()) {
@@ -270,6 +293,31 @@ public abstract class FullCacheLookupTable implements LookupTable {
         } else {
             values = innerGet(key);
         }
+        return dropSequence(values);
+    }
+
+    @Override
+    public final List<List<InternalRow>> batchGet(List<InternalRow> keys) throws IOException {
+        List<List<InternalRow>> results = new ArrayList<>(keys.size());
+        if (refreshAsync) {
+            // hold the lock once for the whole batch
+            synchronized (lock) {
+                for (InternalRow key : keys) {
+                    results.add(innerGet(key));
+                }
+            }
+        } else {
+            for (InternalRow key : keys) {
+                results.add(innerGet(key));
+            }
+        }
+        if (appendUdsFieldNumber > 0) {
+            results.replaceAll(this::dropSequence);
+        }
+        return results;
+    }
+
+    private List<InternalRow> dropSequence(List<InternalRow> values) {
         if (appendUdsFieldNumber == 0) {
             return values;
         }
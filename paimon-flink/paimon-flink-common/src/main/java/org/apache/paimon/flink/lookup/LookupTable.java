@@ -24,6 +24,7 @@ import org.apache.paimon.utils.Filter;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /** A lookup table which provides get and refresh. */
@@ -35,6 +36,15 @@ public interface LookupTable extends Closeable {
 
     List<InternalRow> get(InternalRow key) throws IOException;
 
+    /** Gets the values of several keys, the results are in the same order as the keys. */
+    default List<List<InternalRow>> batchGet(List<InternalRow> keys) throws IOException {
+        List<List<InternalRow>> results = new ArrayList<>(keys.size());
+        for (InternalRow key : keys) {
+            results.add(get(key));
+        }
+        return results;
+    }
+
     void refresh() throws Exception;
 
     void specifyCacheRowFilter(Filter<InternalRow> filter);
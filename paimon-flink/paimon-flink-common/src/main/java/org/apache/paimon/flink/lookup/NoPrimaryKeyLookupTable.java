@@ -21,7 +21,8 @@ package org.apache.paimon.flink.lookup;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalSerializers;
 import org.apache.paimon.lookup.BulkLoader;
-import org.apache.paimon.lookup.RocksDBListState;
+import org.apache.paimon.lookup.ListState;
+import org.apache.paimon.lookup.StateBulkLoader;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.utils.KeyProjectedRow;
@@ -40,7 +41,7 @@ public class NoPrimaryKeyLookupTable extends FullCacheLookupTable {
 
     private final KeyProjectedRow joinKeyRow;
 
-    private RocksDBListState<InternalRow, InternalRow> state;
+    private ListState<InternalRow, InternalRow> state;
 
     public NoPrimaryKeyLookupTable(Context context, long lruCacheSize) {
         super(context);
@@ -105,7 +106,7 @@ public class NoPrimaryKeyLookupTable extends FullCacheLookupTable {
 
     @Override
     public TableBulkLoader createBulkLoader() {
-        BulkLoader bulkLoader = state.createBulkLoader();
+        StateBulkLoader bulkLoader = state.createBulkLoader();
         return new TableBulkLoader() {
 
             private final List<byte[]> values = new ArrayList<>();
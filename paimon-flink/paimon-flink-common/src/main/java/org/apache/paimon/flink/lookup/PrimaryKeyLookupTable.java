@@ -21,7 +21,8 @@ package org.apache.paimon.flink.lookup;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalSerializers;
 import org.apache.paimon.lookup.BulkLoader;
-import org.apache.paimon.lookup.RocksDBValueState;
+import org.apache.paimon.lookup.StateBulkLoader;
+import org.apache.paimon.lookup.ValueState;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.types.RowKind;
@@ -44,7 +45,7 @@ public class PrimaryKeyLookupTable extends FullCacheLookupTable {
 
     @Nullable private final ProjectedRow keyRearrange;
 
-    protected RocksDBValueState<InternalRow, InternalRow> tableState;
+    protected ValueState<InternalRow, InternalRow> tableState;
 
     public PrimaryKeyLookupTable(Context context, long lruCacheSize, List<String> joinKey) {
         super(context);
@@ -129,7 +130,7 @@ public class PrimaryKeyLookupTable extends FullCacheLookupTable {
 
     @Override
     public TableBulkLoader createBulkLoader() {
-        BulkLoader bulkLoader = tableState.createBulkLoader();
+        StateBulkLoader bulkLoader = tableState.createBulkLoader();
         return new TableBulkLoader() {
 
             @Override
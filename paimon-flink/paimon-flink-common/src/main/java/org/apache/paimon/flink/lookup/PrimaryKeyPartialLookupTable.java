@@ -46,11 +46,13 @@ import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static org.apache.paimon.table.BucketMode.POSTPONE_BUCKET;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -61,6 +63,7 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
     private final QueryExecutorFactory executorFactory;
     @Nullable private final ProjectedRow keyRearrange;
     @Nullable private final ProjectedRow trimmedKeyRearrange;
+    @Nullable private final int[] trimmedKeyMapping;
 
     private Predicate specificPartition;
     @Nullable private Filter<InternalRow> cacheRowFilter;
@@ -103,15 +106,17 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
         this.keyRearrange = keyRearrange;
 
         List<String> trimmedPrimaryKeys = schema.trimmedPrimaryKeys();
+        int[] trimmedKeyMapping = null;
         ProjectedRow trimmedKeyRearrange = null;
         if (!trimmedPrimaryKeys.equals(joinKey)) {
-            trimmedKeyRearrange =
-                    ProjectedRow.from(
-                            trimmedPrimaryKeys.stream()
-                                    .map(joinKey::indexOf)
-                                    .mapToInt(value -> value)
-                                    .toArray());
+            trimmedKeyMapping =
+                    trimmedPrimaryKeys.stream()
+                            .map(joinKey::indexOf)
+                            .mapToInt(value -> value)
+                            .toArray();
+            trimmedKeyRearrange = ProjectedRow.from(trimmedKeyMapping);
         }
+        this.trimmedKeyMapping = trimmedKeyMapping;
         this.trimmedKeyRearrange = trimmedKeyRearrange;
     }
 
@@ -159,6 +164,51 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
         }
     }
 
+    @Override
+    public List<List<InternalRow>> batchGet(List<InternalRow> keys) throws IOException {
+        // group the keys by partition and bucket, each bucket is queried once
+        Map<BinaryRow, TreeMap<Integer, List<Integer>>> groups = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            InternalRow adjustedKey = keys.get(i);
+            if (keyRearrange != null) {
+                adjustedKey = keyRearrange.replaceRow(adjustedKey);
+            }
+            BinaryRow partition = partitionFromPk.apply(adjustedKey);
+            Integer numBuckets = queryExecutor.numBuckets(partition);
+            if (numBuckets == null) {
+                continue;
+            }
+            int bucket = bucket(numBuckets, adjustedKey);
+            groups.computeIfAbsent(partition.copy(), k -> new TreeMap<>())
+                    .computeIfAbsent(bucket, k -> new ArrayList<>())
+                    .add(i);
+        }
+
+        List<List<InternalRow>> results =
+                new ArrayList<>(Collections.nCopies(keys.size(), Collections.emptyList()));
+        for (Map.Entry<BinaryRow, TreeMap<Integer, List<Integer>>> partition : groups.entrySet()) {
+            for (Map.Entry<Integer, List<Integer>> bucket : partition.getValue().entrySet()) {
+                List<Integer> indices = bucket.getValue();
+                InternalRow[] trimmedKeys = new InternalRow[indices.size()];
+                for (int i = 0; i < trimmedKeys.length; i++) {
+                    InternalRow key = keys.get(indices.get(i));
+                    trimmedKeys[i] =
+                            trimmedKeyMapping == null
+                                    ? key
+                                    : ProjectedRow.from(trimmedKeyMapping).replaceRow(key);
+                }
+                InternalRow[] kvs =
+                        queryExecutor.lookup(partition.getKey(), bucket.getKey(), trimmedKeys);
+                for (int i = 0; i < kvs.length; i++) {
+                    if (kvs[i] != null) {
+                        results.set(indices.get(i), Collections.singletonList(kvs[i]));
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
     private int bucket(int numBuckets, InternalRow primaryKey) {
         BinaryRow bucketKey = bucketKeyFromPk.apply(primaryKey);
         return KeyAndBucketExtractor.bucket(
@@ -220,6 +270,15 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
 
         InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException;
 
+        default InternalRow[] lookup(BinaryRow partition, int bucket, InternalRow[] keys)
+                throws IOException {
+            InternalRow[] result = new InternalRow[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                result[i] = lookup(partition, bucket, keys[i]);
+            }
+            return result;
+        }
+
         void refresh();
     }
 
@@ -358,6 +417,12 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
             return tableQuery.lookup(partition, bucket, key);
         }
 
+        @Override
+        public InternalRow[] lookup(BinaryRow partition, int bucket, InternalRow[] keys)
+                throws IOException {
+            return tableQuery.lookup(partition, bucket, keys);
+        }
+
         @Override
         public void refresh() {}
 
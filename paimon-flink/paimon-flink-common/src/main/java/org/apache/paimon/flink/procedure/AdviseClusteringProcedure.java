@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.procedure;
+
+import org.apache.paimon.append.ClusteringAdvisor;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.flink.predicate.SimpleSqlPredicateConvertor;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.utils.StringUtils;
+
+import org.apache.flink.configuration.CoreOptions;
+import org.apache.flink.table.annotation.ArgumentHint;
+import org.apache.flink.table.annotation.DataTypeHint;
+import org.apache.flink.table.annotation.ProcedureHint;
+import org.apache.flink.table.procedure.ProcedureContext;
+import org.apache.flink.types.Row;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.disk.IOManagerImpl.splitPaths;
+
+/**
+ * Advises the clustering columns and strategy of an append table for a workload of filters. See
+ * {@link ClusteringAdvisor}.
+ *
+ * <pre><code>
+ *  -- filters are separated by ';'
+ *  CALL sys.advise_clustering(`table` => 'default.T', filters => 'a = 1; b &lt; 10')
+ *
+ *  -- only consider the given columns
+ *  CALL sys.advise_clustering(`table` => 'default.T', filters => 'a = 1', columns => 'a,b')
+ * </code></pre>
+ *
+ * <p>The first row of the result is the current layout read from the manifests, with rank 0 and
+ * strategy 'current'. The second row is the simulated sample without clustering, with rank 0 and
+ * strategy 'none', it is the baseline the candidates are compared to. The candidates follow, ranked
+ * by the average ratio of skipped files.
+ */
+public class AdviseClusteringProcedure extends ProcedureBase {
+
+    public static final String IDENTIFIER = "advise_clustering";
+
+    @ProcedureHint(
+            argument = {
+                @ArgumentHint(name = "table", type = @DataTypeHint("STRING")),
+                @ArgumentHint(name = "filters", type = @DataTypeHint("STRING")),
+                @ArgumentHint(name = "columns", type = @DataTypeHint("STRING"), isOptional = true),
+                @ArgumentHint(name = "sample_size", type = @DataTypeHint("INT"), isOptional = true)
+            })
+    public @DataTypeHint(
+            "ROW<`rank` INT, strategy STRING, columns STRING, skip_ratio DOUBLE, sort_time_ms BIGINT>")
+    Row[] call(
+            ProcedureContext procedureContext,
+            String tableId,
+            String filters,
+            @Nullable String columns,
+            @Nullable Integer sampleSize)
+            throws Exception {
+        FileStoreTable table = (FileStoreTable) table(tableId);
+        SimpleSqlPredicateConvertor convertor = new SimpleSqlPredicateConvertor(table.rowType());
+        List<Predicate> workload = new ArrayList<>();
+        for (String filter : filters.split(";")) {
+            if (!StringUtils.isNullOrWhitespaceOnly(filter)) {
+                workload.add(convertor.convertSqlToPredicate(filter.trim()));
+            }
+        }
+
+        ClusteringAdvisor.Report report;
+        try (IOManager ioManager =
+                IOManager.create(
+                        splitPaths(
+                                procedureContext
+                                        .getExecutionEnvironment()
+                                        .getConfiguration()
+                                        .get(CoreOptions.TMP_DIRS)))) {
+            ClusteringAdvisor advisor =
+                    new ClusteringAdvisor(table, workload).withIOManager(ioManager);
+            if (sampleSize != null) {
+                advisor.withSampleSize(sampleSize);
+            }
+            report =
+                    advisor.advise(
+                            StringUtils.isNullOrWhitespaceOnly(columns)
+                                    ? Collections.emptyList()
+                                    : Arrays.stream(columns.split(","))
+                                            .map(String::trim)
+                                            .collect(Collectors.toList()));
+        }
+
+        List<Row> result = new ArrayList<>();
+        result.add(Row.of(0, "current", "", report.currentSkipRatio(), 0L));
+        result.add(
+                Row.of(
+                        0,
+                        report.unclustered().strategy(),
+                        "",
+                        report.unclustered().skipRatio(),
+                        report.unclustered().sortMillis()));
+        for (int i = 0; i < report.candidates().size(); i++) {
+            ClusteringAdvisor.Candidate candidate = report.candidates().get(i);
+            result.add(
+                    Row.of(
+                            i + 1,
+                            candidate.strategy(),
+                            String.join(",", candidate.columns()),
+                            candidate.skipRatio(),
+                            candidate.sortMillis()));
+        }
+        return result.toArray(new Row[0]);
+    }
+
+    @Override
+    public String identifier() {
+        return IDENTIFIER;
+    }
+}
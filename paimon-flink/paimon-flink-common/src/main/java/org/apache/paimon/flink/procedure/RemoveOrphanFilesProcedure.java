@@ -19,10 +19,12 @@
 package org.apache.paimon.flink.procedure;
 
 import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.orphan.FlinkOrphanFilesClean;
 import org.apache.paimon.operation.CleanOrphanFilesResult;
 import org.apache.paimon.operation.LocalOrphanFilesClean;
 
+import org.apache.flink.configuration.CoreOptions;
 import org.apache.flink.table.annotation.ArgumentHint;
 import org.apache.flink.table.annotation.DataTypeHint;
 import org.apache.flink.table.annotation.ProcedureHint;
@@ -30,6 +32,7 @@ import org.apache.flink.table.procedure.ProcedureContext;
 
 import java.util.Locale;
 
+import static org.apache.paimon.disk.IOManagerImpl.splitPaths;
 import static org.apache.paimon.operation.OrphanFilesClean.olderThanMillis;
 
 /**
@@ -90,14 +93,23 @@ public class RemoveOrphanFilesProcedure extends ProcedureBase {
                                     tableName);
                     break;
                 case "LOCAL":
-                    cleanOrphanFilesResult =
-                            LocalOrphanFilesClean.executeDatabaseOrphanFiles(
-                                    catalog,
-                                    databaseName,
-                                    tableName,
-                                    olderThanMillis(olderThan),
-                                    parallelism,
-                                    dryRun != null && dryRun);
+                    try (IOManager ioManager =
+                            IOManager.create(
+                                    splitPaths(
+                                            procedureContext
+                                                    .getExecutionEnvironment()
+                                                    .getConfiguration()
+                                                    .get(CoreOptions.TMP_DIRS)))) {
+                        cleanOrphanFilesResult =
+                                LocalOrphanFilesClean.executeDatabaseOrphanFiles(
+                                        catalog,
+                                        databaseName,
+                                        tableName,
+                                        olderThanMillis(olderThan),
+                                        parallelism,
+                                        dryRun != null && dryRun,
+                                        ioManager);
+                    }
                     break;
                 default:
                     throw new IllegalArgumentException(
@@ -64,30 +64,56 @@ public class RemoteTableQuery implements TableQuery {
     @Nullable
     @Override
     public InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException {
-        BinaryRow row;
+        return get(lookupAsync(partition, bucket, key));
+    }
+
+    /**
+     * Looks up several keys of a bucket with one request, the result contains null for the keys
+     * which are not found.
+     */
+    public InternalRow[] lookup(BinaryRow partition, int bucket, InternalRow[] keys)
+            throws IOException {
+        return get(lookupAsync(partition, bucket, keys));
+    }
+
+    /**
+     * Looks up a key without blocking, requests to the same server are pipelined on one connection.
+     */
+    public CompletableFuture<InternalRow> lookupAsync(
+            BinaryRow partition, int bucket, InternalRow key) {
+        return lookupAsync(partition, bucket, new InternalRow[] {key}).thenApply(rows -> rows[0]);
+    }
+
+    public CompletableFuture<InternalRow[]> lookupAsync(
+            BinaryRow partition, int bucket, InternalRow[] keys) {
+        BinaryRow[] binaryKeys = new BinaryRow[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            binaryKeys[i] = keySerializer.toBinaryRow(keys[i]).copy();
+        }
+        return client.getValues(partition, bucket, binaryKeys).thenApply(this::project);
+    }
+
+    private InternalRow[] project(BinaryRow[] rows) {
+        InternalRow[] result = new InternalRow[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            if (projection == null || rows[i] == null) {
+                result[i] = rows[i];
+            } else {
+                result[i] = ProjectedRow.from(projection).replaceRow(rows[i]);
+            }
+        }
+        return result;
+    }
+
+    private static <T> T get(CompletableFuture<T> future) throws IOException {
         try {
-            row =
-                    client.getValues(
-                                    partition,
-                                    bucket,
-                                    new BinaryRow[] {keySerializer.toBinaryRow(key)})
-                            .get()[0];
+            return future.get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new IOException(e);
         } catch (ExecutionException e) {
             throw new IOException(e.getCause());
         }
-
-        if (projection == null) {
-            return row;
-        }
-
-        if (row == null) {
-            return null;
-        }
-
-        return ProjectedRow.from(projection).replaceRow(row);
     }
 
     @Override
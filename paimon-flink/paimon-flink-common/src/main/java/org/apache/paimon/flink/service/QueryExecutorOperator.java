@@ -18,6 +18,7 @@
 
 package org.apache.paimon.flink.service;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
@@ -76,6 +77,7 @@ public class QueryExecutorOperator extends AbstractStreamOperator<InternalRow>
                                 .getIOManager()
                                 .getSpillingDirectoriesPaths());
         this.query = ((FileStoreTable) table).newLocalTableQuery().withIOManager(ioManager);
+        CoreOptions options = ((FileStoreTable) table).coreOptions();
         KvQueryServer server =
                 new KvQueryServer(
                         RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext()),
@@ -83,9 +85,11 @@ public class QueryExecutorOperator extends AbstractStreamOperator<InternalRow>
                         NetworkUtils.findHostAddress(),
                         Collections.singletonList(0).iterator(),
                         1,
-                        1,
+                        options.queryServiceQueryThreads(),
                         query,
-                        new DisabledServiceRequestStats());
+                        new DisabledServiceRequestStats(),
+                        options.queryServiceCacheMaxRows(),
+                        options.queryServiceCacheTtl());
 
         try {
             server.start();
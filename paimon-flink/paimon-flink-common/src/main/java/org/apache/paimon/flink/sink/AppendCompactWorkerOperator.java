@@ -20,6 +20,7 @@ package org.apache.paimon.flink.sink;
 
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.append.AppendCompactTask;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.compact.AppendTableCompactor;
 import org.apache.paimon.flink.source.AppendTableCompactSource;
 import org.apache.paimon.options.Options;
@@ -55,6 +56,8 @@ public abstract class AppendCompactWorkerOperator<IN>
 
     private transient ExecutorService lazyCompactExecutor;
 
+    private transient IOManager ioManager;
+
     public AppendCompactWorkerOperator(
             StreamOperatorParameters<Committable> parameters,
             FileStoreTable table,
@@ -72,8 +75,15 @@ public abstract class AppendCompactWorkerOperator<IN>
     @Override
     public void open() throws Exception {
         LOG.debug("Opened a append-only table compaction worker.");
+        this.ioManager =
+                IOManager.create(
+                        getContainingTask()
+                                .getEnvironment()
+                                .getIOManager()
+                                .getSpillingDirectoriesPaths());
         this.unawareBucketCompactor =
-                new AppendTableCompactor(table, commitUser, this::workerExecutor, getMetricGroup());
+                new AppendTableCompactor(
+                        table, commitUser, this::workerExecutor, getMetricGroup(), ioManager);
     }
 
     @Override
@@ -104,6 +114,9 @@ public abstract class AppendCompactWorkerOperator<IN>
             }
             this.unawareBucketCompactor.close();
         }
+        if (ioManager != null) {
+            ioManager.close();
+        }
     }
 
     /** {@link StreamOperatorFactory} of {@link AppendCompactWorkerOperator}. */
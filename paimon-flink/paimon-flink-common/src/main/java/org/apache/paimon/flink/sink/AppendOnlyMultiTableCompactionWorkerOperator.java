@@ -23,6 +23,7 @@ import org.apache.paimon.append.MultiTableAppendCompactTask;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.CatalogLoader;
 import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.compact.AppendTableCompactor;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.FileStoreTable;
@@ -65,6 +66,8 @@ public class AppendOnlyMultiTableCompactionWorkerOperator
 
     private transient Catalog catalog;
 
+    private transient IOManager ioManager;
+
     private AppendOnlyMultiTableCompactionWorkerOperator(
             StreamOperatorParameters<MultiTableCommittable> parameters,
             CatalogLoader catalogLoader,
@@ -80,6 +83,12 @@ public class AppendOnlyMultiTableCompactionWorkerOperator
         LOG.debug("Opened a append-only multi table compaction worker.");
         compactorContainer = new HashMap<>();
         catalog = catalogLoader.load();
+        ioManager =
+                IOManager.create(
+                        getContainingTask()
+                                .getEnvironment()
+                                .getIOManager()
+                                .getSpillingDirectoriesPaths());
     }
 
     @Override
@@ -119,7 +128,8 @@ public class AppendOnlyMultiTableCompactionWorkerOperator
                     (FileStoreTable) catalog.getTable(tableId).copy(options.toMap()),
                     commitUser,
                     this::workerExecutor,
-                    getMetricGroup());
+                    getMetricGroup(),
+                    ioManager);
         } catch (Catalog.TableNotExistException e) {
             throw new RuntimeException(e);
         }
@@ -178,6 +188,11 @@ public class AppendOnlyMultiTableCompactionWorkerOperator
             catalog = null;
         }
 
+        if (ioManager != null) {
+            ioManager.close();
+            ioManager = null;
+        }
+
         ExceptionUtils.throwMultiException(exceptions);
     }
 
@@ -25,13 +25,21 @@ import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.table.Table;
 
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
+import org.apache.flink.api.common.typeutils.base.array.BytePrimitiveArraySerializer;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.runtime.state.StateInitializationContext;
+import org.apache.flink.runtime.state.StateSnapshotContext;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.BoundedOneInput;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static org.apache.paimon.flink.utils.ManagedMemoryUtils.computeManagedMemory;
 
 /** A {@link OneInputStreamOperator} for {@link GlobalIndexAssigner}. */
@@ -43,9 +51,14 @@ public class GlobalIndexAssignerOperator
 
     private static final long serialVersionUID = 1L;
 
+    private static final String BOOTSTRAP_KEYS = "bootstrapKeys";
+    private static final String BULK_LOADED_KEYS = "bulkLoadedKeys";
+    private static final String PERSISTED_KEY_INDEX = "persisted-key-index";
+
     private final GlobalIndexAssigner assigner;
 
     private transient IOManager ioManager;
+    private transient ListState<byte[]> persistedIndexState;
 
     public GlobalIndexAssignerOperator(GlobalIndexAssigner assigner) {
         this.assigner = assigner;
@@ -63,6 +76,25 @@ public class GlobalIndexAssignerOperator
                 RuntimeContextUtils.getNumberOfParallelSubtasks(getRuntimeContext()),
                 RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext()),
                 this::collect);
+        getMetricGroup().gauge(BOOTSTRAP_KEYS, assigner::numBootstrapKeys);
+        getMetricGroup().gauge(BULK_LOADED_KEYS, assigner::numBulkLoadedKeys);
+
+        if (assigner.persistedIndexEnabled()) {
+            persistedIndexState =
+                    context.getOperatorStateStore()
+                            .getUnionListState(
+                                    new ListStateDescriptor<>(
+                                            PERSISTED_KEY_INDEX,
+                                            BytePrimitiveArraySerializer.INSTANCE));
+            List<byte[]> states = new ArrayList<>();
+            if (context.isRestored()) {
+                persistedIndexState.get().forEach(states::add);
+            }
+            // without states, the keys are bootstrapped by the IndexBootstrapOperator
+            if (!states.isEmpty()) {
+                assigner.restorePersistedIndex(states);
+            }
+        }
     }
 
     @Override
@@ -85,6 +117,22 @@ public class GlobalIndexAssignerOperator
         endBootstrap(false);
     }
 
+    @Override
+    public void snapshotState(StateSnapshotContext context) throws Exception {
+        super.snapshotState(context);
+        if (persistedIndexState != null) {
+            persistedIndexState.update(
+                    Collections.singletonList(
+                            assigner.snapshotPersistedIndex(context.getCheckpointId())));
+        }
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {
+        super.notifyCheckpointComplete(checkpointId);
+        assigner.notifyCheckpointComplete(checkpointId);
+    }
+
     @Override
     public void endInput() throws Exception {
         endBootstrap(true);
@@ -24,8 +24,13 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.utils.SerializableFunction;
 
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
+import org.apache.flink.api.common.typeutils.base.BooleanSerializer;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.metrics.Counter;
 import org.apache.flink.runtime.state.StateInitializationContext;
+import org.apache.flink.runtime.state.StateSnapshotContext;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperatorFactory;
 import org.apache.flink.streaming.api.operators.ChainingStrategy;
@@ -36,15 +41,23 @@ import org.apache.flink.streaming.api.operators.StreamOperatorFactory;
 import org.apache.flink.streaming.api.operators.StreamOperatorParameters;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
+import java.util.Collections;
+
 /** Operator for {@link IndexBootstrap}. */
 public class IndexBootstrapOperator<T> extends AbstractStreamOperator<Tuple2<KeyPartOrRow, T>>
         implements OneInputStreamOperator<T, Tuple2<KeyPartOrRow, T>> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final String BOOTSTRAP_RECORDS = "bootstrapRecords";
+    private static final String PERSISTED_KEY_INDEX = "persisted-key-index";
+
     private final IndexBootstrap bootstrap;
     private final SerializableFunction<InternalRow, T> converter;
 
+    private transient Counter bootstrapRecords;
+    private transient ListState<Boolean> persistedIndexState;
+
     private IndexBootstrapOperator(
             StreamOperatorParameters<Tuple2<KeyPartOrRow, T>> parameters,
             IndexBootstrap bootstrap,
@@ -57,18 +70,41 @@ public class IndexBootstrapOperator<T> extends AbstractStreamOperator<Tuple2<Key
     @Override
     public void initializeState(StateInitializationContext context) throws Exception {
         super.initializeState(context);
+        bootstrapRecords = getMetricGroup().counter(BOOTSTRAP_RECORDS);
+        if (bootstrap.persistedIndexEnabled()) {
+            persistedIndexState =
+                    context.getOperatorStateStore()
+                            .getUnionListState(
+                                    new ListStateDescriptor<>(
+                                            PERSISTED_KEY_INDEX, BooleanSerializer.INSTANCE));
+            if (context.isRestored() && persistedIndexState.get().iterator().hasNext()) {
+                // the assigners restore the key index from the persisted index files, otherwise
+                // the checkpoint was taken before the index was persisted and keys are bootstrapped
+                return;
+            }
+        }
         bootstrap.bootstrap(
                 RuntimeContextUtils.getNumberOfParallelSubtasks(getRuntimeContext()),
                 RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext()),
                 this::collect);
     }
 
+    @Override
+    public void snapshotState(StateSnapshotContext context) throws Exception {
+        super.snapshotState(context);
+        if (persistedIndexState != null) {
+            // the assigners persist their key index in the same checkpoint
+            persistedIndexState.update(Collections.singletonList(true));
+        }
+    }
+
     @Override
     public void processElement(StreamRecord<T> streamRecord) throws Exception {
         output.collect(new StreamRecord<>(new Tuple2<>(KeyPartOrRow.ROW, streamRecord.getValue())));
     }
 
     private void collect(InternalRow row) {
+        bootstrapRecords.inc();
         output.collect(
                 new StreamRecord<>(new Tuple2<>(KeyPartOrRow.KEY_PART, converter.apply(row))));
     }
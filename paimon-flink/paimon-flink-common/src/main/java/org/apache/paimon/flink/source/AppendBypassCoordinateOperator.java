@@ -20,6 +20,7 @@ package org.apache.paimon.flink.source;
 
 import org.apache.paimon.append.AppendCompactCoordinator;
 import org.apache.paimon.append.AppendCompactTask;
+import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.utils.ExecutorUtils;
@@ -74,7 +75,9 @@ public class AppendBypassCoordinateOperator<CommitT>
                 "Compaction Coordinator parallelism in paimon MUST be one.");
         long intervalMs = table.coreOptions().continuousDiscoveryInterval().toMillis();
         this.compactTasks = new LinkedBlockingQueue<>();
-        AppendCompactCoordinator coordinator = new AppendCompactCoordinator(table, true, null);
+        AppendCompactCoordinator coordinator =
+                new AppendCompactCoordinator(table, true, null)
+                        .withMetricRegistry(new FlinkMetricRegistry(getMetricGroup()));
         this.executorService =
                 Executors.newSingleThreadScheduledExecutor(
                         newDaemonThreadFactory("Compaction Coordinator"));
@@ -20,7 +20,9 @@ package org.apache.paimon.flink.source;
 
 import org.apache.paimon.append.AppendCompactCoordinator;
 import org.apache.paimon.append.AppendCompactTask;
+import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.sink.CompactionTaskTypeInfo;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.source.EndOfScanException;
@@ -82,7 +84,12 @@ public class AppendTableCompactSource extends AbstractNonCoordinatedSource<Appen
         Preconditions.checkArgument(
                 readerContext.currentParallelism() == 1,
                 "Compaction Operator parallelism in paimon MUST be one.");
-        return new CompactSourceReader(table, streaming, filter, scanInterval);
+        return new CompactSourceReader(
+                table,
+                streaming,
+                filter,
+                scanInterval,
+                new FlinkMetricRegistry(readerContext.metricGroup()));
     }
 
     /** BucketUnawareCompactSourceReader. */
@@ -93,8 +100,20 @@ public class AppendTableCompactSource extends AbstractNonCoordinatedSource<Appen
 
         public CompactSourceReader(
                 FileStoreTable table, boolean streaming, Predicate filter, long scanInterval) {
+            this(table, streaming, filter, scanInterval, null);
+        }
+
+        public CompactSourceReader(
+                FileStoreTable table,
+                boolean streaming,
+                Predicate filter,
+                long scanInterval,
+                @Nullable MetricRegistry metricRegistry) {
             this.scanInterval = scanInterval;
             compactionCoordinator = new AppendCompactCoordinator(table, streaming, filter);
+            if (metricRegistry != null) {
+                compactionCoordinator.withMetricRegistry(metricRegistry);
+            }
         }
 
         @Override
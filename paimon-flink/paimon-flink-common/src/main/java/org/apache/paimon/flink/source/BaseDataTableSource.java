@@ -80,6 +80,8 @@ import static org.apache.paimon.CoreOptions.LOG_CONSISTENCY;
 import static org.apache.paimon.CoreOptions.LOG_IGNORE_DELETE;
 import static org.apache.paimon.CoreOptions.MergeEngine.FIRST_ROW;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_ASYNC;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_ASYNC_MINI_BATCH_LATENCY;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_ASYNC_MINI_BATCH_SIZE;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_ASYNC_THREAD_NUMBER;
 import static org.apache.paimon.flink.FlinkConnectorOptions.SCAN_REMOVE_NORMALIZE;
 import static org.apache.paimon.flink.FlinkConnectorOptions.SCAN_WATERMARK_ALIGNMENT_GROUP;
@@ -288,7 +290,9 @@ public abstract class BaseDataTableSource extends FlinkTableSource
                         projection,
                         joinKey),
                 enableAsync,
-                asyncThreadNumber);
+                asyncThreadNumber,
+                options.get(LOOKUP_ASYNC_MINI_BATCH_SIZE),
+                options.get(LOOKUP_ASYNC_MINI_BATCH_LATENCY));
     }
 
     protected FileStoreLookupFunction getFileStoreLookupFunction(
@@ -20,6 +20,8 @@ package org.apache.paimon.flink.source;
 
 import org.apache.paimon.flink.utils.TableScanUtils;
 
+import javax.annotation.Nullable;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -47,6 +49,12 @@ public class ConsumerProgressCalculator {
         consumingSnapshotPerReader.put(subtaskId, event.lastConsumeSnapshotId());
     }
 
+    /** Returns the snapshot id up to which the reader has consumed all its splits, if reported. */
+    @Nullable
+    public Long consumedSnapshotId(int subtaskId) {
+        return consumingSnapshotPerReader.get(subtaskId);
+    }
+
     public void updateAssignInformation(int subtaskId, FileStoreSourceSplit split) {
         TableScanUtils.getSnapshotId(split)
                 .ifPresent(snapshotId -> assignedSnapshotPerReader.put(subtaskId, snapshotId));
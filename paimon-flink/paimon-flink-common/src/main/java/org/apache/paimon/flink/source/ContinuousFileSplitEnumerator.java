@@ -22,6 +22,8 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.flink.source.assigners.FIFOSplitAssigner;
 import org.apache.paimon.flink.source.assigners.PreAssignSplitAssigner;
 import org.apache.paimon.flink.source.assigners.SplitAssigner;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector.AffinityState;
 import org.apache.paimon.table.BucketMode;
 import org.apache.paimon.table.sink.ChannelComputer;
 import org.apache.paimon.table.source.DataSplit;
@@ -78,6 +80,8 @@ public class ContinuousFileSplitEnumerator
 
     private final boolean shuffleBucketWithPartition;
 
+    @Nullable private final StickyBucketSelector bucketSelector;
+
     @Nullable protected Long nextSnapshotId;
 
     protected boolean finished = false;
@@ -93,6 +97,28 @@ public class ContinuousFileSplitEnumerator
             BucketMode bucketMode,
             int splitMaxPerTask,
             boolean shuffleBucketWithPartition) {
+        this(
+                context,
+                remainSplits,
+                nextSnapshotId,
+                discoveryInterval,
+                scan,
+                bucketMode,
+                splitMaxPerTask,
+                shuffleBucketWithPartition,
+                null);
+    }
+
+    public ContinuousFileSplitEnumerator(
+            SplitEnumeratorContext<FileStoreSourceSplit> context,
+            Collection<FileStoreSourceSplit> remainSplits,
+            @Nullable Long nextSnapshotId,
+            long discoveryInterval,
+            StreamTableScan scan,
+            BucketMode bucketMode,
+            int splitMaxPerTask,
+            boolean shuffleBucketWithPartition,
+            @Nullable StickyBucketSelector bucketSelector) {
         checkArgument(discoveryInterval > 0L);
         this.context = checkNotNull(context);
         this.nextSnapshotId = nextSnapshotId;
@@ -103,6 +129,7 @@ public class ContinuousFileSplitEnumerator
         this.splitAssigner = createSplitAssigner(bucketMode);
         this.splitMaxNum = context.currentParallelism() * splitMaxPerTask;
         this.shuffleBucketWithPartition = shuffleBucketWithPartition;
+        this.bucketSelector = bucketSelector;
         addSplits(remainSplits);
 
         this.consumerProgressCalculator =
@@ -171,8 +198,24 @@ public class ContinuousFileSplitEnumerator
     @Override
     public PendingSplitsCheckpoint snapshotState(long checkpointId) throws Exception {
         List<FileStoreSourceSplit> splits = new ArrayList<>(splitAssigner.remainingSplits());
+        AffinityState bucketAffinity = null;
+        if (bucketSelector != null) {
+            List<DataSplit> pendingSplits = new ArrayList<>(splits.size());
+            for (FileStoreSourceSplit split : splits) {
+                pendingSplits.add((DataSplit) split.split());
+            }
+            // readers awaiting splits have consumed all splits assigned to them
+            bucketSelector.evictIdlePartitions(
+                    pendingSplits,
+                    System.currentTimeMillis(),
+                    subtask ->
+                            readersAwaitingSplit.contains(subtask)
+                                    ? Long.MAX_VALUE
+                                    : consumerProgressCalculator.consumedSnapshotId(subtask));
+            bucketAffinity = bucketSelector.snapshot(pendingSplits);
+        }
         final PendingSplitsCheckpoint checkpoint =
-                new PendingSplitsCheckpoint(splits, nextSnapshotId);
+                new PendingSplitsCheckpoint(splits, nextSnapshotId, bucketAffinity);
 
         consumerProgressCalculator.notifySnapshotState(
                 checkpointId,
@@ -281,6 +324,9 @@ public class ContinuousFileSplitEnumerator
 
     protected int assignSuggestedTask(FileStoreSourceSplit split) {
         DataSplit dataSplit = ((DataSplit) split.split());
+        if (bucketSelector != null) {
+            return bucketSelector.select(dataSplit);
+        }
         if (shuffleBucketWithPartition) {
             return ChannelComputer.select(
                     dataSplit.partition(), dataSplit.bucket(), context.currentParallelism());
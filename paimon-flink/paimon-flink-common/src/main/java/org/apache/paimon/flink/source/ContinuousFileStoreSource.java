@@ -20,8 +20,11 @@ package org.apache.paimon.flink.source;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.flink.FlinkConnectorOptions;
+import org.apache.paimon.flink.FlinkConnectorOptions.StreamingBucketAssignMode;
 import org.apache.paimon.flink.NestedProjectedRowData;
 import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector.AffinityState;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.BucketMode;
 import org.apache.paimon.table.source.ReadBuilder;
@@ -75,9 +78,11 @@ public class ContinuousFileStoreSource extends FlinkSource {
             PendingSplitsCheckpoint checkpoint) {
         Long nextSnapshotId = null;
         Collection<FileStoreSourceSplit> splits = new ArrayList<>();
+        AffinityState bucketAffinity = null;
         if (checkpoint != null) {
             nextSnapshotId = checkpoint.currentSnapshotId();
             splits = checkpoint.splits();
+            bucketAffinity = checkpoint.bucketAffinity();
         }
         StreamTableScan scan = readBuilder.newStreamScan();
         if (metricGroup(context) != null) {
@@ -85,7 +90,7 @@ public class ContinuousFileStoreSource extends FlinkSource {
                     .withMetricsRegistry(new FlinkMetricRegistry(context.metricGroup()));
         }
         scan.restore(nextSnapshotId);
-        return buildEnumerator(context, splits, nextSnapshotId, scan);
+        return buildEnumerator(context, splits, nextSnapshotId, scan, bucketAffinity);
     }
 
     @Nullable
@@ -102,8 +107,25 @@ public class ContinuousFileStoreSource extends FlinkSource {
             SplitEnumeratorContext<FileStoreSourceSplit> context,
             Collection<FileStoreSourceSplit> splits,
             @Nullable Long nextSnapshotId,
-            StreamTableScan scan) {
+            StreamTableScan scan,
+            @Nullable AffinityState bucketAffinity) {
         Options options = Options.fromMap(this.options);
+        boolean shuffleBucketWithPartition =
+                options.get(FlinkConnectorOptions.STREAMING_READ_SHUFFLE_BUCKET_WITH_PARTITION);
+        StickyBucketSelector bucketSelector = null;
+        if (options.get(FlinkConnectorOptions.STREAMING_READ_BUCKET_ASSIGN_MODE)
+                        == StreamingBucketAssignMode.STICKY
+                && bucketMode != BucketMode.BUCKET_UNAWARE) {
+            bucketSelector =
+                    new StickyBucketSelector(
+                            context.currentParallelism(),
+                            shuffleBucketWithPartition,
+                            options.get(
+                                            FlinkConnectorOptions
+                                                    .STREAMING_READ_BUCKET_AFFINITY_IDLE_TIMEOUT)
+                                    .toMillis(),
+                            bucketAffinity);
+        }
         return new ContinuousFileSplitEnumerator(
                 context,
                 splits,
@@ -112,6 +134,7 @@ public class ContinuousFileStoreSource extends FlinkSource {
                 scan,
                 bucketMode,
                 options.get(CoreOptions.SCAN_MAX_SPLITS_PER_TASK),
-                options.get(FlinkConnectorOptions.STREAMING_READ_SHUFFLE_BUCKET_WITH_PARTITION));
+                shuffleBucketWithPartition,
+                bucketSelector);
     }
 }
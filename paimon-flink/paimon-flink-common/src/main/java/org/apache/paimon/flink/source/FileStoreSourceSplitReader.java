@@ -67,6 +67,7 @@ public class FileStoreSourceSplitReader
 
     @Nullable private LazyRecordReader currentReader;
     @Nullable private String currentSplitId;
+    private long currentSplitStartTime;
     private long currentNumRead;
     private RecordIterator<InternalRow> currentFirstBatch;
 
@@ -210,6 +211,7 @@ public class FileStoreSourceSplitReader
         }
 
         currentSplitId = nextSplit.splitId();
+        currentSplitStartTime = System.currentTimeMillis();
         currentReader = new LazyRecordReader(nextSplit.split());
         currentNumRead = nextSplit.recordsToSkip();
         if (limiter != null) {
@@ -246,6 +248,7 @@ public class FileStoreSourceSplitReader
                 currentReader.lazyRecordReader.close();
             }
             currentReader = null;
+            metrics.recordSplitReadTime(System.currentTimeMillis() - currentSplitStartTime);
         }
 
         final FlinkRecordsWithSplitIds finishRecords =
@@ -18,6 +18,9 @@
 
 package org.apache.paimon.flink.source;
 
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector.AffinityState;
+
 import javax.annotation.Nullable;
 
 import java.util.Collection;
@@ -33,10 +36,21 @@ public class PendingSplitsCheckpoint {
 
     private final @Nullable Long currentSnapshotId;
 
+    /** The affinity of buckets if buckets are selected by {@link StickyBucketSelector}. */
+    private final @Nullable AffinityState bucketAffinity;
+
     public PendingSplitsCheckpoint(
             Collection<FileStoreSourceSplit> splits, @Nullable Long currentSnapshotId) {
+        this(splits, currentSnapshotId, null);
+    }
+
+    public PendingSplitsCheckpoint(
+            Collection<FileStoreSourceSplit> splits,
+            @Nullable Long currentSnapshotId,
+            @Nullable AffinityState bucketAffinity) {
         this.splits = splits;
         this.currentSnapshotId = currentSnapshotId;
+        this.bucketAffinity = bucketAffinity;
     }
 
     public Collection<FileStoreSourceSplit> splits() {
@@ -46,4 +60,8 @@ public class PendingSplitsCheckpoint {
     public @Nullable Long currentSnapshotId() {
         return currentSnapshotId;
     }
+
+    public @Nullable AffinityState bucketAffinity() {
+        return bucketAffinity;
+    }
 }
@@ -18,6 +18,9 @@
 
 package org.apache.paimon.flink.source;
 
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector.Affinity;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector.AffinityState;
+
 import org.apache.flink.core.io.SimpleVersionedSerializer;
 import org.apache.flink.core.memory.DataInputDeserializer;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
@@ -27,6 +30,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
+import static org.apache.paimon.utils.SerializationUtils.serializeBinaryRow;
+
 /** A {@link SimpleVersionedSerializer} for {@link PendingSplitsCheckpoint}. */
 public class PendingSplitsCheckpointSerializer
         implements SimpleVersionedSerializer<PendingSplitsCheckpoint> {
@@ -59,6 +65,21 @@ public class PendingSplitsCheckpointSerializer
         Long currentSnapshotId = pendingSplitsCheckpoint.currentSnapshotId();
         view.writeLong(currentSnapshotId == null ? INVALID_SNAPSHOT : currentSnapshotId);
 
+        // optional, absent in checkpoints of older versions
+        AffinityState bucketAffinity = pendingSplitsCheckpoint.bucketAffinity();
+        if (bucketAffinity != null) {
+            view.writeInt(bucketAffinity.parallelism());
+            view.writeInt(bucketAffinity.affinities().size());
+            for (Affinity affinity : bucketAffinity.affinities()) {
+                byte[] partition = serializeBinaryRow(affinity.partition());
+                view.writeInt(partition.length);
+                view.write(partition);
+                view.writeInt(affinity.bucket());
+                view.writeInt(affinity.subtask());
+                view.writeLong(affinity.bytes());
+            }
+        }
+
         return out.toByteArray();
     }
 
@@ -76,7 +97,28 @@ public class PendingSplitsCheckpointSerializer
         }
 
         long currentSnapshotId = view.readLong();
+
+        AffinityState bucketAffinity = null;
+        if (view.available() > 0) {
+            int parallelism = view.readInt();
+            int affinityNumber = view.readInt();
+            List<Affinity> affinities = new ArrayList<>(affinityNumber);
+            for (int i = 0; i < affinityNumber; i++) {
+                byte[] partition = new byte[view.readInt()];
+                view.readFully(partition);
+                affinities.add(
+                        new Affinity(
+                                deserializeBinaryRow(partition),
+                                view.readInt(),
+                                view.readInt(),
+                                view.readLong()));
+            }
+            bucketAffinity = new AffinityState(parallelism, affinities);
+        }
+
         return new PendingSplitsCheckpoint(
-                splits, currentSnapshotId == INVALID_SNAPSHOT ? null : currentSnapshotId);
+                splits,
+                currentSnapshotId == INVALID_SNAPSHOT ? null : currentSnapshotId,
+                bucketAffinity);
     }
 }
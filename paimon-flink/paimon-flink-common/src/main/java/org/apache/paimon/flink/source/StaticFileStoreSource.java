@@ -23,6 +23,7 @@ import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.source.assigners.FIFOSplitAssigner;
 import org.apache.paimon.flink.source.assigners.PreAssignSplitAssigner;
 import org.apache.paimon.flink.source.assigners.SplitAssigner;
+import org.apache.paimon.flink.source.assigners.WorkStealingSplitAssigner;
 import org.apache.paimon.table.source.InnerTableScan;
 import org.apache.paimon.table.source.ReadBuilder;
 import org.apache.paimon.table.source.TableScan;
@@ -108,6 +109,8 @@ public class StaticFileStoreSource extends FlinkSource {
                 return new PreAssignSplitAssigner(splitBatchSize, context, splits);
             case PREEMPTIVE:
                 return new FIFOSplitAssigner(splits);
+            case WORK_STEALING:
+                return new WorkStealingSplitAssigner(context.currentParallelism(), splits);
             default:
                 throw new UnsupportedOperationException(
                         "Unsupported assign mode " + splitAssignMode);
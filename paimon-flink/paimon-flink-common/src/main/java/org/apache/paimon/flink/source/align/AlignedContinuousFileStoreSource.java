@@ -25,6 +25,7 @@ import org.apache.paimon.flink.NestedProjectedRowData;
 import org.apache.paimon.flink.source.ContinuousFileStoreSource;
 import org.apache.paimon.flink.source.FileStoreSourceSplit;
 import org.apache.paimon.flink.source.PendingSplitsCheckpoint;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector.AffinityState;
 import org.apache.paimon.flink.source.metrics.FileStoreSourceReaderMetrics;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.BucketMode;
@@ -74,7 +75,8 @@ public class AlignedContinuousFileStoreSource extends ContinuousFileStoreSource
             SplitEnumeratorContext<FileStoreSourceSplit> context,
             Collection<FileStoreSourceSplit> splits,
             @Nullable Long nextSnapshotId,
-            StreamTableScan scan) {
+            StreamTableScan scan,
+            @Nullable AffinityState bucketAffinity) {
         Options options = Options.fromMap(this.options);
         return new AlignedContinuousFileSplitEnumerator(
                 context,
@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.source.assigners;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.utils.Pair;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Selects the subtask of the splits of a bucket for streaming read, a bucket is always read by the
+ * same subtask until the parallelism is changed.
+ *
+ * <p>The affinity of buckets is kept in checkpoints and restored as is after failover. A new bucket
+ * prefers the subtask chosen by jump consistent hashing, and falls back to the subtask with the
+ * least bytes if the preferred subtask has read more than {@link #LOAD_FACTOR} times the average
+ * bytes (consistent hashing with bounded loads). When the parallelism is changed, buckets are
+ * placed again from the largest one, a bucket stays on its previous subtask if that subtask still
+ * exists and is not overloaded, so only the buckets exceeding the bound are moved.
+ *
+ * <p>The affinities of a partition are evicted when no splits were selected for the partition for
+ * longer than the idle timeout, none of its splits are pending and all of its selected splits have
+ * been consumed by their subtasks, so that finished or dropped partitions do not stay in the state
+ * forever. The affinities of unpartitioned reads are never evicted.
+ */
+public class StickyBucketSelector {
+
+    static final double LOAD_FACTOR = 1.25;
+
+    private final int parallelism;
+    private final boolean shuffleBucketWithPartition;
+    private final long idleTimeoutMillis;
+
+    private final Map<Pair<BinaryRow, Integer>, Affinity> affinities;
+    private final long[] loads;
+    private long totalBytes;
+
+    /** Partitions of the splits selected since the last eviction. */
+    private final Set<BinaryRow> activePartitions;
+
+    /** The time of the last eviction at which each partition was active. */
+    private final Map<BinaryRow, Long> lastActiveMillis;
+
+    public StickyBucketSelector(
+            int parallelism,
+            boolean shuffleBucketWithPartition,
+            long idleTimeoutMillis,
+            @Nullable AffinityState restored) {
+        this.parallelism = parallelism;
+        this.shuffleBucketWithPartition = shuffleBucketWithPartition;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.affinities = new HashMap<>();
+        this.loads = new long[parallelism];
+        this.activePartitions = new HashSet<>();
+        this.lastActiveMillis = new HashMap<>();
+        if (restored == null) {
+            return;
+        }
+
+        List<Affinity> sorted = new ArrayList<>(restored.affinities());
+        sorted.sort(Comparator.comparingLong(Affinity::bytes).reversed());
+        for (Affinity affinity : sorted) {
+            totalBytes += affinity.bytes;
+        }
+        boolean rescaled = restored.parallelism() != parallelism;
+        for (Affinity affinity : sorted) {
+            int subtask = affinity.subtask;
+            if (rescaled) {
+                subtask =
+                        place(
+                                hash(affinity.partition, affinity.bucket),
+                                affinity.bytes,
+                                subtask < parallelism ? subtask : -1,
+                                totalBytes);
+            }
+            loads[subtask] += affinity.bytes;
+            // restored partitions are kept until the first eviction
+            activePartitions.add(affinity.partition);
+            affinities.put(
+                    Pair.of(affinity.partition, affinity.bucket),
+                    new Affinity(affinity.partition, affinity.bucket, subtask, affinity.bytes));
+        }
+    }
+
+    /** Returns the subtask to read the split, and accounts the bytes of the split to it. */
+    public int select(DataSplit split) {
+        BinaryRow partition = partition(split);
+        int bucket = split.bucket();
+        long bytes = bytes(split);
+        totalBytes += bytes;
+
+        Pair<BinaryRow, Integer> key = Pair.of(partition, bucket);
+        Affinity affinity = affinities.get(key);
+        if (affinity == null) {
+            int subtask = place(hash(partition, bucket), bytes, -1, totalBytes);
+            affinity = new Affinity(partition.copy(), bucket, subtask, 0);
+            affinities.put(Pair.of(affinity.partition, bucket), affinity);
+        }
+        activePartitions.add(affinity.partition);
+        affinity.bytes += bytes;
+        affinity.lastSnapshotId = Math.max(affinity.lastSnapshotId, split.snapshotId());
+        loads[affinity.subtask] += bytes;
+        return affinity.subtask;
+    }
+
+    private int place(long hash, long bytes, int previous, long totalBytes) {
+        long bound = (long) Math.ceil(LOAD_FACTOR * totalBytes / parallelism);
+        if (previous >= 0 && loads[previous] + bytes <= bound) {
+            return previous;
+        }
+
+        int preferred = jumpConsistentHash(hash, parallelism);
+        if (loads[preferred] + bytes <= bound) {
+            return preferred;
+        }
+
+        int leastLoaded = 0;
+        for (int i = 1; i < parallelism; i++) {
+            if (loads[i] < loads[leastLoaded]) {
+                leastLoaded = i;
+            }
+        }
+        return leastLoaded;
+    }
+
+    private BinaryRow partition(DataSplit split) {
+        return shuffleBucketWithPartition ? split.partition() : BinaryRow.EMPTY_ROW;
+    }
+
+    private static long bytes(DataSplit split) {
+        long bytes = 0;
+        for (DataFileMeta file : split.dataFiles()) {
+            bytes += file.fileSize();
+        }
+        return bytes;
+    }
+
+    private long hash(BinaryRow partition, int bucket) {
+        return partition.hashCode() * 31L + bucket;
+    }
+
+    /** Jump consistent hash of Lamping and Veach, only 1/n keys move when adding a subtask. */
+    static int jumpConsistentHash(long key, int numBuckets) {
+        long b = -1;
+        long j = 0;
+        while (j < numBuckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    /**
+     * Evicts the affinities of the partitions which are idle for longer than the idle timeout,
+     * their bytes are no longer accounted to the subtasks. A partition is not evicted while it has
+     * pending splits, or while a subtask has not consumed a split selected for the partition, so
+     * that a bucket is never moved while its previous subtask may still read it.
+     *
+     * @param consumedSnapshotId the snapshot id up to which a subtask has consumed all its splits,
+     *     null if unknown
+     */
+    public void evictIdlePartitions(
+            Collection<DataSplit> pendingSplits,
+            long currentTimeMillis,
+            Function<Integer, Long> consumedSnapshotId) {
+        for (BinaryRow partition : activePartitions) {
+            lastActiveMillis.put(partition, currentTimeMillis);
+        }
+        activePartitions.clear();
+        for (DataSplit split : pendingSplits) {
+            BinaryRow partition = partition(split);
+            if (lastActiveMillis.containsKey(partition)) {
+                lastActiveMillis.put(partition, currentTimeMillis);
+            }
+        }
+
+        Set<BinaryRow> idlePartitions = new HashSet<>();
+        for (Map.Entry<BinaryRow, Long> entry : lastActiveMillis.entrySet()) {
+            if (entry.getKey().getFieldCount() > 0
+                    && currentTimeMillis - entry.getValue() > idleTimeoutMillis) {
+                idlePartitions.add(entry.getKey());
+            }
+        }
+        if (idlePartitions.isEmpty()) {
+            return;
+        }
+
+        for (Affinity affinity : affinities.values()) {
+            if (idlePartitions.contains(affinity.partition)) {
+                Long consumed = consumedSnapshotId.apply(affinity.subtask);
+                if (consumed == null || consumed < affinity.lastSnapshotId) {
+                    idlePartitions.remove(affinity.partition);
+                }
+            }
+        }
+
+        Iterator<Affinity> iterator = affinities.values().iterator();
+        while (iterator.hasNext()) {
+            Affinity affinity = iterator.next();
+            if (idlePartitions.contains(affinity.partition)) {
+                loads[affinity.subtask] -= affinity.bytes;
+                totalBytes -= affinity.bytes;
+                iterator.remove();
+            }
+        }
+        lastActiveMillis.keySet().removeAll(idlePartitions);
+    }
+
+    public AffinityState snapshot() {
+        return snapshot(Collections.emptyList());
+    }
+
+    /**
+     * Snapshots the affinities. The bytes of the pending splits are excluded, because the pending
+     * splits are selected and accounted again when they are restored.
+     */
+    public AffinityState snapshot(Collection<DataSplit> pendingSplits) {
+        Map<Pair<BinaryRow, Integer>, Long> pendingBytes = new HashMap<>();
+        for (DataSplit split : pendingSplits) {
+            pendingBytes.merge(Pair.of(partition(split), split.bucket()), bytes(split), Long::sum);
+        }
+        List<Affinity> result = new ArrayList<>(affinities.size());
+        for (Map.Entry<Pair<BinaryRow, Integer>, Affinity> entry : affinities.entrySet()) {
+            Affinity affinity = entry.getValue();
+            long bytes = affinity.bytes - pendingBytes.getOrDefault(entry.getKey(), 0L);
+            result.add(
+                    new Affinity(
+                            affinity.partition,
+                            affinity.bucket,
+                            affinity.subtask,
+                            Math.max(bytes, 0)));
+        }
+        return new AffinityState(parallelism, result);
+    }
+
+    @VisibleForTesting
+    int numAffinities() {
+        return affinities.size();
+    }
+
+    @VisibleForTesting
+    long load(int subtask) {
+        return loads[subtask];
+    }
+
+    /** The affinities of buckets and the parallelism they were selected with. */
+    public static class AffinityState {
+
+        private final int parallelism;
+        private final List<Affinity> affinities;
+
+        public AffinityState(int parallelism, List<Affinity> affinities) {
+            this.parallelism = parallelism;
+            this.affinities = affinities;
+        }
+
+        public int parallelism() {
+            return parallelism;
+        }
+
+        public List<Affinity> affinities() {
+            return affinities;
+        }
+    }
+
+    /** The subtask reading a bucket and the bytes read from the bucket. */
+    public static class Affinity {
+
+        private final BinaryRow partition;
+        private final int bucket;
+        private final int subtask;
+        private long bytes;
+
+        /** The largest snapshot id of the selected splits, not kept in the state. */
+        private long lastSnapshotId = Long.MIN_VALUE;
+
+        public Affinity(BinaryRow partition, int bucket, int subtask, long bytes) {
+            this.partition = partition;
+            this.bucket = bucket;
+            this.subtask = subtask;
+            this.bytes = bytes;
+        }
+
+        public BinaryRow partition() {
+            return partition;
+        }
+
+        public int bucket() {
+            return bucket;
+        }
+
+        public int subtask() {
+            return subtask;
+        }
+
+        public long bytes() {
+            return bytes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Affinity that = (Affinity) o;
+            return bucket == that.bucket
+                    && subtask == that.subtask
+                    && bytes == that.bytes
+                    && Objects.equals(partition, that.partition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partition, bucket, subtask, bytes);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.source.assigners;
+
+import org.apache.paimon.flink.source.FileStoreSourceSplit;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.DeletionFile;
+import org.apache.paimon.utils.BinPacking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.paimon.flink.utils.TableScanUtils.getSnapshotId;
+
+/**
+ * Splits are pre-assigned to tasks by row count like {@link PreAssignSplitAssigner}, but handed out
+ * one at a time. A task whose own splits are exhausted steals the last pending split of the task
+ * with the most pending rows. If that task only has one pending split left, and the files of the
+ * split can be read separately (raw convertible), the split is divided by its data files and only
+ * half of it is stolen, so that a large bucket does not become a long tail.
+ */
+public class WorkStealingSplitAssigner implements SplitAssigner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingSplitAssigner.class);
+
+    private final Map<Integer, LinkedList<FileStoreSourceSplit>> pendingSplitAssignment;
+
+    private final AtomicInteger numberOfPendingSplits;
+    private final AtomicInteger numberOfStolenSplits;
+
+    public WorkStealingSplitAssigner(int parallelism, Collection<FileStoreSourceSplit> splits) {
+        this.pendingSplitAssignment = new HashMap<>();
+        List<List<FileStoreSourceSplit>> assignmentList =
+                BinPacking.packForFixedBinNumber(
+                        splits, split -> split.split().rowCount(), parallelism);
+        for (int i = 0; i < assignmentList.size(); i++) {
+            pendingSplitAssignment.put(i, new LinkedList<>(assignmentList.get(i)));
+        }
+        this.numberOfPendingSplits = new AtomicInteger(splits.size());
+        this.numberOfStolenSplits = new AtomicInteger(0);
+    }
+
+    @Override
+    public List<FileStoreSourceSplit> getNext(int subtask, @Nullable String hostname) {
+        LinkedList<FileStoreSourceSplit> taskSplits = pendingSplitAssignment.get(subtask);
+        FileStoreSourceSplit split =
+                taskSplits == null || taskSplits.isEmpty() ? steal(subtask) : taskSplits.poll();
+        if (split == null) {
+            return Collections.emptyList();
+        }
+        numberOfPendingSplits.decrementAndGet();
+        return Collections.singletonList(split);
+    }
+
+    @Nullable
+    private FileStoreSourceSplit steal(int thief) {
+        int victim = -1;
+        long victimRows = 0;
+        for (Map.Entry<Integer, LinkedList<FileStoreSourceSplit>> entry :
+                pendingSplitAssignment.entrySet()) {
+            long rows = 0;
+            for (FileStoreSourceSplit split : entry.getValue()) {
+                rows += split.split().rowCount();
+            }
+            if (!entry.getValue().isEmpty() && (victim == -1 || rows > victimRows)) {
+                victim = entry.getKey();
+                victimRows = rows;
+            }
+        }
+        if (victim == -1) {
+            return null;
+        }
+
+        LinkedList<FileStoreSourceSplit> victimSplits = pendingSplitAssignment.get(victim);
+        FileStoreSourceSplit stolen = victimSplits.pollLast();
+        if (victimSplits.isEmpty()) {
+            FileStoreSourceSplit[] halves = divide(stolen);
+            if (halves != null) {
+                victimSplits.add(halves[0]);
+                numberOfPendingSplits.incrementAndGet();
+                stolen = halves[1];
+            }
+        }
+        numberOfStolenSplits.incrementAndGet();
+        LOG.debug("Subtask {} steals split {} from subtask {}.", thief, stolen.splitId(), victim);
+        return stolen;
+    }
+
+    /** Divides a split into two splits by its data files, returns null if it can't be divided. */
+    @Nullable
+    private static FileStoreSourceSplit[] divide(FileStoreSourceSplit sourceSplit) {
+        if (!(sourceSplit.split() instanceof DataSplit) || sourceSplit.recordsToSkip() > 0) {
+            return null;
+        }
+        DataSplit split = (DataSplit) sourceSplit.split();
+        List<DataFileMeta> files = split.dataFiles();
+        if (!split.rawConvertible() || !split.beforeFiles().isEmpty() || files.size() < 2) {
+            return null;
+        }
+
+        long half = split.rowCount() / 2;
+        int mid = 0;
+        long rows = 0;
+        while (mid < files.size() - 1 && (mid == 0 || rows < half)) {
+            rows += files.get(mid).rowCount();
+            mid++;
+        }
+
+        Optional<List<DeletionFile>> deletionFiles = split.deletionFiles();
+        return new FileStoreSourceSplit[] {
+            new FileStoreSourceSplit(
+                    sourceSplit.splitId() + "-0",
+                    copy(split, files.subList(0, mid), deletionFiles, 0, mid)),
+            new FileStoreSourceSplit(
+                    sourceSplit.splitId() + "-1",
+                    copy(split, files.subList(mid, files.size()), deletionFiles, mid, files.size()))
+        };
+    }
+
+    private static DataSplit copy(
+            DataSplit split,
+            List<DataFileMeta> files,
+            Optional<List<DeletionFile>> deletionFiles,
+            int from,
+            int to) {
+        DataSplit.Builder builder =
+                DataSplit.builder()
+                        .withSnapshot(split.snapshotId())
+                        .withPartition(split.partition())
+                        .withBucket(split.bucket())
+                        .withBucketPath(split.bucketPath())
+                        .withTotalBuckets(split.totalBuckets())
+                        .withDataFiles(new ArrayList<>(files))
+                        .isStreaming(split.isStreaming())
+                        .rawConvertible(true);
+        deletionFiles.ifPresent(
+                list -> builder.withDataDeletionFiles(new ArrayList<>(list.subList(from, to))));
+        return builder.build();
+    }
+
+    @Override
+    public void addSplit(int suggestedTask, FileStoreSourceSplit split) {
+        pendingSplitAssignment.computeIfAbsent(suggestedTask, k -> new LinkedList<>()).add(split);
+        numberOfPendingSplits.incrementAndGet();
+    }
+
+    @Override
+    public void addSplitsBack(int subtask, List<FileStoreSourceSplit> splits) {
+        LinkedList<FileStoreSourceSplit> remainingSplits =
+                pendingSplitAssignment.computeIfAbsent(subtask, k -> new LinkedList<>());
+        ListIterator<FileStoreSourceSplit> iterator = splits.listIterator(splits.size());
+        while (iterator.hasPrevious()) {
+            remainingSplits.addFirst(iterator.previous());
+        }
+        numberOfPendingSplits.getAndAdd(splits.size());
+    }
+
+    @Override
+    public Collection<FileStoreSourceSplit> remainingSplits() {
+        List<FileStoreSourceSplit> splits = new ArrayList<>();
+        pendingSplitAssignment.values().forEach(splits::addAll);
+        return splits;
+    }
+
+    @Override
+    public Optional<Long> getNextSnapshotId(int subtask) {
+        LinkedList<FileStoreSourceSplit> pendingSplits = pendingSplitAssignment.get(subtask);
+        return (pendingSplits == null || pendingSplits.isEmpty())
+                ? Optional.empty()
+                : getSnapshotId(pendingSplits.peekFirst());
+    }
+
+    @Override
+    public int numberOfRemainingSplits() {
+        return numberOfPendingSplits.get();
+    }
+
+    /** Gets the number of splits stolen by idle tasks. */
+    public int numberOfStolenSplits() {
+        return numberOfStolenSplits.get();
+    }
+}
@@ -27,13 +27,20 @@ public class FileStoreSourceReaderMetrics {
 
     private long latestFileCreationTime = UNDEFINED;
     private long lastSplitUpdateTime = UNDEFINED;
+    private volatile long lastSplitReadTime = UNDEFINED;
+    private volatile long maxSplitReadTime = UNDEFINED;
 
     public static final long UNDEFINED = -1L;
     public static final long ACTIVE = Long.MAX_VALUE;
 
+    public static final String LAST_SPLIT_READ_TIME = "lastSplitReadTime";
+    public static final String MAX_SPLIT_READ_TIME = "maxSplitReadTime";
+
     public FileStoreSourceReaderMetrics(MetricGroup sourceReaderMetricGroup) {
         sourceReaderMetricGroup.gauge(
                 MetricNames.CURRENT_FETCH_EVENT_TIME_LAG, this::getFetchTimeLag);
+        sourceReaderMetricGroup.gauge(LAST_SPLIT_READ_TIME, () -> lastSplitReadTime);
+        sourceReaderMetricGroup.gauge(MAX_SPLIT_READ_TIME, () -> maxSplitReadTime);
     }
 
     /** Called when consumed snapshot changes. */
@@ -42,6 +49,12 @@ public class FileStoreSourceReaderMetrics {
         lastSplitUpdateTime = System.currentTimeMillis();
     }
 
+    /** Called when a split is finished, the time is from opening to finishing the split. */
+    public void recordSplitReadTime(long readTimeMillis) {
+        this.lastSplitReadTime = readTimeMillis;
+        this.maxSplitReadTime = Math.max(maxSplitReadTime, readTimeMillis);
+    }
+
     @VisibleForTesting
     long getFetchTimeLag() {
         if (latestFileCreationTime != UNDEFINED) {
@@ -58,4 +71,14 @@ public class FileStoreSourceReaderMetrics {
     long getLastSplitUpdateTime() {
         return lastSplitUpdateTime;
     }
+
+    @VisibleForTesting
+    long getLastSplitReadTime() {
+        return lastSplitReadTime;
+    }
+
+    @VisibleForTesting
+    long getMaxSplitReadTime() {
+        return maxSplitReadTime;
+    }
 }
@@ -135,6 +135,31 @@ public class LookupJoinITCase extends CatalogITCaseBase {
         iterator.close();
     }
 
+    @ParameterizedTest
+    @EnumSource(LookupCacheMode.class)
+    public void testAsyncMiniBatchLookup(LookupCacheMode cacheMode) throws Exception {
+        initTable(cacheMode);
+        sql("INSERT INTO DIM VALUES (1, 11, 111, 1111), (2, 22, 222, 2222)");
+
+        String query =
+                "SELECT T.i, D.j, D.k1, D.k2 FROM T LEFT JOIN DIM /*+ OPTIONS('lookup.async'='true', "
+                        + "'lookup.async.mini-batch.size'='4') */ for system_time as of T.proctime AS D ON T.i = D.i";
+        BlockingIterator<Row, Row> iterator = BlockingIterator.of(sEnv.executeSql(query).collect());
+
+        // the last key is looked up after the mini-batch latency
+        sql("INSERT INTO T VALUES (1), (2), (1), (3), (2)");
+        List<Row> result = iterator.collect(5);
+        assertThat(result)
+                .containsExactlyInAnyOrder(
+                        Row.of(1, 11, 111, 1111),
+                        Row.of(1, 11, 111, 1111),
+                        Row.of(2, 22, 222, 2222),
+                        Row.of(2, 22, 222, 2222),
+                        Row.of(3, null, null, null));
+
+        iterator.close();
+    }
+
     @Test
     public void testLookupIgnoreScanOptions() throws Exception {
         sql(
@@ -99,7 +99,8 @@ public class AppendTableCompactorTest {
                                 counterMap.put(name, counter);
                                 return counter;
                             }
-                        });
+                        },
+                        null);
 
         for (int i = 0; i < 320; i++) {
             unawareBucketCompactor.processElement(new MockCompactTask());
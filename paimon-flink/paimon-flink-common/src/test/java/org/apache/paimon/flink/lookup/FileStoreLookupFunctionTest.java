@@ -28,6 +28,7 @@ import org.apache.paimon.flink.lookup.PrimaryKeyPartialLookupTable.QueryExecutor
 import org.apache.paimon.flink.lookup.PrimaryKeyPartialLookupTable.RemoteQueryExecutor;
 import org.apache.paimon.lookup.RocksDBOptions;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.Schema;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
@@ -41,8 +42,10 @@ import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.Filter;
 import org.apache.paimon.utils.TraceableFileIO;
 
+import org.apache.flink.table.data.RowData;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -59,10 +62,15 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.data.BinaryRow.EMPTY_ROW;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_TIME_PERIODS_BLACKLIST;
@@ -230,6 +238,144 @@ public class FileStoreLookupFunctionTest {
         lookupFunction.lookup(new FlinkRowData(GenericRow.of(1, 1, 10L)));
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testBatchLookup(boolean joinEqualPk) throws Exception {
+        createLookupFunction(false, joinEqualPk, false, false);
+        commit(writeCommit(GenericRow.of(1, 1, 10L)));
+        commit(writeCommit(GenericRow.of(1, 2, 20L)));
+        commit(writeCommit(GenericRow.of(2, 1, 30L)));
+
+        List<RowData> keys = new ArrayList<>();
+        if (joinEqualPk) {
+            keys.add(new FlinkRowData(GenericRow.of(1, 1)));
+            keys.add(new FlinkRowData(GenericRow.of(2, 1)));
+            keys.add(new FlinkRowData(GenericRow.of(1, 2)));
+            keys.add(new FlinkRowData(GenericRow.of(3, 3)));
+        } else {
+            keys.add(new FlinkRowData(GenericRow.of(1)));
+            keys.add(new FlinkRowData(GenericRow.of(2)));
+            keys.add(new FlinkRowData(GenericRow.of(3)));
+        }
+
+        List<Collection<RowData>> results = lookupFunction.lookup(keys);
+        assertThat(results).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(toString(results.get(i)))
+                    .containsExactlyInAnyOrderElementsOf(
+                            toString(lookupFunction.lookup(keys.get(i))));
+        }
+        assertThat(results.get(0)).hasSize(joinEqualPk ? 1 : 2);
+        assertThat(results.get(keys.size() - 1)).isEmpty();
+    }
+
+    @Test
+    public void testDoubleBufferedRefresh() throws Exception {
+        Map<String, String> dynamicOptions = new HashMap<>();
+        dynamicOptions.put(FlinkConnectorOptions.LOOKUP_REFRESH_DOUBLE_BUFFER.key(), "true");
+        dynamicOptions.put(
+                FlinkConnectorOptions.LOOKUP_REFRESH_DOUBLE_BUFFER_MAX_STALENESS.key(), "0 ms");
+        table = createFileStoreTable(false, false, false).copy(dynamicOptions);
+        lookupFunction = createLookupFunction(table, false);
+        lookupFunction.open(tempDir.toString());
+        DoubleBufferedLookupTable lookupTable =
+                (DoubleBufferedLookupTable) lookupFunction.lookupTable();
+        FlinkRowData key = new FlinkRowData(GenericRow.of(1));
+
+        // the first lookup starts refreshing the standby copy and is served by the stale copy
+        commit(writeCommit(GenericRow.of(1, 1, 10L)));
+        assertThat(lookupFunction.lookup(key)).isEmpty();
+        lookupTable.refreshFuture().get();
+        assertThat(lookupFunction.lookup(key)).hasSize(1);
+
+        // the old active copy catches up in the async thread
+        commit(writeCommit(GenericRow.of(2, 1, 20L)));
+        lookupTable.refresh();
+        lookupTable.refreshFuture().get();
+        assertThat(lookupFunction.lookup(key)).hasSize(2);
+        assertThat(lookupTable.lastRefreshDuration()).isGreaterThanOrEqualTo(0);
+
+        // exceeding the max staleness, refresh waits for the running refresh
+        commit(writeCommit(GenericRow.of(3, 1, 30L)));
+        Thread.sleep(10);
+        lookupTable.refresh();
+        lookupTable.refresh();
+        assertThat(lookupTable.get(GenericRow.of(1))).hasSize(3);
+    }
+
+    @Test
+    public void testDoubleBufferedCloseStopsRefresh() throws Exception {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        List<BlockingLookupTable> copies = new ArrayList<>();
+        DoubleBufferedLookupTable lookupTable =
+                new DoubleBufferedLookupTable(
+                        () -> {
+                            BlockingLookupTable copy = new BlockingLookupTable(refreshStarted);
+                            copies.add(copy);
+                            return copy;
+                        },
+                        null);
+        lookupTable.open();
+        lookupTable.refresh();
+        lookupTable.refreshFuture().get();
+        // swaps the copies, the next refresh blocks in the old active copy
+        lookupTable.get(GenericRow.of(1));
+        lookupTable.refresh();
+        refreshStarted.await();
+
+        lookupTable.close();
+        assertThat(copies).hasSize(2);
+        for (BlockingLookupTable copy : copies) {
+            assertThat(copy.closed).isTrue();
+            assertThat(copy.closedWhileRefreshing).isFalse();
+        }
+    }
+
+    /** A {@link LookupTable} whose refresh blocks until it is interrupted. */
+    private static class BlockingLookupTable implements LookupTable {
+
+        private final CountDownLatch refreshStarted;
+
+        private volatile boolean refreshing;
+        private volatile boolean closed;
+        private volatile boolean closedWhileRefreshing;
+
+        private BlockingLookupTable(CountDownLatch refreshStarted) {
+            this.refreshStarted = refreshStarted;
+        }
+
+        @Override
+        public void specificPartitionFilter(Predicate filter) {}
+
+        @Override
+        public void open() {}
+
+        @Override
+        public List<InternalRow> get(InternalRow key) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void refresh() throws Exception {
+            refreshing = true;
+            try {
+                refreshStarted.countDown();
+                new CountDownLatch(1).await();
+            } finally {
+                refreshing = false;
+            }
+        }
+
+        @Override
+        public void specifyCacheRowFilter(Filter<InternalRow> filter) {}
+
+        @Override
+        public void close() {
+            closedWhileRefreshing = refreshing;
+            closed = true;
+        }
+    }
+
     @Test
     public void testLookupDynamicPartition() throws Exception {
         createLookupFunction(true, false, true, false);
@@ -328,6 +474,19 @@ public class FileStoreLookupFunctionTest {
         return messages;
     }
 
+    private List<CommitMessage> writeCommit(InternalRow row) throws Exception {
+        try (StreamTableWrite writer = table.newStreamWriteBuilder().newWrite()) {
+            writer.write(row);
+            return writer.prepareCommit(true, 0);
+        }
+    }
+
+    private static List<String> toString(Collection<RowData> rows) {
+        return rows.stream()
+                .map(row -> row.getInt(0) + "," + row.getInt(1))
+                .collect(Collectors.toList());
+    }
+
     private InternalRow randomRow() {
         return GenericRow.of(RANDOM.nextInt(100), RANDOM.nextInt(100), RANDOM.nextLong());
     }
@@ -27,9 +27,11 @@ import org.apache.paimon.data.JoinedRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.flink.FlinkConnectorOptions;
+import org.apache.paimon.flink.FlinkConnectorOptions.FullCacheBackend;
 import org.apache.paimon.flink.lookup.FullCacheLookupTable.TableBulkLoader;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.lookup.InMemoryStateFactory;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.schema.Schema;
@@ -559,6 +561,99 @@ public class LookupTableTest extends TableTestBase {
         assertRow(result.get(1), 1, 11, 111);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"f0", "f1"})
+    public void testInMemoryBackend(String joinKey) throws Exception {
+        Options options = new Options();
+        options.set(FlinkConnectorOptions.LOOKUP_FULL_CACHE_BACKEND, FullCacheBackend.MEMORY);
+        FileStoreTable storeTable = createTable(singletonList("f0"), options);
+        GenericRow[] rows = new GenericRow[100];
+        for (int i = 1; i <= 100; i++) {
+            rows[i - 1] = GenericRow.of(i, i % 10, 10 * i);
+        }
+        writeWithBucketAssigner(storeTable, row -> 0, rows);
+
+        FullCacheLookupTable.Context context =
+                new FullCacheLookupTable.Context(
+                        storeTable,
+                        new int[] {0, 1, 2},
+                        null,
+                        null,
+                        tempDir.toFile(),
+                        singletonList(joinKey),
+                        null);
+        table = FullCacheLookupTable.create(context, ThreadLocalRandom.current().nextInt(2) * 10);
+        table.open();
+        assertThat(table.stateFactory).isInstanceOf(InMemoryStateFactory.class);
+
+        if (joinKey.equals("f0")) {
+            for (int i = 1; i <= 100; i++) {
+                List<InternalRow> result = table.get(row(i));
+                assertThat(result).hasSize(1);
+                assertRow(result.get(0), i, i % 10, 10 * i);
+            }
+        } else {
+            for (int i = 0; i < 10; i++) {
+                List<InternalRow> result = table.get(row(i));
+                assertThat(result).hasSize(10);
+                for (InternalRow row : result) {
+                    assertThat(row.getInt(0) % 10).isEqualTo(i);
+                }
+            }
+        }
+
+        // test refresh to update and delete
+        writeWithBucketAssigner(
+                storeTable,
+                row -> 0,
+                GenericRow.of(1, 5, 1000),
+                GenericRow.ofKind(RowKind.DELETE, 2, 2, 20));
+        table.refresh();
+        if (joinKey.equals("f0")) {
+            List<InternalRow> result = table.get(row(1));
+            assertThat(result).hasSize(1);
+            assertRow(result.get(0), 1, 5, 1000);
+            assertThat(table.get(row(2))).isEmpty();
+        } else {
+            assertThat(table.get(row(1))).hasSize(9);
+            assertThat(table.get(row(2))).hasSize(9);
+            assertThat(table.get(row(5)).stream().map(row -> row.getInt(0))).contains(1);
+        }
+    }
+
+    @Test
+    public void testNoPrimaryKeyTableInMemoryBackend() throws Exception {
+        Options options = new Options();
+        options.set(FlinkConnectorOptions.LOOKUP_FULL_CACHE_BACKEND, FullCacheBackend.MEMORY);
+        FileStoreTable storeTable = createTable(emptyList(), options);
+        GenericRow[] rows = new GenericRow[100];
+        for (int i = 0; i < 100; i++) {
+            rows[i] = GenericRow.of(i % 10, i, i);
+        }
+        writeWithBucketAssigner(storeTable, row -> 0, rows);
+
+        FullCacheLookupTable.Context context =
+                new FullCacheLookupTable.Context(
+                        storeTable,
+                        new int[] {0, 1, 2},
+                        null,
+                        null,
+                        tempDir.toFile(),
+                        singletonList("f0"),
+                        null);
+        table = FullCacheLookupTable.create(context, ThreadLocalRandom.current().nextInt(2) * 10);
+        table.open();
+        for (int i = 0; i < 10; i++) {
+            assertThat(table.get(row(i))).hasSize(10);
+        }
+
+        writeWithBucketAssigner(storeTable, row -> 0, GenericRow.of(3, 100, 100));
+        table.refresh();
+        List<InternalRow> result = table.get(row(3));
+        assertThat(result).hasSize(11);
+        assertRow(result.get(10), 3, 100, 100);
+    }
+
     @Test
     public void testPkTableWithCacheRowFilter() throws Exception {
         FileStoreTable storeTable = createTable(singletonList("f0"), new Options());
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.procedure;
+
+import org.apache.paimon.flink.CatalogITCaseBase;
+
+import org.apache.flink.types.Row;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** IT Case for {@link AdviseClusteringProcedure}. */
+public class AdviseClusteringProcedureITCase extends CatalogITCaseBase {
+
+    @Test
+    public void testAdviseClustering() {
+        sql("CREATE TABLE T (a INT, b INT, c STRING) WITH ('bucket' = '-1')");
+        for (int i = 0; i < 5; i++) {
+            sql(
+                    "INSERT INTO T VALUES (%s, %s, 'x'), (%s, %s, 'y'), (%s, %s, 'z')",
+                    i, 10 - i, i + 10, 20 - i, i + 20, 30 - i);
+        }
+
+        List<Row> result =
+                sql(
+                        "CALL sys.advise_clustering(`table` => 'default.T', filters => 'a = 1; b < 5')");
+        // current layout, simulated baseline, order by a, order by b, and order, zorder, hilbert
+        // by a and b
+        assertThat(result).hasSize(7);
+        assertThat(result.get(0).getField(0)).isEqualTo(0);
+        assertThat(result.get(0).getField(1)).isEqualTo("current");
+        assertThat((Double) result.get(0).getField(3)).isBetween(0.0, 1.0);
+        assertThat(result.get(1).getField(0)).isEqualTo(0);
+        assertThat(result.get(1).getField(1)).isEqualTo("none");
+        assertThat((Double) result.get(1).getField(3)).isBetween(0.0, 1.0);
+        assertThat(result.get(2).getField(0)).isEqualTo(1);
+        assertThat((Double) result.get(2).getField(3)).isGreaterThan(0.0);
+
+        result =
+                sql(
+                        "CALL sys.advise_clustering(`table` => 'default.T', filters => 'a = 1', columns => 'a', sample_size => 10)");
+        assertThat(result).hasSize(3);
+        assertThat(result.get(2).getField(1)).isEqualTo("order");
+        assertThat(result.get(2).getField(2)).isEqualTo("a");
+    }
+
+    @Test
+    public void testPrimaryKeyTable() {
+        sql("CREATE TABLE T (a INT PRIMARY KEY NOT ENFORCED, b INT) WITH ('bucket' = '1')");
+        assertThatThrownBy(
+                        () ->
+                                sql(
+                                        "CALL sys.advise_clustering(`table` => 'default.T', filters => 'a = 1')"))
+                .rootCause()
+                .hasMessageContaining("can only be advised for append tables");
+    }
+}
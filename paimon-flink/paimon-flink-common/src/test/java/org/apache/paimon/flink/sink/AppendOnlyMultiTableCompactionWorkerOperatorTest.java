@@ -26,7 +26,8 @@ import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 
 import org.apache.flink.configuration.Configuration;
-import org.apache.flink.runtime.operators.testutils.DummyEnvironment;
+import org.apache.flink.runtime.io.disk.iomanager.IOManager;
+import org.apache.flink.runtime.io.disk.iomanager.IOManagerAsync;
 import org.apache.flink.streaming.api.operators.StreamOperatorParameters;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 import org.apache.flink.streaming.runtime.tasks.SourceOperatorStreamTask;
@@ -41,6 +42,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.apache.paimon.flink.sink.AppendOnlySingleTableCompactionWorkerOperatorTest.environment;
 import static org.apache.paimon.flink.sink.AppendOnlySingleTableCompactionWorkerOperatorTest.packTask;
 
 /** test for {@link AppendOnlyMultiTableCompactionWorkerOperator}. */
@@ -49,14 +51,14 @@ public class AppendOnlyMultiTableCompactionWorkerOperatorTest extends TableTestB
 
     @Test
     public void testAsyncCompactionWorks() throws Exception {
-
+        IOManager ioManager = new IOManagerAsync(tempPath.toString());
         AppendOnlyMultiTableCompactionWorkerOperator workerOperator =
                 new AppendOnlyMultiTableCompactionWorkerOperator.Factory(
                                 () -> catalog, "user", new Options())
                         .createStreamOperator(
                                 new StreamOperatorParameters<>(
                                         new SourceOperatorStreamTask<Integer>(
-                                                new DummyEnvironment()),
+                                                environment(ioManager)),
                                         new MockStreamConfig(new Configuration(), 1),
                                         new MockOutput<>(new ArrayList<>()),
                                         null,
@@ -126,5 +128,7 @@ public class AppendOnlyMultiTableCompactionWorkerOperatorTest extends TableTestB
                         .map(MultiTableCommittable::getTable)
                         .collect(Collectors.toSet());
         Assertions.assertThat(table).hasSameElementsAs(Arrays.asList(tables));
+
+        ioManager.close();
     }
 }
@@ -33,6 +33,8 @@ import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.types.DataTypes;
 
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.runtime.io.disk.iomanager.IOManager;
+import org.apache.flink.runtime.io.disk.iomanager.IOManagerAsync;
 import org.apache.flink.runtime.operators.testutils.DummyEnvironment;
 import org.apache.flink.streaming.api.operators.StreamOperatorParameters;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
@@ -56,12 +58,13 @@ public class AppendOnlySingleTableCompactionWorkerOperatorTest extends TableTest
     @Test
     public void testAsyncCompactionWorks() throws Exception {
         createTableDefault();
+        IOManager ioManager = new IOManagerAsync(tempPath.toString());
         AppendOnlySingleTableCompactionWorkerOperator workerOperator =
                 new AppendOnlySingleTableCompactionWorkerOperator.Factory(getTableDefault(), "user")
                         .createStreamOperator(
                                 new StreamOperatorParameters<>(
                                         new SourceOperatorStreamTask<Integer>(
-                                                new DummyEnvironment()),
+                                                environment(ioManager)),
                                         new MockStreamConfig(new Configuration(), 1),
                                         new MockOutput<>(new ArrayList<>()),
                                         null,
@@ -115,6 +118,7 @@ public class AppendOnlySingleTableCompactionWorkerOperatorTest extends TableTest
                                 .isTrue());
         // need to close the operator to release the thread pool and close all files.
         workerOperator.close();
+        ioManager.close();
 
         // wait the last runnable in thread pool to stop
         Thread.sleep(2_000);
@@ -123,12 +127,13 @@ public class AppendOnlySingleTableCompactionWorkerOperatorTest extends TableTest
     @Test
     public void testAsyncCompactionFileDeletedWhenShutdown() throws Exception {
         createTableDefault();
+        IOManager ioManager = new IOManagerAsync(tempPath.toString());
         AppendOnlySingleTableCompactionWorkerOperator workerOperator =
                 new AppendOnlySingleTableCompactionWorkerOperator.Factory(getTableDefault(), "user")
                         .createStreamOperator(
                                 new StreamOperatorParameters<>(
                                         new SourceOperatorStreamTask<Integer>(
-                                                new DummyEnvironment()),
+                                                environment(ioManager)),
                                         new MockStreamConfig(new Configuration(), 1),
                                         new MockOutput<>(new ArrayList<>()),
                                         null,
@@ -176,6 +181,7 @@ public class AppendOnlySingleTableCompactionWorkerOperatorTest extends TableTest
 
         // shut down worker operator
         workerOperator.close();
+        ioManager.close();
 
         // wait the last runnable in thread pool to stop
         Thread.sleep(2_000);
@@ -216,6 +222,16 @@ public class AppendOnlySingleTableCompactionWorkerOperatorTest extends TableTest
         return GenericRow.of(RANDOM.nextInt(), RANDOM.nextLong(), randomString());
     }
 
+    /** A dummy environment whose spilling directories are the ones of the given io manager. */
+    static DummyEnvironment environment(IOManager ioManager) {
+        return new DummyEnvironment() {
+            @Override
+            public IOManager getIOManager() {
+                return ioManager;
+            }
+        };
+    }
+
     public static List<AppendCompactTask> packTask(List<CommitMessage> messages, int fileSize) {
         List<AppendCompactTask> result = new ArrayList<>();
         List<DataFileMeta> metas =
@@ -18,6 +18,8 @@
 
 package org.apache.paimon.flink.source;
 
+import org.apache.paimon.flink.FlinkConnectorOptions;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.PartitionEntry;
 import org.apache.paimon.table.BucketMode;
@@ -59,6 +61,11 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 /** Unit tests for the {@link ContinuousFileSplitEnumerator}. */
 public class ContinuousFileSplitEnumeratorTest extends FileSplitEnumeratorTestBase {
 
+    private static final long IDLE_TIMEOUT =
+            FlinkConnectorOptions.STREAMING_READ_BUCKET_AFFINITY_IDLE_TIMEOUT
+                    .defaultValue()
+                    .toMillis();
+
     @Test
     public void testSplitAllocationIsOrdered() {
         final TestingSplitEnumeratorContext<FileStoreSourceSplit> context =
@@ -684,6 +691,50 @@ public class ContinuousFileSplitEnumeratorTest extends FileSplitEnumeratorTestBa
         assertThat(toDataSplits(state.splits())).containsExactlyElementsOf(expectedResults.get(2L));
     }
 
+    @Test
+    public void testStickyBucketAssignment() throws Exception {
+        final TestingSplitEnumeratorContext<FileStoreSourceSplit> context =
+                getSplitEnumeratorContext(3);
+
+        List<FileStoreSourceSplit> initialSplits = new ArrayList<>();
+        for (int bucket = 0; bucket < 6; bucket++) {
+            initialSplits.add(createSnapshotSplit(1, bucket, Collections.emptyList()));
+        }
+
+        final ContinuousFileSplitEnumerator enumerator =
+                new Builder()
+                        .setSplitEnumeratorContext(context)
+                        .setInitialSplits(initialSplits)
+                        .withBucketSelector(new StickyBucketSelector(3, false, IDLE_TIMEOUT, null))
+                        .build();
+        for (int subtask = 0; subtask < 3; subtask++) {
+            for (int i = 0; i < 6; i++) {
+                enumerator.handleSplitRequest(subtask, "test-host");
+            }
+        }
+        Map<Integer, Integer> assigned = new HashMap<>();
+        context.getSplitAssignments()
+                .forEach(
+                        (subtask, state) ->
+                                state.getAssignedSplits()
+                                        .forEach(
+                                                split ->
+                                                        assigned.put(
+                                                                ((DataSplit) split.split())
+                                                                        .bucket(),
+                                                                subtask)));
+        assertThat(assigned).hasSize(6);
+
+        PendingSplitsCheckpoint checkpoint = enumerator.snapshotState(1L);
+        assertThat(checkpoint.bucketAffinity()).isNotNull();
+        StickyBucketSelector restored =
+                new StickyBucketSelector(3, false, IDLE_TIMEOUT, checkpoint.bucketAffinity());
+        for (int bucket = 0; bucket < 6; bucket++) {
+            DataSplit split = createDataSplit(2, bucket, Collections.emptyList());
+            assertThat(restored.select(split)).isEqualTo(assigned.get(bucket));
+        }
+    }
+
     @Test
     public void testEnumeratorWithConsumer() throws Exception {
         final TestingAsyncSplitEnumeratorContext<FileStoreSourceSplit> context =
@@ -849,6 +900,7 @@ public class ContinuousFileSplitEnumeratorTest extends FileSplitEnumeratorTestBa
 
         private StreamTableScan scan;
         private BucketMode bucketMode = BucketMode.HASH_FIXED;
+        private StickyBucketSelector bucketSelector;
 
         public Builder setSplitEnumeratorContext(
                 SplitEnumeratorContext<FileStoreSourceSplit> context) {
@@ -876,9 +928,22 @@ public class ContinuousFileSplitEnumeratorTest extends FileSplitEnumeratorTestBa
             return this;
         }
 
+        public Builder withBucketSelector(StickyBucketSelector bucketSelector) {
+            this.bucketSelector = bucketSelector;
+            return this;
+        }
+
         public ContinuousFileSplitEnumerator build() {
             return new ContinuousFileSplitEnumerator(
-                    context, initialSplits, null, discoveryInterval, scan, bucketMode, 10, false);
+                    context,
+                    initialSplits,
+                    null,
+                    discoveryInterval,
+                    scan,
+                    bucketMode,
+                    10,
+                    false,
+                    bucketSelector);
         }
     }
 
@@ -18,6 +18,9 @@
 
 package org.apache.paimon.flink.source;
 
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector.Affinity;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector.AffinityState;
+
 import org.apache.flink.core.io.SimpleVersionedSerialization;
 import org.junit.jupiter.api.Test;
 
@@ -77,6 +80,37 @@ public class PendingSplitsCheckpointSerializerTest {
         assertCheckpointsEqual(checkpoint, deSerialized);
     }
 
+    @Test
+    public void serializeBucketAffinity() throws Exception {
+        final AffinityState affinity =
+                new AffinityState(
+                        2,
+                        Arrays.asList(
+                                new Affinity(row(1), 2, 0, 100L), new Affinity(row(2), 3, 1, 50L)));
+        final PendingSplitsCheckpoint checkpoint =
+                new PendingSplitsCheckpoint(
+                        Arrays.asList(testSplit1(), testSplit2()), 7L, affinity);
+
+        final PendingSplitsCheckpoint deSerialized = serializeAndDeserialize(checkpoint);
+
+        assertCheckpointsEqual(checkpoint, deSerialized);
+        assertThat(deSerialized.bucketAffinity()).isNotNull();
+        assertThat(deSerialized.bucketAffinity().parallelism()).isEqualTo(2);
+        assertThat(deSerialized.bucketAffinity().affinities())
+                .containsExactlyElementsOf(affinity.affinities());
+    }
+
+    @Test
+    public void serializeWithoutBucketAffinity() throws Exception {
+        final PendingSplitsCheckpoint checkpoint =
+                new PendingSplitsCheckpoint(Collections.singletonList(testSplit3()), 5L);
+
+        final PendingSplitsCheckpoint deSerialized = serializeAndDeserialize(checkpoint);
+
+        assertCheckpointsEqual(checkpoint, deSerialized);
+        assertThat(deSerialized.bucketAffinity()).isNull();
+    }
+
     // ------------------------------------------------------------------------
     //  test utils
     // ------------------------------------------------------------------------
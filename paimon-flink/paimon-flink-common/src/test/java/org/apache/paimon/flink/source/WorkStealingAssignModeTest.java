@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.source;
+
+import org.apache.paimon.flink.source.assigners.WorkStealingSplitAssigner;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.table.source.DataSplit;
+
+import org.apache.flink.connector.testutils.source.reader.TestingSplitEnumeratorContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.flink.connector.testutils.source.reader.TestingSplitEnumeratorContext.SplitAssignmentState;
+import static org.apache.paimon.flink.FlinkConnectorOptions.SplitAssignMode;
+import static org.apache.paimon.io.DataFileTestUtils.newFile;
+import static org.apache.paimon.io.DataFileTestUtils.row;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link StaticFileStoreSplitEnumerator} with {@link SplitAssignMode#WORK_STEALING}. */
+public class WorkStealingAssignModeTest extends StaticFileStoreSplitEnumeratorTestBase {
+
+    @Test
+    public void testAssignOneSplitPerRequest() {
+        final TestingSplitEnumeratorContext<FileStoreSourceSplit> context =
+                getSplitEnumeratorContext(2);
+
+        List<FileStoreSourceSplit> splits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            splits.add(split("s" + i, i, 100));
+        }
+        StaticFileStoreSplitEnumerator enumerator = getSplitEnumerator(context, splits);
+
+        enumerator.handleSplitRequest(0, "test-host");
+        enumerator.handleSplitRequest(1, "test-host");
+        Map<Integer, SplitAssignmentState<FileStoreSourceSplit>> assignments =
+                context.getSplitAssignments();
+        assertThat(assignments).containsOnlyKeys(0, 1);
+        assertThat(assignments.get(0).getAssignedSplits()).hasSize(1);
+        assertThat(assignments.get(1).getAssignedSplits()).hasSize(1);
+        assertThat(enumerator.snapshotState(1L).splits()).hasSize(2);
+    }
+
+    @Test
+    public void testStealFromBusiestTask() {
+        final TestingSplitEnumeratorContext<FileStoreSourceSplit> context =
+                getSplitEnumeratorContext(2);
+
+        // subtask 0 gets the large split, subtask 1 gets the small ones
+        WorkStealingSplitAssigner assigner = new WorkStealingSplitAssigner(2, new ArrayList<>());
+        FileStoreSourceSplit large = split("large", 0, 1000);
+        assigner.addSplit(0, large);
+        List<FileStoreSourceSplit> small = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            small.add(split("small" + i, i, 100));
+            assigner.addSplit(1, small.get(i - 1));
+        }
+        StaticFileStoreSplitEnumerator enumerator =
+                new StaticFileStoreSplitEnumerator(context, null, assigner);
+
+        enumerator.handleSplitRequest(0, "test-host");
+        Map<Integer, SplitAssignmentState<FileStoreSourceSplit>> assignments =
+                context.getSplitAssignments();
+        assertThat(assignments.get(0).getAssignedSplits()).containsExactly(large);
+
+        // subtask 0 is idle and steals the last split of subtask 1
+        enumerator.handleSplitRequest(0, "test-host");
+        assertThat(assignments.get(0).getAssignedSplits()).containsExactly(large, small.get(3));
+        assertThat(assigner.numberOfStolenSplits()).isEqualTo(1);
+        assertThat(assigner.numberOfRemainingSplits()).isEqualTo(3);
+
+        for (int i = 0; i < 3; i++) {
+            enumerator.handleSplitRequest(1, "test-host");
+        }
+        assertThat(assignments.get(1).getAssignedSplits())
+                .containsExactlyInAnyOrderElementsOf(small.subList(0, 3));
+        assertThat(assigner.numberOfRemainingSplits()).isEqualTo(0);
+
+        enumerator.handleSplitRequest(0, "test-host");
+        assertThat(assignments.get(0).hasReceivedNoMoreSplitsSignal()).isTrue();
+    }
+
+    @Test
+    public void testDivideRawConvertibleSplit() {
+        final TestingSplitEnumeratorContext<FileStoreSourceSplit> context =
+                getSplitEnumeratorContext(2);
+
+        List<DataFileMeta> files =
+                Arrays.asList(
+                        newFile("f0", 0, 0, 99, 0),
+                        newFile("f1", 0, 0, 99, 0),
+                        newFile("f2", 0, 0, 99, 0),
+                        newFile("f3", 0, 0, 99, 0));
+        FileStoreSourceSplit large =
+                new FileStoreSourceSplit(
+                        "large",
+                        DataSplit.builder()
+                                .withSnapshot(1)
+                                .withPartition(row(1))
+                                .withBucket(0)
+                                .withDataFiles(files)
+                                .rawConvertible(true)
+                                .withBucketPath("/temp/xxx") // not used
+                                .build());
+        WorkStealingSplitAssigner assigner = new WorkStealingSplitAssigner(2, new ArrayList<>());
+        assigner.addSplit(0, large);
+        assigner.addSplit(1, split("small", 1, 10));
+        StaticFileStoreSplitEnumerator enumerator =
+                new StaticFileStoreSplitEnumerator(context, null, assigner);
+
+        // subtask 1 finishes its split and steals half of the files of the large split
+        enumerator.handleSplitRequest(1, "test-host");
+        enumerator.handleSplitRequest(1, "test-host");
+        List<FileStoreSourceSplit> stolen =
+                context.getSplitAssignments().get(1).getAssignedSplits();
+        assertThat(stolen).hasSize(2);
+        assertThat(stolen.get(1).splitId()).isEqualTo("large-1");
+        assertThat(((DataSplit) stolen.get(1).split()).dataFiles())
+                .containsExactlyElementsOf(files.subList(2, 4));
+
+        enumerator.handleSplitRequest(0, "test-host");
+        List<FileStoreSourceSplit> remained =
+                context.getSplitAssignments().get(0).getAssignedSplits();
+        assertThat(remained).hasSize(1);
+        assertThat(remained.get(0).splitId()).isEqualTo("large-0");
+        assertThat(((DataSplit) remained.get(0).split()).dataFiles())
+                .containsExactlyElementsOf(files.subList(0, 2));
+        assertThat(assigner.numberOfRemainingSplits()).isEqualTo(0);
+    }
+
+    private FileStoreSourceSplit split(String id, int bucket, int rowCount) {
+        FileStoreSourceSplit split =
+                createSnapshotSplit(
+                        1, bucket, Collections.singletonList(newFile("f", 0, 0, rowCount - 1, 0)));
+        return new FileStoreSourceSplit(id, split.split());
+    }
+
+    @Override
+    protected SplitAssignMode splitAssignMode() {
+        return SplitAssignMode.WORK_STEALING;
+    }
+}
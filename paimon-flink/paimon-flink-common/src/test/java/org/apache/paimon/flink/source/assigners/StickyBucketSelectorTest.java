@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.source.assigners;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.flink.source.assigners.StickyBucketSelector.AffinityState;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.stats.StatsTestUtils;
+import org.apache.paimon.table.source.DataSplit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.apache.paimon.mergetree.compact.MergeTreeCompactManagerTest.row;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link StickyBucketSelector}. */
+public class StickyBucketSelectorTest {
+
+    private static final long IDLE_TIMEOUT = 1000;
+
+    private static final Function<Integer, Long> ALL_CONSUMED = subtask -> Long.MAX_VALUE;
+
+    @Test
+    public void testJumpConsistentHash() {
+        for (long key = 0; key < 1000; key++) {
+            int before = StickyBucketSelector.jumpConsistentHash(key, 10);
+            int after = StickyBucketSelector.jumpConsistentHash(key, 11);
+            assertThat(before).isBetween(0, 9);
+            // a key either stays or moves to the new bucket
+            assertThat(after).isIn(before, 10);
+        }
+    }
+
+    @Test
+    public void testSticky() {
+        StickyBucketSelector selector = new StickyBucketSelector(4, true, IDLE_TIMEOUT, null);
+        Map<Integer, Integer> assigned = new HashMap<>();
+        for (int round = 0; round < 10; round++) {
+            for (int bucket = 0; bucket < 16; bucket++) {
+                int subtask = selector.select(split(1, bucket, 100));
+                assertThat(assigned.computeIfAbsent(bucket, b -> subtask)).isEqualTo(subtask);
+            }
+        }
+    }
+
+    @Test
+    public void testBalanceBytes() {
+        int parallelism = 4;
+        StickyBucketSelector selector =
+                new StickyBucketSelector(parallelism, true, IDLE_TIMEOUT, null);
+        Random random = new Random(42);
+        long total = 0;
+        for (int bucket = 0; bucket < 64; bucket++) {
+            long bytes = 1 + random.nextInt(1000);
+            total += bytes;
+            selector.select(split(1, bucket, bytes));
+        }
+
+        long bound = (long) Math.ceil(StickyBucketSelector.LOAD_FACTOR * total / parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            // a subtask exceeds the bound by at most one bucket
+            assertThat(selector.load(i)).isLessThanOrEqualTo(bound + 1000);
+        }
+    }
+
+    @Test
+    public void testRestoreWithSameParallelism() {
+        StickyBucketSelector selector = new StickyBucketSelector(4, true, IDLE_TIMEOUT, null);
+        Map<Integer, Integer> assigned = new HashMap<>();
+        for (int bucket = 0; bucket < 16; bucket++) {
+            assigned.put(bucket, selector.select(split(1, bucket, 100 + bucket)));
+        }
+
+        StickyBucketSelector restored =
+                new StickyBucketSelector(4, true, IDLE_TIMEOUT, selector.snapshot());
+        for (int bucket = 0; bucket < 16; bucket++) {
+            assertThat(restored.select(split(1, bucket, 1))).isEqualTo(assigned.get(bucket));
+        }
+    }
+
+    @Test
+    public void testRestoreWithNewParallelism() {
+        StickyBucketSelector selector = new StickyBucketSelector(8, true, IDLE_TIMEOUT, null);
+        Map<Integer, Integer> assigned = new HashMap<>();
+        for (int bucket = 0; bucket < 128; bucket++) {
+            assigned.put(bucket, selector.select(split(1, bucket, 100)));
+        }
+        AffinityState state = selector.snapshot();
+
+        StickyBucketSelector scaledUp = new StickyBucketSelector(10, true, IDLE_TIMEOUT, state);
+        int moved = 0;
+        for (int bucket = 0; bucket < 128; bucket++) {
+            int subtask = scaledUp.select(split(1, bucket, 0));
+            assertThat(subtask).isBetween(0, 9);
+            if (subtask != assigned.get(bucket)) {
+                moved++;
+            }
+        }
+        // moving with plain modulo hashing would reassign most of the buckets
+        assertThat(moved).isLessThan(64);
+
+        StickyBucketSelector scaledDown = new StickyBucketSelector(6, true, IDLE_TIMEOUT, state);
+        for (int bucket = 0; bucket < 128; bucket++) {
+            int subtask = scaledDown.select(split(1, bucket, 0));
+            assertThat(subtask).isBetween(0, 5);
+        }
+        long bound = (long) Math.ceil(StickyBucketSelector.LOAD_FACTOR * 128 * 100 / 6);
+        for (int i = 0; i < 6; i++) {
+            assertThat(scaledDown.load(i)).isLessThanOrEqualTo(bound + 100);
+        }
+    }
+
+    @Test
+    public void testIgnorePartition() {
+        StickyBucketSelector selector = new StickyBucketSelector(4, false, IDLE_TIMEOUT, null);
+        int subtask = selector.select(split(1, 3, 100));
+        for (int partition = 2; partition < 10; partition++) {
+            assertThat(selector.select(split(partition, 3, 100))).isEqualTo(subtask);
+        }
+        assertThat(selector.snapshot().affinities()).hasSize(1);
+        assertThat(selector.snapshot().affinities().get(0).partition())
+                .isEqualTo(BinaryRow.EMPTY_ROW);
+    }
+
+    @Test
+    public void testEvictIdlePartitions() {
+        StickyBucketSelector selector = new StickyBucketSelector(2, true, IDLE_TIMEOUT, null);
+        for (int partition = 1; partition <= 3; partition++) {
+            for (int bucket = 0; bucket < 4; bucket++) {
+                selector.select(split(partition, bucket, 100));
+            }
+        }
+
+        // all partitions were selected since the last eviction
+        selector.evictIdlePartitions(Collections.emptyList(), 0, ALL_CONSUMED);
+        assertThat(selector.numAffinities()).isEqualTo(12);
+
+        // partitions are not evicted within the idle timeout
+        selector.evictIdlePartitions(Collections.emptyList(), IDLE_TIMEOUT, ALL_CONSUMED);
+        assertThat(selector.numAffinities()).isEqualTo(12);
+
+        // partition 1 has new splits, partition 2 has pending splits, partition 3 is idle
+        selector.select(split(1, 0, 100));
+        selector.evictIdlePartitions(
+                Collections.singletonList(split(2, 1, 100)), IDLE_TIMEOUT + 1, ALL_CONSUMED);
+        assertThat(selector.numAffinities()).isEqualTo(8);
+        assertThat(selector.snapshot().affinities())
+                .noneMatch(affinity -> affinity.partition().equals(row(3)));
+        assertThat(selector.load(0) + selector.load(1)).isEqualTo(900);
+    }
+
+    @Test
+    public void testKeepPartitionsInFlight() {
+        StickyBucketSelector selector = new StickyBucketSelector(2, true, IDLE_TIMEOUT, null);
+        selector.select(split(1, 0, 100, 5));
+        selector.evictIdlePartitions(Collections.emptyList(), 0, ALL_CONSUMED);
+
+        // the split of snapshot 5 may still be read by its subtask
+        selector.evictIdlePartitions(Collections.emptyList(), 2 * IDLE_TIMEOUT, subtask -> 4L);
+        assertThat(selector.numAffinities()).isEqualTo(1);
+        selector.evictIdlePartitions(Collections.emptyList(), 2 * IDLE_TIMEOUT, subtask -> null);
+        assertThat(selector.numAffinities()).isEqualTo(1);
+
+        selector.evictIdlePartitions(Collections.emptyList(), 2 * IDLE_TIMEOUT, subtask -> 5L);
+        assertThat(selector.numAffinities()).isEqualTo(0);
+    }
+
+    @Test
+    public void testNeverEvictUnpartitioned() {
+        StickyBucketSelector selector = new StickyBucketSelector(2, false, IDLE_TIMEOUT, null);
+        selector.select(split(1, 0, 100));
+        selector.evictIdlePartitions(Collections.emptyList(), 0, ALL_CONSUMED);
+        selector.evictIdlePartitions(Collections.emptyList(), 10 * IDLE_TIMEOUT, ALL_CONSUMED);
+        assertThat(selector.numAffinities()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPendingBytesNotAccountedTwice() {
+        StickyBucketSelector selector = new StickyBucketSelector(2, true, IDLE_TIMEOUT, null);
+        DataSplit assigned = split(1, 0, 100);
+        DataSplit pending = split(1, 0, 50);
+        selector.select(assigned);
+        int subtask = selector.select(pending);
+
+        // the pending split is selected again on restore, its bytes are accounted once
+        StickyBucketSelector restored =
+                new StickyBucketSelector(
+                        2,
+                        true,
+                        IDLE_TIMEOUT,
+                        selector.snapshot(Collections.singletonList(pending)));
+        assertThat(restored.select(pending)).isEqualTo(subtask);
+        assertThat(restored.load(subtask)).isEqualTo(150);
+    }
+
+    private static DataSplit split(int partition, int bucket, long fileSize) {
+        return split(partition, bucket, fileSize, 1);
+    }
+
+    private static DataSplit split(int partition, int bucket, long fileSize, long snapshotId) {
+        DataFileMeta file =
+                new DataFileMeta(
+                        "",
+                        fileSize,
+                        1,
+                        row(0),
+                        row(0),
+                        StatsTestUtils.newEmptySimpleStats(),
+                        StatsTestUtils.newEmptySimpleStats(),
+                        0,
+                        1,
+                        0,
+                        0,
+                        0L,
+                        null,
+                        FileSource.APPEND,
+                        null);
+        return DataSplit.builder()
+                .withSnapshot(snapshotId)
+                .withPartition(row(partition))
+                .withBucket(bucket)
+                .withBucketPath("/temp/" + bucket)
+                .withDataFiles(Collections.singletonList(file))
+                .build();
+    }
+}
@@ -52,4 +52,23 @@ class FileStoreSourceReaderMetricsTest {
         assertThat(sourceReaderMetrics.getFetchTimeLag())
                 .isNotEqualTo(FileStoreSourceReaderMetrics.UNDEFINED);
     }
+
+    @Test
+    public void testRecordSplitReadTime() {
+        MetricListener metricListener = new MetricListener();
+
+        final FileStoreSourceReaderMetrics sourceReaderMetrics =
+                new FileStoreSourceReaderMetrics(metricListener.getMetricGroup());
+        assertThat(sourceReaderMetrics.getLastSplitReadTime())
+                .isEqualTo(FileStoreSourceReaderMetrics.UNDEFINED);
+        sourceReaderMetrics.recordSplitReadTime(200);
+        sourceReaderMetrics.recordSplitReadTime(100);
+        assertThat(sourceReaderMetrics.getLastSplitReadTime()).isEqualTo(100);
+        assertThat(sourceReaderMetrics.getMaxSplitReadTime()).isEqualTo(200);
+        assertThat(
+                        metricListener
+                                .<Long>getGauge(FileStoreSourceReaderMetrics.MAX_SPLIT_READ_TIME)
+                                .map(g -> g.getValue()))
+                .hasValue(200L);
+    }
 }
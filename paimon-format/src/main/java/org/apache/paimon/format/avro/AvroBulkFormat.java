@@ -19,10 +19,15 @@
 package org.apache.paimon.format.avro;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.VectorizedRowIterator;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.reader.FileRecordReader;
+import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.IOUtils;
 import org.apache.paimon.utils.IteratorResultIterator;
@@ -37,26 +42,43 @@ import org.apache.avro.io.DatumReader;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.function.Supplier;
 
-/** Provides a {@link FormatReaderFactory} for Avro records. */
+/**
+ * Provides a {@link FormatReaderFactory} for Avro records.
+ *
+ * <p>If vectorized read is enabled and all projected types are supported, each Avro block is
+ * decoded into a new {@link VectorizedColumnBatch} instead of one {@link InternalRow} object graph
+ * per record.
+ */
 public class AvroBulkFormat implements FormatReaderFactory {
 
     protected final RowType projectedRowType;
+    protected final boolean vectorized;
 
     public AvroBulkFormat(RowType projectedRowType) {
+        this(projectedRowType, false);
+    }
+
+    public AvroBulkFormat(RowType projectedRowType, boolean vectorizedRead) {
         this.projectedRowType = projectedRowType;
+        this.vectorized =
+                vectorizedRead && VectorizedFieldReaderFactory.isSupported(projectedRowType);
     }
 
     @Override
     public FileRecordReader<InternalRow> createReader(FormatReaderFactory.Context context)
             throws IOException {
+        if (vectorized) {
+            return new AvroVectorizedReader(
+                    context.fileIO(), context.filePath(), context.fileSize());
+        }
         return new AvroReader(context.fileIO(), context.filePath(), context.fileSize());
     }
 
     private class AvroReader implements FileRecordReader<InternalRow> {
 
-        private final FileIO fileIO;
         private final DataFileReader<InternalRow> reader;
 
         private final long end;
@@ -65,9 +87,8 @@ public class AvroBulkFormat implements FormatReaderFactory {
         private long currentRowPosition;
 
         private AvroReader(FileIO fileIO, Path path, long fileSize) throws IOException {
-            this.fileIO = fileIO;
             this.end = fileSize;
-            this.reader = createReaderFromPath(path, end);
+            this.reader = openReader(fileIO, path, end, new AvroRowDatumReader(projectedRowType));
             this.reader.sync(0);
             this.pool = new Pool<>(1);
             this.pool.add(new Object());
@@ -75,19 +96,6 @@ public class AvroBulkFormat implements FormatReaderFactory {
             this.currentRowPosition = 0;
         }
 
-        private DataFileReader<InternalRow> createReaderFromPath(Path path, long fileSize)
-                throws IOException {
-            DatumReader<InternalRow> datumReader = new AvroRowDatumReader(projectedRowType);
-            SeekableInput in =
-                    new SeekableInputStreamWrapper(fileIO.newInputStream(path), fileSize);
-            try {
-                return (DataFileReader<InternalRow>) DataFileReader.openReader(in, datumReader);
-            } catch (Throwable e) {
-                IOUtils.closeQuietly(in);
-                throw e;
-            }
-        }
-
         @Nullable
         @Override
         public IteratorResultIterator readBatch() throws IOException {
@@ -125,6 +133,68 @@ public class AvroBulkFormat implements FormatReaderFactory {
         }
     }
 
+    private class AvroVectorizedReader implements FileRecordReader<InternalRow> {
+
+        private final DataFileReader<VectorizedColumnBatch> reader;
+        private final long end;
+        private final Path filePath;
+        private long currentRowPosition;
+
+        private AvroVectorizedReader(FileIO fileIO, Path path, long fileSize) throws IOException {
+            this.end = fileSize;
+            this.reader =
+                    openReader(fileIO, path, end, new AvroVectorizedDatumReader(projectedRowType));
+            this.reader.sync(0);
+            this.filePath = path;
+            this.currentRowPosition = 0;
+        }
+
+        @Nullable
+        @Override
+        public VectorizedRowIterator readBatch() throws IOException {
+            if (!(replaceAvroRuntimeException(reader::hasNext) && !reader.pastSync(end))) {
+                return null;
+            }
+
+            // vectors are not reused between blocks, as manifest file assumes no object reuse
+            int numRows = (int) reader.getBlockCount();
+            List<DataField> fields = projectedRowType.getFields();
+            ColumnVector[] vectors = new ColumnVector[fields.size()];
+            for (int i = 0; i < vectors.length; i++) {
+                vectors[i] =
+                        VectorizedFieldReaderFactory.createVector(fields.get(i).type(), numRows);
+            }
+            VectorizedColumnBatch batch = new VectorizedColumnBatch(vectors);
+            for (int i = 0; i < numRows; i++) {
+                // reader.next merely deserialize bytes in memory and will not read from file
+                reader.next(batch);
+            }
+
+            VectorizedRowIterator iterator =
+                    new VectorizedRowIterator(filePath, new ColumnarRow(batch), null);
+            iterator.reset(currentRowPosition);
+            currentRowPosition += numRows;
+            return iterator;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static <T> DataFileReader<T> openReader(
+            FileIO fileIO, Path path, long fileSize, DatumReader<T> datumReader)
+            throws IOException {
+        SeekableInput in = new SeekableInputStreamWrapper(fileIO.newInputStream(path), fileSize);
+        try {
+            return (DataFileReader<T>) DataFileReader.openReader(in, datumReader);
+        } catch (Throwable e) {
+            IOUtils.closeQuietly(in);
+            throw e;
+        }
+    }
+
     private static class AvroBlockIterator
             implements IteratorWithException<InternalRow, IOException> {
 
@@ -62,6 +62,13 @@ public class AvroFileFormat extends FileFormat {
     private static final ConfigOption<Map<String, String>> AVRO_ROW_NAME_MAPPING =
             ConfigOptions.key("avro.row-name-mapping").mapType().defaultValue(new HashMap<>());
 
+    private static final ConfigOption<Boolean> AVRO_VECTORIZED_READ =
+            ConfigOptions.key("avro.vectorized-read.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to decode avro blocks into column vectors instead of rows.");
+
     private final Options options;
     private final int zstdLevel;
 
@@ -75,7 +82,7 @@ public class AvroFileFormat extends FileFormat {
     @Override
     public FormatReaderFactory createReaderFactory(
             RowType projectedRowType, @Nullable List<Predicate> filters) {
-        return new AvroBulkFormat(projectedRowType);
+        return new AvroBulkFormat(projectedRowType, options.get(AVRO_VECTORIZED_READ));
     }
 
     @Override
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.avro;
+
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.format.avro.VectorizedFieldReaderFactory.RowReader;
+import org.apache.paimon.types.RowType;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+
+import java.io.IOException;
+
+/**
+ * A {@link DatumReader} which appends each datum as a new row to the given {@link
+ * VectorizedColumnBatch}.
+ */
+public class AvroVectorizedDatumReader implements DatumReader<VectorizedColumnBatch> {
+
+    private final RowType projectedRowType;
+
+    private RowReader reader;
+    private boolean isUnion;
+
+    public AvroVectorizedDatumReader(RowType projectedRowType) {
+        this.projectedRowType = projectedRowType;
+    }
+
+    @Override
+    public void setSchema(Schema schema) {
+        this.isUnion = false;
+        if (schema.isUnion()) {
+            this.isUnion = true;
+            schema = schema.getTypes().get(1);
+        }
+        this.reader =
+                new VectorizedFieldReaderFactory()
+                        .createRowReader(schema, projectedRowType.getFields());
+    }
+
+    @Override
+    public VectorizedColumnBatch read(VectorizedColumnBatch batch, Decoder in) throws IOException {
+        if (isUnion) {
+            int index = in.readIndex();
+            if (index == 0) {
+                throw new RuntimeException("Cannot read a null row.");
+            }
+        }
+
+        int rowId = batch.getNumRows();
+        reader.read(in, batch.columns, rowId);
+        batch.setNumRows(rowId + 1);
+        return batch;
+    }
+}
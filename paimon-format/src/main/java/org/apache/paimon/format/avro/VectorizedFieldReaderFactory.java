@@ -0,0 +1,491 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.avro;
+
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.heap.AbstractStructVector;
+import org.apache.paimon.data.columnar.heap.HeapArrayVector;
+import org.apache.paimon.data.columnar.heap.HeapBooleanVector;
+import org.apache.paimon.data.columnar.heap.HeapByteVector;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapDoubleVector;
+import org.apache.paimon.data.columnar.heap.HeapFloatVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
+import org.apache.paimon.data.columnar.heap.HeapMapVector;
+import org.apache.paimon.data.columnar.heap.HeapRowVector;
+import org.apache.paimon.data.columnar.heap.HeapShortVector;
+import org.apache.paimon.data.columnar.heap.HeapTimestampVector;
+import org.apache.paimon.data.columnar.writable.WritableBooleanVector;
+import org.apache.paimon.data.columnar.writable.WritableByteVector;
+import org.apache.paimon.data.columnar.writable.WritableBytesVector;
+import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+import org.apache.paimon.data.columnar.writable.WritableDoubleVector;
+import org.apache.paimon.data.columnar.writable.WritableFloatVector;
+import org.apache.paimon.data.columnar.writable.WritableIntVector;
+import org.apache.paimon.data.columnar.writable.WritableLongVector;
+import org.apache.paimon.data.columnar.writable.WritableShortVector;
+import org.apache.paimon.data.columnar.writable.WritableTimestampVector;
+import org.apache.paimon.types.ArrayType;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.MapType;
+import org.apache.paimon.types.RowType;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.util.Utf8;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Factory to create {@link VectorizedFieldReader}. Values are decoded directly into column vectors,
+ * strings and bytes are decoded into reused buffers, so no object is created per value.
+ */
+public class VectorizedFieldReaderFactory implements AvroSchemaVisitor<VectorizedFieldReader> {
+
+    private static final VectorizedFieldReader BOOLEAN_READER =
+            (decoder, vector, rowId) ->
+                    ((WritableBooleanVector) vector).setBoolean(rowId, decoder.readBoolean());
+
+    private static final VectorizedFieldReader TINYINT_READER =
+            (decoder, vector, rowId) ->
+                    ((WritableByteVector) vector).setByte(rowId, (byte) decoder.readInt());
+
+    private static final VectorizedFieldReader SMALLINT_READER =
+            (decoder, vector, rowId) ->
+                    ((WritableShortVector) vector).setShort(rowId, (short) decoder.readInt());
+
+    private static final VectorizedFieldReader INT_READER =
+            (decoder, vector, rowId) ->
+                    ((WritableIntVector) vector).setInt(rowId, decoder.readInt());
+
+    private static final VectorizedFieldReader BIGINT_READER =
+            (decoder, vector, rowId) ->
+                    ((WritableLongVector) vector).setLong(rowId, decoder.readLong());
+
+    private static final VectorizedFieldReader FLOAT_READER =
+            (decoder, vector, rowId) ->
+                    ((WritableFloatVector) vector).setFloat(rowId, decoder.readFloat());
+
+    private static final VectorizedFieldReader DOUBLE_READER =
+            (decoder, vector, rowId) ->
+                    ((WritableDoubleVector) vector).setDouble(rowId, decoder.readDouble());
+
+    private static final VectorizedFieldReader TIMESTAMP_MILLS_READER =
+            (decoder, vector, rowId) ->
+                    ((WritableTimestampVector) vector)
+                            .setTimestamp(rowId, Timestamp.fromEpochMillis(decoder.readLong()));
+
+    private static final VectorizedFieldReader TIMESTAMP_MICROS_READER =
+            (decoder, vector, rowId) ->
+                    ((WritableTimestampVector) vector)
+                            .setTimestamp(rowId, Timestamp.fromMicros(decoder.readLong()));
+
+    private final FieldReaderFactory skipReaderFactory = new FieldReaderFactory();
+
+    /** Returns true if all fields of the row type can be read into column vectors. */
+    public static boolean isSupported(DataType type) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return true;
+            case ARRAY:
+                return isSupported(((ArrayType) type).getElementType());
+            case MAP:
+                MapType mapType = (MapType) type;
+                return isSupported(mapType.getKeyType()) && isSupported(mapType.getValueType());
+            case ROW:
+                return ((RowType) type)
+                        .getFieldTypes().stream()
+                                .allMatch(VectorizedFieldReaderFactory::isSupported);
+            default:
+                return false;
+        }
+    }
+
+    /** Creates a column vector for the type, which must be {@link #isSupported}. */
+    public static WritableColumnVector createVector(DataType type, int capacity) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return new HeapBooleanVector(capacity);
+            case TINYINT:
+                return new HeapByteVector(capacity);
+            case SMALLINT:
+                return new HeapShortVector(capacity);
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return new HeapIntVector(capacity);
+            case BIGINT:
+                return new HeapLongVector(capacity);
+            case FLOAT:
+                return new HeapFloatVector(capacity);
+            case DOUBLE:
+                return new HeapDoubleVector(capacity);
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+                return new HeapBytesVector(capacity);
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return new HeapTimestampVector(capacity);
+            case ARRAY:
+                return new HeapArrayVector(
+                        capacity, createVector(((ArrayType) type).getElementType(), capacity));
+            case MAP:
+                MapType mapType = (MapType) type;
+                return new HeapMapVector(
+                        capacity,
+                        createVector(mapType.getKeyType(), capacity),
+                        createVector(mapType.getValueType(), capacity));
+            case ROW:
+                List<DataType> fieldTypes = ((RowType) type).getFieldTypes();
+                ColumnVector[] fields = new ColumnVector[fieldTypes.size()];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = createVector(fieldTypes.get(i), capacity);
+                }
+                return new HeapRowVector(capacity, fields);
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type for vectorized avro read: " + type);
+        }
+    }
+
+    @Override
+    public VectorizedFieldReader visitUnion(Schema schema, @Nullable DataType type) {
+        VectorizedFieldReader reader = visit(schema.getTypes().get(1), type);
+        return (decoder, vector, rowId) -> {
+            if (decoder.readIndex() == 0) {
+                vector.setNullAt(rowId);
+            } else {
+                reader.read(decoder, vector, rowId);
+            }
+        };
+    }
+
+    @Override
+    public VectorizedFieldReader visitString() {
+        return new StringReader();
+    }
+
+    @Override
+    public VectorizedFieldReader visitBytes() {
+        return new BytesReader();
+    }
+
+    @Override
+    public VectorizedFieldReader visitInt() {
+        return INT_READER;
+    }
+
+    @Override
+    public VectorizedFieldReader visitTinyInt() {
+        return TINYINT_READER;
+    }
+
+    @Override
+    public VectorizedFieldReader visitSmallInt() {
+        return SMALLINT_READER;
+    }
+
+    @Override
+    public VectorizedFieldReader visitBoolean() {
+        return BOOLEAN_READER;
+    }
+
+    @Override
+    public VectorizedFieldReader visitBigInt() {
+        return BIGINT_READER;
+    }
+
+    @Override
+    public VectorizedFieldReader visitFloat() {
+        return FLOAT_READER;
+    }
+
+    @Override
+    public VectorizedFieldReader visitDouble() {
+        return DOUBLE_READER;
+    }
+
+    @Override
+    public VectorizedFieldReader visitTimestampMillis(@Nullable Integer precision) {
+        return TIMESTAMP_MILLS_READER;
+    }
+
+    @Override
+    public VectorizedFieldReader visitTimestampMicros(@Nullable Integer precision) {
+        return TIMESTAMP_MICROS_READER;
+    }
+
+    @Override
+    public VectorizedFieldReader visitDecimal(
+            @Nullable Integer precision, @Nullable Integer scale) {
+        throw new UnsupportedOperationException("Decimal is not supported by vectorized read.");
+    }
+
+    @Override
+    public VectorizedFieldReader visitArray(Schema schema, @Nullable DataType elementType) {
+        return new ArrayReader(visit(schema.getElementType(), elementType));
+    }
+
+    @Override
+    public VectorizedFieldReader visitArrayMap(
+            Schema schema, DataType keyType, DataType valueType) {
+        Schema entrySchema = schema.getElementType();
+        VectorizedFieldReader keyReader = visit(entrySchema.getField("key").schema(), keyType);
+        VectorizedFieldReader valueReader =
+                visit(entrySchema.getField("value").schema(), valueType);
+        boolean keyFirst = entrySchema.getField("key").pos() == 0;
+        return new ArrayMapReader(keyReader, valueReader, keyFirst);
+    }
+
+    @Override
+    public VectorizedFieldReader visitMap(Schema schema, @Nullable DataType valueType) {
+        return new MapReader(new StringReader(), visit(schema.getValueType(), valueType));
+    }
+
+    @Override
+    public VectorizedFieldReader visitRecord(Schema schema, @NotNull List<DataField> fields) {
+        RowReader rowReader = createRowReader(schema, fields);
+        return (decoder, vector, rowId) ->
+                rowReader.read(decoder, ((AbstractStructVector) vector).getChildren(), rowId);
+    }
+
+    public RowReader createRowReader(Schema schema, List<DataField> fields) {
+        return new RowReader(schema, fields);
+    }
+
+    private static class StringReader implements VectorizedFieldReader {
+
+        private final Utf8 reuse = new Utf8();
+
+        @Override
+        public void read(Decoder decoder, WritableColumnVector vector, int rowId)
+                throws IOException {
+            Utf8 string = decoder.readString(reuse);
+            ((WritableBytesVector) vector)
+                    .putByteArray(rowId, string.getBytes(), 0, string.getByteLength());
+        }
+    }
+
+    private static class BytesReader implements VectorizedFieldReader {
+
+        private ByteBuffer reuse;
+
+        @Override
+        public void read(Decoder decoder, WritableColumnVector vector, int rowId)
+                throws IOException {
+            reuse = decoder.readBytes(reuse);
+            ((WritableBytesVector) vector)
+                    .putByteArray(
+                            rowId,
+                            reuse.array(),
+                            reuse.arrayOffset() + reuse.position(),
+                            reuse.remaining());
+        }
+    }
+
+    private static class ArrayReader implements VectorizedFieldReader {
+
+        private final VectorizedFieldReader elementReader;
+
+        private ArrayReader(VectorizedFieldReader elementReader) {
+            this.elementReader = elementReader;
+        }
+
+        @Override
+        public void read(Decoder decoder, WritableColumnVector vector, int rowId)
+                throws IOException {
+            HeapArrayVector arrayVector = (HeapArrayVector) vector;
+            WritableColumnVector elements = (WritableColumnVector) arrayVector.getColumnVector();
+            int offset = elements.getElementsAppended();
+            int length = 0;
+            long chunkLength = decoder.readArrayStart();
+            while (chunkLength > 0) {
+                elements.reserve(offset + length + (int) chunkLength);
+                for (int i = 0; i < chunkLength; i++) {
+                    elementReader.read(decoder, elements, offset + length);
+                    length++;
+                }
+                chunkLength = decoder.arrayNext();
+            }
+            elements.addElementsAppended(length);
+            arrayVector.putOffsetLength(rowId, offset, length);
+        }
+    }
+
+    private static class ArrayMapReader implements VectorizedFieldReader {
+
+        private final VectorizedFieldReader keyReader;
+        private final VectorizedFieldReader valueReader;
+        private final boolean keyFirst;
+
+        private ArrayMapReader(
+                VectorizedFieldReader keyReader,
+                VectorizedFieldReader valueReader,
+                boolean keyFirst) {
+            this.keyReader = keyReader;
+            this.valueReader = valueReader;
+            this.keyFirst = keyFirst;
+        }
+
+        @Override
+        public void read(Decoder decoder, WritableColumnVector vector, int rowId)
+                throws IOException {
+            HeapMapVector mapVector = (HeapMapVector) vector;
+            WritableColumnVector keys = (WritableColumnVector) mapVector.getChildren()[0];
+            WritableColumnVector values = (WritableColumnVector) mapVector.getChildren()[1];
+            int offset = keys.getElementsAppended();
+            int length = 0;
+            long chunkLength = decoder.readArrayStart();
+            while (chunkLength > 0) {
+                keys.reserve(offset + length + (int) chunkLength);
+                values.reserve(offset + length + (int) chunkLength);
+                for (int i = 0; i < chunkLength; i++) {
+                    int index = offset + length;
+                    if (keyFirst) {
+                        keyReader.read(decoder, keys, index);
+                        valueReader.read(decoder, values, index);
+                    } else {
+                        valueReader.read(decoder, values, index);
+                        keyReader.read(decoder, keys, index);
+                    }
+                    length++;
+                }
+                chunkLength = decoder.arrayNext();
+            }
+            keys.addElementsAppended(length);
+            values.addElementsAppended(length);
+            mapVector.putOffsetLength(rowId, offset, length);
+        }
+    }
+
+    private static class MapReader implements VectorizedFieldReader {
+
+        private final VectorizedFieldReader keyReader;
+        private final VectorizedFieldReader valueReader;
+
+        private MapReader(VectorizedFieldReader keyReader, VectorizedFieldReader valueReader) {
+            this.keyReader = keyReader;
+            this.valueReader = valueReader;
+        }
+
+        @Override
+        public void read(Decoder decoder, WritableColumnVector vector, int rowId)
+                throws IOException {
+            HeapMapVector mapVector = (HeapMapVector) vector;
+            WritableColumnVector keys = (WritableColumnVector) mapVector.getChildren()[0];
+            WritableColumnVector values = (WritableColumnVector) mapVector.getChildren()[1];
+            int offset = keys.getElementsAppended();
+            int length = 0;
+            long chunkLength = decoder.readMapStart();
+            while (chunkLength > 0) {
+                keys.reserve(offset + length + (int) chunkLength);
+                values.reserve(offset + length + (int) chunkLength);
+                for (int i = 0; i < chunkLength; i++) {
+                    keyReader.read(decoder, keys, offset + length);
+                    valueReader.read(decoder, values, offset + length);
+                    length++;
+                }
+                chunkLength = decoder.mapNext();
+            }
+            keys.addElementsAppended(length);
+            values.addElementsAppended(length);
+            mapVector.putOffsetLength(rowId, offset, length);
+        }
+    }
+
+    /** Reader to read a record into the column vectors of its fields. */
+    public class RowReader {
+
+        private final VectorizedFieldReader[] fieldReaders;
+        private final FieldReader[] skipReaders;
+        private final int[] mappingBack;
+        private final int[] missingFields;
+
+        private RowReader(Schema schema, List<DataField> fields) {
+            List<Schema.Field> schemaFields = schema.getFields();
+            this.mappingBack = new int[schemaFields.size()];
+            Arrays.fill(mappingBack, -1);
+            int[] missing = new int[fields.size()];
+            int numMissing = 0;
+            for (int i = 0; i < fields.size(); i++) {
+                Schema.Field schemaField = schema.getField(fields.get(i).name());
+                if (schemaField != null) {
+                    mappingBack[schemaFields.indexOf(schemaField)] = i;
+                } else {
+                    missing[numMissing++] = i;
+                }
+            }
+            this.missingFields = Arrays.copyOf(missing, numMissing);
+
+            this.fieldReaders = new VectorizedFieldReader[schemaFields.size()];
+            this.skipReaders = new FieldReader[schemaFields.size()];
+            for (int i = 0; i < schemaFields.size(); i++) {
+                Schema fieldSchema = schemaFields.get(i).schema();
+                if (mappingBack[i] >= 0) {
+                    fieldReaders[i] = visit(fieldSchema, fields.get(mappingBack[i]).type());
+                } else {
+                    skipReaders[i] = skipReaderFactory.visit(fieldSchema, null);
+                }
+            }
+        }
+
+        public void read(Decoder decoder, ColumnVector[] vectors, int rowId) throws IOException {
+            for (int i = 0; i < fieldReaders.length; i++) {
+                if (mappingBack[i] >= 0) {
+                    WritableColumnVector vector = (WritableColumnVector) vectors[mappingBack[i]];
+                    vector.reserve(rowId + 1);
+                    fieldReaders[i].read(decoder, vector, rowId);
+                } else {
+                    skipReaders[i].skip(decoder);
+                }
+            }
+
+            for (int field : missingFields) {
+                WritableColumnVector vector = (WritableColumnVector) vectors[field];
+                vector.reserve(rowId + 1);
+                vector.setNullAt(rowId);
+            }
+        }
+    }
+}
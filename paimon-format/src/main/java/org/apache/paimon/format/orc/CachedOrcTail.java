@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.orc;
+
+import org.apache.orc.OrcProto;
+import org.apache.orc.impl.OrcTail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A parsed ORC file tail which can be shared by readers of the same file. {@link OrcTail} holds the
+ * reader it was read by and a mutable buffer, so a new {@link OrcTail} is created for each reader
+ * from the immutable parsed protobuf tail and a duplicate of the serialized tail.
+ */
+public class CachedOrcTail {
+
+    private final OrcProto.FileTail fileTail;
+    private final ByteBuffer serializedTail;
+
+    public CachedOrcTail(OrcProto.FileTail fileTail, ByteBuffer serializedTail) {
+        this.fileTail = fileTail;
+        ByteBuffer copy = ByteBuffer.allocate(serializedTail.remaining());
+        copy.put(serializedTail.duplicate());
+        copy.flip();
+        this.serializedTail = copy;
+    }
+
+    public OrcTail toOrcTail() throws IOException {
+        return new OrcTail(fileTail, serializedTail.duplicate());
+    }
+
+    /** Estimates the heap size of this tail in bytes. */
+    public int estimateSize() {
+        return fileTail.getSerializedSize() + serializedTail.capacity();
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FileFormatFactory.FormatContext;
+import org.apache.paimon.format.FooterCache;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.format.SimpleStatsExtractor;
@@ -50,12 +51,14 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.CoreOptions.DELETION_VECTORS_ENABLED;
+import static org.apache.paimon.CoreOptions.FILE_FOOTER_CACHE_MAX_MEMORY_SIZE;
 import static org.apache.paimon.format.OrcOptions.ORC_TIMESTAMP_LTZ_LEGACY_TYPE;
 import static org.apache.paimon.types.DataTypeChecks.getFieldTypes;
 
@@ -72,6 +75,7 @@ public class OrcFileFormat extends FileFormat {
     private final int writeBatchSize;
     private final boolean deletionVectorsEnabled;
     private final boolean legacyTimestampLtzType;
+    private final MemorySize footerCacheSize;
 
     public OrcFileFormat(FormatContext formatContext) {
         super(IDENTIFIER);
@@ -84,6 +88,7 @@ public class OrcFileFormat extends FileFormat {
         this.writeBatchSize = formatContext.writeBatchSize();
         this.deletionVectorsEnabled = formatContext.options().get(DELETION_VECTORS_ENABLED);
         this.legacyTimestampLtzType = formatContext.options().get(ORC_TIMESTAMP_LTZ_LEGACY_TYPE);
+        this.footerCacheSize = formatContext.options().get(FILE_FOOTER_CACHE_MAX_MEMORY_SIZE);
     }
 
     @VisibleForTesting
@@ -121,7 +126,12 @@ public class OrcFileFormat extends FileFormat {
                 orcPredicates,
                 readBatchSize,
                 deletionVectorsEnabled,
-                legacyTimestampLtzType);
+                legacyTimestampLtzType,
+                FooterCache.getOrCreate(
+                        IDENTIFIER,
+                        footerCacheSize,
+                        Collections.emptyMap(),
+                        CachedOrcTail::estimateSize));
     }
 
     @Override
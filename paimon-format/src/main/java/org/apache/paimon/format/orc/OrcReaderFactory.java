@@ -24,6 +24,7 @@ import org.apache.paimon.data.columnar.ColumnarRow;
 import org.apache.paimon.data.columnar.ColumnarRowIterator;
 import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.data.columnar.VectorizedRowIterator;
+import org.apache.paimon.format.FooterCache;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.OrcFormatReaderContext;
 import org.apache.paimon.format.fs.HadoopReadOnlyFileSystem;
@@ -70,6 +71,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
     protected final int batchSize;
     protected final boolean deletionVectorsEnabled;
     protected final boolean legacyTimestampLtzType;
+    @Nullable protected final FooterCache<CachedOrcTail> footerCache;
 
     /**
      * @param hadoopConfig the hadoop config for orc reader.
@@ -83,6 +85,25 @@ public class OrcReaderFactory implements FormatReaderFactory {
             final int batchSize,
             final boolean deletionVectorsEnabled,
             final boolean legacyTimestampLtzType) {
+        this(
+                hadoopConfig,
+                readType,
+                conjunctPredicates,
+                batchSize,
+                deletionVectorsEnabled,
+                legacyTimestampLtzType,
+                null);
+    }
+
+    /** @param footerCache the cache of parsed file tails, null if tails should not be cached. */
+    public OrcReaderFactory(
+            final org.apache.hadoop.conf.Configuration hadoopConfig,
+            final RowType readType,
+            final List<OrcFilters.Predicate> conjunctPredicates,
+            final int batchSize,
+            final boolean deletionVectorsEnabled,
+            final boolean legacyTimestampLtzType,
+            @Nullable final FooterCache<CachedOrcTail> footerCache) {
         this.hadoopConfig = checkNotNull(hadoopConfig);
         this.schema = convertToOrcSchema(readType);
         this.tableType = readType;
@@ -90,6 +111,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
         this.batchSize = batchSize;
         this.deletionVectorsEnabled = deletionVectorsEnabled;
         this.legacyTimestampLtzType = legacyTimestampLtzType;
+        this.footerCache = footerCache;
     }
 
     // ------------------------------------------------------------------------
@@ -113,7 +135,8 @@ public class OrcReaderFactory implements FormatReaderFactory {
                         0,
                         context.fileSize(),
                         context.selection(),
-                        deletionVectorsEnabled);
+                        deletionVectorsEnabled,
+                        footerCache);
         return new OrcVectorizedReader(orcReader, poolOfBatches);
     }
 
@@ -266,9 +289,10 @@ public class OrcReaderFactory implements FormatReaderFactory {
             long splitStart,
             long splitLength,
             @Nullable RoaringBitmap32 selection,
-            boolean deletionVectorsEnabled)
+            boolean deletionVectorsEnabled,
+            @Nullable FooterCache<CachedOrcTail> footerCache)
             throws IOException {
-        org.apache.orc.Reader orcReader = createReader(conf, fileIO, path, selection);
+        org.apache.orc.Reader orcReader = createReader(conf, fileIO, path, selection, footerCache);
         try {
             // get offset and length for the stripes that start in the split
             Pair<Long, Long> offsetAndLength =
@@ -351,6 +375,16 @@ public class OrcReaderFactory implements FormatReaderFactory {
             org.apache.paimon.fs.Path path,
             @Nullable RoaringBitmap32 selection)
             throws IOException {
+        return createReader(conf, fileIO, path, selection, null);
+    }
+
+    public static org.apache.orc.Reader createReader(
+            org.apache.hadoop.conf.Configuration conf,
+            FileIO fileIO,
+            org.apache.paimon.fs.Path path,
+            @Nullable RoaringBitmap32 selection,
+            @Nullable FooterCache<CachedOrcTail> footerCache)
+            throws IOException {
         // open ORC file and create reader
         org.apache.hadoop.fs.Path hPath = new org.apache.hadoop.fs.Path(path.toUri());
 
@@ -359,11 +393,23 @@ public class OrcReaderFactory implements FormatReaderFactory {
         // configure filesystem from Paimon FileIO
         readerOptions.filesystem(new HadoopReadOnlyFileSystem(fileIO));
 
-        return new ReaderImpl(hPath, readerOptions) {
-            @Override
-            public RecordReader rows(Options options) throws IOException {
-                return new RecordReaderImpl(this, options, selection);
-            }
-        };
+        CachedOrcTail cachedTail = footerCache == null ? null : footerCache.getIfPresent(path);
+        if (cachedTail != null) {
+            readerOptions.orcTail(cachedTail.toOrcTail());
+        }
+
+        ReaderImpl reader =
+                new ReaderImpl(hPath, readerOptions) {
+                    @Override
+                    public RecordReader rows(Options options) throws IOException {
+                        return new RecordReaderImpl(this, options, selection);
+                    }
+                };
+        if (footerCache != null && cachedTail == null) {
+            footerCache.put(
+                    path,
+                    new CachedOrcTail(reader.getFileTail(), reader.getSerializedFileFooter()));
+        }
+        return reader;
     }
 }
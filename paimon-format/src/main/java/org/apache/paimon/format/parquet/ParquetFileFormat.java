@@ -18,9 +18,11 @@
 
 package org.apache.paimon.format.parquet;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FileFormatFactory.FormatContext;
+import org.apache.paimon.format.FooterCache;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.format.SimpleStatsExtractor;
@@ -33,23 +35,41 @@ import org.apache.paimon.types.RowType;
 
 import org.apache.parquet.filter2.predicate.ParquetFilters;
 import org.apache.parquet.hadoop.ParquetOutputFormat;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.apache.paimon.format.parquet.ParquetFileFormatFactory.IDENTIFIER;
+import static org.apache.paimon.format.parquet.ParquetReaderFactory.SIGNED_STRING_MIN_MAX_ENABLED;
+import static org.apache.paimon.format.parquet.ParquetReaderFactory.USE_OLD_READER;
+import static org.apache.paimon.format.parquet.writer.RowDataParquetBuilder.ADAPTIVE_ENCODING_ENABLED;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** Parquet {@link FileFormat}. */
 public class ParquetFileFormat extends FileFormat {
 
     private final Options options;
     private final int readBatchSize;
+    private final MemorySize footerCacheSize;
 
     public ParquetFileFormat(FormatContext formatContext) {
         super(IDENTIFIER);
 
         this.options = getParquetConfiguration(formatContext);
+        checkArgument(
+                !(options.getBoolean(ADAPTIVE_ENCODING_ENABLED, false)
+                        && options.getBoolean(USE_OLD_READER, false)),
+                "'%s' cannot be enabled together with '%s', the old reader cannot decode the"
+                        + " encodings chosen by adaptive encoding.",
+                ADAPTIVE_ENCODING_ENABLED,
+                USE_OLD_READER);
         this.readBatchSize = formatContext.readBatchSize();
+        this.footerCacheSize =
+                formatContext.options().get(CoreOptions.FILE_FOOTER_CACHE_MAX_MEMORY_SIZE);
     }
 
     @VisibleForTesting
@@ -61,7 +81,15 @@ public class ParquetFileFormat extends FileFormat {
     public FormatReaderFactory createReaderFactory(
             RowType projectedRowType, List<Predicate> filters) {
         return new ParquetReaderFactory(
-                options, projectedRowType, readBatchSize, ParquetFilters.convert(filters));
+                options,
+                projectedRowType,
+                readBatchSize,
+                ParquetFilters.convert(filters),
+                FooterCache.getOrCreate(
+                        IDENTIFIER,
+                        footerCacheSize,
+                        footerReaderOptions(options),
+                        ParquetFileFormat::estimateFooterSize));
     }
 
     @Override
@@ -80,6 +108,25 @@ public class ParquetFileFormat extends FileFormat {
         return Optional.of(new ParquetSimpleStatsExtractor(type, statsCollectors));
     }
 
+    /** Returns the reader options which affect how a footer is parsed. */
+    @VisibleForTesting
+    static Map<String, String> footerReaderOptions(Options options) {
+        return Collections.singletonMap(
+                SIGNED_STRING_MIN_MAX_ENABLED,
+                String.valueOf(options.getBoolean(SIGNED_STRING_MIN_MAX_ENABLED, false)));
+    }
+
+    /** Roughly estimates the heap size of a parsed footer by its columns and column chunks. */
+    @VisibleForTesting
+    static int estimateFooterSize(ParquetMetadata footer) {
+        int columnChunks = 0;
+        for (BlockMetaData block : footer.getBlocks()) {
+            columnChunks += block.getColumns().size();
+        }
+        int columns = footer.getFileMetaData().getSchema().getColumns().size();
+        return 1024 + columns * 128 + columnChunks * 512;
+    }
+
     private Options getParquetConfiguration(FormatContext context) {
         Options parquetOptions = getIdentifierPrefixOptions(context.options());
 
@@ -28,6 +28,7 @@ import org.apache.paimon.data.columnar.RowColumnVector;
 import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.data.columnar.VectorizedRowIterator;
 import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+import org.apache.paimon.format.FooterCache;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.parquet.newreader.VectorizedParquetRecordReader;
 import org.apache.paimon.format.parquet.reader.ColumnReader;
@@ -52,6 +53,8 @@ import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.metadata.FileMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.io.ColumnIOFactory;
 import org.apache.parquet.io.MessageColumnIO;
 import org.apache.parquet.schema.ConversionPatterns;
@@ -89,19 +92,39 @@ public class ParquetReaderFactory implements FormatReaderFactory {
     private static final Logger LOG = LoggerFactory.getLogger(ParquetReaderFactory.class);
 
     private static final String ALLOCATION_SIZE = "parquet.read.allocation.size";
+    /**
+     * Whether to read with the legacy record reader. It only decodes the PLAIN, RLE and dictionary
+     * encodings, so it cannot read files written with {@link
+     * RowDataParquetBuilder#ADAPTIVE_ENCODING_ENABLED}.
+     */
+    public static final String USE_OLD_READER = "parquet.use-old-reader";
+
+    public static final String SIGNED_STRING_MIN_MAX_ENABLED =
+            "parquet.strings.signed-min-max.enabled";
 
     private final Options conf;
     private final DataField[] readFields;
     private final int batchSize;
     private final FilterCompat.Filter filter;
+    @Nullable private final FooterCache<ParquetMetadata> footerCache;
     private final Set<Integer> unknownFieldsIndices = new HashSet<>();
 
     public ParquetReaderFactory(
             Options conf, RowType readType, int batchSize, FilterCompat.Filter filter) {
+        this(conf, readType, batchSize, filter, null);
+    }
+
+    public ParquetReaderFactory(
+            Options conf,
+            RowType readType,
+            int batchSize,
+            FilterCompat.Filter filter,
+            @Nullable FooterCache<ParquetMetadata> footerCache) {
         this.conf = conf;
         this.readFields = readType.getFields().toArray(new DataField[0]);
         this.batchSize = batchSize;
         this.filter = filter;
+        this.footerCache = footerCache;
     }
 
     // TODO: remove this when new reader is stable
@@ -111,12 +134,7 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                 ParquetReadOptions.builder().withRange(0, context.fileSize());
         setReadOptions(builder);
 
-        ParquetFileReader reader =
-                new ParquetFileReader(
-                        ParquetInputFile.fromPath(
-                                context.fileIO(), context.filePath(), context.fileSize()),
-                        builder.build(),
-                        context.selection());
+        ParquetFileReader reader = createFileReader(context, builder.build());
         MessageType fileSchema = reader.getFileMetaData().getSchema();
         MessageType requestedSchema = clipParquetSchema(fileSchema);
         reader.setRequestedSchema(requestedSchema);
@@ -136,7 +154,7 @@ public class ParquetReaderFactory implements FormatReaderFactory {
     @Override
     public FileRecordReader<InternalRow> createReader(FormatReaderFactory.Context context)
             throws IOException {
-        if (Boolean.parseBoolean(conf.getString("parquet.use-old-reader", "false"))) {
+        if (Boolean.parseBoolean(conf.getString(USE_OLD_READER, "false"))) {
             return createReaderOld(context);
         }
 
@@ -144,12 +162,7 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                 ParquetReadOptions.builder().withRange(0, context.fileSize());
         setReadOptions(builder);
 
-        ParquetFileReader reader =
-                new ParquetFileReader(
-                        ParquetInputFile.fromPath(
-                                context.fileIO(), context.filePath(), context.fileSize()),
-                        builder.build(),
-                        context.selection());
+        ParquetFileReader reader = createFileReader(context, builder.build());
         MessageType fileSchema = reader.getFileMetaData().getSchema();
         MessageType requestedSchema = clipParquetSchema(fileSchema);
 
@@ -171,9 +184,28 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                 context.filePath(), reader, fileSchema, fields, writableVectors, batchSize);
     }
 
+    private ParquetFileReader createFileReader(
+            FormatReaderFactory.Context context, ParquetReadOptions options) throws IOException {
+        ParquetInputFile inputFile =
+                ParquetInputFile.fromPath(context.fileIO(), context.filePath(), context.fileSize());
+        if (footerCache == null) {
+            return new ParquetFileReader(inputFile, options, context.selection());
+        }
+
+        ParquetMetadata footer = footerCache.getIfPresent(context.filePath());
+        ParquetFileReader reader =
+                new ParquetFileReader(inputFile, options, context.selection(), footer);
+        // footers of encrypted files hold decryption state, do not share them
+        if (footer == null
+                && reader.getFooter().getFileMetaData().getEncryptionType()
+                        == FileMetaData.EncryptionType.UNENCRYPTED) {
+            footerCache.put(context.filePath(), reader.getFooter());
+        }
+        return reader;
+    }
+
     private void setReadOptions(ParquetReadOptions.Builder builder) {
-        builder.useSignedStringMinMax(
-                conf.getBoolean("parquet.strings.signed-min-max.enabled", false));
+        builder.useSignedStringMinMax(conf.getBoolean(SIGNED_STRING_MIN_MAX_ENABLED, false));
         builder.useDictionaryFilter(
                 conf.getBoolean(ParquetInputFormat.DICTIONARY_FILTERING_ENABLED, true));
         builder.useStatsFilter(conf.getBoolean(ParquetInputFormat.STATS_FILTERING_ENABLED, true));
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet.newreader;
+
+import org.apache.paimon.data.columnar.writable.WritableByteVector;
+import org.apache.paimon.data.columnar.writable.WritableDoubleVector;
+import org.apache.paimon.data.columnar.writable.WritableFloatVector;
+import org.apache.paimon.data.columnar.writable.WritableIntVector;
+import org.apache.paimon.data.columnar.writable.WritableLongVector;
+import org.apache.paimon.data.columnar.writable.WritableShortVector;
+
+import org.apache.parquet.bytes.ByteBufferInputStream;
+import org.apache.parquet.io.ParquetDecodingException;
+
+import java.io.IOException;
+
+/**
+ * An implementation of the Parquet BYTE_STREAM_SPLIT decoder that supports the vectorized
+ * interface. BYTE_STREAM_SPLIT scatters the k bytes of each value into k streams, the i-th stream
+ * holding the i-th byte of every value in little endian order.
+ *
+ * <p>Supported Types: FLOAT, DOUBLE, INT32, INT64
+ *
+ * <p>@see <a
+ * href="https://github.com/apache/parquet-format/blob/master/Encodings.md#byte-stream-split-byte_stream_split--9">
+ * Parquet format encodings: BYTE_STREAM_SPLIT</a>
+ */
+public class VectorizedByteStreamSplitReader extends VectorizedReaderBase {
+
+    private final int elementSize;
+
+    private byte[] data;
+    private int valueCount;
+    private int currentIndex;
+
+    public VectorizedByteStreamSplitReader(int elementSize) {
+        this.elementSize = elementSize;
+    }
+
+    @Override
+    public void initFromPage(int valueCount, ByteBufferInputStream in) throws IOException {
+        int length = in.available();
+        if (length % elementSize != 0) {
+            throw new ParquetDecodingException(
+                    "Byte stream split data of "
+                            + length
+                            + " bytes is not a multiple of element size "
+                            + elementSize);
+        }
+        this.data = new byte[length];
+        in.slice(length).get(data);
+        this.valueCount = length / elementSize;
+        this.currentIndex = 0;
+    }
+
+    private long nextBits() {
+        if (currentIndex >= valueCount) {
+            throw new ParquetDecodingException("Byte stream split data is exhausted");
+        }
+        long bits = 0;
+        for (int i = 0, pos = currentIndex; i < elementSize; i++, pos += valueCount) {
+            bits |= (data[pos] & 0xFFL) << (i * 8);
+        }
+        currentIndex++;
+        return bits;
+    }
+
+    private void skipValues(int total) {
+        if (currentIndex + total > valueCount) {
+            throw new ParquetDecodingException("Byte stream split data is exhausted");
+        }
+        currentIndex += total;
+    }
+
+    @Override
+    public int readInteger() {
+        return (int) nextBits();
+    }
+
+    @Override
+    public long readLong() {
+        return nextBits();
+    }
+
+    @Override
+    public float readFloat() {
+        return Float.intBitsToFloat((int) nextBits());
+    }
+
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(nextBits());
+    }
+
+    @Override
+    public void readBytes(int total, WritableByteVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setByte(rowId + i, (byte) readInteger());
+        }
+    }
+
+    @Override
+    public void readShorts(int total, WritableShortVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setShort(rowId + i, (short) readInteger());
+        }
+    }
+
+    @Override
+    public void readIntegers(int total, WritableIntVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setInt(rowId + i, readInteger());
+        }
+    }
+
+    @Override
+    public void readLongs(int total, WritableLongVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setLong(rowId + i, readLong());
+        }
+    }
+
+    @Override
+    public void readFloats(int total, WritableFloatVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setFloat(rowId + i, readFloat());
+        }
+    }
+
+    @Override
+    public void readDoubles(int total, WritableDoubleVector c, int rowId) {
+        for (int i = 0; i < total; i++) {
+            c.setDouble(rowId + i, readDouble());
+        }
+    }
+
+    @Override
+    public void skip() {
+        skipValues(1);
+    }
+
+    @Override
+    public void skipBytes(int total) {
+        skipValues(total);
+    }
+
+    @Override
+    public void skipShorts(int total) {
+        skipValues(total);
+    }
+
+    @Override
+    public void skipIntegers(int total) {
+        skipValues(total);
+    }
+
+    @Override
+    public void skipLongs(int total) {
+        skipValues(total);
+    }
+
+    @Override
+    public void skipFloats(int total) {
+        skipValues(total);
+    }
+
+    @Override
+    public void skipDoubles(int total) {
+        skipValues(total);
+    }
+}
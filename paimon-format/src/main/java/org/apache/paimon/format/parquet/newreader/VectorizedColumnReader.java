@@ -295,6 +295,23 @@ public class VectorizedColumnReader {
                 return new VectorizedDeltaLengthByteArrayReader();
             case DELTA_BINARY_PACKED:
                 return new VectorizedDeltaBinaryPackedReader();
+            case BYTE_STREAM_SPLIT:
+                {
+                    PrimitiveType.PrimitiveTypeName typeName =
+                            this.descriptor.getPrimitiveType().getPrimitiveTypeName();
+                    switch (typeName) {
+                        case FLOAT:
+                        case INT32:
+                            return new VectorizedByteStreamSplitReader(4);
+                        case DOUBLE:
+                        case INT64:
+                            return new VectorizedByteStreamSplitReader(8);
+                        default:
+                            throw new RuntimeException(
+                                    "error: _LEGACY_ERROR_TEMP_3190, typeName: "
+                                            + typeName.toString());
+                    }
+                }
             case RLE:
                 {
                     PrimitiveType.PrimitiveTypeName typeName =
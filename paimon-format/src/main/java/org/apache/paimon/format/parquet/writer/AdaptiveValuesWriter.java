@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet.writer;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesWriter;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForInteger;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForLong;
+import org.apache.parquet.column.values.deltastrings.DeltaByteArrayWriter;
+import org.apache.parquet.column.values.plain.PlainValuesWriter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ValuesWriter} which buffers the values of the first page of a column chunk, then chooses
+ * an encoding for the chunk from them and replays them into a writer of that encoding:
+ *
+ * <ul>
+ *   <li>Dictionary encoding (with the default fallback) if dictionary is enabled for the column and
+ *       values repeat often enough.
+ *   <li>DELTA_BINARY_PACKED for integers whose deltas pack much smaller than plain values, e.g.
+ *       sorted ids and timestamps.
+ *   <li>BYTE_STREAM_SPLIT for floating point values whose sign and exponent bytes vary little.
+ *   <li>DELTA_BYTE_ARRAY for binaries sharing long prefixes with their predecessors.
+ *   <li>PLAIN otherwise.
+ * </ul>
+ */
+public class AdaptiveValuesWriter extends ValuesWriter {
+
+    /** Values of a sample must repeat twice on average for dictionary encoding. */
+    private static final int MIN_AVERAGE_REPEATS = 2;
+
+    /** Delta encoding must save a quarter of the plain size. */
+    private static final double MAX_DELTA_SIZE_RATIO = 0.75;
+
+    /** Maximum distinct most significant bytes of floating point values for byte stream split. */
+    private static final int MAX_DISTINCT_HIGH_BYTES = 16;
+
+    private static final int DELTA_BLOCK_SIZE = 128;
+    private static final int DELTA_MINI_BLOCK_SIZE = 32;
+
+    private final ColumnDescriptor descriptor;
+    private final PrimitiveTypeName typeName;
+    private final ParquetProperties properties;
+    private final Supplier<ValuesWriter> dictionaryWriterSupplier;
+
+    // sampled values of the first page, numbers are stored as their bits
+    private long[] numbers;
+    private List<Binary> binaries;
+    private int sampleSize;
+    private long sampleBytes;
+
+    @Nullable private ValuesWriter delegate;
+
+    public AdaptiveValuesWriter(
+            ColumnDescriptor descriptor,
+            ParquetProperties properties,
+            Supplier<ValuesWriter> dictionaryWriterSupplier) {
+        this.descriptor = descriptor;
+        this.typeName = descriptor.getPrimitiveType().getPrimitiveTypeName();
+        this.properties = properties;
+        this.dictionaryWriterSupplier = dictionaryWriterSupplier;
+        if (typeName == PrimitiveTypeName.BINARY) {
+            this.binaries = new ArrayList<>();
+        } else {
+            this.numbers = new long[64];
+        }
+    }
+
+    @VisibleForTesting
+    @Nullable
+    ValuesWriter delegate() {
+        return delegate;
+    }
+
+    private ValuesWriter decided() {
+        if (delegate == null) {
+            delegate = choose();
+            replay(delegate);
+            numbers = null;
+            binaries = null;
+        }
+        return delegate;
+    }
+
+    private ValuesWriter choose() {
+        if (properties.isDictionaryEnabled(descriptor) && repeatsEnough()) {
+            return dictionaryWriterSupplier.get();
+        }
+
+        int initialSize = properties.getInitialSlabSize();
+        int pageSize = properties.getPageSizeThreshold();
+        ByteBufferAllocator allocator = properties.getAllocator();
+        switch (typeName) {
+            case INT32:
+                return deltaPacksSmaller(4)
+                        ? new DeltaBinaryPackingValuesWriterForInteger(
+                                initialSize, pageSize, allocator)
+                        : new PlainValuesWriter(initialSize, pageSize, allocator);
+            case INT64:
+                return deltaPacksSmaller(8)
+                        ? new DeltaBinaryPackingValuesWriterForLong(
+                                initialSize, pageSize, allocator)
+                        : new PlainValuesWriter(initialSize, pageSize, allocator);
+            case FLOAT:
+                return highBytesRepeat(4)
+                        ? new ByteStreamSplitValuesWriter.FloatByteStreamSplitValuesWriter(
+                                initialSize, pageSize, allocator)
+                        : new PlainValuesWriter(initialSize, pageSize, allocator);
+            case DOUBLE:
+                return highBytesRepeat(8)
+                        ? new ByteStreamSplitValuesWriter.DoubleByteStreamSplitValuesWriter(
+                                initialSize, pageSize, allocator)
+                        : new PlainValuesWriter(initialSize, pageSize, allocator);
+            case BINARY:
+                return prefixesShared()
+                        ? new DeltaByteArrayWriter(initialSize, pageSize, allocator)
+                        : new PlainValuesWriter(initialSize, pageSize, allocator);
+            default:
+                throw new UnsupportedOperationException("Unsupported type: " + typeName);
+        }
+    }
+
+    private boolean repeatsEnough() {
+        if (sampleSize == 0) {
+            return true;
+        }
+
+        Set<Object> distinct = new HashSet<>();
+        for (int i = 0; i < sampleSize; i++) {
+            distinct.add(binaries == null ? numbers[i] : binaries.get(i));
+        }
+        long dictionaryBytes =
+                binaries == null
+                        ? (long) distinct.size() * sampleBytes / sampleSize
+                        : distinct.stream().mapToLong(b -> ((Binary) b).length() + 4).sum();
+        return (long) distinct.size() * MIN_AVERAGE_REPEATS <= sampleSize
+                && dictionaryBytes <= properties.getDictionaryPageSizeThreshold();
+    }
+
+    private boolean deltaPacksSmaller(int valueBytes) {
+        if (sampleSize < DELTA_MINI_BLOCK_SIZE) {
+            return false;
+        }
+
+        // bit widths of mini blocks are relative to the minimum delta of their block
+        long packedBits = 0;
+        for (int blockStart = 1; blockStart < sampleSize; blockStart += DELTA_BLOCK_SIZE) {
+            int blockEnd = Math.min(blockStart + DELTA_BLOCK_SIZE, sampleSize);
+            long minDelta = Long.MAX_VALUE;
+            for (int i = blockStart; i < blockEnd; i++) {
+                minDelta = Math.min(minDelta, delta(i, valueBytes));
+            }
+            for (int start = blockStart; start < blockEnd; start += DELTA_MINI_BLOCK_SIZE) {
+                int end = Math.min(start + DELTA_MINI_BLOCK_SIZE, blockEnd);
+                long max = 0;
+                for (int i = start; i < end; i++) {
+                    max = Math.max(max, delta(i, valueBytes) - minDelta);
+                }
+                packedBits += (long) (64 - Long.numberOfLeadingZeros(max)) * DELTA_MINI_BLOCK_SIZE;
+            }
+            // header of the block, the min delta and mini block bit widths
+            packedBits += (10 + DELTA_BLOCK_SIZE / DELTA_MINI_BLOCK_SIZE) * 8;
+        }
+        return packedBits / 8 <= (long) sampleSize * valueBytes * MAX_DELTA_SIZE_RATIO;
+    }
+
+    private long delta(int i, int valueBytes) {
+        return valueBytes == 4
+                ? (long) (int) numbers[i] - (int) numbers[i - 1]
+                : numbers[i] - numbers[i - 1];
+    }
+
+    private boolean highBytesRepeat(int valueBytes) {
+        boolean[] seen = new boolean[256];
+        int distinct = 0;
+        for (int i = 0; i < sampleSize; i++) {
+            int highByte = (int) (numbers[i] >>> (valueBytes * 8 - 8)) & 0xFF;
+            if (!seen[highByte]) {
+                seen[highByte] = true;
+                if (++distinct > MAX_DISTINCT_HIGH_BYTES) {
+                    return false;
+                }
+            }
+        }
+        return sampleSize > 0;
+    }
+
+    private boolean prefixesShared() {
+        long sharedBytes = 0;
+        for (int i = 1; i < sampleSize; i++) {
+            Binary previous = binaries.get(i - 1);
+            Binary current = binaries.get(i);
+            sharedBytes += commonPrefix(previous, current);
+        }
+        // shared prefixes must save more than the additional prefix lengths cost
+        return sharedBytes > sampleBytes / 4;
+    }
+
+    private static int commonPrefix(Binary left, Binary right) {
+        byte[] leftBytes = left.getBytesUnsafe();
+        byte[] rightBytes = right.getBytesUnsafe();
+        int length = Math.min(leftBytes.length, rightBytes.length);
+        int i = 0;
+        while (i < length && leftBytes[i] == rightBytes[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private void replay(ValuesWriter writer) {
+        for (int i = 0; i < sampleSize; i++) {
+            switch (typeName) {
+                case INT32:
+                    writer.writeInteger((int) numbers[i]);
+                    break;
+                case INT64:
+                    writer.writeLong(numbers[i]);
+                    break;
+                case FLOAT:
+                    writer.writeFloat(Float.intBitsToFloat((int) numbers[i]));
+                    break;
+                case DOUBLE:
+                    writer.writeDouble(Double.longBitsToDouble(numbers[i]));
+                    break;
+                default:
+                    writer.writeBytes(binaries.get(i));
+            }
+        }
+    }
+
+    private void sampleNumber(long bits, int valueBytes) {
+        if (sampleSize == numbers.length) {
+            numbers = Arrays.copyOf(numbers, numbers.length * 2);
+        }
+        numbers[sampleSize++] = bits;
+        sampleBytes += valueBytes;
+    }
+
+    @Override
+    public void writeInteger(int v) {
+        if (delegate == null) {
+            sampleNumber(v, 4);
+        } else {
+            delegate.writeInteger(v);
+        }
+    }
+
+    @Override
+    public void writeLong(long v) {
+        if (delegate == null) {
+            sampleNumber(v, 8);
+        } else {
+            delegate.writeLong(v);
+        }
+    }
+
+    @Override
+    public void writeFloat(float v) {
+        if (delegate == null) {
+            sampleNumber(Float.floatToRawIntBits(v) & 0xFFFFFFFFL, 4);
+        } else {
+            delegate.writeFloat(v);
+        }
+    }
+
+    @Override
+    public void writeDouble(double v) {
+        if (delegate == null) {
+            sampleNumber(Double.doubleToRawLongBits(v), 8);
+        } else {
+            delegate.writeDouble(v);
+        }
+    }
+
+    @Override
+    public void writeBytes(Binary v) {
+        if (delegate == null) {
+            // the bytes of the binary may be reused by the caller
+            binaries.add(v.copy());
+            sampleSize++;
+            sampleBytes += 4 + v.length();
+        } else {
+            delegate.writeBytes(v);
+        }
+    }
+
+    @Override
+    public long getBufferedSize() {
+        return delegate == null ? sampleBytes : delegate.getBufferedSize();
+    }
+
+    @Override
+    public BytesInput getBytes() {
+        return decided().getBytes();
+    }
+
+    @Override
+    public Encoding getEncoding() {
+        return decided().getEncoding();
+    }
+
+    @Override
+    public void reset() {
+        decided().reset();
+    }
+
+    @Override
+    public void close() {
+        if (delegate != null) {
+            delegate.close();
+        }
+        numbers = null;
+        binaries = null;
+    }
+
+    @Override
+    public DictionaryPage toDictPageAndClose() {
+        return decided().toDictPageAndClose();
+    }
+
+    @Override
+    public void resetDictionary() {
+        decided().resetDictionary();
+    }
+
+    @Override
+    public long getAllocatedSize() {
+        if (delegate != null) {
+            return delegate.getAllocatedSize();
+        }
+        return numbers == null ? sampleBytes : numbers.length * 8L;
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+        if (delegate != null) {
+            return delegate.memUsageString(prefix);
+        }
+        return String.format("%s AdaptiveValuesWriter sampling %d bytes", prefix, sampleBytes);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet.writer;
+
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.factory.DefaultValuesWriterFactory;
+import org.apache.parquet.column.values.factory.ValuesWriterFactory;
+
+/**
+ * A {@link ValuesWriterFactory} which chooses the encoding of each column chunk from the values of
+ * its first page, see {@link AdaptiveValuesWriter}. Boolean, int96 and fixed length columns are
+ * written with the default encodings.
+ */
+public class AdaptiveValuesWriterFactory implements ValuesWriterFactory {
+
+    private final DefaultValuesWriterFactory defaultFactory = new DefaultValuesWriterFactory();
+
+    private ParquetProperties properties;
+
+    @Override
+    public void initialize(ParquetProperties properties) {
+        this.properties = properties;
+        this.defaultFactory.initialize(properties);
+    }
+
+    @Override
+    public ValuesWriter newValuesWriter(ColumnDescriptor descriptor) {
+        switch (descriptor.getPrimitiveType().getPrimitiveTypeName()) {
+            case INT32:
+            case INT64:
+            case FLOAT:
+            case DOUBLE:
+            case BINARY:
+                return new AdaptiveValuesWriter(
+                        descriptor, properties, () -> defaultFactory.newValuesWriter(descriptor));
+            default:
+                return defaultFactory.newValuesWriter(descriptor);
+        }
+    }
+}
@@ -20,7 +20,9 @@ package org.apache.paimon.format.parquet.writer;
 
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.format.parquet.ColumnConfigParser;
+import org.apache.paimon.format.parquet.ParquetReaderFactory;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.table.SpecialFields;
 import org.apache.paimon.types.RowType;
 
 import org.apache.hadoop.conf.Configuration;
@@ -31,10 +33,26 @@ import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.io.OutputFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /** A {@link ParquetBuilder} for {@link InternalRow}. */
 public class RowDataParquetBuilder implements ParquetBuilder<InternalRow> {
 
+    /**
+     * Whether to choose the encoding of each column chunk from the values of its first page. Files
+     * may then use the BYTE_STREAM_SPLIT and DELTA_* encodings, which only the vectorized reader
+     * can decode, so this cannot be combined with {@link ParquetReaderFactory#USE_OLD_READER}.
+     */
+    public static final String ADAPTIVE_ENCODING_ENABLED = "parquet.adaptive-encoding.enabled";
+
+    /**
+     * Whether to write bloom filters for the primary key columns, which are the columns with a
+     * {@link SpecialFields#KEY_FIELD_PREFIX} copy in data files of primary key tables.
+     */
+    public static final String BLOOM_FILTER_KEY_COLUMNS_ENABLED =
+            "parquet.bloom.filter.key-columns.enabled";
+
     private final RowType rowType;
     private final Configuration conf;
 
@@ -87,6 +105,15 @@ public class RowDataParquetBuilder implements ParquetBuilder<InternalRow> {
                                 conf.getBoolean(
                                         ParquetOutputFormat.BLOOM_FILTER_ENABLED,
                                         ParquetProperties.DEFAULT_BLOOM_FILTER_ENABLED));
+        if (conf.getBoolean(ADAPTIVE_ENCODING_ENABLED, false)) {
+            builder.withValuesWriterFactory(new AdaptiveValuesWriterFactory());
+        }
+        if (conf.getBoolean(BLOOM_FILTER_KEY_COLUMNS_ENABLED, false)) {
+            for (String keyColumn : keyColumns()) {
+                builder.withBloomFilterEnabled(keyColumn, true);
+            }
+        }
+        // explicit column configs take precedence
         new ColumnConfigParser()
                 .withColumnConfig(
                         ParquetOutputFormat.ENABLE_DICTIONARY,
@@ -108,6 +135,21 @@ public class RowDataParquetBuilder implements ParquetBuilder<InternalRow> {
         return builder.build();
     }
 
+    private List<String> keyColumns() {
+        List<String> fieldNames = rowType.getFieldNames();
+        List<String> keyColumns = new ArrayList<>();
+        for (String fieldName : fieldNames) {
+            if (fieldName.startsWith(SpecialFields.KEY_FIELD_PREFIX)) {
+                String keyColumn = fieldName.substring(SpecialFields.KEY_FIELD_PREFIX.length());
+                // predicates are pushed down to the value columns
+                if (fieldNames.contains(keyColumn)) {
+                    keyColumns.add(keyColumn);
+                }
+            }
+        }
+        return keyColumns;
+    }
+
     public String getCompression(String compression) {
         return conf.get("parquet.compression", compression);
     }
@@ -229,6 +229,12 @@ public class ParquetFileReader implements Closeable {
         }
     }
 
+    /**
+     * Minimum number of consecutive not selected rows to skip, shorter gaps are decoded and
+     * filtered by the callers to bound the number of row ranges.
+     */
+    private static final int MIN_SKIPPED_ROWS = 1024;
+
     protected final ParquetInputStream f;
     private final ParquetInputFile file;
     private final ParquetReadOptions options;
@@ -252,13 +258,27 @@ public class ParquetFileReader implements Closeable {
     public ParquetFileReader(
             InputFile file, ParquetReadOptions options, @Nullable RoaringBitmap32 selection)
             throws IOException {
+        this(file, options, selection, null);
+    }
+
+    /**
+     * Creates a reader with an already parsed footer of the file, the footer is only read from the
+     * file if the given footer is null.
+     */
+    public ParquetFileReader(
+            InputFile file,
+            ParquetReadOptions options,
+            @Nullable RoaringBitmap32 selection,
+            @Nullable ParquetMetadata cachedFooter)
+            throws IOException {
         this.converter = new ParquetMetadataConverter(options);
         this.file = (ParquetInputFile) file;
         this.f = this.file.newStream();
         this.options = options;
         this.selection = selection;
         try {
-            this.footer = readFooter(file, options, f, converter);
+            this.footer =
+                    cachedFooter == null ? readFooter(file, options, f, converter) : cachedFooter;
         } catch (Exception e) {
             // In case that reading footer throws an exception in the constructor, the new stream
             // should be closed. Otherwise, there's no way to close this outside.
@@ -328,8 +348,7 @@ public class ParquetFileReader implements Closeable {
     }
 
     public long getFilteredRecordCount() {
-        if (!options.useColumnIndexFilter()
-                || !FilterCompat.isFilteringRequired(options.getRecordFilter())) {
+        if (!rowRangesFilteringRequired()) {
             return getRecordCount();
         }
         long total = 0L;
@@ -513,8 +532,7 @@ public class ParquetFileReader implements Closeable {
         }
 
         // Filtering not required -> fall back to the non-filtering path
-        if (!options.useColumnIndexFilter()
-                || !FilterCompat.isFilteringRequired(options.getRecordFilter())) {
+        if (!rowRangesFilteringRequired()) {
             return internalReadRowGroup(blockIndex);
         }
 
@@ -686,8 +704,7 @@ public class ParquetFileReader implements Closeable {
             return null;
         }
         // Filtering not required -> fall back to the non-filtering path
-        if (!options.useColumnIndexFilter()
-                || !FilterCompat.isFilteringRequired(options.getRecordFilter())) {
+        if (!rowRangesFilteringRequired()) {
             return readNextRowGroup();
         }
         BlockMetaData block = blocks.get(currentBlock);
@@ -797,24 +814,60 @@ public class ParquetFileReader implements Closeable {
         return ciStore;
     }
 
+    private boolean rowRangesFilteringRequired() {
+        return options.useColumnIndexFilter()
+                && (FilterCompat.isFilteringRequired(options.getRecordFilter())
+                        || selection != null);
+    }
+
     private RowRanges getRowRanges(int blockIndex) {
-        assert FilterCompat.isFilteringRequired(options.getRecordFilter())
-                : "Should not be invoked if filter is null or NOOP";
+        assert rowRangesFilteringRequired()
+                : "Should not be invoked if filter is null or NOOP and there is no selection";
         RowRanges rowRanges = blockRowRanges.get(blockIndex);
         if (rowRanges == null) {
-            rowRanges =
-                    ColumnIndexFilter.calculateRowRanges(
-                            options.getRecordFilter(),
-                            getColumnIndexStore(blockIndex),
-                            paths.keySet(),
-                            blocks.get(blockIndex).getRowCount(),
-                            blocks.get(blockIndex).getRowIndexOffset(),
-                            selection);
+            BlockMetaData block = blocks.get(blockIndex);
+            if (FilterCompat.isFilteringRequired(options.getRecordFilter())) {
+                rowRanges =
+                        ColumnIndexFilter.calculateRowRanges(
+                                options.getRecordFilter(),
+                                getColumnIndexStore(blockIndex),
+                                paths.keySet(),
+                                block.getRowCount(),
+                                block.getRowIndexOffset(),
+                                selection);
+            } else {
+                rowRanges = RowRanges.createSingle(block.getRowCount());
+            }
+
+            // skip pages of not selected rows, e.g. rows deleted by deletion vectors
+            if (selection != null && hasOffsetIndexes(blockIndex)) {
+                rowRanges =
+                        RowRanges.intersection(
+                                rowRanges,
+                                RowRanges.create(
+                                        selection,
+                                        block.getRowIndexOffset(),
+                                        block.getRowCount(),
+                                        MIN_SKIPPED_ROWS));
+            }
             blockRowRanges.set(blockIndex, rowRanges);
         }
         return rowRanges;
     }
 
+    private boolean hasOffsetIndexes(int blockIndex) {
+        ColumnIndexStore columnIndexStore = getColumnIndexStore(blockIndex);
+        try {
+            for (ColumnPath path : paths.keySet()) {
+                columnIndexStore.getOffsetIndex(path);
+            }
+            return true;
+        } catch (ColumnIndexStore.MissingOffsetIndexException e) {
+            LOG.debug(e.getMessage());
+            return false;
+        }
+    }
+
     public boolean skipNextRowGroup() {
         return advanceToNextBlock();
     }
@@ -21,6 +21,7 @@ package org.apache.parquet.hadoop;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.column.ParquetProperties.WriterVersion;
+import org.apache.parquet.column.values.factory.ValuesWriterFactory;
 import org.apache.parquet.crypto.FileEncryptionProperties;
 import org.apache.parquet.hadoop.api.WriteSupport;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
@@ -319,6 +320,18 @@ public class ParquetWriter<T> implements Closeable {
             return self();
         }
 
+        /**
+         * Set the {@link ValuesWriterFactory} which creates the values writers, and so chooses the
+         * encodings, of the columns for the constructed writer.
+         *
+         * @param factory the values writer factory
+         * @return this builder for method chaining.
+         */
+        public SELF withValuesWriterFactory(ValuesWriterFactory factory) {
+            encodingPropsBuilder.withValuesWriterFactory(factory);
+            return self();
+        }
+
         /**
          * Enable or disable dictionary encoding of the specified column for the constructed writer.
          *
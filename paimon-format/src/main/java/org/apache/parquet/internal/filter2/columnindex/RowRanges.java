@@ -190,6 +190,48 @@ public class RowRanges {
         return ranges;
     }
 
+    /**
+     * Creates a mutable RowRanges object of the selected positions in a row group. Gaps of not
+     * selected rows shorter than {@code minSkippedRows} are kept in the ranges, so that the number
+     * of ranges is bounded for scattered selections.
+     *
+     * @param selection the selected positions in the file
+     * @param rowIndexOffset the position of the first row of the row group
+     * @param rowCount the row count of the row group
+     * @param minSkippedRows the minimum number of consecutive not selected rows to skip
+     * @return a mutable RowRanges relative to the row group
+     */
+    public static RowRanges create(
+            RoaringBitmap32 selection, long rowIndexOffset, long rowCount, int minSkippedRows) {
+        RowRanges ranges = new RowRanges();
+        long end = rowIndexOffset + rowCount;
+        long from = -1;
+        long to = -1;
+        long position = rowIndexOffset;
+        while (position < end) {
+            long start = selection.nextValue((int) position);
+            if (start < 0 || start >= end) {
+                break;
+            }
+            long absent = selection.nextAbsentValue((int) start);
+            long stop = absent < 0 ? end : Math.min(absent, end);
+            if (from >= 0 && start - to - 1 < minSkippedRows) {
+                to = stop - 1;
+            } else {
+                if (from >= 0) {
+                    ranges.add(new Range(from - rowIndexOffset, to - rowIndexOffset));
+                }
+                from = start;
+                to = stop - 1;
+            }
+            position = stop;
+        }
+        if (from >= 0) {
+            ranges.add(new Range(from - rowIndexOffset, to - rowIndexOffset));
+        }
+        return ranges;
+    }
+
     /**
      * Calculates the union of the two specified RowRanges object. The union of two range is
      * calculated if there are no elements between them. Otherwise, the two disjunct ranges are
@@ -18,8 +18,13 @@
 
 package org.apache.paimon.format.avro;
 
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericArray;
+import org.apache.paimon.data.GenericMap;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FileFormatFactory.FormatContext;
 import org.apache.paimon.format.FormatReaderContext;
@@ -30,7 +35,9 @@ import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.SeekableInputStream;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.reader.VectorizedRecordIterator;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
@@ -43,6 +50,9 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -134,6 +144,104 @@ public class AvroFileFormatTest {
         }
     }
 
+    @Test
+    void testVectorizedRead() throws IOException {
+        RowType rowType =
+                DataTypes.ROW(
+                        DataTypes.FIELD(0, "id", DataTypes.INT().notNull()),
+                        DataTypes.FIELD(1, "b", DataTypes.BOOLEAN()),
+                        DataTypes.FIELD(2, "t", DataTypes.TINYINT()),
+                        DataTypes.FIELD(3, "s", DataTypes.SMALLINT()),
+                        DataTypes.FIELD(4, "l", DataTypes.BIGINT()),
+                        DataTypes.FIELD(5, "d", DataTypes.DOUBLE()),
+                        DataTypes.FIELD(6, "str", DataTypes.STRING()),
+                        DataTypes.FIELD(7, "bin", DataTypes.BYTES()),
+                        DataTypes.FIELD(8, "ts", DataTypes.TIMESTAMP(3)),
+                        DataTypes.FIELD(9, "arr", DataTypes.ARRAY(DataTypes.STRING())),
+                        DataTypes.FIELD(
+                                10, "map", DataTypes.MAP(DataTypes.STRING(), DataTypes.BIGINT())),
+                        DataTypes.FIELD(
+                                11, "imap", DataTypes.MAP(DataTypes.INT(), DataTypes.STRING())),
+                        DataTypes.FIELD(
+                                12,
+                                "row",
+                                DataTypes.ROW(
+                                        DataTypes.FIELD(13, "f0", DataTypes.BYTES()),
+                                        DataTypes.FIELD(
+                                                14, "f1", DataTypes.ARRAY(DataTypes.BIGINT())))));
+        Options options = new Options();
+        options.set("avro.vectorized-read.enabled", "true");
+        FileFormat format = new AvroFileFormat(new FormatContext(options, 1024, 1024));
+
+        LocalFileIO fileIO = LocalFileIO.create();
+        Path file = new Path(new Path(tempPath.toUri()), UUID.randomUUID().toString());
+        List<InternalRow> expected = new ArrayList<>();
+        try (PositionOutputStream out = fileIO.newOutputStream(file, false)) {
+            FormatWriter writer = format.createWriterFactory(rowType).create(out, "zstd");
+            for (int i = 0; i < 10000; i++) {
+                boolean isNull = i % 7 == 0;
+                Map<BinaryString, Long> map = new HashMap<>();
+                Map<Integer, BinaryString> imap = new HashMap<>();
+                for (int j = 0; j < i % 3; j++) {
+                    map.put(BinaryString.fromString("k" + j), (long) j);
+                    imap.put(j, BinaryString.fromString("v" + j));
+                }
+                GenericRow row =
+                        GenericRow.of(
+                                i,
+                                isNull ? null : i % 2 == 0,
+                                isNull ? null : (byte) i,
+                                isNull ? null : (short) i,
+                                isNull ? null : (long) i * 1000,
+                                isNull ? null : i / 3.0,
+                                isNull ? null : BinaryString.fromString("str-" + i),
+                                isNull ? null : new byte[] {(byte) i, (byte) (i >> 8)},
+                                isNull ? null : Timestamp.fromEpochMillis(i),
+                                isNull
+                                        ? null
+                                        : new GenericArray(
+                                                new Object[] {
+                                                    BinaryString.fromString("a" + i), null
+                                                }),
+                                isNull ? null : new GenericMap(map),
+                                isNull ? null : new GenericMap(imap),
+                                isNull
+                                        ? null
+                                        : GenericRow.of(
+                                                new byte[] {(byte) i},
+                                                new GenericArray(new long[] {i, i + 1})));
+                writer.addElement(row);
+                expected.add(row);
+            }
+            writer.close();
+        }
+
+        InternalRowSerializer serializer = new InternalRowSerializer(rowType);
+        List<InternalRow> result = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                format.createReaderFactory(rowType)
+                        .createReader(
+                                new FormatReaderContext(fileIO, file, fileIO.getFileSize(file)))) {
+            RecordReader.RecordIterator<InternalRow> batch;
+            while ((batch = reader.readBatch()) != null) {
+                assertThat(batch).isInstanceOf(VectorizedRecordIterator.class);
+                FileRecordIterator<InternalRow> iterator = (FileRecordIterator<InternalRow>) batch;
+                InternalRow row;
+                while ((row = iterator.next()) != null) {
+                    assertThat(iterator.returnedPosition()).isEqualTo(row.getInt(0));
+                    result.add(serializer.copy(row));
+                }
+                batch.releaseBatch();
+            }
+        }
+
+        assertThat(result).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(serializer.toBinaryRow(result.get(i)))
+                    .isEqualTo(serializer.toBinaryRow(expected.get(i)));
+        }
+    }
+
     @Test
     void testGetRealIOException() throws IOException {
         RowType rowType = DataTypes.ROW(DataTypes.INT().notNull());
@@ -19,11 +19,13 @@
 package org.apache.paimon.format.orc;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.format.FooterCache;
 import org.apache.paimon.format.FormatReaderContext;
 import org.apache.paimon.format.OrcFormatReaderContext;
 import org.apache.paimon.format.orc.filter.OrcFilters;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DataTypes;
@@ -43,6 +45,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -265,6 +268,34 @@ class OrcReaderFactoryTest {
         assertThat(nullCount.get()).isEqualTo(2000);
     }
 
+    @Test
+    void testReadWithFooterCache() throws IOException {
+        FooterCache<CachedOrcTail> footerCache =
+                FooterCache.getOrCreate(
+                        "orc-test",
+                        MemorySize.ofMebiBytes(1),
+                        Collections.emptyMap(),
+                        CachedOrcTail::estimateSize);
+        OrcReaderFactory format =
+                new OrcReaderFactory(
+                        new Configuration(),
+                        Projection.of(new int[] {0}).project(DECIMAL_FILE_TYPE),
+                        new ArrayList<>(),
+                        BATCH_SIZE,
+                        false,
+                        false,
+                        footerCache);
+
+        for (int i = 0; i < 3; i++) {
+            AtomicInteger cnt = new AtomicInteger(0);
+            forEach(format, decimalFile, row -> cnt.incrementAndGet());
+            assertThat(cnt.get()).isEqualTo(6000);
+        }
+
+        assertThat(footerCache.metrics().getMissedObject().get()).isEqualTo(1);
+        assertThat(footerCache.metrics().getHitObject().get()).isEqualTo(2);
+    }
+
     protected OrcReaderFactory createFormat(RowType formatType, int[] selectedFields) {
         return createFormat(formatType, selectedFields, new ArrayList<>());
     }
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for {@link ParquetFileFormatFactory}. */
 public class ParquetFileFormatTest {
@@ -56,6 +57,19 @@ public class ParquetFileFormatTest {
         assertThat(actual.get("parquet.compression.codec.zstd.level")).isEqualTo("2");
     }
 
+    @Test
+    public void testAdaptiveEncodingWithOldReader() {
+        Options options = new Options();
+        options.set(RowDataParquetBuilder.ADAPTIVE_ENCODING_ENABLED, "true");
+        assertThat(new ParquetFileFormat(new FormatContext(options, 1024, 1024)).getOptions())
+                .isNotNull();
+
+        options.set(ParquetReaderFactory.USE_OLD_READER, "true");
+        assertThatThrownBy(() -> new ParquetFileFormat(new FormatContext(options, 1024, 1024)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(RowDataParquetBuilder.ADAPTIVE_ENCODING_ENABLED);
+    }
+
     @Test
     public void testFileCompressionHigherPreference() {
         Options conf = new Options();
@@ -18,26 +18,42 @@
 
 package org.apache.paimon.format.parquet;
 
+import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FileFormatFactory;
 import org.apache.paimon.format.FormatReadWriteTest;
+import org.apache.paimon.format.FormatReaderContext;
 import org.apache.paimon.format.FormatWriter;
+import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.table.SpecialFields;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
 
+import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
 /** A parquet {@link FormatReadWriteTest}. */
@@ -88,4 +104,117 @@ public class ParquetFormatReadWriteTest extends FormatReadWriteTest {
             }
         }
     }
+
+    @Test
+    public void testEnableBloomFilterForKeyColumns() throws Exception {
+        Options options = new Options();
+        options.set(RowDataParquetBuilder.BLOOM_FILTER_KEY_COLUMNS_ENABLED, "true");
+        ParquetFileFormat format =
+                new ParquetFileFormat(new FileFormatFactory.FormatContext(options, 1024, 1024));
+
+        RowType rowType =
+                RowType.builder()
+                        .field(SpecialFields.KEY_FIELD_PREFIX + "k", DataTypes.INT().notNull())
+                        .field(SpecialFields.SEQUENCE_NUMBER.name(), DataTypes.BIGINT().notNull())
+                        .field(SpecialFields.VALUE_KIND.name(), DataTypes.TINYINT().notNull())
+                        .field("k", DataTypes.INT().notNull())
+                        .field("v", DataTypes.STRING())
+                        .build();
+
+        PositionOutputStream out = fileIO.newOutputStream(file, false);
+        FormatWriter writer = format.createWriterFactory(rowType).create(out, "zstd");
+        for (int i = 0; i < 100; i++) {
+            writer.addElement(
+                    GenericRow.of(i, (long) i, (byte) 0, i, BinaryString.fromString("v" + i)));
+        }
+        writer.close();
+        out.close();
+
+        try (ParquetFileReader reader =
+                ParquetUtil.getParquetReader(fileIO, file, fileIO.getFileSize(file))) {
+            for (BlockMetaData block : reader.getFooter().getBlocks()) {
+                for (ColumnChunkMetaData column : block.getColumns()) {
+                    boolean isKey = column.getPath().toDotString().equals("k");
+                    BloomFilter filter = reader.readBloomFilter(column);
+                    Assertions.assertThat(filter != null).isEqualTo(isKey);
+                    if (isKey) {
+                        Assertions.assertThat(filter.findHash(filter.hash(42))).isTrue();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAdaptiveEncoding() throws Exception {
+        Options options = new Options();
+        options.set(RowDataParquetBuilder.ADAPTIVE_ENCODING_ENABLED, "true");
+        ParquetFileFormat format =
+                new ParquetFileFormat(new FileFormatFactory.FormatContext(options, 1024, 1024));
+
+        RowType rowType =
+                RowType.builder()
+                        .field("sorted_id", DataTypes.BIGINT())
+                        .field("category", DataTypes.STRING())
+                        .field("sorted_name", DataTypes.STRING())
+                        .field("random_name", DataTypes.STRING())
+                        .field("price", DataTypes.DOUBLE())
+                        .field("random_int", DataTypes.INT())
+                        .build();
+
+        Random random = new Random();
+        List<InternalRow> expected = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            expected.add(
+                    GenericRow.of(
+                            1_000_000_000L + i,
+                            BinaryString.fromString("category-" + i % 10),
+                            BinaryString.fromString(String.format("name-%08d", i)),
+                            BinaryString.fromString(UUID.randomUUID().toString()),
+                            i % 100 == 0 ? null : 100 + random.nextDouble() * 100,
+                            random.nextInt()));
+        }
+
+        PositionOutputStream out = fileIO.newOutputStream(file, false);
+        FormatWriter writer = format.createWriterFactory(rowType).create(out, "zstd");
+        for (InternalRow row : expected) {
+            writer.addElement(row);
+        }
+        writer.close();
+        out.close();
+
+        Map<String, Set<Encoding>> encodings = new HashMap<>();
+        try (ParquetFileReader reader =
+                ParquetUtil.getParquetReader(fileIO, file, fileIO.getFileSize(file))) {
+            for (BlockMetaData block : reader.getFooter().getBlocks()) {
+                for (ColumnChunkMetaData column : block.getColumns()) {
+                    encodings
+                            .computeIfAbsent(column.getPath().toDotString(), k -> new HashSet<>())
+                            .addAll(column.getEncodings());
+                }
+            }
+        }
+        Assertions.assertThat(encodings.get("sorted_id")).contains(Encoding.DELTA_BINARY_PACKED);
+        Assertions.assertThat(encodings.get("category")).contains(Encoding.PLAIN_DICTIONARY);
+        Assertions.assertThat(encodings.get("sorted_name")).contains(Encoding.DELTA_BYTE_ARRAY);
+        Assertions.assertThat(encodings.get("random_name"))
+                .contains(Encoding.PLAIN)
+                .doesNotContain(Encoding.PLAIN_DICTIONARY);
+        Assertions.assertThat(encodings.get("price")).contains(Encoding.BYTE_STREAM_SPLIT);
+        Assertions.assertThat(encodings.get("random_int")).contains(Encoding.PLAIN);
+
+        InternalRowSerializer serializer = new InternalRowSerializer(rowType);
+        List<InternalRow> result = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                format.createReaderFactory(rowType)
+                        .createReader(
+                                new FormatReaderContext(fileIO, file, fileIO.getFileSize(file)))) {
+            reader.forEachRemaining(row -> result.add(serializer.copy(row)));
+        }
+        Assertions.assertThat(result).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertThat(serializer.toBinaryRow(result.get(i)))
+                    .isEqualTo(serializer.toBinaryRow(expected.get(i)));
+        }
+    }
 }
@@ -27,11 +27,13 @@ import org.apache.paimon.data.InternalMap;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.format.FooterCache;
 import org.apache.paimon.format.FormatReaderContext;
 import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.RecordReader;
@@ -54,6 +56,7 @@ import org.apache.paimon.types.TimestampType;
 import org.apache.paimon.types.TinyIntType;
 import org.apache.paimon.types.VarBinaryType;
 import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.parquet.example.data.Group;
@@ -63,6 +66,7 @@ import org.apache.parquet.filter2.predicate.ParquetFilters;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopOutputFile;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.ConversionPatterns;
@@ -409,6 +413,126 @@ public class ParquetReadWriteTest {
         }
     }
 
+    @Test
+    void testReadWithFooterCache() throws IOException {
+        List<InternalRow> records = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            records.add(newRow(i));
+        }
+        Path testPath = createTempParquetFileByPaimon(folder, records, 100, ROW_TYPE);
+
+        FooterCache<ParquetMetadata> footerCache =
+                FooterCache.getOrCreate(
+                        "parquet-test",
+                        MemorySize.ofMebiBytes(1),
+                        ParquetFileFormat.footerReaderOptions(new Options()),
+                        ParquetFileFormat::estimateFooterSize);
+        DataType[] fieldTypes = new DataType[] {new DoubleType()};
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        new Options(),
+                        RowType.builder().fields(fieldTypes, new String[] {"f7"}).build(),
+                        500,
+                        FilterCompat.NOOP,
+                        footerCache);
+
+        for (int i = 0; i < 3; i++) {
+            AtomicInteger cnt = new AtomicInteger(0);
+            try (RecordReader<InternalRow> reader =
+                    format.createReader(
+                            new FormatReaderContext(
+                                    new LocalFileIO(),
+                                    testPath,
+                                    new LocalFileIO().getFileSize(testPath)))) {
+                reader.forEachRemaining(
+                        row -> assertThat(row.getDouble(0)).isEqualTo(cnt.getAndIncrement()));
+            }
+            assertThat(cnt.get()).isEqualTo(1000);
+        }
+
+        assertThat(footerCache.metrics().getMissedObject().get()).isEqualTo(1);
+        assertThat(footerCache.metrics().getHitObject().get()).isEqualTo(2);
+
+        // footers parsed with different reader options are not shared
+        Options signedMinMax = new Options();
+        signedMinMax.set(ParquetReaderFactory.SIGNED_STRING_MIN_MAX_ENABLED, "true");
+        FooterCache<ParquetMetadata> signedFooterCache =
+                FooterCache.getOrCreate(
+                        "parquet-test",
+                        MemorySize.ofMebiBytes(1),
+                        ParquetFileFormat.footerReaderOptions(signedMinMax),
+                        ParquetFileFormat::estimateFooterSize);
+        assertThat(signedFooterCache.getIfPresent(testPath)).isNull();
+        assertThat(footerCache.getIfPresent(testPath)).isNotNull();
+    }
+
+    @Test
+    void testReadRowPositionWithSelection() throws IOException {
+        int recordNumber = 50000;
+        List<InternalRow> records = new ArrayList<>(recordNumber);
+        for (int i = 0; i < recordNumber; i++) {
+            records.add(newRow(i));
+        }
+
+        // small pages, so that pages without selected rows can be skipped
+        Path path = new Path(folder.getPath(), UUID.randomUUID().toString());
+        Options conf = new Options();
+        conf.set("parquet.page.size", "1024");
+        conf.set("parquet.page.row.count.limit", "1000");
+        FormatWriter writer =
+                new ParquetWriterFactory(new RowDataParquetBuilder(ROW_TYPE, conf))
+                        .create(new LocalFileIO().newOutputStream(path, false), "zstd");
+        for (InternalRow row : records) {
+            writer.addElement(row);
+        }
+        writer.close();
+
+        // selected rows are clustered, with large gaps and single rows in between
+        RoaringBitmap32 selection = new RoaringBitmap32();
+        selection.add(0);
+        selection.add(1999);
+        selection.add(2000);
+        for (int i = 10000; i < 12345; i++) {
+            selection.add(i);
+        }
+        selection.add(30001);
+        selection.add(recordNumber - 1);
+
+        DataType[] fieldTypes = new DataType[] {new IntType()};
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        new Options(),
+                        RowType.builder().fields(fieldTypes, new String[] {"f4"}).build(),
+                        new Random().nextInt(1000) + 1,
+                        FilterCompat.NOOP);
+
+        List<Integer> positions = new ArrayList<>();
+        AtomicInteger readCount = new AtomicInteger();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                path,
+                                new LocalFileIO().getFileSize(path),
+                                selection))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        readCount.incrementAndGet();
+                        assertThat(rowPosition).isEqualTo(row.getInt(0));
+                        int position = rowPosition.intValue();
+                        if (selection.contains(position)) {
+                            positions.add(position);
+                        }
+                    });
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        selection.iterator().forEachRemaining(expected::add);
+        assertThat(positions).isEqualTo(expected);
+        // pages without selected rows are not read
+        assertThat(readCount.get()).isLessThan(recordNumber / 2);
+    }
+
     @RepeatedTest(10)
     void testReadRowPositionWithRandomFilter() throws IOException {
         int recordNumber = new Random().nextInt(10000) + 1;
@@ -688,6 +812,9 @@ public class ParquetReadWriteTest {
         if (ThreadLocalRandom.current().nextBoolean()) {
             conf.set("parquet.enable.dictionary", "false");
         }
+        if (ThreadLocalRandom.current().nextBoolean()) {
+            conf.set(RowDataParquetBuilder.ADAPTIVE_ENCODING_ENABLED, "true");
+        }
         ParquetWriterFactory factory =
                 new ParquetWriterFactory(new RowDataParquetBuilder(rowType, conf));
         String[] candidates = new String[] {"snappy", "zstd", "gzip"};
@@ -19,20 +19,21 @@
 package org.apache.paimon.service.messages;
 
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.service.network.messages.MessageBody;
 import org.apache.paimon.service.network.messages.MessageDeserializer;
 
 import org.apache.paimon.shade.netty4.io.netty.buffer.ByteBuf;
+import org.apache.paimon.shade.netty4.io.netty.buffer.Unpooled;
 
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 
-import static org.apache.paimon.service.network.messages.MessageDeserializer.readBytes;
-import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
-import static org.apache.paimon.utils.SerializationUtils.serializeBinaryRow;
+import static org.apache.paimon.service.messages.RowBufferUtils.readPayload;
+import static org.apache.paimon.service.messages.RowBufferUtils.readRow;
+import static org.apache.paimon.service.messages.RowBufferUtils.rowSize;
+import static org.apache.paimon.service.messages.RowBufferUtils.writeRow;
 
 /** The request to query values for keys. */
 public class KvRequest extends MessageBody {
@@ -61,35 +62,29 @@ public class KvRequest extends MessageBody {
 
     @Override
     public byte[] serialize() {
-        int size = 0;
-
-        byte[] partitionBytes = serializeBinaryRow(partition);
-        size += 4 + partitionBytes.length;
-
-        // bucket
-        size += 4;
-
-        // key size
-        size += 4;
+        ByteBuf buf = Unpooled.buffer(serializedSize());
+        writeTo(buf);
+        return buf.array();
+    }
 
-        List<byte[]> keyBytesList = new ArrayList<>();
+    @Override
+    public int serializedSize() {
+        // partition, bucket and key size
+        int size = rowSize(partition) + 4 + 4;
         for (BinaryRow key : keys) {
-            byte[] keyBytes = serializeBinaryRow(key);
-            keyBytesList.add(keyBytes);
-            size += 4 + keyBytes.length;
+            size += rowSize(key);
         }
+        return size;
+    }
 
-        ByteBuffer buffer = ByteBuffer.allocate(size);
-        buffer.putInt(partitionBytes.length)
-                .put(partitionBytes)
-                .putInt(bucket)
-                .putInt(keyBytesList.size());
-
-        for (byte[] keyBytes : keyBytesList) {
-            buffer.putInt(keyBytes.length).put(keyBytes);
+    @Override
+    public void writeTo(ByteBuf buf) {
+        writeRow(buf, partition);
+        buf.writeInt(bucket);
+        buf.writeInt(keys.length);
+        for (BinaryRow key : keys) {
+            writeRow(buf, key);
         }
-
-        return buffer.array();
     }
 
     @Override
@@ -118,16 +113,18 @@ public class KvRequest extends MessageBody {
 
         @Override
         public KvRequest deserializeMessage(ByteBuf buf) {
-            BinaryRow partition = deserializeBinaryRow(readBytes(buf, buf.readInt()));
-            int bucket = buf.readInt();
+            ByteBuffer payload = readPayload(buf);
+            MemorySegment segment = MemorySegment.wrap(payload.array());
+
+            BinaryRow partition = readRow(payload, segment);
+            int bucket = payload.getInt();
 
-            int keySize = buf.readInt();
-            List<BinaryRow> keys = new ArrayList<>(keySize);
-            for (int i = 0; i < keySize; i++) {
-                keys.add(deserializeBinaryRow(readBytes(buf, buf.readInt())));
+            BinaryRow[] keys = new BinaryRow[payload.getInt()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = readRow(payload, segment);
             }
 
-            return new KvRequest(partition, bucket, keys.toArray(new BinaryRow[0]));
+            return new KvRequest(partition, bucket, keys);
         }
     }
 }
@@ -19,17 +19,20 @@
 package org.apache.paimon.service.messages;
 
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.service.network.messages.MessageBody;
 import org.apache.paimon.service.network.messages.MessageDeserializer;
 
 import org.apache.paimon.shade.netty4.io.netty.buffer.ByteBuf;
+import org.apache.paimon.shade.netty4.io.netty.buffer.Unpooled;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 
-import static org.apache.paimon.service.network.messages.MessageDeserializer.readBytes;
-import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
-import static org.apache.paimon.utils.SerializationUtils.serializeBinaryRow;
+import static org.apache.paimon.service.messages.RowBufferUtils.readPayload;
+import static org.apache.paimon.service.messages.RowBufferUtils.readRow;
+import static org.apache.paimon.service.messages.RowBufferUtils.rowSize;
+import static org.apache.paimon.service.messages.RowBufferUtils.writeRow;
 
 /** The response containing values sent by the Server to the Client. */
 public class KvResponse extends MessageBody {
@@ -46,34 +49,36 @@ public class KvResponse extends MessageBody {
 
     @Override
     public byte[] serialize() {
+        ByteBuf buf = Unpooled.buffer(serializedSize());
+        writeTo(buf);
+        return buf.array();
+    }
+
+    @Override
+    public int serializedSize() {
         // value size
         int size = 4;
-
-        byte[][] valueBytesArray = new byte[values.length][];
-        for (int i = 0; i < values.length; i++) {
-            BinaryRow value = values[i];
+        for (BinaryRow value : values) {
             // is null
             size += 1;
             if (value != null) {
-                byte[] valueBytes = serializeBinaryRow(value);
-                valueBytesArray[i] = valueBytes;
-                size += 4 + valueBytes.length;
+                size += rowSize(value);
             }
         }
+        return size;
+    }
 
-        ByteBuffer buffer = ByteBuffer.allocate(size);
-        buffer.putInt(valueBytesArray.length);
-
-        for (byte[] valueBytes : valueBytesArray) {
-            if (valueBytes == null) {
-                buffer.put((byte) 1);
+    @Override
+    public void writeTo(ByteBuf buf) {
+        buf.writeInt(values.length);
+        for (BinaryRow value : values) {
+            if (value == null) {
+                buf.writeByte(1);
             } else {
-                buffer.put((byte) 0);
-                buffer.putInt(valueBytes.length).put(valueBytes);
+                buf.writeByte(0);
+                writeRow(buf, value);
             }
         }
-
-        return buffer.array();
     }
 
     @Override
@@ -98,12 +103,13 @@ public class KvResponse extends MessageBody {
 
         @Override
         public KvResponse deserializeMessage(ByteBuf buf) {
-            int valueSize = buf.readInt();
+            ByteBuffer payload = readPayload(buf);
+            MemorySegment segment = MemorySegment.wrap(payload.array());
 
-            BinaryRow[] values = new BinaryRow[valueSize];
-            for (int i = 0; i < valueSize; i++) {
-                if (buf.readByte() != 1) {
-                    values[i] = deserializeBinaryRow(readBytes(buf, buf.readInt()));
+            BinaryRow[] values = new BinaryRow[payload.getInt()];
+            for (int i = 0; i < values.length; i++) {
+                if (payload.get() != 1) {
+                    values[i] = readRow(payload, segment);
                 }
             }
 
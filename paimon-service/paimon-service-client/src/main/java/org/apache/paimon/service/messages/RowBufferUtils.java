@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.service.messages;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.memory.MemorySegment;
+
+import org.apache.paimon.shade.netty4.io.netty.buffer.ByteBuf;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Utils to write {@link BinaryRow}s into and read them from Netty buffers, in the format of {@code
+ * SerializationUtils#serializeBinaryRow} prefixed with its length.
+ *
+ * <p>Rows are written from their memory segments directly into the target buffer. The payload of a
+ * message is copied once out of the network buffer, which is released after decoding, and all rows
+ * of the message are pointed into that copy.
+ */
+public class RowBufferUtils {
+
+    private RowBufferUtils() {}
+
+    /** Returns the number of bytes written by {@link #writeRow}. */
+    public static int rowSize(BinaryRow row) {
+        return 4 + 4 + row.getSizeInBytes();
+    }
+
+    public static void writeRow(ByteBuf buf, BinaryRow row) {
+        int remaining = row.getSizeInBytes();
+        buf.writeInt(4 + remaining);
+        buf.writeInt(row.getFieldCount());
+
+        int offset = row.getOffset();
+        for (MemorySegment segment : row.getSegments()) {
+            if (remaining == 0) {
+                break;
+            }
+            if (offset >= segment.size()) {
+                offset -= segment.size();
+                continue;
+            }
+            int length = Math.min(segment.size() - offset, remaining);
+            buf.writeBytes(segment.wrap(offset, length));
+            remaining -= length;
+            offset = 0;
+        }
+    }
+
+    /** Copies the remaining bytes of the network buffer to a heap buffer rows can point to. */
+    public static ByteBuffer readPayload(ByteBuf buf) {
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        return ByteBuffer.wrap(bytes);
+    }
+
+    /** Reads a row written by {@link #writeRow}, the row points to the memory of the payload. */
+    public static BinaryRow readRow(ByteBuffer payload, MemorySegment segment) {
+        int length = payload.getInt();
+        int arity = payload.getInt();
+        BinaryRow row = new BinaryRow(arity);
+        row.pointTo(segment, payload.position(), length - 4);
+        payload.position(payload.position() + length - 4);
+        return row;
+    }
+}
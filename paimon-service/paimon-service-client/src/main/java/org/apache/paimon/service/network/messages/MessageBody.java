@@ -21,6 +21,8 @@ package org.apache.paimon.service.network.messages;
 import org.apache.paimon.service.network.NetworkClient;
 import org.apache.paimon.service.network.NetworkServer;
 
+import org.apache.paimon.shade.netty4.io.netty.buffer.ByteBuf;
+
 /**
  * The base class for every message exchanged during the communication between {@link NetworkClient}
  * and {@link NetworkServer}.
@@ -35,4 +37,22 @@ public abstract class MessageBody {
      * @return A byte array with the serialized content of the message.
      */
     public abstract byte[] serialize();
+
+    /**
+     * Returns the byte length of the serialized content, or -1 if it is unknown before the message
+     * is serialized.
+     */
+    public int serializedSize() {
+        return -1;
+    }
+
+    /**
+     * Writes the serialized content into the buffer. Messages which know their {@link
+     * #serializedSize()} should override it to write without an intermediate byte array.
+     *
+     * @param buf the buffer to write the content into.
+     */
+    public void writeTo(ByteBuf buf) {
+        buf.writeBytes(serialize());
+    }
 }
@@ -91,7 +91,7 @@ public final class MessageSerializer<REQ extends MessageBody, RESP extends Messa
     public static <REQ extends MessageBody> ByteBuf serializeRequest(
             final ByteBufAllocator alloc, final long requestId, final REQ request) {
         Preconditions.checkNotNull(request);
-        return writePayload(alloc, requestId, MessageType.REQUEST, request.serialize());
+        return writePayload(alloc, requestId, MessageType.REQUEST, request);
     }
 
     /**
@@ -106,7 +106,7 @@ public final class MessageSerializer<REQ extends MessageBody, RESP extends Messa
     public static <RESP extends MessageBody> ByteBuf serializeResponse(
             final ByteBufAllocator alloc, final long requestId, final RESP response) {
         Preconditions.checkNotNull(response);
-        return writePayload(alloc, requestId, MessageType.REQUEST_RESULT, response.serialize());
+        return writePayload(alloc, requestId, MessageType.REQUEST_RESULT, response);
     }
 
     /**
@@ -182,28 +182,43 @@ public final class MessageSerializer<REQ extends MessageBody, RESP extends Messa
     }
 
     /**
-     * Helper for serializing the messages.
+     * Helper for serializing the messages. The message body is written directly into the buffer,
+     * which is allocated with the exact frame size if the size of the body is known.
      *
      * @param alloc The {@link ByteBufAllocator} used to allocate the buffer to serialize the
      *     message into.
      * @param requestId The id of the request to which the message refers to.
      * @param messageType The {@link MessageType type of the message}.
-     * @param payload The serialized version of the message.
+     * @param body The message to be serialized.
      * @return A {@link ByteBuf} containing the serialized message.
      */
     private static ByteBuf writePayload(
             final ByteBufAllocator alloc,
             final long requestId,
             final MessageType messageType,
-            final byte[] payload) {
-
-        final int frameLength = HEADER_LENGTH + REQUEST_ID_SIZE + payload.length;
-        final ByteBuf buf = alloc.ioBuffer(frameLength + Integer.BYTES);
+            final MessageBody body) {
+
+        final int bodySize = body.serializedSize();
+        final ByteBuf buf =
+                bodySize < 0
+                        ? alloc.ioBuffer()
+                        : alloc.ioBuffer(
+                                Integer.BYTES + HEADER_LENGTH + REQUEST_ID_SIZE + bodySize);
+
+        try {
+            // Frame length is set at the end
+            buf.writeInt(0);
+            writeHeader(buf, messageType);
+            buf.writeLong(requestId);
+            body.writeTo(buf);
+        } catch (Throwable t) {
+            buf.release();
+            throw t;
+        }
 
-        buf.writeInt(frameLength);
-        writeHeader(buf, messageType);
-        buf.writeLong(requestId);
-        buf.writeBytes(payload);
+        // Set frame length
+        int frameLength = buf.readableBytes() - Integer.BYTES;
+        buf.setInt(0, frameLength);
         return buf;
     }
 
@@ -38,6 +38,12 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
     /** Total number of failed requests (<= reported requests). */
     private final AtomicLong numFailed = new AtomicLong();
 
+    /** Total number of lookups served from the result cache. */
+    private final AtomicLong numCacheHits = new AtomicLong();
+
+    /** Total number of lookups which missed the result cache. */
+    private final AtomicLong numCacheMisses = new AtomicLong();
+
     @Override
     public void reportActiveConnection() {
         numConnections.incrementAndGet();
@@ -64,6 +70,16 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
         numFailed.incrementAndGet();
     }
 
+    @Override
+    public void reportCacheHit() {
+        numCacheHits.incrementAndGet();
+    }
+
+    @Override
+    public void reportCacheMiss() {
+        numCacheMisses.incrementAndGet();
+    }
+
     public long getNumConnections() {
         return numConnections.get();
     }
@@ -80,6 +96,20 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
         return numFailed.get();
     }
 
+    public long getNumCacheHits() {
+        return numCacheHits.get();
+    }
+
+    public long getNumCacheMisses() {
+        return numCacheMisses.get();
+    }
+
+    public double getCacheHitRate() {
+        long hits = numCacheHits.get();
+        long total = hits + numCacheMisses.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
     @Override
     public String toString() {
         return "AtomicServiceRequestStats{"
@@ -91,6 +121,10 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
                 + numSuccessful
                 + ", numFailed="
                 + numFailed
+                + ", numCacheHits="
+                + numCacheHits
+                + ", numCacheMisses="
+                + numCacheMisses
                 + '}';
     }
 }
@@ -35,4 +35,10 @@ public class DisabledServiceRequestStats implements ServiceRequestStats {
 
     @Override
     public void reportFailedRequest() {}
+
+    @Override
+    public void reportCacheHit() {}
+
+    @Override
+    public void reportCacheMiss() {}
 }
@@ -39,4 +39,10 @@ public interface ServiceRequestStats {
 
     /** Reports a failure during a request. */
     void reportFailedRequest();
+
+    /** Reports a lookup served from the result cache. */
+    void reportCacheHit();
+
+    /** Reports a lookup which missed the result cache. */
+    void reportCacheMiss();
 }
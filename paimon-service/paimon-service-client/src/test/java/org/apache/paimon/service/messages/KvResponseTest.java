@@ -19,12 +19,14 @@
 package org.apache.paimon.service.messages;
 
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.memory.MemorySegment;
 
 import org.apache.paimon.shade.netty4.io.netty.buffer.ByteBuf;
 import org.apache.paimon.shade.netty4.io.netty.buffer.UnpooledByteBufAllocator;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import static org.apache.paimon.service.messages.KvRequestTest.row;
@@ -43,6 +45,30 @@ public class KvResponseTest {
         assertThat(newRequest).isEqualTo(request);
     }
 
+    @Test
+    void testWriteToBuffer() {
+        // a value spanning several memory segments
+        BinaryRow value = row(42);
+        byte[] bytes = value.toBytes();
+        MemorySegment[] segments =
+                new MemorySegment[] {
+                    MemorySegment.wrap(Arrays.copyOfRange(bytes, 0, 8)),
+                    MemorySegment.wrap(Arrays.copyOfRange(bytes, 8, bytes.length))
+                };
+        BinaryRow splitValue = new BinaryRow(value.getFieldCount());
+        splitValue.pointTo(segments, 0, bytes.length);
+
+        KvResponse response = new KvResponse(new BinaryRow[] {splitValue, null, row(7)});
+        ByteBuf byteBuf = UnpooledByteBufAllocator.DEFAULT.directBuffer();
+        response.writeTo(byteBuf);
+        assertThat(byteBuf.readableBytes()).isEqualTo(response.serializedSize());
+
+        KvResponse newResponse =
+                new KvResponse.KvResponseDeserializer().deserializeMessage(byteBuf);
+        assertThat(newResponse.values()).containsExactly(value, null, row(7));
+        byteBuf.release();
+    }
+
     public static KvResponse random() {
         Random rnd = new Random();
         BinaryRow[] values = new BinaryRow[rnd.nextInt(100)];
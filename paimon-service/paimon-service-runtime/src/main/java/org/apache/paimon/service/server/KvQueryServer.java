@@ -32,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.concurrent.TimeUnit;
 
@@ -44,6 +45,8 @@ public class KvQueryServer extends NetworkServer<KvRequest, KvResponse> implemen
     private final int numServers;
     private final TableQuery lookup;
     private final ServiceRequestStats stats;
+    private final long cacheMaxRows;
+    private final Duration cacheTtl;
 
     public KvQueryServer(
             final int serverId,
@@ -54,6 +57,30 @@ public class KvQueryServer extends NetworkServer<KvRequest, KvResponse> implemen
             final Integer numQueryThreads,
             final TableQuery lookup,
             final ServiceRequestStats stats) {
+        this(
+                serverId,
+                numServers,
+                bindAddress,
+                bindPortIterator,
+                numEventLoopThreads,
+                numQueryThreads,
+                lookup,
+                stats,
+                0,
+                Duration.ZERO);
+    }
+
+    public KvQueryServer(
+            final int serverId,
+            final int numServers,
+            final String bindAddress,
+            final Iterator<Integer> bindPortIterator,
+            final Integer numEventLoopThreads,
+            final Integer numQueryThreads,
+            final TableQuery lookup,
+            final ServiceRequestStats stats,
+            final long cacheMaxRows,
+            final Duration cacheTtl) {
         super(
                 "Kv Query Server",
                 bindAddress,
@@ -64,6 +91,8 @@ public class KvQueryServer extends NetworkServer<KvRequest, KvResponse> implemen
         this.numServers = numServers;
         this.stats = Preconditions.checkNotNull(stats);
         this.lookup = Preconditions.checkNotNull(lookup);
+        this.cacheMaxRows = cacheMaxRows;
+        this.cacheTtl = cacheTtl;
     }
 
     @Override
@@ -72,7 +101,8 @@ public class KvQueryServer extends NetworkServer<KvRequest, KvResponse> implemen
                 new MessageSerializer<>(
                         new KvRequest.KvRequestDeserializer(),
                         new KvResponse.KvResponseDeserializer());
-        return new KvServerHandler(this, serverId, numServers, lookup, serializer, stats);
+        return new KvServerHandler(
+                this, serverId, numServers, lookup, serializer, stats, cacheMaxRows, cacheTtl);
     }
 
     @Override
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.service.server;
 
+import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
@@ -27,13 +28,32 @@ import org.apache.paimon.service.messages.KvResponse;
 import org.apache.paimon.service.network.AbstractServerHandler;
 import org.apache.paimon.service.network.messages.MessageSerializer;
 import org.apache.paimon.service.network.stats.ServiceRequestStats;
+import org.apache.paimon.table.query.LocalTableQuery;
 import org.apache.paimon.table.query.TableQuery;
 import org.apache.paimon.utils.ExceptionUtils;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.Preconditions;
 
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.paimon.shade.netty4.io.netty.channel.ChannelHandler;
 
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.apache.paimon.table.sink.ChannelComputer.select;
 
@@ -43,7 +63,10 @@ import static org.apache.paimon.table.sink.ChannelComputer.select;
  *
  * <p>The network threads receive the message, deserialize it and dispatch the query task. The
  * actual query is handled in a separate thread as it might otherwise block the network threads
- * (file I/O etc.).
+ * (file I/O etc.). With more than one query thread, concurrent requests of the same partition and
+ * bucket are coalesced and looked up by one query thread, the other threads return once they have
+ * enqueued their requests. With a single query thread requests are looked up one by one. The queue
+ * of a partition and bucket is removed once it is drained and idle.
  */
 @ChannelHandler.Sharable
 public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse> {
@@ -52,6 +75,23 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
     private final int numServers;
     private final TableQuery lookup;
     private final InternalRowSerializer valueSerializer;
+    private final Map<Pair<BinaryRow, Integer>, BucketQueue> queues;
+    private final ServiceRequestStats stats;
+
+    /**
+     * Cache of lookup results for hot keys, a null value is cached as an empty optional. Keys
+     * contain the generation of their bucket, so refreshing a bucket invalidates its results.
+     */
+    @Nullable private final Cache<CacheKey, Optional<BinaryRow>> resultCache;
+
+    /**
+     * Generations of the buckets with cached results. A bucket gets a new generation from {@link
+     * #nextGeneration} when it is refreshed, or when its generation has been evicted, so results
+     * cached with an older generation are never read again.
+     */
+    @Nullable private final Cache<Pair<BinaryRow, Integer>, Long> bucketGenerations;
+
+    private final AtomicLong nextGeneration = new AtomicLong(0);
 
     /**
      * Create the handler used by the {@link KvQueryServer}.
@@ -69,11 +109,89 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
             final TableQuery lookup,
             final MessageSerializer<KvRequest, KvResponse> serializer,
             final ServiceRequestStats stats) {
+        this(server, serverId, numServers, lookup, serializer, stats, 0, Duration.ZERO);
+    }
+
+    /**
+     * Create the handler used by the {@link KvQueryServer} with a result cache.
+     *
+     * @param cacheMaxRows max number of cached lookup results, 0 means the cache is disabled.
+     * @param cacheTtl time to live of the cached lookup results.
+     */
+    public KvServerHandler(
+            final KvQueryServer server,
+            final int serverId,
+            final int numServers,
+            final TableQuery lookup,
+            final MessageSerializer<KvRequest, KvResponse> serializer,
+            final ServiceRequestStats stats,
+            final long cacheMaxRows,
+            final Duration cacheTtl) {
         super(server, serializer, stats);
         this.serverId = serverId;
         this.numServers = numServers;
         this.lookup = Preconditions.checkNotNull(lookup);
         this.valueSerializer = lookup.createValueSerializer();
+        this.queues = new ConcurrentHashMap<>();
+        this.stats = Preconditions.checkNotNull(stats);
+        if (cacheMaxRows > 0) {
+            this.resultCache =
+                    Caffeine.newBuilder()
+                            .maximumSize(cacheMaxRows)
+                            .expireAfterWrite(cacheTtl)
+                            .executor(Runnable::run)
+                            .build();
+            // a bucket without cached results does not need its generation
+            this.bucketGenerations =
+                    Caffeine.newBuilder().maximumSize(cacheMaxRows).executor(Runnable::run).build();
+            if (lookup instanceof LocalTableQuery) {
+                ((LocalTableQuery) lookup)
+                        .addRefreshListener(
+                                (partition, bucket) ->
+                                        bucketGenerations
+                                                .asMap()
+                                                .computeIfPresent(
+                                                        Pair.of(partition, bucket),
+                                                        (k, generation) ->
+                                                                nextGeneration.incrementAndGet()));
+            }
+        } else {
+            this.resultCache = null;
+            this.bucketGenerations = null;
+        }
+    }
+
+    /**
+     * Adds the request to the queue of its partition and bucket. Requests are only added while the
+     * queue is in {@link #queues}, and a queue is only removed when it holds no request, so no
+     * request is left in a removed queue.
+     */
+    private BucketQueue enqueue(PendingRequest pending) {
+        BinaryRow partition = pending.request.partition();
+        int bucket = pending.request.bucket();
+        BucketQueue queue =
+                queues.computeIfPresent(
+                        Pair.of(partition, bucket),
+                        (k, existing) -> {
+                            existing.requests.add(pending);
+                            return existing;
+                        });
+        if (queue == null) {
+            // the partition may point into a request buffer, copy it before keeping it
+            BinaryRow copied = partition.copy();
+            queue =
+                    queues.compute(
+                            Pair.of(copied, bucket),
+                            (k, existing) -> {
+                                BucketQueue result =
+                                        existing == null
+                                                ? new BucketQueue(copied, bucket)
+                                                : existing;
+                                result.requests.add(pending);
+                                return result;
+                            });
+        }
+        return queue;
     }
 
     @Override
@@ -88,31 +206,168 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
             return responseFuture;
         }
 
-        try {
-            BinaryRow[] keys = request.keys();
-            BinaryRow[] values = new BinaryRow[keys.length];
-            for (int i = 0; i < values.length; i++) {
-                InternalRow value =
-                        this.lookup.lookup(request.partition(), request.bucket(), keys[i]);
-                if (value != null) {
-                    values[i] = valueSerializer.toBinaryRow(value).copy();
+        enqueue(new PendingRequest(requestId, request, responseFuture)).drain();
+        return responseFuture;
+    }
+
+    private void lookup(BucketQueue queue, List<PendingRequest> requests) {
+        // read the generation before looking up, results of a refreshed bucket are never read
+        long generation =
+                bucketGenerations == null
+                        ? 0
+                        : bucketGenerations.get(
+                                Pair.of(queue.partition, queue.bucket),
+                                k -> nextGeneration.incrementAndGet());
+        // the same key may be requested by several clients, look it up only once
+        Map<BinaryRow, BinaryRow> values = new HashMap<>();
+        for (PendingRequest pending : requests) {
+            try {
+                BinaryRow[] keys = pending.request.keys();
+                BinaryRow[] result = new BinaryRow[keys.length];
+                for (int i = 0; i < keys.length; i++) {
+                    BinaryRow key = keys[i];
+                    if (values.containsKey(key)) {
+                        result[i] = values.get(key);
+                        continue;
+                    }
+
+                    result[i] = lookup(queue, generation, key);
+                    values.put(key, result[i]);
                 }
+                pending.future.complete(new KvResponse(result));
+            } catch (Throwable t) {
+                String errMsg =
+                        "Error while processing request with ID "
+                                + pending.requestId
+                                + ". Caused by: "
+                                + ExceptionUtils.stringifyException(t);
+                pending.future.completeExceptionally(new RuntimeException(errMsg));
             }
-            responseFuture.complete(new KvResponse(values));
-            return responseFuture;
-        } catch (Throwable t) {
-            String errMsg =
-                    "Error while processing request with ID "
-                            + requestId
-                            + ". Caused by: "
-                            + ExceptionUtils.stringifyException(t);
-            responseFuture.completeExceptionally(new RuntimeException(errMsg));
-            return responseFuture;
         }
     }
 
+    @Nullable
+    private BinaryRow lookup(BucketQueue queue, long generation, BinaryRow key) throws IOException {
+        CacheKey cacheKey = null;
+        if (resultCache != null) {
+            cacheKey = new CacheKey(queue.partition, queue.bucket, generation, key);
+            Optional<BinaryRow> cached = resultCache.getIfPresent(cacheKey);
+            if (cached != null) {
+                stats.reportCacheHit();
+                return cached.orElse(null);
+            }
+            stats.reportCacheMiss();
+        }
+
+        InternalRow value = this.lookup.lookup(queue.partition, queue.bucket, key);
+        BinaryRow result = value == null ? null : valueSerializer.toBinaryRow(value).copy();
+        if (cacheKey != null) {
+            // the key may point into the request buffer, copy it before caching
+            resultCache.put(
+                    new CacheKey(queue.partition, queue.bucket, generation, key.copy()),
+                    Optional.ofNullable(result));
+        }
+        return result;
+    }
+
+    @VisibleForTesting
+    public int numBucketQueues() {
+        return queues.size();
+    }
+
     @Override
     public CompletableFuture<Void> shutdown() {
         return CompletableFuture.completedFuture(null);
     }
+
+    /** A request waiting to be looked up. */
+    private static class PendingRequest {
+
+        private final long requestId;
+        private final KvRequest request;
+        private final CompletableFuture<KvResponse> future;
+
+        private PendingRequest(
+                long requestId, KvRequest request, CompletableFuture<KvResponse> future) {
+            this.requestId = requestId;
+            this.request = request;
+            this.future = future;
+        }
+    }
+
+    /**
+     * Requests of a partition and bucket. Only one query thread drains the queue at a time, the
+     * other threads only enqueue their requests, so that concurrent requests of the same bucket are
+     * coalesced into one pass over the {@link TableQuery} instead of contending for it.
+     */
+    private class BucketQueue {
+
+        private final BinaryRow partition;
+        private final int bucket;
+        private final Queue<PendingRequest> requests = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private BucketQueue(BinaryRow partition, int bucket) {
+            this.partition = partition;
+            this.bucket = bucket;
+        }
+
+        private void drain() {
+            while (!requests.isEmpty() && draining.compareAndSet(false, true)) {
+                try {
+                    List<PendingRequest> batch = new ArrayList<>();
+                    PendingRequest pending;
+                    while ((pending = requests.poll()) != null) {
+                        batch.add(pending);
+                    }
+                    if (!batch.isEmpty()) {
+                        lookup(this, batch);
+                    }
+                } finally {
+                    draining.set(false);
+                }
+            }
+            // the last thread leaving an idle queue removes it, a drainer checks again when done
+            queues.computeIfPresent(
+                    Pair.of(partition, bucket),
+                    (k, queue) ->
+                            queue == this && requests.isEmpty() && !draining.get() ? null : queue);
+        }
+    }
+
+    /** Key of the result cache. */
+    private static class CacheKey {
+
+        private final BinaryRow partition;
+        private final int bucket;
+        private final long generation;
+        private final BinaryRow key;
+
+        private CacheKey(BinaryRow partition, int bucket, long generation, BinaryRow key) {
+            this.partition = partition;
+            this.bucket = bucket;
+            this.generation = generation;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return bucket == that.bucket
+                    && generation == that.generation
+                    && partition.equals(that.partition)
+                    && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partition, bucket, generation, key);
+        }
+    }
 }
@@ -25,8 +25,13 @@ import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.query.QueryLocationImpl;
 import org.apache.paimon.service.client.KvQueryClient;
+import org.apache.paimon.service.messages.KvRequest;
+import org.apache.paimon.service.messages.KvResponse;
+import org.apache.paimon.service.network.stats.AtomicServiceRequestStats;
 import org.apache.paimon.service.network.stats.DisabledServiceRequestStats;
+import org.apache.paimon.service.network.stats.ServiceRequestStats;
 import org.apache.paimon.service.server.KvQueryServer;
+import org.apache.paimon.service.server.KvServerHandler;
 import org.apache.paimon.table.query.LocalTableQuery;
 import org.apache.paimon.table.query.TableQuery;
 import org.apache.paimon.table.sink.BatchTableWrite;
@@ -39,9 +44,11 @@ import org.junit.jupiter.api.Test;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.apache.paimon.service.ServiceManager.PRIMARY_KEY_LOOKUP;
@@ -88,6 +95,17 @@ public class KvQueryTableTest extends PrimaryKeyTableTestBase {
     }
 
     private KvQueryServer createServer(int serverId, TableQuery query, int minPort, int maxPort) {
+        return createServer(
+                serverId, query, minPort, maxPort, new DisabledServiceRequestStats(), 0);
+    }
+
+    private KvQueryServer createServer(
+            int serverId,
+            TableQuery query,
+            int minPort,
+            int maxPort,
+            ServiceRequestStats stats,
+            long cacheMaxRows) {
         try {
             List<Integer> portList = new ArrayList<>();
             for (int p = minPort; p <= maxPort; p++) {
@@ -100,9 +118,11 @@ public class KvQueryTableTest extends PrimaryKeyTableTestBase {
                             InetAddress.getLocalHost().getHostName(),
                             portList.iterator(),
                             1,
-                            1,
+                            4,
                             query,
-                            new DisabledServiceRequestStats());
+                            stats,
+                            cacheMaxRows,
+                            Duration.ofMinutes(1));
             server.start();
             return server;
         } catch (Throwable e) {
@@ -159,6 +179,81 @@ public class KvQueryTableTest extends PrimaryKeyTableTestBase {
         assertThat(result).containsOnly(row(1, 1, 1), row(1, 2, 1));
     }
 
+    @Test
+    public void testPipelinedRequests() throws Exception {
+        int[] buckets = new int[13];
+        for (int k = 1; k <= 12; k++) {
+            buckets[k] = computeBucket(1, k, 0);
+            if (k <= 10) {
+                write(1, k, k * 10);
+            }
+        }
+
+        // send all requests without waiting, the results must match their requests whether or not
+        // the server coalesced requests of the same bucket
+        List<CompletableFuture<BinaryRow[]>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int k = i % 12 + 1;
+            futures.add(client.getValues(row(1), buckets[k], new BinaryRow[] {row(k), row(k)}));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            int k = i % 12 + 1;
+            BinaryRow expected = k <= 10 ? row(1, k, k * 10) : null;
+            assertThat(futures.get(i).get()).containsExactly(expected, expected);
+        }
+    }
+
+    @Test
+    public void testResultCache() throws Exception {
+        shutdownServers();
+        AtomicServiceRequestStats stats = new AtomicServiceRequestStats();
+        this.server0 = createServer(0, query0, 7700, 7799, stats, 100);
+        this.server1 = createServer(1, query1, 7900, 7999, stats, 100);
+        registryServers();
+
+        write(1, 1, 1);
+        BinaryRow[] result = client.getValues(row(1), 0, new BinaryRow[] {row(1)}).get();
+        assertThat(result).containsOnly(row(1, 1, 1));
+        result = client.getValues(row(1), 0, new BinaryRow[] {row(1)}).get();
+        assertThat(result).containsOnly(row(1, 1, 1));
+        assertThat(stats.getNumCacheHits()).isEqualTo(1);
+        assertThat(stats.getNumCacheMisses()).isEqualTo(1);
+
+        // refreshing the files of the bucket invalidates the cached result, a new key is written
+        // because files written by separate writers have the same sequence numbers
+        int bucket = computeBucket(1, 2, 0);
+        result = client.getValues(row(1), bucket, new BinaryRow[] {row(2)}).get();
+        assertThat(result).containsOnly((BinaryRow) null);
+        write(1, 2, 2);
+        result = client.getValues(row(1), bucket, new BinaryRow[] {row(2)}).get();
+        assertThat(result).containsOnly(row(1, 2, 2));
+        assertThat(stats.getNumCacheHits()).isEqualTo(1);
+        assertThat(stats.getNumCacheMisses()).isEqualTo(3);
+        assertThat(stats.getCacheHitRate()).isEqualTo(1.0 / 4);
+    }
+
+    @Test
+    public void testBucketQueuesRemoved() throws Exception {
+        KvServerHandler handler = (KvServerHandler) server0.initializeHandler();
+        List<CompletableFuture<KvResponse>> futures = new ArrayList<>();
+        for (int i = 1; i < 20; i++) {
+            if (select(row(i), 0, 2) == 0) {
+                write(i, 1, i);
+                futures.add(
+                        handler.handleRequest(
+                                i, new KvRequest(row(i), 0, new BinaryRow[] {row(1)})));
+            }
+        }
+
+        assertThat(futures).isNotEmpty();
+        for (CompletableFuture<KvResponse> future : futures) {
+            assertThat(future.get().values()).hasSize(1).doesNotContainNull();
+        }
+        // the queues of drained partitions and buckets do not pile up
+        assertThat(handler.numBucketQueues()).isEqualTo(0);
+    }
+
     @Test
     public void testServerRestartSamePorts() throws Throwable {
         innerTestServerRestart(
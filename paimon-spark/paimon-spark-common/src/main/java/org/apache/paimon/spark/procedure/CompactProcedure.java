@@ -408,9 +408,11 @@ public class CompactProcedure extends BaseProcedure {
                         .mapPartitions(
                                 (FlatMapFunction<Iterator<byte[]>, byte[]>)
                                         taskIterator -> {
+                                            IOManager ioManager = SparkUtils.createIOManager();
                                             BaseAppendFileStoreWrite write =
                                                     (BaseAppendFileStoreWrite)
                                                             table.store().newWrite(commitUser);
+                                            write.withIOManager(ioManager);
                                             AppendCompactTaskSerializer ser =
                                                     new AppendCompactTaskSerializer();
                                             List<byte[]> messages = new ArrayList<>();
@@ -429,6 +431,7 @@ public class CompactProcedure extends BaseProcedure {
                                                 return messages.iterator();
                                             } finally {
                                                 write.close();
+                                                ioManager.close();
                                             }
                                         });
 
@@ -19,9 +19,11 @@
 package org.apache.paimon.spark.procedure;
 
 import org.apache.paimon.catalog.Catalog;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.operation.CleanOrphanFilesResult;
 import org.apache.paimon.operation.LocalOrphanFilesClean;
 import org.apache.paimon.operation.OrphanFilesClean;
+import org.apache.paimon.spark.SparkUtils;
 import org.apache.paimon.spark.catalog.WithPaimonCatalog;
 import org.apache.paimon.utils.Preconditions;
 
@@ -114,14 +116,17 @@ public class RemoveOrphanFilesProcedure extends BaseProcedure {
         try {
             switch (mode.toUpperCase(Locale.ROOT)) {
                 case "LOCAL":
-                    cleanOrphanFilesResult =
-                            LocalOrphanFilesClean.executeDatabaseOrphanFiles(
-                                    catalog,
-                                    identifier.getDatabaseName(),
-                                    identifier.getTableName(),
-                                    OrphanFilesClean.olderThanMillis(olderThan),
-                                    parallelism,
-                                    dryRun);
+                    try (IOManager ioManager = SparkUtils.createIOManager()) {
+                        cleanOrphanFilesResult =
+                                LocalOrphanFilesClean.executeDatabaseOrphanFiles(
+                                        catalog,
+                                        identifier.getDatabaseName(),
+                                        identifier.getTableName(),
+                                        OrphanFilesClean.olderThanMillis(olderThan),
+                                        parallelism,
+                                        dryRun,
+                                        ioManager);
+                    }
                     break;
                 case "DISTRIBUTED":
                     cleanOrphanFilesResult =